@@ -0,0 +1,47 @@
+package io.quarkus.qe.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * POMs the benchmarks read, loaded into memory so that the benchmarks measure parsing rather than disk access.
+ * By default up to 3000 POMs of the local Maven repository are used, another directory can be used
+ * with '-Dpoms=/path/to/maven-repository' and the number of POMs changed with '-Dpoms.limit=10000'.
+ */
+public final class PomCorpus {
+
+    private static final int DEFAULT_LIMIT = 3000;
+
+    private PomCorpus() {
+    }
+
+    public static List<byte[]> load() throws IOException {
+        Path directory = Path.of(System.getProperty("poms", System.getProperty("user.home") + "/.m2/repository"));
+        int limit = Integer.getInteger("poms.limit", DEFAULT_LIMIT);
+        try (Stream<Path> files = Files.walk(directory)) {
+            List<byte[]> corpus = files
+                    .filter(file -> file.getFileName().toString().endsWith(".pom"))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .limit(limit)
+                    .map(PomCorpus::read)
+                    .toList();
+            if (corpus.isEmpty()) {
+                throw new IllegalArgumentException("No POMs found in " + directory);
+            }
+            return corpus;
+        }
+    }
+
+    private static byte[] read(Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
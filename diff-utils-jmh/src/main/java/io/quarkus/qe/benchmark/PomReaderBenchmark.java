@@ -0,0 +1,90 @@
+package io.quarkus.qe.benchmark;
+
+import io.quarkus.qe.PomSummary;
+import io.quarkus.qe.VersionedCoordinates;
+import io.restassured.path.xml.XmlPath;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading coordinates and dependencies of the POM corpus with XmlPath and the Maven model reader,
+ * as the dependency printer did originally, with the single pass StAX reader of {@link PomSummary}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PomReaderBenchmark {
+
+    @Param({ "xmlpath", "stax" })
+    String reader;
+
+    private List<byte[]> corpus;
+
+    @Setup
+    public void setUp() throws IOException {
+        if (!reader.equals("xmlpath") && !reader.equals("stax")) {
+            throw new IllegalArgumentException("Unknown reader: " + reader);
+        }
+        corpus = PomCorpus.load();
+    }
+
+    @Benchmark
+    public void readCorpus(Blackhole blackhole) throws IOException, XmlPullParserException {
+        for (byte[] pom : corpus) {
+            if (reader.equals("stax")) {
+                PomSummary summary = PomSummary.read(new ByteArrayInputStream(pom));
+                blackhole.consume(summary.versionedCoordinates());
+                blackhole.consume(summary.dependenciesGav());
+            } else {
+                blackhole.consume(xmlPathCoordinates(pom));
+                blackhole.consume(modelDependencies(pom));
+            }
+        }
+    }
+
+    private static VersionedCoordinates xmlPathCoordinates(byte[] pom) {
+        XmlPath xml = XmlPath.from(new ByteArrayInputStream(pom));
+        String groupId = xml.getString("project.groupId");
+        if (groupId == null || groupId.isEmpty()) {
+            groupId = xml.getString("project.parent.groupId");
+        }
+        String version = xml.getString("project.version");
+        if (version == null || version.isEmpty()) {
+            version = xml.getString("project.parent.version");
+        }
+        return new VersionedCoordinates(groupId, xml.getString("project.artifactId"), version);
+    }
+
+    private static List<String> modelDependencies(byte[] pom) throws IOException, XmlPullParserException {
+        Model model = new MavenXpp3Reader().read(new ByteArrayInputStream(pom));
+        List<Dependency> dependencies = model.getDependencies();
+        if (model.getDependencyManagement() != null) {
+            dependencies.addAll(model.getDependencyManagement().getDependencies());
+        }
+        return dependencies.stream()
+                .map(dependency -> dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion())
+                .toList();
+    }
+}
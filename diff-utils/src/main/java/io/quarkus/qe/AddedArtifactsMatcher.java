@@ -0,0 +1,134 @@
+package io.quarkus.qe;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Artifacts listed as added, one per line as {@code groupId:artifactId} or {@code groupId:artifactId:version}.
+ * Lines with more segments, e.g. {@code groupId:artifactId:packaging:version}, take the last one as version.
+ * Any segment may be a glob with {@code *} and {@code ?}, blank lines and lines starting with {@code #} are ignored.
+ * The list is read line by line and only the parsed coordinates are kept, so lookups are exact and take constant
+ * time for all lines without a glob.
+ */
+public final class AddedArtifactsMatcher {
+    private final Set<Coordinates> anyVersion;
+    private final Multimap<Coordinates, String> versions;
+    private final List<Glob> globs;
+
+    private AddedArtifactsMatcher(Set<Coordinates> anyVersion, Multimap<Coordinates, String> versions, List<Glob> globs) {
+        this.anyVersion = anyVersion;
+        this.versions = versions;
+        this.globs = globs;
+    }
+
+    public static AddedArtifactsMatcher read(Path list) {
+        Set<Coordinates> anyVersion = new HashSet<>();
+        Multimap<Coordinates, String> versions = HashMultimap.create();
+        List<Glob> globs = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(list, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.strip();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] parts = line.split(":", -1);
+                if (parts.length < 2 || Arrays.asList(parts).contains("")) {
+                    throw new IllegalArgumentException("Expected 'groupId:artifactId[:version]' at line " + lineNumber
+                            + ": " + line);
+                }
+                String version = parts.length > 2 ? parts[parts.length - 1] : null;
+                if (isGlob(line)) {
+                    globs.add(new Glob(Glob.compile(parts[0]), Glob.compile(parts[1]),
+                            version == null ? null : Glob.compile(version)));
+                } else if (version == null) {
+                    anyVersion.add(new Coordinates(parts[0], parts[1]));
+                } else {
+                    versions.put(new Coordinates(parts[0], parts[1]), version);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read added artifacts from " + list, e);
+        }
+        return new AddedArtifactsMatcher(anyVersion, versions, globs);
+    }
+
+    /**
+     * @return true if any version of given artifact is listed
+     */
+    public boolean matches(Coordinates coordinates) {
+        if (anyVersion.contains(coordinates) || versions.containsKey(coordinates)) {
+            return true;
+        }
+        for (Glob glob : globs) {
+            if (glob.matches(coordinates)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean matches(VersionedCoordinates coordinates) {
+        Coordinates withoutVersion = coordinates.withoutVersion();
+        if (anyVersion.contains(withoutVersion) || versions.containsEntry(withoutVersion, coordinates.version())) {
+            return true;
+        }
+        for (Glob glob : globs) {
+            if (glob.matches(withoutVersion) && glob.matchesVersion(coordinates.version())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGlob(String line) {
+        return line.indexOf('*') >= 0 || line.indexOf('?') >= 0;
+    }
+
+    /**
+     * @param version null if any version matches
+     */
+    private record Glob(Pattern groupId, Pattern artifactId, Pattern version) {
+
+        private boolean matches(Coordinates coordinates) {
+            return groupId.matcher(coordinates.groupId()).matches() && artifactId.matcher(coordinates.artifactId()).matches();
+        }
+
+        private boolean matchesVersion(String value) {
+            return version == null || version.matcher(value).matches();
+        }
+
+        private static Pattern compile(String glob) {
+            StringBuilder regex = new StringBuilder();
+            int literalStart = 0;
+            for (int i = 0; i < glob.length(); i++) {
+                char c = glob.charAt(i);
+                if (c == '*' || c == '?') {
+                    if (literalStart < i) {
+                        regex.append(Pattern.quote(glob.substring(literalStart, i)));
+                    }
+                    regex.append(c == '*' ? ".*" : ".");
+                    literalStart = i + 1;
+                }
+            }
+            if (literalStart < glob.length()) {
+                regex.append(Pattern.quote(glob.substring(literalStart)));
+            }
+            return Pattern.compile(regex.toString());
+        }
+    }
+}
@@ -1,26 +1,26 @@
 package io.quarkus.qe;
 
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import org.jboss.logging.Logger;
 
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class AddedArtifactsPrint {
 
     private final String addedArtifactsListPath;
+    private final String dependencyIndexPath;
     private static MavenRepo repo;
-    private static final char DEPENDENCY_INDEX_DELIMITER = '\t';
-    private static final String DEPENDENCY_INDEX_PATH = AddedArtifactsPrint.class.getProtectionDomain().getCodeSource().getLocation().getPath() + "quarkus-dependency-index.txt";
     private static final Logger LOG = org.jboss.logging.Logger.getLogger(AddedArtifactsPrint.class);
 
     public AddedArtifactsPrint() {
@@ -29,69 +29,91 @@ public class AddedArtifactsPrint {
         String mavenRepoDirStr = Objects.requireNonNull(System.getProperty("quarkus.maven.dir"),
                 "System property 'quarkus.maven.dir' expected");
         repo = MavenRepo.at(Paths.get(mavenRepoDirStr).resolve("."));
+        dependencyIndexPath = System.getProperty("quarkus.dependency-index");
     }
 
     public void printToFile() throws IOException {
         String currentWorkingDir = System.getProperty("user.dir");
 
-        buildDependencyIndex();
-        Multimap<Coordinates, String> allCoordinates = HashMultimap.create();
-        try (Stream<Artifact> artifacts = repo.artifacts()) {
-            artifacts
-                    .filter(Artifact::isPom)
-                    .peek(artifact -> LOG.debug(String.valueOf(artifact)))
-                    .map(artifact -> artifact.asPom().versionedCoordinates())
-                    .forEach(coords -> allCoordinates.put(coords.withoutVersion(), coords.version()));
-        }
+        AddedArtifactsMatcher addedArtifacts = AddedArtifactsMatcher.read(Path.of(addedArtifactsListPath));
+        ReverseDependencyIndex dependencyIndex = loadDependencyIndex();
+        Multimap<Coordinates, String> allCoordinates = dependencyIndex.versions();
 
-        // load all added artifacts into one string
-        String addedArtifacts = Files.readString(Path.of(addedArtifactsListPath));
+        Map<Coordinates, List<String>> added = new LinkedHashMap<>();
+        allCoordinates.keySet()
+                .forEach(coords -> {
+                    // only do for artifacts that were added, and only for the added versions if listed with versions
+                    if (!addedArtifacts.matches(coords)) {
+                        return;
+                    }
+                    List<String> addedVersions = allCoordinates.get(coords).stream()
+                            .filter(version -> addedArtifacts.matches(
+                                    new VersionedCoordinates(coords.groupId(), coords.artifactId(), version)))
+                            .toList();
+                    if (!addedVersions.isEmpty()) {
+                        added.put(coords, addedVersions);
+                    }
+                });
 
         try (FileWriter fileWriter = new FileWriter(currentWorkingDir + "/added_artifacts_deps.txt")) {
             PrintWriter printWriter = new PrintWriter(fileWriter);
-            allCoordinates.keySet()
-                    .forEach(coords -> {
-                        // only do for artifacts that were added
-                        // this is a dumb way to do a fulltext search to check it, but works
-                        if (addedArtifacts.contains(coords.toString())) {
-                            String version = allCoordinates.get(coords).toString();
-                            printWriter.printf("\nDependants for %s - %s :: ADDED \n(%s)\n",
-                                    coords, version, getDependentsInfo(coords));
-                        }
-                    });
+            added.forEach((coords, addedVersions) -> printWriter.printf("\nDependants for %s - %s :: ADDED \n(%s)\n",
+                    coords, addedVersions, getDependentsInfo(dependencyIndex, coords)));
         }
+        printTransitiveDependents(dependencyIndex, added, Path.of(currentWorkingDir, "added_artifacts_transitive_deps.txt"));
     }
 
-    private void buildDependencyIndex() throws IOException {
-        try (PrintWriter writer = new PrintWriter(DEPENDENCY_INDEX_PATH, StandardCharsets.UTF_8)) {
-            repo.artifacts()
-                    .filter(Artifact::isPom)
-                    .map(Artifact::asPom)
-                    .flatMap(this::getPomDependencyIndexEntries)
-                    .forEach(writer::println);
+    /**
+     * Every added artifact is searched for in the same dependency graph, in parallel.
+     */
+    private void printTransitiveDependents(ReverseDependencyIndex dependencyIndex, Map<Coordinates, List<String>> added,
+                                           Path file) throws IOException {
+        DependencyGraph graph = DependencyGraph.of(dependencyIndex);
+        LOG.debugf("Searching transitive dependents of %d added artifacts among %d artifacts", added.size(), graph.size());
+        List<String> entries = added.entrySet().parallelStream()
+                .map(entry -> {
+                    List<DependencyGraph.Dependent> dependents = graph.transitiveDependents(entry.getKey());
+                    return String.format("\nTransitive dependants for %s - %s :: ADDED \n(%s)\n", entry.getKey(),
+                            entry.getValue(), dependents.isEmpty() ? "no dependents found" : String.format("%d dependents: %s",
+                                    dependents.size(), dependents.stream()
+                                            .sorted(Comparator.comparingInt(DependencyGraph.Dependent::distance)
+                                                    .thenComparing(dependent -> dependent.coordinates().toString()))
+                                            .map(DependencyGraph.Dependent::toString)
+                                            .collect(Collectors.joining(", \n"))));
+                })
+                .toList();
+        try (PrintWriter printWriter = new PrintWriter(Files.newBufferedWriter(file))) {
+            entries.forEach(printWriter::print);
         }
     }
 
-    private Stream<String> getPomDependencyIndexEntries(Artifact.Pom pom) {
-        final VersionedCoordinates versionedCoordinates = pom.versionedCoordinates();
-        return pom.getDependenciesGav()
-                .map(dependency -> String.format("%s%s%s", versionedCoordinates, DEPENDENCY_INDEX_DELIMITER, dependency));
+    /**
+     * The index saved by a previous run is reused if 'quarkus.dependency-index' is set and the index was built from
+     * the same repository, with the same POMs modified at the same time at latest. Otherwise the repository is walked
+     * once, for both the coordinates and the dependencies.
+     */
+    private ReverseDependencyIndex loadDependencyIndex() throws IOException {
+        if (dependencyIndexPath != null && Files.isRegularFile(Path.of(dependencyIndexPath))) {
+            ReverseDependencyIndex savedIndex = ReverseDependencyIndex.read(Path.of(dependencyIndexPath));
+            MavenRepo.Fingerprint fingerprint = repo.fingerprint();
+            if (savedIndex.source().equals(fingerprint)) {
+                LOG.infof("Reusing dependency index %s", dependencyIndexPath);
+                return savedIndex;
+            }
+            LOG.infof("Dependency index %s was built from %s, rebuilding it for %s", dependencyIndexPath,
+                    savedIndex.source(), fingerprint);
+        }
+        ReverseDependencyIndex dependencyIndex = ReverseDependencyIndex.of(MavenRepoIndex.of(repo));
+        if (dependencyIndexPath != null) {
+            dependencyIndex.write(Path.of(dependencyIndexPath));
+        }
+        return dependencyIndex;
     }
 
-    private String getDependentsInfo(Coordinates coordinates) {
-        final String dependents = grepDependencyIndex(String.format("%s:", coordinates));
+    private String getDependentsInfo(ReverseDependencyIndex dependencyIndex, Coordinates coordinates) {
+        final String dependents = dependencyIndex.dependents(coordinates).stream()
+                .map(ReverseDependencyIndex.Dependent::toString)
+                .collect(Collectors.joining(", \n"));
         return dependents.isEmpty() ? "no dependents found" : String.format("dependents: %s", dependents);
     }
-
-    private String grepDependencyIndex(String pattern) {
-        try {
-            return Files.lines(Path.of(DEPENDENCY_INDEX_PATH))
-                    .filter(line -> line.contains(DEPENDENCY_INDEX_DELIMITER + pattern))
-                    .map(line -> line.replace(String.valueOf(DEPENDENCY_INDEX_DELIMITER), " <- "))
-                    .collect(Collectors.joining(", \n"));
-
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
 }
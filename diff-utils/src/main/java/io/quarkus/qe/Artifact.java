@@ -1,16 +1,6 @@
 package io.quarkus.qe;
 
-import io.restassured.path.xml.XmlPath;
-import org.apache.maven.model.Dependency;
-import org.apache.maven.model.Model;
-import org.apache.maven.model.io.xpp3.MavenXpp3Reader;
-import org.codehaus.plexus.util.xml.XmlStreamReader;
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
-
-import java.io.File;
-import java.io.IOException;
 import java.nio.file.Path;
-import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -97,37 +87,19 @@ public final class Artifact {
             }
         }
 
-        public VersionedCoordinates versionedCoordinates() {
-            XmlPath xml = XmlPath.from(file.toFile());
-            String artifactId = xml.getString("project.artifactId");
-            String groupId = xml.getString("project.groupId");
-            if (groupId == null || groupId.isEmpty()) {
-                groupId = xml.getString("project.parent.groupId");
-            }
-            String version = xml.getString("project.version");
-            if (version == null || version.isEmpty()) {
-                version = xml.getString("project.parent.version");
-            }
+        /**
+         * Reads the POM once, prefer it over the other methods when both coordinates and dependencies are needed.
+         */
+        public PomSummary summary() {
+            return PomSummary.read(file);
+        }
 
-            return new VersionedCoordinates(groupId, artifactId, version);
+        public VersionedCoordinates versionedCoordinates() {
+            return summary().versionedCoordinates();
         }
 
         public Stream<String> getDependenciesGav() {
-            try {
-                File pomFile = new File(file.toString());
-                MavenXpp3Reader mavenReader = new MavenXpp3Reader();
-                XmlStreamReader streamReader = new XmlStreamReader(pomFile);
-                Model model = mavenReader.read(streamReader);
-
-                List<Dependency> dependencies = model.getDependencies();
-                if (model.getDependencyManagement() != null){
-                    dependencies.addAll(model.getDependencyManagement().getDependencies());
-                }
-
-                return dependencies.stream().map(dependency -> dependency.getGroupId() + ":" + dependency.getArtifactId() + ":" + dependency.getVersion());
-            } catch (IOException | XmlPullParserException e){
-                throw new RuntimeException(e);
-            }
+            return summary().dependenciesGav().stream();
         }
     }
 }
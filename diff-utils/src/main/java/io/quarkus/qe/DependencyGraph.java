@@ -0,0 +1,135 @@
+package io.quarkus.qe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Artifacts of a Maven repository connected to the artifacts which pull them in, through a dependency which is
+ * neither test nor optional, a BOM import or a parent. Managed dependencies alone do not pull anything in, and
+ * dependencies in the 'provided' or 'system' scope are followed only as the last step, as Maven does not pass them
+ * on. Versions are not distinguished, as declared versions are often properties. Artifacts are numbered and the edges
+ * are kept in two int arrays, the edges of artifact {@code n} are {@code edges[offsets[n]]} to
+ * {@code edges[offsets[n + 1] - 1]}, and an edge followed only as the last step is stored complemented, e.g.
+ * {@code ~n}. So the graph stays small and a search allocates only a few arrays besides its result. The graph
+ * is immutable and can be searched from several threads.
+ */
+public final class DependencyGraph {
+    private final Coordinates[] nodes;
+    private final Map<Coordinates, Integer> nodeIds;
+    private final int[] offsets;
+    private final int[] edges;
+
+    private DependencyGraph(Coordinates[] nodes, Map<Coordinates, Integer> nodeIds, int[] offsets, int[] edges) {
+        this.nodes = nodes;
+        this.nodeIds = nodeIds;
+        this.offsets = offsets;
+        this.edges = edges;
+    }
+
+    public static DependencyGraph of(ReverseDependencyIndex index) {
+        List<Coordinates> nodeList = new ArrayList<>();
+        Map<Coordinates, Integer> nodeIds = new HashMap<>();
+        index.forEachEdge((pulling, pulled, transitive) -> {
+            nodeId(pulled, nodeList, nodeIds);
+            nodeId(pulling.withoutVersion(), nodeList, nodeIds);
+        });
+        Coordinates[] nodes = nodeList.toArray(Coordinates[]::new);
+
+        // edges go from the pulled to the pulling artifact, first counted per artifact and then filled in
+        int[] offsets = new int[nodes.length + 1];
+        index.forEachEdge((pulling, pulled, transitive) -> {
+            int from = nodeIds.get(pulled);
+            if (from != nodeIds.get(pulling.withoutVersion())) {
+                offsets[from + 1]++;
+            }
+        });
+        for (int node = 0; node < nodes.length; node++) {
+            offsets[node + 1] += offsets[node];
+        }
+        int[] edges = new int[offsets[nodes.length]];
+        int[] next = Arrays.copyOf(offsets, nodes.length);
+        index.forEachEdge((pulling, pulled, transitive) -> {
+            int from = nodeIds.get(pulled);
+            int to = nodeIds.get(pulling.withoutVersion());
+            if (from != to) {
+                edges[next[from]++] = transitive ? to : ~to;
+            }
+        });
+        return new DependencyGraph(nodes, nodeIds, offsets, edges);
+    }
+
+    private static int nodeId(Coordinates coordinates, List<Coordinates> nodes, Map<Coordinates, Integer> nodeIds) {
+        Integer id = nodeIds.get(coordinates);
+        if (id == null) {
+            id = nodes.size();
+            nodes.add(coordinates);
+            nodeIds.put(coordinates, id);
+        }
+        return id;
+    }
+
+    /**
+     * Breadth-first search from given artifact along the artifacts pulling it in. An artifact reached only through
+     * 'provided' or 'system' dependencies is reported, but the search does not continue from it.
+     *
+     * @return every artifact pulling in given artifact directly or transitively, ordered by the distance,
+     * i.e. direct dependents first
+     */
+    public List<Dependent> transitiveDependents(Coordinates artifact) {
+        Integer start = nodeIds.get(artifact);
+        if (start == null) {
+            return List.of();
+        }
+        // distances start at 1 so that 0 marks unvisited artifacts, the queue keeps the distance of each queued
+        // artifact, which is larger than the reported one for an artifact reached through a non-transitive edge first
+        int[] distances = new int[nodes.length];
+        int[] queue = new int[nodes.length];
+        int[] queueDistances = new int[nodes.length];
+        boolean[] queued = new boolean[nodes.length];
+        int head = 0;
+        int tail = 0;
+        distances[start] = 1;
+        queued[start] = true;
+        queueDistances[tail] = 1;
+        queue[tail++] = start;
+        List<Dependent> dependents = new ArrayList<>();
+        while (head < tail) {
+            int distance = queueDistances[head] + 1;
+            int node = queue[head++];
+            for (int edge = offsets[node]; edge < offsets[node + 1]; edge++) {
+                int dependent = edges[edge];
+                boolean transitive = dependent >= 0;
+                if (!transitive) {
+                    dependent = ~dependent;
+                }
+                if (distances[dependent] == 0) {
+                    distances[dependent] = distance;
+                    dependents.add(new Dependent(nodes[dependent], distance - 1));
+                }
+                if (transitive && !queued[dependent]) {
+                    queued[dependent] = true;
+                    queueDistances[tail] = distance;
+                    queue[tail++] = dependent;
+                }
+            }
+        }
+        return dependents;
+    }
+
+    public int size() {
+        return nodes.length;
+    }
+
+    /**
+     * @param distance 1 for artifacts pulling in the searched artifact directly
+     */
+    public record Dependent(Coordinates coordinates, int distance) {
+        @Override
+        public String toString() {
+            return coordinates + " (" + distance + ")";
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package io.quarkus.qe;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Stream;
 
 public final class MavenRepo {
@@ -27,6 +37,46 @@ public final class MavenRepo {
                 .map(path -> new Artifact(path, rootDirectory));
     }
 
+    /**
+     * Finds POMs of all artifact versions. Directories are visited in parallel and only along the
+     * {@code groupId/artifactId/version} layout: a directory holding {@code <artifactId>-<version>.pom} is a version
+     * directory, its POM is taken without listing the directory, and nothing below it is visited. Other files,
+     * like jars, checksums or metadata, are never looked at. Timestamped snapshot POMs next to the
+     * {@code -SNAPSHOT.pom} are not returned.
+     *
+     * @return POMs sorted by path
+     */
+    public List<Artifact> poms() throws IOException {
+        Queue<Path> poms = new ConcurrentLinkedQueue<>();
+        try {
+            ForkJoinPool.commonPool().invoke(new PomSearch(rootDirectory, 0, poms));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return poms.stream()
+                .sorted()
+                .map(pom -> new Artifact(pom, rootDirectory))
+                .toList();
+    }
+
+    /**
+     * @return state of the POMs in the repository, it changes when POMs are added, removed or modified
+     */
+    public Fingerprint fingerprint() throws IOException {
+        return fingerprint(poms());
+    }
+
+    /**
+     * @param poms POMs of this repository as found by {@link #poms()}
+     */
+    Fingerprint fingerprint(List<Artifact> poms) throws IOException {
+        long lastModified = 0;
+        for (Artifact pom : poms) {
+            lastModified = Math.max(lastModified, Files.getLastModifiedTime(pom.file()).toMillis());
+        }
+        return new Fingerprint(rootDirectory.toString(), poms.size(), lastModified);
+    }
+
     @Override
     public String toString() {
         return "Maven repository " + rootDirectory;
@@ -50,4 +100,55 @@ public final class MavenRepo {
     public int hashCode() {
         return Objects.hash(rootDirectory);
     }
+
+    /**
+     * @param root absolute path of the repository
+     * @param poms number of POMs in the repository
+     * @param lastModified time of the latest POM modification in milliseconds
+     */
+    public record Fingerprint(String root, int poms, long lastModified) {
+        @Override
+        public String toString() {
+            return root + " with " + poms + " POMs modified at latest at " + Instant.ofEpochMilli(lastModified);
+        }
+    }
+
+    private static final class PomSearch extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        // a version directory is at least at 'groupId/artifactId/version'
+        private static final int MIN_VERSION_DEPTH = 3;
+
+        private final Path directory;
+        private final int depth;
+        private final Queue<Path> poms;
+
+        private PomSearch(Path directory, int depth, Queue<Path> poms) {
+            this.directory = directory;
+            this.depth = depth;
+            this.poms = poms;
+        }
+
+        @Override
+        protected void compute() {
+            if (depth >= MIN_VERSION_DEPTH) {
+                Path pom = directory.resolve(directory.getParent().getFileName() + "-" + directory.getFileName() + ".pom");
+                if (Files.isRegularFile(pom)) {
+                    poms.add(pom);
+                    return;
+                }
+            }
+
+            List<PomSearch> subdirectories = new ArrayList<>();
+            // links are not followed, like Files.walk does not
+            DirectoryStream.Filter<Path> isDirectory = entry -> Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS);
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, isDirectory)) {
+                for (Path subdirectory : entries) {
+                    subdirectories.add(new PomSearch(subdirectory, depth + 1, poms));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            invokeAll(subdirectories);
+        }
+    }
 }
@@ -0,0 +1,121 @@
+package io.quarkus.qe;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Versions and dependencies of all artifacts in a Maven repository, collected from a single walk over the repository.
+ * POMs are parsed in parallel, each of them once.
+ */
+public final class MavenRepoIndex {
+    private static final Logger LOG = Logger.getLogger(MavenRepoIndex.class);
+
+    private final MavenRepo.Fingerprint fingerprint;
+    private final Multimap<Coordinates, String> versions;
+    private final List<Dependency> dependencies;
+    private final List<Dependency> pulls;
+    private final List<Dependency> nonTransitivePulls;
+    private final List<Dependency> parents;
+
+    private MavenRepoIndex(MavenRepo.Fingerprint fingerprint, Multimap<Coordinates, String> versions,
+                           List<Dependency> dependencies, List<Dependency> pulls, List<Dependency> nonTransitivePulls,
+                           List<Dependency> parents) {
+        this.fingerprint = fingerprint;
+        this.versions = versions;
+        this.dependencies = dependencies;
+        this.pulls = pulls;
+        this.nonTransitivePulls = nonTransitivePulls;
+        this.parents = parents;
+    }
+
+    public static MavenRepoIndex of(MavenRepo repo) throws IOException {
+        List<Artifact> poms = repo.poms();
+        LOG.debugf("Indexing %d POMs of %s", poms.size(), repo);
+        List<IndexedPom> indexedPoms = poms.parallelStream()
+                .map(pom -> pom.asPom().summary())
+                .map(summary -> new IndexedPom(summary.versionedCoordinates(), summary.parentCoordinates(),
+                        summary.dependenciesGav(), summary.pulledGav(), summary.nonTransitivePulledGav()))
+                .toList();
+
+        Multimap<Coordinates, String> versions = HashMultimap.create();
+        List<Dependency> dependencies = new ArrayList<>();
+        List<Dependency> pulls = new ArrayList<>();
+        List<Dependency> nonTransitivePulls = new ArrayList<>();
+        List<Dependency> parents = new ArrayList<>();
+        for (IndexedPom pom : indexedPoms) {
+            versions.put(pom.coordinates().withoutVersion(), pom.coordinates().version());
+            for (String dependency : pom.dependencies()) {
+                dependencies.add(new Dependency(pom.coordinates(), dependency));
+            }
+            for (String pulled : pom.pulls()) {
+                pulls.add(new Dependency(pom.coordinates(), pulled));
+            }
+            for (String pulled : pom.nonTransitivePulls()) {
+                nonTransitivePulls.add(new Dependency(pom.coordinates(), pulled));
+            }
+            if (pom.parent() != null) {
+                parents.add(new Dependency(pom.coordinates(), pom.parent().toString()));
+            }
+        }
+        return new MavenRepoIndex(repo.fingerprint(poms), versions, dependencies, pulls, nonTransitivePulls, parents);
+    }
+
+    /**
+     * @return state of the repository when it was indexed
+     */
+    public MavenRepo.Fingerprint fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return versions of every artifact found in the repository
+     */
+    public Multimap<Coordinates, String> versions() {
+        return versions;
+    }
+
+    /**
+     * @return dependencies and managed dependencies of all POMs, in the order of the POM paths
+     */
+    public List<Dependency> dependencies() {
+        return dependencies;
+    }
+
+    /**
+     * @return dependencies in a transitive scope which are not optional and imported BOMs of all POMs, i.e.
+     * the artifacts each of them pulls in and passes on to its dependents, in the order of the POM paths
+     */
+    public List<Dependency> pulls() {
+        return pulls;
+    }
+
+    /**
+     * @return dependencies in the 'provided' or 'system' scope which are not optional of all POMs, i.e. the artifacts
+     * each of them pulls in without passing them on, in the order of the POM paths
+     */
+    public List<Dependency> nonTransitivePulls() {
+        return nonTransitivePulls;
+    }
+
+    /**
+     * @return parents of all POMs which have one, in the order of the POM paths
+     */
+    public List<Dependency> parents() {
+        return parents;
+    }
+
+    /**
+     * @param dependency {@code groupId:artifactId:version} as declared, the version may be a property or missing
+     */
+    public record Dependency(VersionedCoordinates dependent, String dependency) {
+    }
+
+    private record IndexedPom(VersionedCoordinates coordinates, VersionedCoordinates parent, List<String> dependencies,
+                              List<String> pulls, List<String> nonTransitivePulls) {
+    }
+}
@@ -0,0 +1,298 @@
+package io.quarkus.qe;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Coordinates and dependencies of a POM, read in a single streaming pass. Only the elements needed are kept,
+ * everything else is skipped without building any tree. The whole project is read, as the parent, dependencies and
+ * dependency management may come in any order. Values are taken as written in the POM, properties are not interpolated.
+ */
+public final class PomSummary {
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+    private static final int GROUP_ID = 0;
+    private static final int ARTIFACT_ID = 1;
+    private static final int VERSION = 2;
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final String parentGroupId;
+    private final String parentArtifactId;
+    private final String parentVersion;
+    private final List<Dependency> dependencies;
+    private final List<Dependency> managedDependencies;
+
+    private PomSummary(Reader reader) {
+        this.groupId = reader.project[GROUP_ID];
+        this.artifactId = reader.project[ARTIFACT_ID];
+        this.version = reader.project[VERSION];
+        this.parentGroupId = reader.parent[GROUP_ID];
+        this.parentArtifactId = reader.parent[ARTIFACT_ID];
+        this.parentVersion = reader.parent[VERSION];
+        this.dependencies = Collections.unmodifiableList(reader.dependencies);
+        this.managedDependencies = Collections.unmodifiableList(reader.managedDependencies);
+    }
+
+    public static PomSummary read(Path pom) {
+        try (InputStream input = Files.newInputStream(pom)) {
+            return parse(input);
+        } catch (IOException | XMLStreamException e) {
+            throw new RuntimeException("Failed to read POM " + pom, e);
+        }
+    }
+
+    /**
+     * @param input POM content, the encoding is taken from the XML declaration
+     */
+    public static PomSummary read(InputStream input) {
+        try {
+            return parse(input);
+        } catch (XMLStreamException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static PomSummary parse(InputStream input) throws XMLStreamException {
+        XMLStreamReader xml = XML_INPUT_FACTORY.createXMLStreamReader(input);
+        try {
+            Reader reader = new Reader(xml);
+            reader.readProject();
+            return new PomSummary(reader);
+        } finally {
+            xml.close();
+        }
+    }
+
+    /**
+     * @return coordinates of the artifact, group ID and version are inherited from the parent if not set
+     */
+    public VersionedCoordinates versionedCoordinates() {
+        return new VersionedCoordinates(isEmpty(groupId) ? parentGroupId : groupId, artifactId,
+                isEmpty(version) ? parentVersion : version);
+    }
+
+    /**
+     * @return coordinates of the parent POM, or null if there is no parent
+     */
+    public VersionedCoordinates parentCoordinates() {
+        return parentArtifactId == null ? null : new VersionedCoordinates(parentGroupId, parentArtifactId, parentVersion);
+    }
+
+    /**
+     * @return {@code groupId:artifactId:version} of dependencies followed by managed dependencies, {@code null}
+     * stands for a missing element
+     */
+    public List<String> dependenciesGav() {
+        List<String> gavs = new ArrayList<>(dependencies.size() + managedDependencies.size());
+        for (Dependency dependency : dependencies) {
+            gavs.add(dependency.gav());
+        }
+        for (Dependency dependency : managedDependencies) {
+            gavs.add(dependency.gav());
+        }
+        return gavs;
+    }
+
+    /**
+     * @return {@code groupId:artifactId:version} of the artifacts this one pulls in and passes on to its dependents,
+     * i.e. dependencies which are not optional and whose scope is transitive, followed by imported BOMs
+     */
+    public List<String> pulledGav() {
+        List<String> gavs = new ArrayList<>();
+        for (Dependency dependency : dependencies) {
+            if (!dependency.optional() && dependency.isTransitive()) {
+                gavs.add(dependency.gav());
+            }
+        }
+        for (Dependency dependency : managedDependencies) {
+            if ("import".equals(dependency.scope()) && "pom".equals(dependency.type())) {
+                gavs.add(dependency.gav());
+            }
+        }
+        return gavs;
+    }
+
+    /**
+     * @return {@code groupId:artifactId:version} of the artifacts this one pulls in without passing them on to its
+     * dependents, i.e. dependencies which are not optional in the 'provided' or 'system' scope
+     */
+    public List<String> nonTransitivePulledGav() {
+        List<String> gavs = new ArrayList<>();
+        for (Dependency dependency : dependencies) {
+            if (!dependency.optional()
+                    && ("provided".equals(dependency.scope()) || "system".equals(dependency.scope()))) {
+                gavs.add(dependency.gav());
+            }
+        }
+        return gavs;
+    }
+
+    public List<Dependency> dependencies() {
+        return dependencies;
+    }
+
+    public List<Dependency> managedDependencies() {
+        return managedDependencies;
+    }
+
+    private static boolean isEmpty(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    /**
+     * Dependency as declared, any element may be a property or null if missing.
+     *
+     * @param optional true only if declared optional literally
+     */
+    public record Dependency(String groupId, String artifactId, String version, String scope, String type,
+                             boolean optional) {
+
+        /**
+         * @return {@code groupId:artifactId:version}, {@code null} stands for a missing element
+         */
+        public String gav() {
+            return groupId + ":" + artifactId + ":" + version;
+        }
+
+        /**
+         * @return true if Maven passes the dependency on to dependents, i.e. unless its scope is 'test', 'provided'
+         * or 'system', unknown scopes, e.g. properties, are taken as transitive
+         */
+        public boolean isTransitive() {
+            return !"test".equals(scope) && !"provided".equals(scope) && !"system".equals(scope);
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Walks the elements of the project, descending only into parent, dependencies and dependency management.
+     */
+    private static final class Reader {
+        private final XMLStreamReader xml;
+        private final String[] project = new String[3];
+        private final String[] parent = new String[3];
+        private final List<Dependency> dependencies = new ArrayList<>();
+        private final List<Dependency> managedDependencies = new ArrayList<>();
+
+        private Reader(XMLStreamReader xml) {
+            this.xml = xml;
+        }
+
+        void readProject() throws XMLStreamException {
+            if (xml.nextTag() != XMLStreamConstants.START_ELEMENT || !"project".equals(xml.getLocalName())) {
+                throw new XMLStreamException("Root element 'project' expected", xml.getLocation());
+            }
+            while (nextChild()) {
+                switch (xml.getLocalName()) {
+                    case "groupId" -> project[GROUP_ID] = text();
+                    case "artifactId" -> project[ARTIFACT_ID] = text();
+                    case "version" -> project[VERSION] = text();
+                    case "parent" -> readCoordinates(parent);
+                    case "dependencies" -> readDependencies(dependencies);
+                    case "dependencyManagement" -> readDependencyManagement();
+                    default -> skipElement();
+                }
+            }
+        }
+
+        private void readDependencyManagement() throws XMLStreamException {
+            while (nextChild()) {
+                if ("dependencies".equals(xml.getLocalName())) {
+                    readDependencies(managedDependencies);
+                } else {
+                    skipElement();
+                }
+            }
+        }
+
+        private void readDependencies(List<Dependency> dependencies) throws XMLStreamException {
+            while (nextChild()) {
+                if ("dependency".equals(xml.getLocalName())) {
+                    dependencies.add(readDependency());
+                } else {
+                    skipElement();
+                }
+            }
+        }
+
+        private Dependency readDependency() throws XMLStreamException {
+            String[] coordinates = new String[3];
+            String scope = null;
+            String type = null;
+            boolean optional = false;
+            while (nextChild()) {
+                switch (xml.getLocalName()) {
+                    case "groupId" -> coordinates[GROUP_ID] = text();
+                    case "artifactId" -> coordinates[ARTIFACT_ID] = text();
+                    case "version" -> coordinates[VERSION] = text();
+                    case "scope" -> scope = text();
+                    case "type" -> type = text();
+                    case "optional" -> optional = "true".equals(text());
+                    default -> skipElement();
+                }
+            }
+            return new Dependency(coordinates[GROUP_ID], coordinates[ARTIFACT_ID], coordinates[VERSION], scope, type,
+                    optional);
+        }
+
+        private void readCoordinates(String[] coordinates) throws XMLStreamException {
+            while (nextChild()) {
+                switch (xml.getLocalName()) {
+                    case "groupId" -> coordinates[GROUP_ID] = text();
+                    case "artifactId" -> coordinates[ARTIFACT_ID] = text();
+                    case "version" -> coordinates[VERSION] = text();
+                    default -> skipElement();
+                }
+            }
+        }
+
+        /**
+         * @return true if positioned at the start of the next child element, false at the end of the current element
+         */
+        private boolean nextChild() throws XMLStreamException {
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    return true;
+                }
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    return false;
+                }
+            }
+            return false;
+        }
+
+        private String text() throws XMLStreamException {
+            return xml.getElementText().trim();
+        }
+
+        private void skipElement() throws XMLStreamException {
+            int depth = 1;
+            while (depth > 0) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    depth++;
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package io.quarkus.qe;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Multimap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Artifacts of a Maven repository by the artifacts they depend on, so the dependents of an artifact are found
+ * with a single lookup. Children are kept by their parent POMs separately, they are not dependents but they inherit
+ * dependencies of the parent. The artifacts actually pulled in are kept separately as well, split into those passed
+ * on to dependents, i.e. transitive dependencies and imported BOMs, and dependencies in the 'provided' or 'system'
+ * scope, which are not. Each group ID, artifact ID and version is stored once and referenced by its number, which keeps
+ * the index small in memory and allows to persist it in a compact binary form. The persisted index records
+ * the state of the repository it was built from, so that a stale index can be recognized.
+ */
+public final class ReverseDependencyIndex {
+    private static final int MAGIC = 0x51524449;
+    private static final int FORMAT_VERSION = 5;
+
+    private final MavenRepo.Fingerprint source;
+    private final String[] strings;
+    private final VersionedCoordinates[] artifacts;
+    private final Map<Coordinates, Edges> dependents;
+    private final Map<Coordinates, Edges> pullers;
+    private final Map<Coordinates, Edges> nonTransitivePullers;
+    private final Map<Coordinates, Edges> children;
+
+    private ReverseDependencyIndex(MavenRepo.Fingerprint source, String[] strings, VersionedCoordinates[] artifacts,
+                                   Map<Coordinates, Edges> dependents, Map<Coordinates, Edges> pullers,
+                                   Map<Coordinates, Edges> nonTransitivePullers, Map<Coordinates, Edges> children) {
+        this.source = source;
+        this.strings = strings;
+        this.artifacts = artifacts;
+        this.dependents = dependents;
+        this.pullers = pullers;
+        this.nonTransitivePullers = nonTransitivePullers;
+        this.children = children;
+    }
+
+    public static ReverseDependencyIndex of(MavenRepoIndex index) {
+        Builder builder = new Builder();
+        index.versions().forEach((coordinates, version) ->
+                builder.artifact(new VersionedCoordinates(coordinates.groupId(), coordinates.artifactId(), version)));
+        for (MavenRepoIndex.Dependency dependency : index.dependencies()) {
+            builder.edge(builder.dependents, dependency.dependent(), dependency.dependency());
+        }
+        for (MavenRepoIndex.Dependency pull : index.pulls()) {
+            builder.edge(builder.pullers, pull.dependent(), pull.dependency());
+        }
+        for (MavenRepoIndex.Dependency pull : index.nonTransitivePulls()) {
+            builder.edge(builder.nonTransitivePullers, pull.dependent(), pull.dependency());
+        }
+        for (MavenRepoIndex.Dependency parent : index.parents()) {
+            builder.edge(builder.children, parent.dependent(), parent.dependency());
+        }
+        return builder.build(index.fingerprint());
+    }
+
+    public static ReverseDependencyIndex read(Path file) {
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION) {
+                throw new IOException("Not a dependency index or written by another version");
+            }
+            MavenRepo.Fingerprint source = new MavenRepo.Fingerprint(input.readUTF(), input.readInt(), input.readLong());
+            String[] strings = new String[input.readInt()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = input.readUTF();
+            }
+            VersionedCoordinates[] artifacts = new VersionedCoordinates[input.readInt()];
+            for (int i = 0; i < artifacts.length; i++) {
+                artifacts[i] = new VersionedCoordinates(strings[input.readInt()], strings[input.readInt()],
+                        strings[input.readInt()]);
+            }
+            Map<Coordinates, Edges> dependents = readEdges(input, strings);
+            Map<Coordinates, Edges> pullers = readEdges(input, strings);
+            Map<Coordinates, Edges> nonTransitivePullers = readEdges(input, strings);
+            Map<Coordinates, Edges> children = readEdges(input, strings);
+            return new ReverseDependencyIndex(source, strings, artifacts, dependents, pullers, nonTransitivePullers,
+                    children);
+        } catch (IOException | RuntimeException e) {
+            throw new RuntimeException("Failed to read dependency index " + file, e);
+        }
+    }
+
+    public void write(Path file) {
+        Map<String, Integer> stringIds = new HashMap<>(strings.length * 2);
+        for (int i = 0; i < strings.length; i++) {
+            stringIds.put(strings[i], i);
+        }
+        try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(FORMAT_VERSION);
+            output.writeUTF(source.root());
+            output.writeInt(source.poms());
+            output.writeLong(source.lastModified());
+            output.writeInt(strings.length);
+            for (String string : strings) {
+                output.writeUTF(string);
+            }
+            output.writeInt(artifacts.length);
+            for (VersionedCoordinates artifact : artifacts) {
+                output.writeInt(stringIds.get(artifact.groupId()));
+                output.writeInt(stringIds.get(artifact.artifactId()));
+                output.writeInt(stringIds.get(artifact.version()));
+            }
+            writeEdges(output, dependents, stringIds);
+            writeEdges(output, pullers, stringIds);
+            writeEdges(output, nonTransitivePullers, stringIds);
+            writeEdges(output, children, stringIds);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to write dependency index " + file, e);
+        }
+    }
+
+    private static Map<Coordinates, Edges> readEdges(DataInputStream input, String[] strings) throws IOException {
+        int keys = input.readInt();
+        Map<Coordinates, Edges> edgesByKey = new HashMap<>(keys * 2);
+        for (int i = 0; i < keys; i++) {
+            Coordinates key = new Coordinates(strings[input.readInt()], strings[input.readInt()]);
+            Edges edges = new Edges(input.readInt());
+            for (int j = 0; j < edges.artifacts.length; j++) {
+                edges.artifacts[j] = input.readInt();
+                edges.versions[j] = input.readInt();
+            }
+            edges.size = edges.artifacts.length;
+            edgesByKey.put(key, edges);
+        }
+        return edgesByKey;
+    }
+
+    private static void writeEdges(DataOutputStream output, Map<Coordinates, Edges> edgesByKey,
+                                   Map<String, Integer> stringIds) throws IOException {
+        output.writeInt(edgesByKey.size());
+        for (Map.Entry<Coordinates, Edges> entry : edgesByKey.entrySet()) {
+            Edges edges = entry.getValue();
+            output.writeInt(stringIds.get(entry.getKey().groupId()));
+            output.writeInt(stringIds.get(entry.getKey().artifactId()));
+            output.writeInt(edges.size);
+            for (int i = 0; i < edges.size; i++) {
+                output.writeInt(edges.artifacts[i]);
+                output.writeInt(edges.versions[i]);
+            }
+        }
+    }
+
+    /**
+     * @return state of the repository the index was built from
+     */
+    public MavenRepo.Fingerprint source() {
+        return source;
+    }
+
+    /**
+     * @return artifacts declaring a dependency or a managed dependency on given artifact, in the order of the POM paths
+     */
+    public List<Dependent> dependents(Coordinates dependency) {
+        Edges edges = dependents.get(dependency);
+        if (edges == null) {
+            return List.of();
+        }
+        List<Dependent> result = new ArrayList<>(edges.size);
+        for (int i = 0; i < edges.size; i++) {
+            result.add(new Dependent(artifacts[edges.artifacts[i]], dependency, strings[edges.versions[i]]));
+        }
+        return result;
+    }
+
+    /**
+     * Passes every artifact together with each artifact it pulls in, i.e. its dependencies which are not optional
+     * and not in the test scope, imported BOMs and its parent.
+     */
+    void forEachEdge(EdgeConsumer consumer) {
+        forEachEdge(pullers, consumer, true);
+        forEachEdge(children, consumer, true);
+        forEachEdge(nonTransitivePullers, consumer, false);
+    }
+
+    private void forEachEdge(Map<Coordinates, Edges> edgesByKey, EdgeConsumer consumer, boolean transitive) {
+        edgesByKey.forEach((pulled, edges) -> {
+            for (int i = 0; i < edges.size; i++) {
+                consumer.accept(artifacts[edges.artifacts[i]], pulled, transitive);
+            }
+        });
+    }
+
+    /**
+     * @return versions of every artifact found in the repository
+     */
+    public Multimap<Coordinates, String> versions() {
+        Multimap<Coordinates, String> versions = HashMultimap.create();
+        for (VersionedCoordinates artifact : artifacts) {
+            versions.put(artifact.withoutVersion(), artifact.version());
+        }
+        return versions;
+    }
+
+    /**
+     * @param version version of the dependency as declared, it may be a property or 'null' if missing
+     */
+    public record Dependent(VersionedCoordinates dependent, Coordinates dependency, String version) {
+        @Override
+        public String toString() {
+            return dependent + " <- " + dependency + ":" + version;
+        }
+    }
+
+    @FunctionalInterface
+    interface EdgeConsumer {
+        /**
+         * @param transitive false if the pulling artifact does not pass the pulled one on to its own dependents
+         */
+        void accept(VersionedCoordinates pulling, Coordinates pulled, boolean transitive);
+    }
+
+    /**
+     * Dependents of one artifact as numbers of the dependent artifacts and of the declared versions.
+     */
+    private static final class Edges {
+        private int[] artifacts;
+        private int[] versions;
+        private int size;
+
+        private Edges(int capacity) {
+            this.artifacts = new int[capacity];
+            this.versions = new int[capacity];
+        }
+
+        private void add(int artifact, int version) {
+            if (size == artifacts.length) {
+                artifacts = Arrays.copyOf(artifacts, Math.max(4, size * 2));
+                versions = Arrays.copyOf(versions, artifacts.length);
+            }
+            artifacts[size] = artifact;
+            versions[size] = version;
+            size++;
+        }
+
+        private void trim() {
+            artifacts = Arrays.copyOf(artifacts, size);
+            versions = Arrays.copyOf(versions, size);
+        }
+    }
+
+    private static final class Builder {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> stringIds = new HashMap<>();
+        private final List<VersionedCoordinates> artifacts = new ArrayList<>();
+        private final Map<VersionedCoordinates, Integer> artifactIds = new HashMap<>();
+        private final Map<Coordinates, Edges> dependents = new HashMap<>();
+        private final Map<Coordinates, Edges> pullers = new HashMap<>();
+        private final Map<Coordinates, Edges> nonTransitivePullers = new HashMap<>();
+        private final Map<Coordinates, Edges> children = new HashMap<>();
+
+        private int artifact(VersionedCoordinates artifact) {
+            Integer id = artifactIds.get(artifact);
+            if (id == null) {
+                id = artifacts.size();
+                // the instance built from interned strings is kept, so equal strings are shared by all artifacts
+                VersionedCoordinates interned = new VersionedCoordinates(string(artifact.groupId()),
+                        string(artifact.artifactId()), string(artifact.version()));
+                artifacts.add(interned);
+                artifactIds.put(interned, id);
+            }
+            return id;
+        }
+
+        /**
+         * @param dependency {@code groupId:artifactId:version} of a dependency or of the parent, as declared
+         */
+        private void edge(Map<Coordinates, Edges> edgesByKey, VersionedCoordinates dependent, String dependency) {
+            String[] parts = dependency.split(":", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Expected 'groupId:artifactId:version': " + dependency);
+            }
+            int artifact = artifact(dependent);
+            Coordinates coordinates = new Coordinates(strings.get(stringId(parts[0])), strings.get(stringId(parts[1])));
+            edgesByKey.computeIfAbsent(coordinates, key -> new Edges(0)).add(artifact, stringId(parts[2]));
+        }
+
+        private String string(String value) {
+            return strings.get(stringId(value));
+        }
+
+        private int stringId(String value) {
+            Integer id = stringIds.get(value);
+            if (id == null) {
+                id = strings.size();
+                strings.add(value);
+                stringIds.put(value, id);
+            }
+            return id;
+        }
+
+        private ReverseDependencyIndex build(MavenRepo.Fingerprint source) {
+            dependents.values().forEach(Edges::trim);
+            pullers.values().forEach(Edges::trim);
+            nonTransitivePullers.values().forEach(Edges::trim);
+            children.values().forEach(Edges::trim);
+            return new ReverseDependencyIndex(source, strings.toArray(String[]::new),
+                    artifacts.toArray(VersionedCoordinates[]::new), dependents, pullers, nonTransitivePullers, children);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.qe;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AddedArtifactsMatcherTest {
+
+    @Test
+    public void shouldMatchArtifactsExactly() throws IOException {
+        AddedArtifactsMatcher matcher = read("""
+                # added in this release
+
+                io.quarkus:quarkus-core
+                """);
+
+        assertTrue(matcher.matches(new Coordinates("io.quarkus", "quarkus-core")));
+        assertTrue(matcher.matches(new VersionedCoordinates("io.quarkus", "quarkus-core", "3.20.0")));
+        assertFalse(matcher.matches(new Coordinates("io.quarkus", "quarkus-core-deployment")));
+        assertFalse(matcher.matches(new Coordinates("io.quarkus", "quarkus")));
+        assertFalse(matcher.matches(new Coordinates("io.quarkus.core", "quarkus-core")));
+    }
+
+    @Test
+    public void shouldMatchOnlyListedVersions() throws IOException {
+        AddedArtifactsMatcher matcher = read("""
+                io.quarkus:quarkus-arc:3.20.0
+                io.quarkus:quarkus-rest:jar:3.20.1
+                """);
+
+        assertTrue(matcher.matches(new Coordinates("io.quarkus", "quarkus-arc")));
+        assertTrue(matcher.matches(new VersionedCoordinates("io.quarkus", "quarkus-arc", "3.20.0")));
+        assertFalse(matcher.matches(new VersionedCoordinates("io.quarkus", "quarkus-arc", "3.20.0.1")));
+        assertTrue(matcher.matches(new VersionedCoordinates("io.quarkus", "quarkus-rest", "3.20.1")));
+        assertFalse(matcher.matches(new VersionedCoordinates("io.quarkus", "quarkus-rest", "jar")));
+    }
+
+    @Test
+    public void shouldMatchGlobs() throws IOException {
+        AddedArtifactsMatcher matcher = read("""
+                io.quarkus:quarkus-*
+                io.smallrye.*:smallrye-?:2.*
+                """);
+
+        assertTrue(matcher.matches(new Coordinates("io.quarkus", "quarkus-core")));
+        assertTrue(matcher.matches(new Coordinates("io.quarkus", "quarkus-")));
+        assertFalse(matcher.matches(new Coordinates("io.quarkus", "quarkus")));
+        assertFalse(matcher.matches(new Coordinates("io.quarkusio", "quarkus-core")));
+        assertFalse(matcher.matches(new Coordinates("io.quarkus", "xquarkus-core")));
+        assertTrue(matcher.matches(new VersionedCoordinates("io.smallrye.common", "smallrye-a", "2.1")));
+        assertFalse(matcher.matches(new VersionedCoordinates("io.smallrye.common", "smallrye-ab", "2.1")));
+        assertFalse(matcher.matches(new VersionedCoordinates("io.smallrye.common", "smallrye-a", "1.2")));
+        // dots are literal, not any character
+        assertFalse(matcher.matches(new Coordinates("ioxsmallrye.common", "smallrye-a")));
+    }
+
+    @Test
+    public void shouldRejectIncompleteLines() throws IOException {
+        for (String line : new String[] { "io.quarkus", "io.quarkus:", ":quarkus-core", "io.quarkus:quarkus-core:",
+                "io.quarkus::3.20.0" }) {
+            Path list = write(line);
+            assertThrows(IllegalArgumentException.class, () -> AddedArtifactsMatcher.read(list), line);
+        }
+    }
+
+    private static AddedArtifactsMatcher read(String list) throws IOException {
+        return AddedArtifactsMatcher.read(write(list));
+    }
+
+    private static Path write(String list) throws IOException {
+        Path file = Files.createTempFile("added-artifacts", ".txt");
+        Files.writeString(file, list);
+        return file;
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.qe;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.quarkus.qe.TestMavenRepo.dependencies;
+import static io.quarkus.qe.TestMavenRepo.dependency;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DependencyGraphTest {
+
+    private static final Coordinates ADDED = new Coordinates("org.acme", "added");
+
+    private TestMavenRepo repo;
+
+    @BeforeEach
+    public void createRepository() throws IOException {
+        repo = new TestMavenRepo()
+                .pom("org.acme", "added", "1", "")
+                .pom("org.acme", "library", "1", dependencies(dependency("added")))
+                .pom("org.acme", "application", "1", dependencies(dependency("library")));
+    }
+
+    @Test
+    public void shouldFindTransitiveDependents() throws IOException {
+        assertEquals(Map.of("library", 1, "application", 2), dependents());
+    }
+
+    @Test
+    public void shouldNotFollowTestOptionalOrManagedDependencies() throws IOException {
+        repo.pom("org.acme", "tests", "1", dependencies(dependency("added", "<scope>test</scope>")))
+                .pom("org.acme", "optional", "1", dependencies(dependency("added", "<optional>true</optional>")))
+                .pom("org.acme", "managing", "1",
+                        "<dependencyManagement>" + dependencies(dependency("added")) + "</dependencyManagement>");
+
+        assertEquals(Map.of("library", 1, "application", 2), dependents());
+    }
+
+    @Test
+    public void shouldFollowImportedBomsAndParents() throws IOException {
+        repo.pom("org.acme", "bom", "1", "<dependencyManagement>" + dependencies(dependency("added"))
+                        + "</dependencyManagement>")
+                .pom("org.acme", "parent", "1", dependencies(dependency("added")))
+                .pom("org.acme", "child", "1", "<parent><groupId>org.acme</groupId><artifactId>parent</artifactId>"
+                        + "<version>1</version></parent>")
+                .pom("org.acme", "bom-user", "1", "<dependencyManagement>"
+                        + dependencies(dependency("bom", "<type>pom</type><scope>import</scope>"))
+                        + "</dependencyManagement>")
+                .pom("org.acme", "platform", "1", "<dependencyManagement>"
+                        + dependencies(dependency("parent", "<type>pom</type><scope>import</scope>"))
+                        + "</dependencyManagement>");
+
+        // the bom only manages the added artifact, it does not pull it in
+        assertEquals(Map.of("library", 1, "application", 2, "parent", 1, "child", 2, "platform", 2), dependents());
+    }
+
+    @Test
+    public void shouldFollowProvidedAndSystemDependenciesOnlyAsLastStep() throws IOException {
+        repo.pom("org.acme", "container", "1", dependencies(dependency("added", "<scope>provided</scope>")))
+                .pom("org.acme", "container-user", "1", dependencies(dependency("container")))
+                .pom("org.acme", "system", "1", dependencies(dependency("library", "<scope>system</scope>")))
+                .pom("org.acme", "system-user", "1", dependencies(dependency("system")))
+                // reached through a provided dependency first, but it also pulls the library in
+                .pom("org.acme", "both", "1", dependencies(dependency("added", "<scope>provided</scope>"),
+                        dependency("library")))
+                .pom("org.acme", "both-user", "1", dependencies(dependency("both")));
+
+        assertEquals(Map.of("library", 1, "application", 2, "container", 1, "system", 2, "both", 1, "both-user", 3),
+                dependents());
+    }
+
+    private Map<String, Integer> dependents() throws IOException {
+        return DependencyGraph.of(repo.index()).transitiveDependents(ADDED).stream()
+                .collect(Collectors.toMap(dependent -> dependent.coordinates().artifactId(),
+                        DependencyGraph.Dependent::distance));
+    }
+}
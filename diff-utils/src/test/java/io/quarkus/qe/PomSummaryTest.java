@@ -0,0 +1,114 @@
+package io.quarkus.qe;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PomSummaryTest {
+
+    @Test
+    public void shouldReadCoordinatesAndDependencies() {
+        PomSummary summary = read("""
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <groupId>org.acme</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1.0</version>
+                  <build><plugins><plugin><groupId>org.acme</groupId><artifactId>plugin</artifactId>
+                    <version>2.0</version><dependencies><dependency><groupId>org.acme</groupId>
+                    <artifactId>plugin-dependency</artifactId><version>3.0</version></dependency></dependencies>
+                  </plugin></plugins></build>
+                  <dependencies>
+                    <dependency>
+                      <groupId>org.acme</groupId>
+                      <artifactId>lib</artifactId>
+                      <version>${version.lib}</version>
+                    </dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>managed</artifactId></dependency>
+                  </dependencies>
+                </project>
+                """);
+
+        assertEquals(new VersionedCoordinates("org.acme", "app", "1.0"), summary.versionedCoordinates());
+        assertNull(summary.parentCoordinates());
+        assertEquals(List.of("org.acme:lib:${version.lib}", "org.acme:managed:null"), summary.dependenciesGav());
+    }
+
+    @Test
+    public void shouldReadParentAfterDependencies() {
+        PomSummary summary = read("""
+                <project>
+                  <artifactId>child</artifactId>
+                  <dependencies><dependency><groupId>org.acme</groupId><artifactId>lib</artifactId>
+                    <version>1</version></dependency></dependencies>
+                  <dependencyManagement><dependencies><dependency><groupId>org.acme</groupId>
+                    <artifactId>managed</artifactId><version>2</version></dependency></dependencies>
+                  </dependencyManagement>
+                  <parent>
+                    <groupId>org.acme</groupId>
+                    <artifactId>parent</artifactId>
+                    <version>3</version>
+                  </parent>
+                </project>
+                """);
+
+        assertEquals(new VersionedCoordinates("org.acme", "parent", "3"), summary.parentCoordinates());
+        assertEquals(new VersionedCoordinates("org.acme", "child", "3"), summary.versionedCoordinates());
+        assertEquals(List.of("org.acme:lib:1", "org.acme:managed:2"), summary.dependenciesGav());
+    }
+
+    @Test
+    public void shouldPullInOnlyTransitiveDependenciesAndImportedBoms() {
+        PomSummary summary = read("""
+                <project>
+                  <groupId>org.acme</groupId>
+                  <artifactId>app</artifactId>
+                  <version>1</version>
+                  <dependencyManagement><dependencies>
+                    <dependency><groupId>org.acme</groupId><artifactId>bom</artifactId><version>1</version>
+                      <type>pom</type><scope>import</scope></dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>managed</artifactId><version>1</version>
+                    </dependency>
+                  </dependencies></dependencyManagement>
+                  <dependencies>
+                    <dependency><groupId>org.acme</groupId><artifactId>compile</artifactId><version>1</version>
+                    </dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>runtime</artifactId><version>1</version>
+                      <scope>runtime</scope></dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>test</artifactId><version>1</version>
+                      <scope>test</scope></dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>optional</artifactId><version>1</version>
+                      <optional>true</optional></dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>provided</artifactId><version>1</version>
+                      <scope>provided</scope></dependency>
+                    <dependency><groupId>org.acme</groupId><artifactId>optional-provided</artifactId>
+                      <version>1</version><scope>provided</scope><optional>true</optional></dependency>
+                  </dependencies>
+                </project>
+                """);
+
+        assertEquals(List.of("org.acme:compile:1", "org.acme:runtime:1", "org.acme:bom:1"), summary.pulledGav());
+        assertEquals(List.of("org.acme:provided:1"), summary.nonTransitivePulledGav());
+        assertEquals(8, summary.dependenciesGav().size(), "Direct dependents are found through every dependency");
+        PomSummary.Dependency optional = summary.dependencies().get(3);
+        assertTrue(optional.optional());
+        assertFalse(summary.dependencies().get(0).optional());
+        assertEquals("pom", summary.managedDependencies().get(0).type());
+    }
+
+    @Test
+    public void shouldRejectOtherDocuments() {
+        assertThrows(RuntimeException.class, () -> read("<settings><groupId>org.acme</groupId></settings>"));
+    }
+
+    private static PomSummary read(String pom) {
+        return PomSummary.read(new ByteArrayInputStream(pom.getBytes(StandardCharsets.UTF_8)));
+    }
+}
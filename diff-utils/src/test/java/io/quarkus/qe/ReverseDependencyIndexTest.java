@@ -0,0 +1,85 @@
+package io.quarkus.qe;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.quarkus.qe.TestMavenRepo.dependencies;
+import static io.quarkus.qe.TestMavenRepo.dependency;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReverseDependencyIndexTest {
+
+    @Test
+    public void shouldFindDirectDependents() throws IOException {
+        ReverseDependencyIndex index = repo().index();
+
+        // every declaring artifact is a direct dependent, whatever the scope
+        assertEquals(List.of(
+                        new ReverseDependencyIndex.Dependent(new VersionedCoordinates("org.acme", "app", "1"),
+                                new Coordinates("org.acme", "lib"), "1"),
+                        new ReverseDependencyIndex.Dependent(new VersionedCoordinates("org.acme", "app", "2"),
+                                new Coordinates("org.acme", "lib"), "1"),
+                        new ReverseDependencyIndex.Dependent(new VersionedCoordinates("org.acme", "platform", "1"),
+                                new Coordinates("org.acme", "lib"), "1"),
+                        new ReverseDependencyIndex.Dependent(new VersionedCoordinates("org.acme", "tests", "1"),
+                                new Coordinates("org.acme", "lib"), "1")),
+                index.dependents(new Coordinates("org.acme", "lib")));
+        assertEquals(List.of(), index.dependents(new Coordinates("org.acme", "unknown")));
+    }
+
+    @Test
+    public void shouldReadWrittenIndex() throws IOException {
+        ReverseDependencyIndex index = repo().index();
+        Path file = Files.createTempFile("dependency-index", ".bin");
+
+        index.write(file);
+        ReverseDependencyIndex read = ReverseDependencyIndex.read(file);
+
+        assertEquals(index.source(), read.source());
+        assertEquals(index.versions(), read.versions());
+        for (Coordinates artifact : index.versions().keySet()) {
+            assertEquals(index.dependents(artifact), read.dependents(artifact), artifact::toString);
+            assertEquals(DependencyGraph.of(index).transitiveDependents(artifact),
+                    DependencyGraph.of(read).transitiveDependents(artifact), artifact::toString);
+        }
+    }
+
+    @Test
+    public void shouldRecordSourceRepository() throws IOException {
+        TestMavenRepo repo = repo();
+        ReverseDependencyIndex index = repo.index();
+
+        assertEquals(repo.repo().fingerprint(), index.source());
+        assertEquals(repo.root().toAbsolutePath().normalize().toString(), index.source().root());
+        assertEquals(6, index.source().poms());
+
+        repo.pom("org.acme", "lib", "2", "");
+        assertNotEquals(repo.repo().fingerprint(), index.source());
+    }
+
+    @Test
+    public void shouldRejectOtherFiles() throws IOException {
+        Path file = Files.createTempFile("dependency-index", ".bin");
+        Files.writeString(file, "not an index");
+
+        assertThrows(RuntimeException.class, () -> ReverseDependencyIndex.read(file));
+    }
+
+    private static TestMavenRepo repo() throws IOException {
+        return new TestMavenRepo()
+                .pom("org.acme", "lib", "1", "")
+                .pom("org.acme", "app", "1", dependencies(dependency("lib", "<scope>provided</scope>")))
+                .pom("org.acme", "app", "2", dependencies(dependency("lib")))
+                .pom("org.acme", "tests", "1", dependencies(dependency("lib", "<scope>test</scope>")))
+                .pom("org.acme", "platform", "1", "<dependencyManagement>" + dependencies(dependency("lib"))
+                        + "</dependencyManagement>")
+                .pom("org.acme", "child", "1", "<parent><groupId>org.acme</groupId><artifactId>app</artifactId>"
+                        + "<version>2</version></parent>");
+    }
+}
@@ -0,0 +1,59 @@
+package io.quarkus.qe;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Maven repository in a temporary directory, filled with POMs in the {@code groupId/artifactId/version} layout.
+ */
+final class TestMavenRepo {
+    private final Path root;
+
+    TestMavenRepo() throws IOException {
+        this.root = Files.createTempDirectory("maven-repo");
+    }
+
+    /**
+     * @param content elements of the project following its coordinates
+     */
+    TestMavenRepo pom(String groupId, String artifactId, String version, String content) throws IOException {
+        Path directory = root.resolve(groupId.replace('.', '/')).resolve(artifactId).resolve(version);
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve(artifactId + "-" + version + ".pom"),
+                content(groupId, artifactId, version, content));
+        return this;
+    }
+
+    Path root() {
+        return root;
+    }
+
+    MavenRepo repo() {
+        return MavenRepo.at(root);
+    }
+
+    ReverseDependencyIndex index() throws IOException {
+        return ReverseDependencyIndex.of(MavenRepoIndex.of(repo()));
+    }
+
+    static String content(String groupId, String artifactId, String version, String content) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <groupId>" + groupId + "</groupId>\n"
+                + "  <artifactId>" + artifactId + "</artifactId>\n"
+                + "  <version>" + version + "</version>\n"
+                + content
+                + "</project>\n";
+    }
+
+    static String dependency(String artifactId, String... elements) {
+        return "<dependency><groupId>org.acme</groupId><artifactId>" + artifactId + "</artifactId><version>1</version>"
+                + String.join("", elements) + "</dependency>";
+    }
+
+    static String dependencies(String... dependencies) {
+        return "<dependencies>" + String.join("", dependencies) + "</dependencies>\n";
+    }
+}
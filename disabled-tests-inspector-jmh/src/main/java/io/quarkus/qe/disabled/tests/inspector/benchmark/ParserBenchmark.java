@@ -0,0 +1,59 @@
+package io.quarkus.qe.disabled.tests.inspector.benchmark;
+
+import io.quarkus.qe.disabled.tests.inspector.DisabledTestParser;
+import io.quarkus.qe.disabled.tests.inspector.JavacDisabledTestParser;
+import io.quarkus.qe.disabled.tests.inspector.RegexDisabledTestParser;
+import io.quarkus.qe.disabled.tests.inspector.ScanningDisabledTestParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regular expression parser, the single pass scanner and the javac based {@code ast} parser on the whole
+ * corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({ "regex", "scanning", "ast" })
+    String parser;
+
+    private DisabledTestParser disabledTestParser;
+    private List<String> corpus;
+
+    @Setup
+    public void setUp() throws IOException {
+        disabledTestParser = switch (parser) {
+            case "regex" -> new RegexDisabledTestParser();
+            case "scanning" -> new ScanningDisabledTestParser();
+            case "ast" -> new JavacDisabledTestParser();
+            default -> throw new IllegalArgumentException("Unknown parser: " + parser);
+        };
+        corpus = TestClassCorpus.load();
+    }
+
+    @Benchmark
+    public void parseCorpus(Blackhole blackhole) {
+        for (String content : corpus) {
+            blackhole.consume(disabledTestParser.parse(content));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.quarkus.qe.disabled.tests.inspector.benchmark;
+
+import io.quarkus.qe.disabled.tests.inspector.DisabledTestParser;
+import io.quarkus.qe.disabled.tests.inspector.JavacDisabledTestParser;
+import io.quarkus.qe.disabled.tests.inspector.ParsedDisabledTest;
+import io.quarkus.qe.disabled.tests.inspector.RegexDisabledTestParser;
+import io.quarkus.qe.disabled.tests.inspector.ScanningDisabledTestParser;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses one synthetic test class per operation, so the primary score is in files per second.
+ * The 'bytes' secondary score is the parsed UTF-8 bytes per second. Run with '-prof gc' to get the allocation rate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserThroughputBenchmark {
+
+    @State(Scope.Thread)
+    public static class Corpus {
+
+        @Param({ "regex", "scanning", "ast" })
+        String parser;
+
+        @Param({ "SMALL", "MEDIUM", "LARGE" })
+        SyntheticCorpusGenerator.Size size;
+
+        @Param({ "NONE", "LOW", "HIGH" })
+        SyntheticCorpusGenerator.Density density;
+
+        DisabledTestParser disabledTestParser;
+        List<String> files;
+        int[] fileBytes;
+        int next;
+
+        @Setup
+        public void setUp() throws IOException {
+            disabledTestParser = switch (parser) {
+                case "regex" -> new RegexDisabledTestParser();
+                case "scanning" -> new ScanningDisabledTestParser();
+                case "ast" -> new JavacDisabledTestParser();
+                default -> throw new IllegalArgumentException("Unknown parser: " + parser);
+            };
+            files = TestClassCorpus.loadSynthetic(size, density);
+            fileBytes = files.stream().mapToInt(file -> file.getBytes(StandardCharsets.UTF_8).length).toArray();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Throughput {
+
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+        }
+    }
+
+    @Benchmark
+    public List<ParsedDisabledTest> parseFile(Corpus corpus, Throughput throughput) {
+        int index = corpus.next;
+        corpus.next = index + 1 == corpus.files.size() ? 0 : index + 1;
+        throughput.bytes += corpus.fileBytes[index];
+        return corpus.disabledTestParser.parse(corpus.files.get(index));
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.qe.disabled.tests.inspector.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+/**
+ * Generates the synthetic test classes checked in with the benchmarks. Classes are generated deterministically,
+ * so the corpus only needs to be regenerated when the generator changes:
+ * {@code java -cp target/benchmarks.jar io.quarkus.qe.disabled.tests.inspector.benchmark.SyntheticCorpusGenerator src/main/resources/synthetic}
+ */
+public final class SyntheticCorpusGenerator {
+
+    static final int FILES_PER_SET = 3;
+
+    /**
+     * Number of test methods in a class.
+     */
+    public enum Size {
+        SMALL(5), MEDIUM(30), LARGE(100);
+
+        final int methods;
+
+        Size(int methods) {
+            this.methods = methods;
+        }
+    }
+
+    /**
+     * Percentage of disabled test methods in a class.
+     */
+    public enum Density {
+        NONE(0), LOW(5), HIGH(50);
+
+        final int percentage;
+
+        Density(int percentage) {
+            this.percentage = percentage;
+        }
+    }
+
+    private SyntheticCorpusGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(args.length > 0 ? args[0] : "src/main/resources/synthetic");
+        Files.createDirectories(directory);
+        for (Size size : Size.values()) {
+            for (Density density : Density.values()) {
+                for (int i = 0; i < FILES_PER_SET; i++) {
+                    Files.writeString(directory.resolve(fileName(size, density, i)), generate(size, density, i));
+                }
+            }
+        }
+    }
+
+    static String fileName(Size size, Density density, int index) {
+        return size.name().toLowerCase() + "-" + density.name().toLowerCase() + "-" + index + ".java";
+    }
+
+    static String generate(Size size, Density density, int index) {
+        Random random = new Random(size.ordinal() * 1000L + density.ordinal() * 100L + index);
+        String className = "Synthetic" + capitalize(size) + capitalize(density) + index + "IT";
+        StringBuilder content = new StringBuilder()
+                .append("package io.quarkus.ts.synthetic;\n\n")
+                .append("import static org.hamcrest.Matchers.is;\n\n")
+                .append("import org.junit.jupiter.api.Disabled;\n")
+                .append("import org.junit.jupiter.api.Test;\n")
+                .append("import org.junit.jupiter.api.condition.DisabledOnOs;\n")
+                .append("import org.junit.jupiter.api.condition.OS;\n\n")
+                .append("import io.quarkus.test.bootstrap.RestService;\n")
+                .append("import io.quarkus.test.scenarios.QuarkusScenario;\n")
+                .append("import io.quarkus.test.scenarios.annotations.DisabledOnNative;\n")
+                .append("import io.quarkus.test.services.QuarkusApplication;\n\n")
+                .append("/*\n * Generated by SyntheticCorpusGenerator, do not edit.\n */\n")
+                .append("@QuarkusScenario\n");
+        if (density == Density.HIGH && index % 2 == 0) {
+            content.append("@DisabledOnNative(reason = \"https://github.com/quarkusio/quarkus/issues/")
+                    .append(30000 + index).append("\")\n");
+        }
+        content.append("public class ").append(className).append(" {\n\n")
+                .append("    @QuarkusApplication\n")
+                .append("    static RestService app = new RestService()\n")
+                .append("            .withProperty(\"quarkus.http.port\", \"8080\");\n");
+
+        for (int method = 0; method < size.methods; method++) {
+            content.append('\n');
+            if (random.nextInt(5) == 0) {
+                content.append("    // verifies scenario number ").append(method).append(" of the resource\n");
+            }
+            content.append("    @Test\n");
+            if (random.nextInt(100) < density.percentage) {
+                appendDisabledAnnotation(content, random, method);
+            }
+            content.append("    public void test").append(method).append("() {\n");
+            int statements = 1 + random.nextInt(4);
+            for (int statement = 0; statement < statements; statement++) {
+                content.append("        app.given().get(\"/api/resource/").append(method).append('/').append(statement)
+                        .append("\").then().statusCode(200).body(\"value\", is(\"").append(random.nextInt(1000))
+                        .append("\"));\n");
+            }
+            content.append("    }\n");
+        }
+        return content.append("}\n").toString();
+    }
+
+    private static void appendDisabledAnnotation(StringBuilder content, Random random, int method) {
+        switch (random.nextInt(6)) {
+            case 0 -> content.append("    @Disabled(\"https://github.com/quarkusio/quarkus/issues/")
+                    .append(40000 + method).append("\")\n");
+            case 1 -> content.append("    @Disabled(\"QUARKUS-").append(1000 + method).append(" fails on CI\")\n");
+            case 2 -> content.append("    @DisabledOnNative(reason = \"Due to high native build execution time\")\n");
+            case 3 -> content.append("    @DisabledOnOs(value = OS.WINDOWS, disabledReason = \"No lsof command on Windows\")\n");
+            case 4 -> content.append("    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/")
+                    .append(50000 + method).append(" gets fixed\n");
+            default -> content.append("    @Disabled(\"Part 1 of a long reason \" +\n")
+                    .append("            \"part 2 of a long reason\")\n");
+        }
+    }
+
+    private static String capitalize(Enum<?> value) {
+        return value.name().charAt(0) + value.name().substring(1).toLowerCase();
+    }
+}
@@ -0,0 +1,82 @@
+package io.quarkus.qe.disabled.tests.inspector.benchmark;
+
+import io.quarkus.qe.disabled.tests.inspector.TestFileSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test classes the benchmarks parse. By default the test classes bundled with the benchmarks are used,
+ * a local clone of a real test suite can be used instead with '-Dcorpus=/path/to/quarkus-test-suite'.
+ * Synthetic test classes of given size and annotation density are always loaded from the bundled corpus.
+ */
+public final class TestClassCorpus {
+
+    private static final String BUNDLED_CORPUS = "corpus/";
+    private static final String SYNTHETIC_CORPUS = "synthetic/";
+
+    private TestClassCorpus() {
+    }
+
+    public static List<String> load() throws IOException {
+        String directory = System.getProperty("corpus");
+        return directory == null ? loadBundled() : loadDirectory(Path.of(directory));
+    }
+
+    public static List<String> loadSynthetic(SyntheticCorpusGenerator.Size size,
+                                             SyntheticCorpusGenerator.Density density) throws IOException {
+        List<String> corpus = new ArrayList<>();
+        for (int i = 0; i < SyntheticCorpusGenerator.FILES_PER_SET; i++) {
+            corpus.add(TestFileSource.normalizeLineEndings(
+                    readResource(SYNTHETIC_CORPUS + SyntheticCorpusGenerator.fileName(size, density, i))));
+        }
+        return corpus;
+    }
+
+    private static List<String> loadDirectory(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            List<String> corpus = files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> TestFileSource.isTestFile(directory.relativize(file).toString().replace('\\', '/')))
+                    .sorted()
+                    .map(TestClassCorpus::read)
+                    .toList();
+            if (corpus.isEmpty()) {
+                throw new IllegalArgumentException("No test files found in " + directory);
+            }
+            return corpus;
+        }
+    }
+
+    private static List<String> loadBundled() throws IOException {
+        List<String> corpus = new ArrayList<>();
+        for (String fileName : readResource(BUNDLED_CORPUS + "index.txt").lines().toList()) {
+            corpus.add(TestFileSource.normalizeLineEndings(readResource(BUNDLED_CORPUS + fileName)));
+        }
+        return corpus;
+    }
+
+    private static String read(Path file) {
+        try {
+            return TestFileSource.normalizeLineEndings(Files.readString(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream resource = TestClassCorpus.class.getClassLoader().getResourceAsStream(name)) {
+            if (resource == null) {
+                throw new IOException("Resource not found: " + name);
+            }
+            return new String(resource.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
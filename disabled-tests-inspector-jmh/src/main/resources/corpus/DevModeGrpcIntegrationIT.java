@@ -0,0 +1,63 @@
+package io.quarkus.ts.grpc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.DevModeQuarkusService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnQuarkusSnapshot;
+import io.quarkus.test.services.DevModeQuarkusApplication;
+
+@QuarkusScenario
+@DisabledOnOs(value = OS.WINDOWS, disabledReason = "Windows does not support long file paths") // QUARKUS-2904
+public class DevModeGrpcIntegrationIT {
+
+    @DevModeQuarkusApplication(grpc = true)
+    static DevModeQuarkusService app = new DevModeQuarkusService();
+
+    private static GrpcClient client;
+
+    @BeforeAll
+    public static void setUp() {
+        client = new GrpcClient(app.getGrpcHost(), app.getGrpcPort());
+    }
+
+    @AfterAll
+    public static void tearDown() {
+        client.close();
+    }
+
+    @Test
+    public void testGrpcAsClient() {
+        assertEquals("Hello Grpc", client.hello("Grpc"));
+    }
+
+    @Test
+    @DisabledOnQuarkusSnapshot(reason = "999-SNAPSHOT is not available in the Maven repositories in OpenShift")
+    public void testGrpcDevUi() {
+        List<String> services = client.listServices();
+        assertEquals(2, services.size());
+    }
+
+    @Test
+    @EnabledOnOs(OS.LINUX)
+    public void testReflection() {
+        assertEquals(List.of("helloworld.Greeter"), client.reflection());
+    }
+
+    /**
+     * Disabled until @Disabled annotations in javadoc are handled properly.
+     */
+    @Test
+    public void testStreaming() {
+        assertEquals(3, client.stream("a", "b", "c").size());
+    }
+}
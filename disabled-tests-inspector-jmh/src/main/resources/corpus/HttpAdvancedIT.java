@@ -0,0 +1,114 @@
+package io.quarkus.ts.http.advanced;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.KeycloakService;
+import io.quarkus.test.bootstrap.Protocol;
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.Container;
+import io.quarkus.test.services.QuarkusApplication;
+
+@QuarkusScenario
+public class HttpAdvancedIT {
+
+    private static final String REALM_DEFAULT = "test-realm";
+    private static final String ROOT_PATH = "/api";
+    private static final int TIMEOUT_SEC = 3;
+    private static final int RETRY = 3;
+
+    @Container(image = "${keycloak.image}", expectedLog = "Listening on", port = 8080)
+    static KeycloakService keycloak = new KeycloakService(REALM_DEFAULT, ROOT_PATH);
+
+    @QuarkusApplication(ssl = true)
+    static RestService app = new RestService()
+            .withProperty("quarkus.oidc.auth-server-url", keycloak::getRealmUrl);
+
+    @Test
+    @DisplayName("Http/1.1 Server test")
+    public void httpServer() {
+        app.given().get("/api/hello")
+                .then().statusLine("HTTP/1.1 200 OK").statusCode(HttpStatus.SC_OK)
+                .body("content", is("Hello, World!"));
+    }
+
+    @Test
+    @DisplayName("GRPC Server test")
+    @Disabled("https://github.com/quarkusio/quarkus/issues/26001")
+    public void testGrpc() {
+        app.given().when().get("/api/grpc/trinity").then().statusCode(HttpStatus.SC_OK)
+                .body(is("Hello trinity"));
+    }
+
+    @Test
+    @DisplayName("Http/2 Server test")
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void http2Server() throws InterruptedException, URISyntaxException {
+        // the client is created for every request on purpose, to check the connection negotiation
+        CountDownLatchHolder latch = new CountDownLatchHolder(1);
+        app.given().when().get("/api/hello").then().statusCode(HttpStatus.SC_OK);
+        latch.await(TIMEOUT_SEC, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Non-application endpoint move to /q/")
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "https://github.com/quarkus-qe/quarkus-test-suite/issues/1145")
+    public void nonAppRedirections() {
+        for (String path : new String[] { "/q/health", "/q/metrics", "/q/openapi" }) {
+            given().redirects().follow(false).get(path).then().statusCode(HttpStatus.SC_OK);
+        }
+    }
+
+    @Test
+    @Tag("QUARKUS-1574")
+    public void vertxHttpClientRedirectionExternalUrl() {
+        app.given().when().get("/api/redirect").then()
+                .statusCode(HttpStatus.SC_OK)
+                .body(containsString("Redirected"));
+    }
+
+    @Test
+    // enable me once https://github.com/quarkusio/quarkus/issues/35913 gets fixed
+    @Disabled
+    public void keepRequestScopeValuesAfterEventPropagation() {
+        app.given().when().get("/api/request-scope").then().statusCode(HttpStatus.SC_OK);
+    }
+
+    @Test
+    @Disabled("QUARKUS-3817 " +
+            "unstable on CI")
+    public void sslCertificateReload() {
+        app.given().relaxedHTTPSValidation().when().get("/api/hello").then().statusCode(HttpStatus.SC_OK);
+    }
+
+    protected Protocol getProtocol() {
+        return Protocol.HTTPS;
+    }
+
+    private static final class CountDownLatchHolder {
+
+        private final java.util.concurrent.CountDownLatch latch;
+
+        CountDownLatchHolder(int count) {
+            this.latch = new java.util.concurrent.CountDownLatch(count);
+        }
+
+        void await(long timeout, TimeUnit unit) throws InterruptedException {
+            latch.await(timeout, unit);
+        }
+    }
+}
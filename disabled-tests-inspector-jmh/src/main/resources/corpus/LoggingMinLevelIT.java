@@ -0,0 +1,53 @@
+package io.quarkus.ts.logging.jboss;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.services.QuarkusApplication;
+
+@QuarkusScenario
+public class LoggingMinLevelIT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.log.min-level", "TRACE")
+            .withProperty("quarkus.log.category.\"io.quarkus.ts\".level", "DEBUG");
+
+    @Test
+    public void checkTraceLevelIsLogged() {
+        app.given().get("/log/static/trace?message=traceMessage").then().statusCode(204);
+        app.logs().assertContains("traceMessage");
+    }
+
+    @Test
+    public void checkDebugLevelIsLogged() {
+        app.given().get("/log/static/debug?message=debugMessage").then().statusCode(204);
+        app.logs().assertContains("debugMessage");
+    }
+
+    @Test
+    public void checkInfoLevelIsLogged() {
+        app.given().get("/log/static/info?message=infoMessage").then().statusCode(204);
+        app.logs().assertContains("infoMessage");
+    }
+
+    @Test
+    public void checkWarnLevelIsLogged() {
+        app.given().get("/log/static/warn?message=warnMessage").then().statusCode(204);
+        app.logs().assertContains("warnMessage");
+    }
+
+    @Test
+    public void checkErrorLevelIsLogged() {
+        app.given().get("/log/static/error?message=errorMessage").then().statusCode(204);
+        app.logs().assertContains("errorMessage");
+    }
+
+    @Test
+    public void checkUnknownCategoryUsesRootLevel() {
+        app.given().get("/log/static/unknown").then().statusCode(404).body(is(""));
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.ts.messaging.kafka;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkus.test.bootstrap.KafkaService;
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.scenarios.annotations.EnabledOnQuarkusVersion;
+import io.quarkus.test.services.KafkaContainer;
+import io.quarkus.test.services.QuarkusApplication;
+import io.quarkus.test.services.containers.model.KafkaVendor;
+
+@QuarkusScenario
+@DisabledOnNative(reason = "https://github.com/quarkusio/quarkus/issues/32100")
+@EnabledIfSystemProperty(named = "profile.id", matches = "native", disabledReason = "Only for native mode")
+public class NativeKafkaStreamsIT {
+
+    @KafkaContainer(vendor = KafkaVendor.STRIMZI)
+    static KafkaService kafka = new KafkaService();
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("kafka.bootstrap.servers", kafka::getBootstrapUrl);
+
+    @Test
+    public void testAlertMonitorEventStream() {
+        app.given().get("/monitor/stream").then().statusCode(200);
+    }
+
+    @Test
+    @EnabledOnQuarkusVersion(version = "3\\.2.*", reason = "Windowed aggregation changed in 3.3")
+    public void testWindowedAggregation() {
+        app.given().get("/monitor/windowed").then().statusCode(200);
+    }
+
+    @Nested
+    class RetriesIT {
+
+        @Test
+        @Disabled(value = "Flaky, see QUARKUS-4011")
+        void testRetries() {
+            app.given().get("/monitor/retries").then().statusCode(200);
+        }
+
+        @Test
+        void testNoRetries() {
+            app.given().get("/monitor/no-retries").then().statusCode(200);
+        }
+    }
+}
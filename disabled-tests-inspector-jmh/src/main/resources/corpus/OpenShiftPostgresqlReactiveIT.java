@@ -0,0 +1,45 @@
+package io.quarkus.ts.reactive.db.clients;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import io.quarkus.test.bootstrap.PostgresqlService;
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.OpenShiftScenario;
+import io.quarkus.test.services.Container;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Runs the reactive PostgreSQL client against a database deployed to OpenShift.
+ * @Disabled annotations in this comment must be ignored.
+ */
+@OpenShiftScenario
+@DisabledIfSystemProperty(named = "ts.arm.missing.services.excludes", matches = "true", disabledReason = "https://github.com/quarkus-qe/quarkus-test-suite/issues/1145")
+@EnabledIfSystemProperty(named = "ts.redhat.registry.enabled", matches = "true")
+public class OpenShiftPostgresqlReactiveIT extends AbstractReactiveDatabaseIT {
+
+    static final int POSTGRESQL_PORT = 5432;
+
+    @Container(image = "${postgresql.latest.image}", port = POSTGRESQL_PORT, expectedLog = "is ready")
+    static PostgresqlService database = new PostgresqlService()
+            .withProperty("PGDATA", "/tmp/psql");
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.datasource.username", database.getUser())
+            .withProperty("quarkus.datasource.password", database.getPassword())
+            .withProperty("quarkus.datasource.reactive.url", database::getReactiveUrl);
+
+    @Test
+    public void verifyAllBooks() {
+        app.given().get("/book").then().statusCode(200).body("size()", is(3));
+    }
+
+    @Test
+    public void verifyBookById() {
+        app.given().get("/book/1").then().statusCode(200).body("title", is("Foundation"));
+    }
+}
@@ -0,0 +1,772 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+@DisabledOnNative(reason = "https://github.com/quarkusio/quarkus/issues/30000")
+public class SyntheticLargeHigh0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("628"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("795"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("885"));
+        app.given().get("/api/resource/0/3").then().statusCode(200).body("value", is("783"));
+    }
+
+    // verifies scenario number 1 of the resource
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40001")
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("837"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("978"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("984"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1002 fails on CI")
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("741"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("360"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("601"));
+        app.given().get("/api/resource/2/3").then().statusCode(200).body("value", is("573"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1003 fails on CI")
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("627"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("672"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("872"));
+        app.given().get("/api/resource/3/3").then().statusCode(200).body("value", is("190"));
+    }
+
+    // verifies scenario number 4 of the resource
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("901"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("517"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("413"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("645"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("674"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("964"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("414"));
+        app.given().get("/api/resource/6/3").then().statusCode(200).body("value", is("697"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("854"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("35"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/7/3").then().statusCode(200).body("value", is("887"));
+    }
+
+    // verifies scenario number 8 of the resource
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("922"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("819"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("922"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("704"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40009")
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("773"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("211"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("132"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("67"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50011 gets fixed
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("230"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("248"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("7"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("556"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("2"));
+        app.given().get("/api/resource/12/3").then().statusCode(200).body("value", is("760"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("845"));
+    }
+
+    // verifies scenario number 14 of the resource
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("694"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("943"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("754"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50015 gets fixed
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("426"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("526"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("438"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("211"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("565"));
+        app.given().get("/api/resource/17/3").then().statusCode(200).body("value", is("942"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40018")
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("241"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("213"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("40"));
+        app.given().get("/api/resource/18/3").then().statusCode(200).body("value", is("23"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("164"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50020 gets fixed
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("239"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("271"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("163"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("968"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("589"));
+        app.given().get("/api/resource/21/2").then().statusCode(200).body("value", is("621"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("98"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("639"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("927"));
+    }
+
+    // verifies scenario number 23 of the resource
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("478"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("856"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("154"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40024")
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("722"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("750"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("510"));
+        app.given().get("/api/resource/24/3").then().statusCode(200).body("value", is("192"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("355"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("226"));
+        app.given().get("/api/resource/25/2").then().statusCode(200).body("value", is("928"));
+        app.given().get("/api/resource/25/3").then().statusCode(200).body("value", is("216"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40026")
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("446"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("864"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("683"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("974"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("540"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("931"));
+        app.given().get("/api/resource/28/2").then().statusCode(200).body("value", is("935"));
+        app.given().get("/api/resource/28/3").then().statusCode(200).body("value", is("557"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("833"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("466"));
+    }
+
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("282"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("526"));
+        app.given().get("/api/resource/30/2").then().statusCode(200).body("value", is("281"));
+        app.given().get("/api/resource/30/3").then().statusCode(200).body("value", is("755"));
+    }
+
+    // verifies scenario number 31 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50031 gets fixed
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("764"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("847"));
+        app.given().get("/api/resource/31/2").then().statusCode(200).body("value", is("661"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("447"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("689"));
+        app.given().get("/api/resource/32/2").then().statusCode(200).body("value", is("861"));
+    }
+
+    @Test
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("383"));
+        app.given().get("/api/resource/33/1").then().statusCode(200).body("value", is("783"));
+        app.given().get("/api/resource/33/2").then().statusCode(200).body("value", is("626"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("763"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("602"));
+        app.given().get("/api/resource/34/2").then().statusCode(200).body("value", is("951"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40035")
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("230"));
+        app.given().get("/api/resource/35/1").then().statusCode(200).body("value", is("358"));
+        app.given().get("/api/resource/35/2").then().statusCode(200).body("value", is("28"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("572"));
+        app.given().get("/api/resource/36/1").then().statusCode(200).body("value", is("449"));
+        app.given().get("/api/resource/36/2").then().statusCode(200).body("value", is("477"));
+    }
+
+    // verifies scenario number 37 of the resource
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("68"));
+        app.given().get("/api/resource/37/1").then().statusCode(200).body("value", is("550"));
+        app.given().get("/api/resource/37/2").then().statusCode(200).body("value", is("712"));
+    }
+
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("603"));
+        app.given().get("/api/resource/38/1").then().statusCode(200).body("value", is("699"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("70"));
+    }
+
+    // verifies scenario number 40 of the resource
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("32"));
+        app.given().get("/api/resource/40/1").then().statusCode(200).body("value", is("469"));
+        app.given().get("/api/resource/40/2").then().statusCode(200).body("value", is("794"));
+        app.given().get("/api/resource/40/3").then().statusCode(200).body("value", is("973"));
+    }
+
+    // verifies scenario number 41 of the resource
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("435"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("572"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("451"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("972"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("406"));
+        app.given().get("/api/resource/43/1").then().statusCode(200).body("value", is("518"));
+        app.given().get("/api/resource/43/2").then().statusCode(200).body("value", is("656"));
+        app.given().get("/api/resource/43/3").then().statusCode(200).body("value", is("723"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50044 gets fixed
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("871"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("863"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("889"));
+        app.given().get("/api/resource/45/1").then().statusCode(200).body("value", is("171"));
+        app.given().get("/api/resource/45/2").then().statusCode(200).body("value", is("165"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("461"));
+        app.given().get("/api/resource/46/1").then().statusCode(200).body("value", is("85"));
+    }
+
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("160"));
+        app.given().get("/api/resource/47/1").then().statusCode(200).body("value", is("574"));
+        app.given().get("/api/resource/47/2").then().statusCode(200).body("value", is("515"));
+        app.given().get("/api/resource/47/3").then().statusCode(200).body("value", is("324"));
+    }
+
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("128"));
+    }
+
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("334"));
+        app.given().get("/api/resource/49/1").then().statusCode(200).body("value", is("256"));
+        app.given().get("/api/resource/49/2").then().statusCode(200).body("value", is("67"));
+        app.given().get("/api/resource/49/3").then().statusCode(200).body("value", is("31"));
+    }
+
+    @Test
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("183"));
+        app.given().get("/api/resource/50/1").then().statusCode(200).body("value", is("656"));
+    }
+
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("564"));
+        app.given().get("/api/resource/51/1").then().statusCode(200).body("value", is("434"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1052 fails on CI")
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("823"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("246"));
+        app.given().get("/api/resource/53/1").then().statusCode(200).body("value", is("760"));
+        app.given().get("/api/resource/53/2").then().statusCode(200).body("value", is("387"));
+        app.given().get("/api/resource/53/3").then().statusCode(200).body("value", is("29"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50054 gets fixed
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("683"));
+        app.given().get("/api/resource/54/1").then().statusCode(200).body("value", is("715"));
+        app.given().get("/api/resource/54/2").then().statusCode(200).body("value", is("850"));
+        app.given().get("/api/resource/54/3").then().statusCode(200).body("value", is("212"));
+    }
+
+    // verifies scenario number 55 of the resource
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("858"));
+        app.given().get("/api/resource/55/1").then().statusCode(200).body("value", is("849"));
+        app.given().get("/api/resource/55/2").then().statusCode(200).body("value", is("129"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40056")
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("270"));
+        app.given().get("/api/resource/56/1").then().statusCode(200).body("value", is("742"));
+        app.given().get("/api/resource/56/2").then().statusCode(200).body("value", is("166"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40057")
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("785"));
+        app.given().get("/api/resource/57/1").then().statusCode(200).body("value", is("238"));
+        app.given().get("/api/resource/57/2").then().statusCode(200).body("value", is("315"));
+        app.given().get("/api/resource/57/3").then().statusCode(200).body("value", is("81"));
+    }
+
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("735"));
+        app.given().get("/api/resource/58/1").then().statusCode(200).body("value", is("533"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("438"));
+        app.given().get("/api/resource/59/1").then().statusCode(200).body("value", is("770"));
+        app.given().get("/api/resource/59/2").then().statusCode(200).body("value", is("608"));
+        app.given().get("/api/resource/59/3").then().statusCode(200).body("value", is("68"));
+    }
+
+    @Test
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("260"));
+        app.given().get("/api/resource/60/1").then().statusCode(200).body("value", is("26"));
+        app.given().get("/api/resource/60/2").then().statusCode(200).body("value", is("347"));
+        app.given().get("/api/resource/60/3").then().statusCode(200).body("value", is("387"));
+    }
+
+    @Test
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("687"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("19"));
+        app.given().get("/api/resource/61/2").then().statusCode(200).body("value", is("572"));
+        app.given().get("/api/resource/61/3").then().statusCode(200).body("value", is("632"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("983"));
+        app.given().get("/api/resource/62/1").then().statusCode(200).body("value", is("267"));
+        app.given().get("/api/resource/62/2").then().statusCode(200).body("value", is("256"));
+        app.given().get("/api/resource/62/3").then().statusCode(200).body("value", is("959"));
+    }
+
+    @Test
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("441"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("801"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("616"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("199"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("910"));
+        app.given().get("/api/resource/65/2").then().statusCode(200).body("value", is("259"));
+        app.given().get("/api/resource/65/3").then().statusCode(200).body("value", is("864"));
+    }
+
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("535"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("775"));
+        app.given().get("/api/resource/66/2").then().statusCode(200).body("value", is("158"));
+        app.given().get("/api/resource/66/3").then().statusCode(200).body("value", is("734"));
+    }
+
+    // verifies scenario number 67 of the resource
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("815"));
+        app.given().get("/api/resource/67/1").then().statusCode(200).body("value", is("248"));
+        app.given().get("/api/resource/67/2").then().statusCode(200).body("value", is("13"));
+    }
+
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("906"));
+        app.given().get("/api/resource/68/1").then().statusCode(200).body("value", is("149"));
+        app.given().get("/api/resource/68/2").then().statusCode(200).body("value", is("786"));
+    }
+
+    // verifies scenario number 69 of the resource
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("587"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("606"));
+    }
+
+    // verifies scenario number 70 of the resource
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40070")
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("498"));
+    }
+
+    // verifies scenario number 71 of the resource
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("452"));
+        app.given().get("/api/resource/71/1").then().statusCode(200).body("value", is("959"));
+        app.given().get("/api/resource/71/2").then().statusCode(200).body("value", is("903"));
+        app.given().get("/api/resource/71/3").then().statusCode(200).body("value", is("431"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("310"));
+        app.given().get("/api/resource/72/1").then().statusCode(200).body("value", is("107"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("975"));
+        app.given().get("/api/resource/73/1").then().statusCode(200).body("value", is("817"));
+        app.given().get("/api/resource/73/2").then().statusCode(200).body("value", is("163"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1074 fails on CI")
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("348"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("385"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("85"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1075 fails on CI")
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("258"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("907"));
+        app.given().get("/api/resource/75/2").then().statusCode(200).body("value", is("19"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("46"));
+    }
+
+    @Test
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("806"));
+        app.given().get("/api/resource/77/1").then().statusCode(200).body("value", is("923"));
+        app.given().get("/api/resource/77/2").then().statusCode(200).body("value", is("553"));
+        app.given().get("/api/resource/77/3").then().statusCode(200).body("value", is("76"));
+    }
+
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("840"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("675"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1079 fails on CI")
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("999"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("265"));
+        app.given().get("/api/resource/79/2").then().statusCode(200).body("value", is("678"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("265"));
+        app.given().get("/api/resource/80/1").then().statusCode(200).body("value", is("579"));
+        app.given().get("/api/resource/80/2").then().statusCode(200).body("value", is("354"));
+    }
+
+    // verifies scenario number 81 of the resource
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("820"));
+        app.given().get("/api/resource/81/2").then().statusCode(200).body("value", is("702"));
+        app.given().get("/api/resource/81/3").then().statusCode(200).body("value", is("177"));
+    }
+
+    @Test
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("186"));
+    }
+
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("759"));
+        app.given().get("/api/resource/83/1").then().statusCode(200).body("value", is("303"));
+        app.given().get("/api/resource/83/2").then().statusCode(200).body("value", is("206"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40084")
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("531"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("116"));
+        app.given().get("/api/resource/84/2").then().statusCode(200).body("value", is("267"));
+        app.given().get("/api/resource/84/3").then().statusCode(200).body("value", is("238"));
+    }
+
+    @Test
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("540"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("918"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("519"));
+        app.given().get("/api/resource/86/1").then().statusCode(200).body("value", is("489"));
+        app.given().get("/api/resource/86/2").then().statusCode(200).body("value", is("189"));
+    }
+
+    @Test
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("587"));
+        app.given().get("/api/resource/87/1").then().statusCode(200).body("value", is("348"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("455"));
+        app.given().get("/api/resource/88/1").then().statusCode(200).body("value", is("946"));
+    }
+
+    // verifies scenario number 89 of the resource
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("921"));
+        app.given().get("/api/resource/89/1").then().statusCode(200).body("value", is("657"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40090")
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("773"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("195"));
+    }
+
+    // verifies scenario number 91 of the resource
+    @Test
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("548"));
+    }
+
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("325"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50093 gets fixed
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("580"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("543"));
+    }
+
+    @Test
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("756"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("346"));
+        app.given().get("/api/resource/94/2").then().statusCode(200).body("value", is("893"));
+        app.given().get("/api/resource/94/3").then().statusCode(200).body("value", is("824"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("70"));
+        app.given().get("/api/resource/95/1").then().statusCode(200).body("value", is("837"));
+    }
+
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("401"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("25"));
+    }
+
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("116"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("939"));
+        app.given().get("/api/resource/97/2").then().statusCode(200).body("value", is("551"));
+        app.given().get("/api/resource/97/3").then().statusCode(200).body("value", is("178"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1098 fails on CI")
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("807"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("84"));
+        app.given().get("/api/resource/98/2").then().statusCode(200).body("value", is("896"));
+    }
+
+    // verifies scenario number 99 of the resource
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("852"));
+        app.given().get("/api/resource/99/1").then().statusCode(200).body("value", is("112"));
+    }
+}
@@ -0,0 +1,768 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticLargeHigh1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("142"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("297"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("162"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("512"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("215"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("261"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("955"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("323"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("834"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("573"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("996"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("774"));
+        app.given().get("/api/resource/4/3").then().statusCode(200).body("value", is("944"));
+    }
+
+    // verifies scenario number 5 of the resource
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("306"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("27"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1006 fails on CI")
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("36"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("198"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("845"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("330"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("892"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("757"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("338"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("958"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("294"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40009")
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("107"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("943"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("59"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50010 gets fixed
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("769"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("165"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("191"));
+        app.given().get("/api/resource/10/3").then().statusCode(200).body("value", is("569"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("721"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("0"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("809"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("50"));
+    }
+
+    // verifies scenario number 13 of the resource
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("279"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("413"));
+        app.given().get("/api/resource/13/2").then().statusCode(200).body("value", is("924"));
+        app.given().get("/api/resource/13/3").then().statusCode(200).body("value", is("146"));
+    }
+
+    // verifies scenario number 14 of the resource
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("297"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("928"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("551"));
+        app.given().get("/api/resource/14/3").then().statusCode(200).body("value", is("81"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("322"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("585"));
+        app.given().get("/api/resource/15/2").then().statusCode(200).body("value", is("388"));
+        app.given().get("/api/resource/15/3").then().statusCode(200).body("value", is("879"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("67"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("964"));
+    }
+
+    // verifies scenario number 17 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50017 gets fixed
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("244"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("64"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("377"));
+        app.given().get("/api/resource/17/3").then().statusCode(200).body("value", is("3"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("549"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("659"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("950"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("291"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("790"));
+        app.given().get("/api/resource/19/2").then().statusCode(200).body("value", is("802"));
+        app.given().get("/api/resource/19/3").then().statusCode(200).body("value", is("894"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("773"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("623"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("229"));
+    }
+
+    // verifies scenario number 21 of the resource
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("311"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("553"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("384"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("803"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50023 gets fixed
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("758"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("727"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("413"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("279"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("567"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("590"));
+        app.given().get("/api/resource/24/3").then().statusCode(200).body("value", is("32"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40025")
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("384"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("816"));
+        app.given().get("/api/resource/25/2").then().statusCode(200).body("value", is("964"));
+        app.given().get("/api/resource/25/3").then().statusCode(200).body("value", is("182"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("76"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("345"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("176"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("491"));
+        app.given().get("/api/resource/27/3").then().statusCode(200).body("value", is("295"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50028 gets fixed
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("564"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("871"));
+        app.given().get("/api/resource/28/2").then().statusCode(200).body("value", is("580"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("720"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("13"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("175"));
+        app.given().get("/api/resource/29/3").then().statusCode(200).body("value", is("517"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50030 gets fixed
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("770"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("7"));
+        app.given().get("/api/resource/30/2").then().statusCode(200).body("value", is("106"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("93"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("265"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("996"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("4"));
+    }
+
+    // verifies scenario number 33 of the resource
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("74"));
+        app.given().get("/api/resource/33/1").then().statusCode(200).body("value", is("553"));
+        app.given().get("/api/resource/33/2").then().statusCode(200).body("value", is("693"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("837"));
+    }
+
+    // verifies scenario number 35 of the resource
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("745"));
+        app.given().get("/api/resource/35/1").then().statusCode(200).body("value", is("777"));
+        app.given().get("/api/resource/35/2").then().statusCode(200).body("value", is("609"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("923"));
+        app.given().get("/api/resource/36/1").then().statusCode(200).body("value", is("677"));
+        app.given().get("/api/resource/36/2").then().statusCode(200).body("value", is("35"));
+    }
+
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("770"));
+        app.given().get("/api/resource/37/1").then().statusCode(200).body("value", is("753"));
+        app.given().get("/api/resource/37/2").then().statusCode(200).body("value", is("704"));
+    }
+
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("237"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("669"));
+        app.given().get("/api/resource/39/1").then().statusCode(200).body("value", is("700"));
+        app.given().get("/api/resource/39/2").then().statusCode(200).body("value", is("787"));
+        app.given().get("/api/resource/39/3").then().statusCode(200).body("value", is("519"));
+    }
+
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("851"));
+        app.given().get("/api/resource/40/1").then().statusCode(200).body("value", is("450"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1041 fails on CI")
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("7"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("227"));
+        app.given().get("/api/resource/41/2").then().statusCode(200).body("value", is("35"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("503"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("483"));
+        app.given().get("/api/resource/42/2").then().statusCode(200).body("value", is("855"));
+        app.given().get("/api/resource/42/3").then().statusCode(200).body("value", is("54"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("121"));
+        app.given().get("/api/resource/43/1").then().statusCode(200).body("value", is("813"));
+        app.given().get("/api/resource/43/2").then().statusCode(200).body("value", is("532"));
+        app.given().get("/api/resource/43/3").then().statusCode(200).body("value", is("446"));
+    }
+
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("191"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("897"));
+        app.given().get("/api/resource/44/2").then().statusCode(200).body("value", is("312"));
+        app.given().get("/api/resource/44/3").then().statusCode(200).body("value", is("699"));
+    }
+
+    // verifies scenario number 45 of the resource
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40045")
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("808"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40046")
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("425"));
+        app.given().get("/api/resource/46/1").then().statusCode(200).body("value", is("580"));
+        app.given().get("/api/resource/46/2").then().statusCode(200).body("value", is("763"));
+    }
+
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("976"));
+        app.given().get("/api/resource/47/1").then().statusCode(200).body("value", is("543"));
+        app.given().get("/api/resource/47/2").then().statusCode(200).body("value", is("273"));
+    }
+
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("146"));
+        app.given().get("/api/resource/48/1").then().statusCode(200).body("value", is("464"));
+        app.given().get("/api/resource/48/2").then().statusCode(200).body("value", is("760"));
+        app.given().get("/api/resource/48/3").then().statusCode(200).body("value", is("403"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("319"));
+        app.given().get("/api/resource/49/1").then().statusCode(200).body("value", is("133"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("694"));
+        app.given().get("/api/resource/50/1").then().statusCode(200).body("value", is("135"));
+        app.given().get("/api/resource/50/2").then().statusCode(200).body("value", is("598"));
+        app.given().get("/api/resource/50/3").then().statusCode(200).body("value", is("517"));
+    }
+
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("748"));
+        app.given().get("/api/resource/51/1").then().statusCode(200).body("value", is("155"));
+        app.given().get("/api/resource/51/2").then().statusCode(200).body("value", is("323"));
+        app.given().get("/api/resource/51/3").then().statusCode(200).body("value", is("754"));
+    }
+
+    // verifies scenario number 52 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50052 gets fixed
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("769"));
+        app.given().get("/api/resource/52/1").then().statusCode(200).body("value", is("474"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("560"));
+    }
+
+    @Test
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("728"));
+        app.given().get("/api/resource/54/1").then().statusCode(200).body("value", is("639"));
+        app.given().get("/api/resource/54/2").then().statusCode(200).body("value", is("508"));
+    }
+
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("794"));
+        app.given().get("/api/resource/55/1").then().statusCode(200).body("value", is("325"));
+        app.given().get("/api/resource/55/2").then().statusCode(200).body("value", is("491"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40056")
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("12"));
+    }
+
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("43"));
+    }
+
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("252"));
+        app.given().get("/api/resource/58/1").then().statusCode(200).body("value", is("398"));
+        app.given().get("/api/resource/58/2").then().statusCode(200).body("value", is("700"));
+        app.given().get("/api/resource/58/3").then().statusCode(200).body("value", is("528"));
+    }
+
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("345"));
+    }
+
+    // verifies scenario number 60 of the resource
+    @Test
+    @Disabled("QUARKUS-1060 fails on CI")
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("966"));
+        app.given().get("/api/resource/60/1").then().statusCode(200).body("value", is("433"));
+    }
+
+    // verifies scenario number 61 of the resource
+    @Test
+    @Disabled("QUARKUS-1061 fails on CI")
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("919"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("225"));
+        app.given().get("/api/resource/61/2").then().statusCode(200).body("value", is("324"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("601"));
+        app.given().get("/api/resource/62/1").then().statusCode(200).body("value", is("694"));
+    }
+
+    // verifies scenario number 63 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50063 gets fixed
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("136"));
+        app.given().get("/api/resource/63/1").then().statusCode(200).body("value", is("268"));
+        app.given().get("/api/resource/63/2").then().statusCode(200).body("value", is("500"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50064 gets fixed
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("457"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("617"));
+        app.given().get("/api/resource/64/2").then().statusCode(200).body("value", is("10"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("967"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("383"));
+        app.given().get("/api/resource/65/2").then().statusCode(200).body("value", is("640"));
+        app.given().get("/api/resource/65/3").then().statusCode(200).body("value", is("371"));
+    }
+
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("540"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("640"));
+    }
+
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("559"));
+        app.given().get("/api/resource/67/1").then().statusCode(200).body("value", is("854"));
+        app.given().get("/api/resource/67/2").then().statusCode(200).body("value", is("937"));
+    }
+
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("286"));
+        app.given().get("/api/resource/68/1").then().statusCode(200).body("value", is("475"));
+        app.given().get("/api/resource/68/2").then().statusCode(200).body("value", is("804"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1069 fails on CI")
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("57"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("397"));
+        app.given().get("/api/resource/69/2").then().statusCode(200).body("value", is("214"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("863"));
+        app.given().get("/api/resource/70/1").then().statusCode(200).body("value", is("227"));
+    }
+
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("23"));
+        app.given().get("/api/resource/71/1").then().statusCode(200).body("value", is("789"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("238"));
+    }
+
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("58"));
+    }
+
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("75"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("421"));
+    }
+
+    @Test
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("417"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("11"));
+        app.given().get("/api/resource/75/2").then().statusCode(200).body("value", is("6"));
+        app.given().get("/api/resource/75/3").then().statusCode(200).body("value", is("755"));
+    }
+
+    // verifies scenario number 76 of the resource
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("350"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("118"));
+        app.given().get("/api/resource/76/2").then().statusCode(200).body("value", is("506"));
+        app.given().get("/api/resource/76/3").then().statusCode(200).body("value", is("32"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("674"));
+        app.given().get("/api/resource/77/1").then().statusCode(200).body("value", is("386"));
+        app.given().get("/api/resource/77/2").then().statusCode(200).body("value", is("279"));
+        app.given().get("/api/resource/77/3").then().statusCode(200).body("value", is("844"));
+    }
+
+    // verifies scenario number 78 of the resource
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("433"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("662"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40079")
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("561"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("136"));
+        app.given().get("/api/resource/79/2").then().statusCode(200).body("value", is("676"));
+        app.given().get("/api/resource/79/3").then().statusCode(200).body("value", is("493"));
+    }
+
+    // verifies scenario number 80 of the resource
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("703"));
+        app.given().get("/api/resource/80/1").then().statusCode(200).body("value", is("730"));
+        app.given().get("/api/resource/80/2").then().statusCode(200).body("value", is("585"));
+    }
+
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("115"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("763"));
+        app.given().get("/api/resource/81/2").then().statusCode(200).body("value", is("459"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("669"));
+        app.given().get("/api/resource/82/1").then().statusCode(200).body("value", is("146"));
+    }
+
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("673"));
+        app.given().get("/api/resource/83/1").then().statusCode(200).body("value", is("296"));
+    }
+
+    @Test
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("429"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("925"));
+        app.given().get("/api/resource/84/2").then().statusCode(200).body("value", is("557"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40085")
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("975"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("51"));
+        app.given().get("/api/resource/85/2").then().statusCode(200).body("value", is("269"));
+        app.given().get("/api/resource/85/3").then().statusCode(200).body("value", is("258"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("779"));
+    }
+
+    @Test
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("183"));
+        app.given().get("/api/resource/87/1").then().statusCode(200).body("value", is("776"));
+        app.given().get("/api/resource/87/2").then().statusCode(200).body("value", is("462"));
+        app.given().get("/api/resource/87/3").then().statusCode(200).body("value", is("541"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("681"));
+        app.given().get("/api/resource/88/1").then().statusCode(200).body("value", is("168"));
+        app.given().get("/api/resource/88/2").then().statusCode(200).body("value", is("969"));
+        app.given().get("/api/resource/88/3").then().statusCode(200).body("value", is("605"));
+    }
+
+    // verifies scenario number 89 of the resource
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("731"));
+    }
+
+    // verifies scenario number 90 of the resource
+    @Test
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("637"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("197"));
+        app.given().get("/api/resource/90/2").then().statusCode(200).body("value", is("562"));
+        app.given().get("/api/resource/90/3").then().statusCode(200).body("value", is("641"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1091 fails on CI")
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("40"));
+        app.given().get("/api/resource/91/1").then().statusCode(200).body("value", is("562"));
+    }
+
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("271"));
+    }
+
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("884"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("781"));
+        app.given().get("/api/resource/93/2").then().statusCode(200).body("value", is("783"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1094 fails on CI")
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("630"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("116"));
+        app.given().get("/api/resource/94/2").then().statusCode(200).body("value", is("673"));
+        app.given().get("/api/resource/94/3").then().statusCode(200).body("value", is("763"));
+    }
+
+    // verifies scenario number 95 of the resource
+    @Test
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("344"));
+        app.given().get("/api/resource/95/1").then().statusCode(200).body("value", is("444"));
+        app.given().get("/api/resource/95/2").then().statusCode(200).body("value", is("353"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("656"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("690"));
+        app.given().get("/api/resource/96/2").then().statusCode(200).body("value", is("801"));
+    }
+
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("650"));
+    }
+
+    // verifies scenario number 98 of the resource
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("702"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("170"));
+        app.given().get("/api/resource/98/2").then().statusCode(200).body("value", is("875"));
+    }
+
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("836"));
+        app.given().get("/api/resource/99/1").then().statusCode(200).body("value", is("933"));
+    }
+}
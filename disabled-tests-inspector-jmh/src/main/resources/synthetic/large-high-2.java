@@ -0,0 +1,729 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+@DisabledOnNative(reason = "https://github.com/quarkusio/quarkus/issues/30002")
+public class SyntheticLargeHigh2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("317"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("183"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("832"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("92"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("489"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("798"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("333"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50004 gets fixed
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("686"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("425"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("733"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("33"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("604"));
+        app.given().get("/api/resource/5/3").then().statusCode(200).body("value", is("738"));
+    }
+
+    // verifies scenario number 6 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50006 gets fixed
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("13"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("795"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("965"));
+        app.given().get("/api/resource/6/3").then().statusCode(200).body("value", is("364"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("301"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("167"));
+    }
+
+    // verifies scenario number 8 of the resource
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40008")
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("580"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("787"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("746"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("196"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("646"));
+    }
+
+    // verifies scenario number 10 of the resource
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("182"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("172"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("189"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("469"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("250"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("154"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("609"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("163"));
+        app.given().get("/api/resource/13/2").then().statusCode(200).body("value", is("322"));
+        app.given().get("/api/resource/13/3").then().statusCode(200).body("value", is("820"));
+    }
+
+    // verifies scenario number 14 of the resource
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("684"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("466"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("137"));
+        app.given().get("/api/resource/14/3").then().statusCode(200).body("value", is("432"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50015 gets fixed
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("185"));
+    }
+
+    // verifies scenario number 16 of the resource
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("26"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("962"));
+        app.given().get("/api/resource/16/2").then().statusCode(200).body("value", is("230"));
+        app.given().get("/api/resource/16/3").then().statusCode(200).body("value", is("669"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("681"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("857"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("643"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("822"));
+    }
+
+    // verifies scenario number 19 of the resource
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("716"));
+    }
+
+    // verifies scenario number 20 of the resource
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("856"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("296"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("899"));
+        app.given().get("/api/resource/20/3").then().statusCode(200).body("value", is("161"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("331"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("912"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40022")
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("505"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("311"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("819"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("662"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("48"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("628"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("36"));
+        app.given().get("/api/resource/25/2").then().statusCode(200).body("value", is("323"));
+    }
+
+    // verifies scenario number 26 of the resource
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("603"));
+    }
+
+    // verifies scenario number 27 of the resource
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("171"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("2"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("151"));
+        app.given().get("/api/resource/27/3").then().statusCode(200).body("value", is("680"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("359"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("250"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("363"));
+    }
+
+    // verifies scenario number 30 of the resource
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("907"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("756"));
+    }
+
+    @Test
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("622"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("778"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("477"));
+        app.given().get("/api/resource/32/2").then().statusCode(200).body("value", is("127"));
+        app.given().get("/api/resource/32/3").then().statusCode(200).body("value", is("237"));
+    }
+
+    // verifies scenario number 33 of the resource
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("882"));
+        app.given().get("/api/resource/33/1").then().statusCode(200).body("value", is("231"));
+        app.given().get("/api/resource/33/2").then().statusCode(200).body("value", is("355"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50034 gets fixed
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("858"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("586"));
+        app.given().get("/api/resource/34/2").then().statusCode(200).body("value", is("364"));
+    }
+
+    @Test
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("695"));
+    }
+
+    @Test
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("450"));
+        app.given().get("/api/resource/36/1").then().statusCode(200).body("value", is("332"));
+        app.given().get("/api/resource/36/2").then().statusCode(200).body("value", is("508"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1037 fails on CI")
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("13"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50038 gets fixed
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("478"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("399"));
+    }
+
+    // verifies scenario number 40 of the resource
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("680"));
+        app.given().get("/api/resource/40/1").then().statusCode(200).body("value", is("277"));
+        app.given().get("/api/resource/40/2").then().statusCode(200).body("value", is("568"));
+    }
+
+    // verifies scenario number 41 of the resource
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("710"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("134"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("173"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("398"));
+        app.given().get("/api/resource/42/2").then().statusCode(200).body("value", is("895"));
+        app.given().get("/api/resource/42/3").then().statusCode(200).body("value", is("988"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("718"));
+    }
+
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("975"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("389"));
+    }
+
+    @Test
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("848"));
+    }
+
+    @Test
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("109"));
+        app.given().get("/api/resource/46/1").then().statusCode(200).body("value", is("873"));
+        app.given().get("/api/resource/46/2").then().statusCode(200).body("value", is("6"));
+        app.given().get("/api/resource/46/3").then().statusCode(200).body("value", is("910"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("459"));
+        app.given().get("/api/resource/47/1").then().statusCode(200).body("value", is("289"));
+        app.given().get("/api/resource/47/2").then().statusCode(200).body("value", is("810"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("574"));
+        app.given().get("/api/resource/48/1").then().statusCode(200).body("value", is("201"));
+        app.given().get("/api/resource/48/2").then().statusCode(200).body("value", is("981"));
+    }
+
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("935"));
+        app.given().get("/api/resource/49/1").then().statusCode(200).body("value", is("170"));
+        app.given().get("/api/resource/49/2").then().statusCode(200).body("value", is("318"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("813"));
+        app.given().get("/api/resource/50/1").then().statusCode(200).body("value", is("898"));
+        app.given().get("/api/resource/50/2").then().statusCode(200).body("value", is("711"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("519"));
+        app.given().get("/api/resource/51/1").then().statusCode(200).body("value", is("728"));
+        app.given().get("/api/resource/51/2").then().statusCode(200).body("value", is("996"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40052")
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("649"));
+    }
+
+    @Test
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("818"));
+        app.given().get("/api/resource/53/1").then().statusCode(200).body("value", is("104"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("302"));
+        app.given().get("/api/resource/54/1").then().statusCode(200).body("value", is("648"));
+        app.given().get("/api/resource/54/2").then().statusCode(200).body("value", is("457"));
+        app.given().get("/api/resource/54/3").then().statusCode(200).body("value", is("312"));
+    }
+
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("666"));
+    }
+
+    @Test
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("360"));
+        app.given().get("/api/resource/56/1").then().statusCode(200).body("value", is("736"));
+        app.given().get("/api/resource/56/2").then().statusCode(200).body("value", is("313"));
+    }
+
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("176"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50058 gets fixed
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("661"));
+    }
+
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("866"));
+    }
+
+    @Test
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("120"));
+        app.given().get("/api/resource/60/1").then().statusCode(200).body("value", is("506"));
+        app.given().get("/api/resource/60/2").then().statusCode(200).body("value", is("174"));
+        app.given().get("/api/resource/60/3").then().statusCode(200).body("value", is("475"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1061 fails on CI")
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("713"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("800"));
+    }
+
+    // verifies scenario number 62 of the resource
+    @Test
+    @Disabled("QUARKUS-1062 fails on CI")
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("326"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("849"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("868"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("738"));
+        app.given().get("/api/resource/64/2").then().statusCode(200).body("value", is("837"));
+        app.given().get("/api/resource/64/3").then().statusCode(200).body("value", is("27"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40065")
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("788"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("583"));
+        app.given().get("/api/resource/65/2").then().statusCode(200).body("value", is("27"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("169"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("600"));
+        app.given().get("/api/resource/66/2").then().statusCode(200).body("value", is("4"));
+        app.given().get("/api/resource/66/3").then().statusCode(200).body("value", is("848"));
+    }
+
+    // verifies scenario number 67 of the resource
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("532"));
+        app.given().get("/api/resource/67/1").then().statusCode(200).body("value", is("311"));
+    }
+
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("679"));
+    }
+
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("12"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("687"));
+    }
+
+    @Test
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("238"));
+        app.given().get("/api/resource/70/1").then().statusCode(200).body("value", is("226"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1071 fails on CI")
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("670"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("976"));
+        app.given().get("/api/resource/72/1").then().statusCode(200).body("value", is("108"));
+        app.given().get("/api/resource/72/2").then().statusCode(200).body("value", is("833"));
+        app.given().get("/api/resource/72/3").then().statusCode(200).body("value", is("326"));
+    }
+
+    // verifies scenario number 73 of the resource
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("558"));
+    }
+
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("853"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("767"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("976"));
+        app.given().get("/api/resource/74/3").then().statusCode(200).body("value", is("532"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40075")
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("79"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("959"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("332"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("915"));
+        app.given().get("/api/resource/76/2").then().statusCode(200).body("value", is("555"));
+        app.given().get("/api/resource/76/3").then().statusCode(200).body("value", is("243"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("634"));
+        app.given().get("/api/resource/77/1").then().statusCode(200).body("value", is("257"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50078 gets fixed
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("251"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("436"));
+        app.given().get("/api/resource/78/2").then().statusCode(200).body("value", is("356"));
+        app.given().get("/api/resource/78/3").then().statusCode(200).body("value", is("584"));
+    }
+
+    @Test
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("281"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("406"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("659"));
+        app.given().get("/api/resource/80/1").then().statusCode(200).body("value", is("735"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("325"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("40"));
+        app.given().get("/api/resource/81/2").then().statusCode(200).body("value", is("534"));
+        app.given().get("/api/resource/81/3").then().statusCode(200).body("value", is("544"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1082 fails on CI")
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("988"));
+        app.given().get("/api/resource/82/1").then().statusCode(200).body("value", is("908"));
+        app.given().get("/api/resource/82/2").then().statusCode(200).body("value", is("94"));
+        app.given().get("/api/resource/82/3").then().statusCode(200).body("value", is("48"));
+    }
+
+    // verifies scenario number 83 of the resource
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("667"));
+        app.given().get("/api/resource/83/1").then().statusCode(200).body("value", is("449"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1084 fails on CI")
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("740"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("582"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1085 fails on CI")
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("601"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("26"));
+        app.given().get("/api/resource/85/2").then().statusCode(200).body("value", is("694"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("238"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50087 gets fixed
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("882"));
+    }
+
+    @Test
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("202"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50089 gets fixed
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("460"));
+        app.given().get("/api/resource/89/1").then().statusCode(200).body("value", is("959"));
+    }
+
+    @Test
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("616"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("311"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("504"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("349"));
+        app.given().get("/api/resource/92/1").then().statusCode(200).body("value", is("598"));
+        app.given().get("/api/resource/92/2").then().statusCode(200).body("value", is("912"));
+    }
+
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("755"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("63"));
+        app.given().get("/api/resource/93/2").then().statusCode(200).body("value", is("99"));
+    }
+
+    @Test
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("653"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("543"));
+        app.given().get("/api/resource/94/2").then().statusCode(200).body("value", is("189"));
+        app.given().get("/api/resource/94/3").then().statusCode(200).body("value", is("998"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("476"));
+        app.given().get("/api/resource/95/1").then().statusCode(200).body("value", is("389"));
+    }
+
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("886"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("909"));
+        app.given().get("/api/resource/96/2").then().statusCode(200).body("value", is("484"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50097 gets fixed
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("387"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("287"));
+        app.given().get("/api/resource/97/2").then().statusCode(200).body("value", is("396"));
+        app.given().get("/api/resource/97/3").then().statusCode(200).body("value", is("703"));
+    }
+
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("117"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("909"));
+        app.given().get("/api/resource/98/2").then().statusCode(200).body("value", is("634"));
+    }
+
+    // verifies scenario number 99 of the resource
+    @Test
+    @Disabled("QUARKUS-1099 fails on CI")
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("178"));
+    }
+}
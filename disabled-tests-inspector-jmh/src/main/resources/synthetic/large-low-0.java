@@ -0,0 +1,672 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticLargeLow0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("431"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("514"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("495"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("622"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("633"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("571"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("957"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("239"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("319"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("175"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("828"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("593"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("196"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("2"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("917"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("274"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("267"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("783"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("403"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("990"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("629"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("964"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("199"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("200"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("790"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("963"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("371"));
+        app.given().get("/api/resource/13/2").then().statusCode(200).body("value", is("18"));
+        app.given().get("/api/resource/13/3").then().statusCode(200).body("value", is("997"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("639"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("732"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("792"));
+        app.given().get("/api/resource/14/3").then().statusCode(200).body("value", is("563"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("12"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("795"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("409"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("228"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("190"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("849"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("698"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("980"));
+        app.given().get("/api/resource/19/2").then().statusCode(200).body("value", is("682"));
+        app.given().get("/api/resource/19/3").then().statusCode(200).body("value", is("758"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("65"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("548"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("674"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("817"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("777"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("817"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("647"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("620"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("989"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("295"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("160"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("804"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("3"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("404"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("520"));
+    }
+
+    // verifies scenario number 27 of the resource
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("65"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("901"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("749"));
+        app.given().get("/api/resource/27/3").then().statusCode(200).body("value", is("190"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("653"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("592"));
+        app.given().get("/api/resource/28/2").then().statusCode(200).body("value", is("574"));
+    }
+
+    // verifies scenario number 29 of the resource
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("838"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("5"));
+    }
+
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("935"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("918"));
+        app.given().get("/api/resource/30/2").then().statusCode(200).body("value", is("985"));
+    }
+
+    @Test
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("358"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("481"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("719"));
+    }
+
+    @Test
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("868"));
+        app.given().get("/api/resource/33/1").then().statusCode(200).body("value", is("604"));
+        app.given().get("/api/resource/33/2").then().statusCode(200).body("value", is("555"));
+    }
+
+    @Test
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("822"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("295"));
+        app.given().get("/api/resource/34/2").then().statusCode(200).body("value", is("113"));
+        app.given().get("/api/resource/34/3").then().statusCode(200).body("value", is("823"));
+    }
+
+    @Test
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("965"));
+        app.given().get("/api/resource/35/1").then().statusCode(200).body("value", is("260"));
+    }
+
+    @Test
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("975"));
+    }
+
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("734"));
+        app.given().get("/api/resource/37/1").then().statusCode(200).body("value", is("969"));
+        app.given().get("/api/resource/37/2").then().statusCode(200).body("value", is("779"));
+        app.given().get("/api/resource/37/3").then().statusCode(200).body("value", is("481"));
+    }
+
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("283"));
+        app.given().get("/api/resource/38/1").then().statusCode(200).body("value", is("208"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("186"));
+        app.given().get("/api/resource/39/1").then().statusCode(200).body("value", is("524"));
+        app.given().get("/api/resource/39/2").then().statusCode(200).body("value", is("975"));
+    }
+
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("284"));
+        app.given().get("/api/resource/40/1").then().statusCode(200).body("value", is("219"));
+        app.given().get("/api/resource/40/2").then().statusCode(200).body("value", is("982"));
+    }
+
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("222"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("60"));
+        app.given().get("/api/resource/41/2").then().statusCode(200).body("value", is("137"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("693"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("232"));
+        app.given().get("/api/resource/43/1").then().statusCode(200).body("value", is("937"));
+        app.given().get("/api/resource/43/2").then().statusCode(200).body("value", is("318"));
+        app.given().get("/api/resource/43/3").then().statusCode(200).body("value", is("130"));
+    }
+
+    // verifies scenario number 44 of the resource
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("90"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("810"));
+    }
+
+    @Test
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("456"));
+    }
+
+    // verifies scenario number 46 of the resource
+    @Test
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("531"));
+    }
+
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("511"));
+        app.given().get("/api/resource/47/1").then().statusCode(200).body("value", is("206"));
+        app.given().get("/api/resource/47/2").then().statusCode(200).body("value", is("195"));
+    }
+
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("522"));
+    }
+
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("132"));
+        app.given().get("/api/resource/49/1").then().statusCode(200).body("value", is("672"));
+    }
+
+    @Test
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("477"));
+    }
+
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("527"));
+        app.given().get("/api/resource/51/1").then().statusCode(200).body("value", is("81"));
+    }
+
+    @Test
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("656"));
+    }
+
+    // verifies scenario number 53 of the resource
+    @Test
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("618"));
+        app.given().get("/api/resource/53/1").then().statusCode(200).body("value", is("29"));
+        app.given().get("/api/resource/53/2").then().statusCode(200).body("value", is("736"));
+        app.given().get("/api/resource/53/3").then().statusCode(200).body("value", is("57"));
+    }
+
+    // verifies scenario number 54 of the resource
+    @Test
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("635"));
+    }
+
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("776"));
+        app.given().get("/api/resource/55/1").then().statusCode(200).body("value", is("616"));
+        app.given().get("/api/resource/55/2").then().statusCode(200).body("value", is("623"));
+        app.given().get("/api/resource/55/3").then().statusCode(200).body("value", is("13"));
+    }
+
+    @Test
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("172"));
+    }
+
+    // verifies scenario number 57 of the resource
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("402"));
+        app.given().get("/api/resource/57/1").then().statusCode(200).body("value", is("406"));
+        app.given().get("/api/resource/57/2").then().statusCode(200).body("value", is("212"));
+    }
+
+    // verifies scenario number 58 of the resource
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("76"));
+        app.given().get("/api/resource/58/1").then().statusCode(200).body("value", is("867"));
+    }
+
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("418"));
+        app.given().get("/api/resource/59/1").then().statusCode(200).body("value", is("906"));
+    }
+
+    @Test
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("809"));
+        app.given().get("/api/resource/60/1").then().statusCode(200).body("value", is("894"));
+        app.given().get("/api/resource/60/2").then().statusCode(200).body("value", is("751"));
+    }
+
+    @Test
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("579"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("583"));
+        app.given().get("/api/resource/61/2").then().statusCode(200).body("value", is("76"));
+    }
+
+    @Test
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("27"));
+        app.given().get("/api/resource/62/1").then().statusCode(200).body("value", is("885"));
+    }
+
+    @Test
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("955"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("212"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("544"));
+        app.given().get("/api/resource/64/2").then().statusCode(200).body("value", is("879"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("524"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("599"));
+        app.given().get("/api/resource/65/2").then().statusCode(200).body("value", is("946"));
+        app.given().get("/api/resource/65/3").then().statusCode(200).body("value", is("668"));
+    }
+
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("438"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("176"));
+        app.given().get("/api/resource/66/2").then().statusCode(200).body("value", is("893"));
+        app.given().get("/api/resource/66/3").then().statusCode(200).body("value", is("911"));
+    }
+
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("544"));
+    }
+
+    // verifies scenario number 68 of the resource
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("603"));
+    }
+
+    // verifies scenario number 69 of the resource
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("986"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("611"));
+        app.given().get("/api/resource/69/2").then().statusCode(200).body("value", is("901"));
+    }
+
+    @Test
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("901"));
+    }
+
+    // verifies scenario number 71 of the resource
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("724"));
+        app.given().get("/api/resource/71/1").then().statusCode(200).body("value", is("483"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("711"));
+        app.given().get("/api/resource/72/1").then().statusCode(200).body("value", is("786"));
+    }
+
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("418"));
+        app.given().get("/api/resource/73/1").then().statusCode(200).body("value", is("674"));
+    }
+
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("745"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("827"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("124"));
+    }
+
+    @Test
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("681"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("631"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("272"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("910"));
+        app.given().get("/api/resource/76/2").then().statusCode(200).body("value", is("312"));
+    }
+
+    @Test
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("952"));
+        app.given().get("/api/resource/77/1").then().statusCode(200).body("value", is("51"));
+        app.given().get("/api/resource/77/2").then().statusCode(200).body("value", is("746"));
+    }
+
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("426"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("342"));
+        app.given().get("/api/resource/78/2").then().statusCode(200).body("value", is("732"));
+        app.given().get("/api/resource/78/3").then().statusCode(200).body("value", is("87"));
+    }
+
+    // verifies scenario number 79 of the resource
+    @Test
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("508"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("895"));
+        app.given().get("/api/resource/79/2").then().statusCode(200).body("value", is("869"));
+        app.given().get("/api/resource/79/3").then().statusCode(200).body("value", is("552"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("431"));
+    }
+
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("286"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("473"));
+    }
+
+    // verifies scenario number 82 of the resource
+    @Test
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("894"));
+    }
+
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("282"));
+        app.given().get("/api/resource/83/1").then().statusCode(200).body("value", is("846"));
+        app.given().get("/api/resource/83/2").then().statusCode(200).body("value", is("195"));
+        app.given().get("/api/resource/83/3").then().statusCode(200).body("value", is("206"));
+    }
+
+    @Test
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("430"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("490"));
+        app.given().get("/api/resource/84/2").then().statusCode(200).body("value", is("453"));
+        app.given().get("/api/resource/84/3").then().statusCode(200).body("value", is("792"));
+    }
+
+    @Test
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("792"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("351"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50086 gets fixed
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("882"));
+        app.given().get("/api/resource/86/1").then().statusCode(200).body("value", is("405"));
+        app.given().get("/api/resource/86/2").then().statusCode(200).body("value", is("539"));
+    }
+
+    @Test
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("842"));
+    }
+
+    @Test
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("317"));
+        app.given().get("/api/resource/88/1").then().statusCode(200).body("value", is("699"));
+        app.given().get("/api/resource/88/2").then().statusCode(200).body("value", is("420"));
+    }
+
+    @Test
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("467"));
+        app.given().get("/api/resource/89/1").then().statusCode(200).body("value", is("282"));
+    }
+
+    @Test
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("637"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("371"));
+    }
+
+    // verifies scenario number 91 of the resource
+    @Test
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("253"));
+        app.given().get("/api/resource/91/1").then().statusCode(200).body("value", is("867"));
+    }
+
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("261"));
+    }
+
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("225"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("977"));
+        app.given().get("/api/resource/93/2").then().statusCode(200).body("value", is("167"));
+        app.given().get("/api/resource/93/3").then().statusCode(200).body("value", is("383"));
+    }
+
+    @Test
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("236"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("705"));
+        app.given().get("/api/resource/94/2").then().statusCode(200).body("value", is("998"));
+        app.given().get("/api/resource/94/3").then().statusCode(200).body("value", is("715"));
+    }
+
+    @Test
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("219"));
+    }
+
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("611"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("835"));
+        app.given().get("/api/resource/96/2").then().statusCode(200).body("value", is("163"));
+    }
+
+    // verifies scenario number 97 of the resource
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("936"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("591"));
+    }
+
+    // verifies scenario number 98 of the resource
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("90"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("331"));
+    }
+
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("80"));
+    }
+}
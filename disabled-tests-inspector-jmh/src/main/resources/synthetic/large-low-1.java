@@ -0,0 +1,694 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticLargeLow1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    // verifies scenario number 0 of the resource
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("297"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("901"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("383"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("982"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("46"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("593"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("563"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("20"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("847"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("80"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("715"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("729"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("700"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("438"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("907"));
+    }
+
+    // verifies scenario number 7 of the resource
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("705"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("63"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("534"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("9"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("651"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("682"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("250"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("363"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("7"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("213"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("992"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("215"));
+        app.given().get("/api/resource/11/3").then().statusCode(200).body("value", is("563"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("527"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("428"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("119"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40013")
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("886"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("551"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("321"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("801"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("64"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("495"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("916"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("832"));
+        app.given().get("/api/resource/16/2").then().statusCode(200).body("value", is("749"));
+        app.given().get("/api/resource/16/3").then().statusCode(200).body("value", is("334"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40017")
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("335"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("625"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("117"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("604"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("972"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("242"));
+        app.given().get("/api/resource/18/3").then().statusCode(200).body("value", is("794"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("635"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("670"));
+        app.given().get("/api/resource/19/2").then().statusCode(200).body("value", is("238"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("922"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("160"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("442"));
+        app.given().get("/api/resource/20/3").then().statusCode(200).body("value", is("392"));
+    }
+
+    // verifies scenario number 21 of the resource
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("774"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("602"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("821"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("601"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("966"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("774"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("97"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("918"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("187"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("914"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("839"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("661"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("193"));
+        app.given().get("/api/resource/26/3").then().statusCode(200).body("value", is("132"));
+    }
+
+    // verifies scenario number 27 of the resource
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("379"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("111"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("726"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("14"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("953"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("315"));
+    }
+
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("984"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("31"));
+        app.given().get("/api/resource/30/2").then().statusCode(200).body("value", is("79"));
+    }
+
+    @Test
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("41"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("549"));
+        app.given().get("/api/resource/31/2").then().statusCode(200).body("value", is("800"));
+        app.given().get("/api/resource/31/3").then().statusCode(200).body("value", is("725"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("328"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("848"));
+        app.given().get("/api/resource/32/2").then().statusCode(200).body("value", is("418"));
+        app.given().get("/api/resource/32/3").then().statusCode(200).body("value", is("55"));
+    }
+
+    // verifies scenario number 33 of the resource
+    @Test
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("2"));
+        app.given().get("/api/resource/33/1").then().statusCode(200).body("value", is("767"));
+    }
+
+    @Test
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("968"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("682"));
+    }
+
+    @Test
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("306"));
+        app.given().get("/api/resource/35/1").then().statusCode(200).body("value", is("812"));
+        app.given().get("/api/resource/35/2").then().statusCode(200).body("value", is("906"));
+        app.given().get("/api/resource/35/3").then().statusCode(200).body("value", is("562"));
+    }
+
+    @Test
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("602"));
+    }
+
+    // verifies scenario number 37 of the resource
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("749"));
+        app.given().get("/api/resource/37/1").then().statusCode(200).body("value", is("220"));
+        app.given().get("/api/resource/37/2").then().statusCode(200).body("value", is("356"));
+        app.given().get("/api/resource/37/3").then().statusCode(200).body("value", is("78"));
+    }
+
+    // verifies scenario number 38 of the resource
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("381"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("34"));
+        app.given().get("/api/resource/39/1").then().statusCode(200).body("value", is("198"));
+        app.given().get("/api/resource/39/2").then().statusCode(200).body("value", is("852"));
+    }
+
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("442"));
+    }
+
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("713"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("710"));
+        app.given().get("/api/resource/41/2").then().statusCode(200).body("value", is("36"));
+    }
+
+    // verifies scenario number 42 of the resource
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("508"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("205"));
+        app.given().get("/api/resource/42/2").then().statusCode(200).body("value", is("729"));
+    }
+
+    // verifies scenario number 43 of the resource
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("893"));
+        app.given().get("/api/resource/43/1").then().statusCode(200).body("value", is("925"));
+    }
+
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("43"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("444"));
+        app.given().get("/api/resource/44/2").then().statusCode(200).body("value", is("225"));
+        app.given().get("/api/resource/44/3").then().statusCode(200).body("value", is("208"));
+    }
+
+    @Test
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("761"));
+        app.given().get("/api/resource/45/1").then().statusCode(200).body("value", is("477"));
+        app.given().get("/api/resource/45/2").then().statusCode(200).body("value", is("67"));
+        app.given().get("/api/resource/45/3").then().statusCode(200).body("value", is("712"));
+    }
+
+    // verifies scenario number 46 of the resource
+    @Test
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("642"));
+        app.given().get("/api/resource/46/1").then().statusCode(200).body("value", is("325"));
+    }
+
+    // verifies scenario number 47 of the resource
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("976"));
+        app.given().get("/api/resource/47/1").then().statusCode(200).body("value", is("648"));
+    }
+
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("39"));
+    }
+
+    // verifies scenario number 49 of the resource
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("995"));
+        app.given().get("/api/resource/49/1").then().statusCode(200).body("value", is("287"));
+        app.given().get("/api/resource/49/2").then().statusCode(200).body("value", is("846"));
+        app.given().get("/api/resource/49/3").then().statusCode(200).body("value", is("400"));
+    }
+
+    @Test
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("10"));
+    }
+
+    // verifies scenario number 51 of the resource
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("759"));
+        app.given().get("/api/resource/51/1").then().statusCode(200).body("value", is("89"));
+        app.given().get("/api/resource/51/2").then().statusCode(200).body("value", is("633"));
+        app.given().get("/api/resource/51/3").then().statusCode(200).body("value", is("154"));
+    }
+
+    // verifies scenario number 52 of the resource
+    @Test
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("221"));
+        app.given().get("/api/resource/52/1").then().statusCode(200).body("value", is("269"));
+        app.given().get("/api/resource/52/2").then().statusCode(200).body("value", is("764"));
+        app.given().get("/api/resource/52/3").then().statusCode(200).body("value", is("894"));
+    }
+
+    @Test
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("469"));
+    }
+
+    @Test
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("286"));
+    }
+
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("515"));
+    }
+
+    @Test
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("471"));
+        app.given().get("/api/resource/56/1").then().statusCode(200).body("value", is("496"));
+    }
+
+    // verifies scenario number 57 of the resource
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("850"));
+        app.given().get("/api/resource/57/1").then().statusCode(200).body("value", is("186"));
+        app.given().get("/api/resource/57/2").then().statusCode(200).body("value", is("437"));
+    }
+
+    // verifies scenario number 58 of the resource
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("574"));
+    }
+
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("88"));
+    }
+
+    @Test
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("225"));
+    }
+
+    @Test
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("508"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("221"));
+        app.given().get("/api/resource/61/2").then().statusCode(200).body("value", is("630"));
+    }
+
+    @Test
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("301"));
+        app.given().get("/api/resource/62/1").then().statusCode(200).body("value", is("331"));
+        app.given().get("/api/resource/62/2").then().statusCode(200).body("value", is("56"));
+    }
+
+    @Test
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("432"));
+        app.given().get("/api/resource/63/1").then().statusCode(200).body("value", is("301"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("575"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("581"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("902"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("162"));
+        app.given().get("/api/resource/65/2").then().statusCode(200).body("value", is("77"));
+    }
+
+    // verifies scenario number 66 of the resource
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("236"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("718"));
+        app.given().get("/api/resource/66/2").then().statusCode(200).body("value", is("762"));
+    }
+
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("751"));
+        app.given().get("/api/resource/67/1").then().statusCode(200).body("value", is("101"));
+        app.given().get("/api/resource/67/2").then().statusCode(200).body("value", is("661"));
+        app.given().get("/api/resource/67/3").then().statusCode(200).body("value", is("118"));
+    }
+
+    // verifies scenario number 68 of the resource
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("824"));
+    }
+
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("151"));
+    }
+
+    @Test
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("625"));
+    }
+
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("507"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("578"));
+        app.given().get("/api/resource/72/1").then().statusCode(200).body("value", is("498"));
+        app.given().get("/api/resource/72/2").then().statusCode(200).body("value", is("615"));
+        app.given().get("/api/resource/72/3").then().statusCode(200).body("value", is("495"));
+    }
+
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("8"));
+        app.given().get("/api/resource/73/1").then().statusCode(200).body("value", is("856"));
+    }
+
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("165"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("190"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("776"));
+    }
+
+    @Test
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("145"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("722"));
+        app.given().get("/api/resource/75/2").then().statusCode(200).body("value", is("895"));
+        app.given().get("/api/resource/75/3").then().statusCode(200).body("value", is("186"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("208"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("308"));
+    }
+
+    @Test
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("624"));
+    }
+
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("288"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("61"));
+    }
+
+    @Test
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("616"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("653"));
+        app.given().get("/api/resource/79/2").then().statusCode(200).body("value", is("551"));
+        app.given().get("/api/resource/79/3").then().statusCode(200).body("value", is("947"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("47"));
+        app.given().get("/api/resource/80/1").then().statusCode(200).body("value", is("13"));
+        app.given().get("/api/resource/80/2").then().statusCode(200).body("value", is("599"));
+    }
+
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("329"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("779"));
+        app.given().get("/api/resource/81/2").then().statusCode(200).body("value", is("853"));
+    }
+
+    @Test
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("701"));
+        app.given().get("/api/resource/82/1").then().statusCode(200).body("value", is("474"));
+    }
+
+    // verifies scenario number 83 of the resource
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("358"));
+    }
+
+    // verifies scenario number 84 of the resource
+    @Test
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("545"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("835"));
+    }
+
+    @Test
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("286"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("458"));
+    }
+
+    // verifies scenario number 87 of the resource
+    @Test
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("752"));
+        app.given().get("/api/resource/87/1").then().statusCode(200).body("value", is("223"));
+        app.given().get("/api/resource/87/2").then().statusCode(200).body("value", is("321"));
+    }
+
+    @Test
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("119"));
+        app.given().get("/api/resource/88/1").then().statusCode(200).body("value", is("223"));
+        app.given().get("/api/resource/88/2").then().statusCode(200).body("value", is("339"));
+    }
+
+    @Test
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("482"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50090 gets fixed
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("995"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("70"));
+    }
+
+    @Test
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("678"));
+        app.given().get("/api/resource/91/1").then().statusCode(200).body("value", is("273"));
+        app.given().get("/api/resource/91/2").then().statusCode(200).body("value", is("168"));
+        app.given().get("/api/resource/91/3").then().statusCode(200).body("value", is("983"));
+    }
+
+    // verifies scenario number 92 of the resource
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("941"));
+        app.given().get("/api/resource/92/1").then().statusCode(200).body("value", is("170"));
+        app.given().get("/api/resource/92/2").then().statusCode(200).body("value", is("257"));
+        app.given().get("/api/resource/92/3").then().statusCode(200).body("value", is("908"));
+    }
+
+    // verifies scenario number 93 of the resource
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("755"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("947"));
+        app.given().get("/api/resource/93/2").then().statusCode(200).body("value", is("166"));
+        app.given().get("/api/resource/93/3").then().statusCode(200).body("value", is("325"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("994"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("732"));
+    }
+
+    @Test
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("770"));
+    }
+
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("250"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("521"));
+    }
+
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("579"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("759"));
+    }
+
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("790"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("293"));
+        app.given().get("/api/resource/98/2").then().statusCode(200).body("value", is("450"));
+        app.given().get("/api/resource/98/3").then().statusCode(200).body("value", is("844"));
+    }
+
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("639"));
+        app.given().get("/api/resource/99/1").then().statusCode(200).body("value", is("255"));
+    }
+}
@@ -0,0 +1,669 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticLargeLow2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("52"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("827"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("975"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("303"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("749"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("193"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("745"));
+        app.given().get("/api/resource/2/3").then().statusCode(200).body("value", is("616"));
+    }
+
+    // verifies scenario number 3 of the resource
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("149"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("716"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("666"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("378"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("322"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("760"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("276"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("67"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("805"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("346"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("78"));
+        app.given().get("/api/resource/7/3").then().statusCode(200).body("value", is("957"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("698"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("314"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("472"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("763"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("179"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("476"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("455"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("739"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("371"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("55"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("71"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("3"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("764"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("80"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("724"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("85"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("916"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("645"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("421"));
+        app.given().get("/api/resource/18/3").then().statusCode(200).body("value", is("12"));
+    }
+
+    // verifies scenario number 19 of the resource
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("347"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("209"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("358"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("408"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("244"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("112"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("707"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("608"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("150"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("453"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("919"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("773"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("6"));
+    }
+
+    // verifies scenario number 26 of the resource
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("865"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("214"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("146"));
+    }
+
+    // verifies scenario number 27 of the resource
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("108"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("772"));
+    }
+
+    // verifies scenario number 29 of the resource
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("368"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("638"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("742"));
+    }
+
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("26"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("108"));
+        app.given().get("/api/resource/30/2").then().statusCode(200).body("value", is("794"));
+        app.given().get("/api/resource/30/3").then().statusCode(200).body("value", is("771"));
+    }
+
+    @Test
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("20"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("346"));
+        app.given().get("/api/resource/31/2").then().statusCode(200).body("value", is("761"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("233"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("860"));
+        app.given().get("/api/resource/32/2").then().statusCode(200).body("value", is("920"));
+    }
+
+    // verifies scenario number 33 of the resource
+    @Test
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("520"));
+    }
+
+    @Test
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("567"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("216"));
+        app.given().get("/api/resource/34/2").then().statusCode(200).body("value", is("833"));
+    }
+
+    @Test
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("35"));
+        app.given().get("/api/resource/35/1").then().statusCode(200).body("value", is("775"));
+        app.given().get("/api/resource/35/2").then().statusCode(200).body("value", is("599"));
+    }
+
+    // verifies scenario number 36 of the resource
+    @Test
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("269"));
+    }
+
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("269"));
+    }
+
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("137"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("571"));
+        app.given().get("/api/resource/39/1").then().statusCode(200).body("value", is("133"));
+        app.given().get("/api/resource/39/2").then().statusCode(200).body("value", is("569"));
+        app.given().get("/api/resource/39/3").then().statusCode(200).body("value", is("680"));
+    }
+
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("539"));
+        app.given().get("/api/resource/40/1").then().statusCode(200).body("value", is("506"));
+    }
+
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("968"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("696"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("746"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("329"));
+        app.given().get("/api/resource/42/2").then().statusCode(200).body("value", is("70"));
+        app.given().get("/api/resource/42/3").then().statusCode(200).body("value", is("917"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("964"));
+        app.given().get("/api/resource/43/1").then().statusCode(200).body("value", is("26"));
+        app.given().get("/api/resource/43/2").then().statusCode(200).body("value", is("365"));
+        app.given().get("/api/resource/43/3").then().statusCode(200).body("value", is("96"));
+    }
+
+    // verifies scenario number 44 of the resource
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("387"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("236"));
+    }
+
+    @Test
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("944"));
+        app.given().get("/api/resource/45/1").then().statusCode(200).body("value", is("958"));
+    }
+
+    @Test
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("712"));
+        app.given().get("/api/resource/46/1").then().statusCode(200).body("value", is("651"));
+    }
+
+    // verifies scenario number 47 of the resource
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("480"));
+    }
+
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("729"));
+        app.given().get("/api/resource/48/1").then().statusCode(200).body("value", is("554"));
+        app.given().get("/api/resource/48/2").then().statusCode(200).body("value", is("742"));
+    }
+
+    // verifies scenario number 49 of the resource
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("964"));
+    }
+
+    // verifies scenario number 50 of the resource
+    @Test
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("648"));
+    }
+
+    // verifies scenario number 51 of the resource
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/51/1").then().statusCode(200).body("value", is("276"));
+        app.given().get("/api/resource/51/2").then().statusCode(200).body("value", is("883"));
+        app.given().get("/api/resource/51/3").then().statusCode(200).body("value", is("501"));
+    }
+
+    @Test
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("396"));
+        app.given().get("/api/resource/52/1").then().statusCode(200).body("value", is("795"));
+    }
+
+    @Test
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("850"));
+    }
+
+    @Test
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("697"));
+        app.given().get("/api/resource/54/1").then().statusCode(200).body("value", is("730"));
+        app.given().get("/api/resource/54/2").then().statusCode(200).body("value", is("317"));
+    }
+
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("214"));
+    }
+
+    @Test
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("891"));
+        app.given().get("/api/resource/56/1").then().statusCode(200).body("value", is("350"));
+        app.given().get("/api/resource/56/2").then().statusCode(200).body("value", is("559"));
+    }
+
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("691"));
+        app.given().get("/api/resource/57/1").then().statusCode(200).body("value", is("833"));
+    }
+
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("632"));
+        app.given().get("/api/resource/58/1").then().statusCode(200).body("value", is("580"));
+        app.given().get("/api/resource/58/2").then().statusCode(200).body("value", is("100"));
+        app.given().get("/api/resource/58/3").then().statusCode(200).body("value", is("681"));
+    }
+
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("50"));
+        app.given().get("/api/resource/59/1").then().statusCode(200).body("value", is("155"));
+        app.given().get("/api/resource/59/2").then().statusCode(200).body("value", is("329"));
+    }
+
+    // verifies scenario number 60 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50060 gets fixed
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("866"));
+        app.given().get("/api/resource/60/1").then().statusCode(200).body("value", is("235"));
+    }
+
+    @Test
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("528"));
+    }
+
+    // verifies scenario number 62 of the resource
+    @Test
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("727"));
+        app.given().get("/api/resource/62/1").then().statusCode(200).body("value", is("201"));
+        app.given().get("/api/resource/62/2").then().statusCode(200).body("value", is("791"));
+    }
+
+    // verifies scenario number 63 of the resource
+    @Test
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("851"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("767"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("520"));
+        app.given().get("/api/resource/64/2").then().statusCode(200).body("value", is("954"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("53"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("517"));
+    }
+
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("737"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("993"));
+    }
+
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("613"));
+        app.given().get("/api/resource/67/1").then().statusCode(200).body("value", is("19"));
+    }
+
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("224"));
+        app.given().get("/api/resource/68/1").then().statusCode(200).body("value", is("470"));
+    }
+
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("187"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("948"));
+        app.given().get("/api/resource/69/2").then().statusCode(200).body("value", is("139"));
+        app.given().get("/api/resource/69/3").then().statusCode(200).body("value", is("69"));
+    }
+
+    @Test
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("453"));
+    }
+
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("854"));
+        app.given().get("/api/resource/71/1").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/71/2").then().statusCode(200).body("value", is("699"));
+    }
+
+    // verifies scenario number 72 of the resource
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("277"));
+        app.given().get("/api/resource/72/1").then().statusCode(200).body("value", is("921"));
+    }
+
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("925"));
+    }
+
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("593"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("747"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("695"));
+    }
+
+    @Test
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("433"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("833"));
+        app.given().get("/api/resource/75/2").then().statusCode(200).body("value", is("483"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("928"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("23"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1077 fails on CI")
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("55"));
+    }
+
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("66"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("296"));
+        app.given().get("/api/resource/78/2").then().statusCode(200).body("value", is("892"));
+        app.given().get("/api/resource/78/3").then().statusCode(200).body("value", is("716"));
+    }
+
+    // verifies scenario number 79 of the resource
+    @Test
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("923"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("279"));
+        app.given().get("/api/resource/80/1").then().statusCode(200).body("value", is("670"));
+        app.given().get("/api/resource/80/2").then().statusCode(200).body("value", is("649"));
+    }
+
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("574"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("114"));
+    }
+
+    @Test
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("671"));
+        app.given().get("/api/resource/82/1").then().statusCode(200).body("value", is("833"));
+        app.given().get("/api/resource/82/2").then().statusCode(200).body("value", is("891"));
+        app.given().get("/api/resource/82/3").then().statusCode(200).body("value", is("630"));
+    }
+
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("440"));
+    }
+
+    // verifies scenario number 84 of the resource
+    @Test
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("340"));
+    }
+
+    @Test
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("88"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("395"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("204"));
+        app.given().get("/api/resource/86/1").then().statusCode(200).body("value", is("416"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50087 gets fixed
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("373"));
+    }
+
+    @Test
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("204"));
+    }
+
+    @Test
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("27"));
+        app.given().get("/api/resource/89/1").then().statusCode(200).body("value", is("775"));
+        app.given().get("/api/resource/89/2").then().statusCode(200).body("value", is("73"));
+    }
+
+    @Test
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("389"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("707"));
+        app.given().get("/api/resource/90/2").then().statusCode(200).body("value", is("617"));
+    }
+
+    @Test
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("944"));
+        app.given().get("/api/resource/91/1").then().statusCode(200).body("value", is("253"));
+    }
+
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("583"));
+        app.given().get("/api/resource/92/1").then().statusCode(200).body("value", is("50"));
+        app.given().get("/api/resource/92/2").then().statusCode(200).body("value", is("202"));
+        app.given().get("/api/resource/92/3").then().statusCode(200).body("value", is("686"));
+    }
+
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("979"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("743"));
+        app.given().get("/api/resource/93/2").then().statusCode(200).body("value", is("73"));
+    }
+
+    @Test
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("90"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("672"));
+        app.given().get("/api/resource/94/2").then().statusCode(200).body("value", is("738"));
+    }
+
+    @Test
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("390"));
+        app.given().get("/api/resource/95/1").then().statusCode(200).body("value", is("292"));
+        app.given().get("/api/resource/95/2").then().statusCode(200).body("value", is("475"));
+    }
+
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("36"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("576"));
+        app.given().get("/api/resource/96/2").then().statusCode(200).body("value", is("889"));
+        app.given().get("/api/resource/96/3").then().statusCode(200).body("value", is("498"));
+    }
+
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("923"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("505"));
+    }
+
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("806"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("667"));
+        app.given().get("/api/resource/98/2").then().statusCode(200).body("value", is("19"));
+    }
+
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("807"));
+    }
+}
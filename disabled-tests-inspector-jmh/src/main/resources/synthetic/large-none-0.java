@@ -0,0 +1,718 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticLargeNone0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("296"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("832"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("3"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("800"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("676"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("149"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("161"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("933"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("277"));
+    }
+
+    // verifies scenario number 3 of the resource
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("723"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("533"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("550"));
+        app.given().get("/api/resource/3/3").then().statusCode(200).body("value", is("196"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("242"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("280"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("83"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("20"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("314"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("416"));
+    }
+
+    // verifies scenario number 6 of the resource
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("386"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("51"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("99"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("824"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("760"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("843"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("330"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("661"));
+    }
+
+    // verifies scenario number 10 of the resource
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("776"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("17"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("564"));
+        app.given().get("/api/resource/10/3").then().statusCode(200).body("value", is("4"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("215"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("111"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("759"));
+    }
+
+    // verifies scenario number 12 of the resource
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("910"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("495"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("122"));
+        app.given().get("/api/resource/12/3").then().statusCode(200).body("value", is("94"));
+    }
+
+    // verifies scenario number 13 of the resource
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("934"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("249"));
+        app.given().get("/api/resource/13/2").then().statusCode(200).body("value", is("440"));
+        app.given().get("/api/resource/13/3").then().statusCode(200).body("value", is("541"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("678"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("440"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("929"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("581"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("997"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("541"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("94"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("334"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("234"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("446"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("325"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("869"));
+        app.given().get("/api/resource/19/2").then().statusCode(200).body("value", is("917"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("199"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("6"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("34"));
+        app.given().get("/api/resource/20/3").then().statusCode(200).body("value", is("675"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("559"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("907"));
+        app.given().get("/api/resource/21/2").then().statusCode(200).body("value", is("581"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("163"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("599"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("717"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("331"));
+        app.given().get("/api/resource/23/3").then().statusCode(200).body("value", is("961"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("408"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("97"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("54"));
+        app.given().get("/api/resource/24/3").then().statusCode(200).body("value", is("640"));
+    }
+
+    // verifies scenario number 25 of the resource
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("138"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("655"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("225"));
+    }
+
+    // verifies scenario number 27 of the resource
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("947"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("495"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("258"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("334"));
+    }
+
+    // verifies scenario number 29 of the resource
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("924"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("332"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("42"));
+    }
+
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("660"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("469"));
+    }
+
+    @Test
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("155"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("299"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("10"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("419"));
+    }
+
+    @Test
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("621"));
+    }
+
+    @Test
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("459"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("391"));
+    }
+
+    // verifies scenario number 35 of the resource
+    @Test
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("832"));
+        app.given().get("/api/resource/35/1").then().statusCode(200).body("value", is("34"));
+        app.given().get("/api/resource/35/2").then().statusCode(200).body("value", is("28"));
+    }
+
+    @Test
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("237"));
+        app.given().get("/api/resource/36/1").then().statusCode(200).body("value", is("553"));
+        app.given().get("/api/resource/36/2").then().statusCode(200).body("value", is("980"));
+    }
+
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("864"));
+        app.given().get("/api/resource/37/1").then().statusCode(200).body("value", is("634"));
+        app.given().get("/api/resource/37/2").then().statusCode(200).body("value", is("316"));
+        app.given().get("/api/resource/37/3").then().statusCode(200).body("value", is("57"));
+    }
+
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("651"));
+    }
+
+    // verifies scenario number 39 of the resource
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("563"));
+    }
+
+    // verifies scenario number 40 of the resource
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("55"));
+    }
+
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("449"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("314"));
+        app.given().get("/api/resource/41/2").then().statusCode(200).body("value", is("236"));
+        app.given().get("/api/resource/41/3").then().statusCode(200).body("value", is("328"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("234"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("163"));
+        app.given().get("/api/resource/42/2").then().statusCode(200).body("value", is("740"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("591"));
+        app.given().get("/api/resource/43/1").then().statusCode(200).body("value", is("811"));
+        app.given().get("/api/resource/43/2").then().statusCode(200).body("value", is("507"));
+        app.given().get("/api/resource/43/3").then().statusCode(200).body("value", is("417"));
+    }
+
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("130"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("158"));
+    }
+
+    @Test
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("510"));
+        app.given().get("/api/resource/45/1").then().statusCode(200).body("value", is("255"));
+    }
+
+    // verifies scenario number 46 of the resource
+    @Test
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("913"));
+        app.given().get("/api/resource/46/1").then().statusCode(200).body("value", is("358"));
+        app.given().get("/api/resource/46/2").then().statusCode(200).body("value", is("813"));
+    }
+
+    // verifies scenario number 47 of the resource
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("91"));
+        app.given().get("/api/resource/47/1").then().statusCode(200).body("value", is("666"));
+        app.given().get("/api/resource/47/2").then().statusCode(200).body("value", is("754"));
+        app.given().get("/api/resource/47/3").then().statusCode(200).body("value", is("7"));
+    }
+
+    // verifies scenario number 48 of the resource
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("295"));
+        app.given().get("/api/resource/48/1").then().statusCode(200).body("value", is("217"));
+        app.given().get("/api/resource/48/2").then().statusCode(200).body("value", is("752"));
+        app.given().get("/api/resource/48/3").then().statusCode(200).body("value", is("976"));
+    }
+
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("240"));
+        app.given().get("/api/resource/49/1").then().statusCode(200).body("value", is("218"));
+    }
+
+    @Test
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("536"));
+    }
+
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("104"));
+        app.given().get("/api/resource/51/1").then().statusCode(200).body("value", is("841"));
+    }
+
+    @Test
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("801"));
+    }
+
+    @Test
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("956"));
+        app.given().get("/api/resource/53/1").then().statusCode(200).body("value", is("250"));
+        app.given().get("/api/resource/53/2").then().statusCode(200).body("value", is("637"));
+    }
+
+    @Test
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("613"));
+        app.given().get("/api/resource/54/1").then().statusCode(200).body("value", is("403"));
+    }
+
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("868"));
+        app.given().get("/api/resource/55/1").then().statusCode(200).body("value", is("86"));
+    }
+
+    @Test
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("313"));
+    }
+
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("456"));
+    }
+
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("856"));
+        app.given().get("/api/resource/58/1").then().statusCode(200).body("value", is("379"));
+        app.given().get("/api/resource/58/2").then().statusCode(200).body("value", is("899"));
+        app.given().get("/api/resource/58/3").then().statusCode(200).body("value", is("117"));
+    }
+
+    // verifies scenario number 59 of the resource
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("432"));
+        app.given().get("/api/resource/59/1").then().statusCode(200).body("value", is("367"));
+        app.given().get("/api/resource/59/2").then().statusCode(200).body("value", is("986"));
+        app.given().get("/api/resource/59/3").then().statusCode(200).body("value", is("753"));
+    }
+
+    @Test
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("205"));
+        app.given().get("/api/resource/60/1").then().statusCode(200).body("value", is("721"));
+        app.given().get("/api/resource/60/2").then().statusCode(200).body("value", is("859"));
+        app.given().get("/api/resource/60/3").then().statusCode(200).body("value", is("955"));
+    }
+
+    // verifies scenario number 61 of the resource
+    @Test
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("582"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("979"));
+    }
+
+    @Test
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("101"));
+        app.given().get("/api/resource/62/1").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/62/2").then().statusCode(200).body("value", is("375"));
+    }
+
+    // verifies scenario number 63 of the resource
+    @Test
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("591"));
+        app.given().get("/api/resource/63/1").then().statusCode(200).body("value", is("263"));
+        app.given().get("/api/resource/63/2").then().statusCode(200).body("value", is("809"));
+        app.given().get("/api/resource/63/3").then().statusCode(200).body("value", is("769"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("262"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("448"));
+        app.given().get("/api/resource/64/2").then().statusCode(200).body("value", is("437"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("473"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("556"));
+        app.given().get("/api/resource/65/2").then().statusCode(200).body("value", is("532"));
+        app.given().get("/api/resource/65/3").then().statusCode(200).body("value", is("158"));
+    }
+
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("399"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("966"));
+        app.given().get("/api/resource/66/2").then().statusCode(200).body("value", is("848"));
+        app.given().get("/api/resource/66/3").then().statusCode(200).body("value", is("573"));
+    }
+
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("769"));
+        app.given().get("/api/resource/67/1").then().statusCode(200).body("value", is("332"));
+    }
+
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("691"));
+        app.given().get("/api/resource/68/1").then().statusCode(200).body("value", is("394"));
+    }
+
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("822"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("148"));
+        app.given().get("/api/resource/69/2").then().statusCode(200).body("value", is("149"));
+        app.given().get("/api/resource/69/3").then().statusCode(200).body("value", is("962"));
+    }
+
+    @Test
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("986"));
+        app.given().get("/api/resource/70/1").then().statusCode(200).body("value", is("943"));
+    }
+
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("314"));
+        app.given().get("/api/resource/71/1").then().statusCode(200).body("value", is("233"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("941"));
+        app.given().get("/api/resource/72/1").then().statusCode(200).body("value", is("701"));
+        app.given().get("/api/resource/72/2").then().statusCode(200).body("value", is("587"));
+        app.given().get("/api/resource/72/3").then().statusCode(200).body("value", is("899"));
+    }
+
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("895"));
+        app.given().get("/api/resource/73/1").then().statusCode(200).body("value", is("651"));
+        app.given().get("/api/resource/73/2").then().statusCode(200).body("value", is("367"));
+        app.given().get("/api/resource/73/3").then().statusCode(200).body("value", is("888"));
+    }
+
+    // verifies scenario number 74 of the resource
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("753"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("327"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("100"));
+    }
+
+    @Test
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("28"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("934"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("523"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("382"));
+        app.given().get("/api/resource/76/2").then().statusCode(200).body("value", is("642"));
+    }
+
+    // verifies scenario number 77 of the resource
+    @Test
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("754"));
+        app.given().get("/api/resource/77/1").then().statusCode(200).body("value", is("469"));
+    }
+
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("903"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("999"));
+        app.given().get("/api/resource/78/2").then().statusCode(200).body("value", is("401"));
+    }
+
+    // verifies scenario number 79 of the resource
+    @Test
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("275"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("188"));
+        app.given().get("/api/resource/79/2").then().statusCode(200).body("value", is("197"));
+        app.given().get("/api/resource/79/3").then().statusCode(200).body("value", is("205"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("973"));
+        app.given().get("/api/resource/80/1").then().statusCode(200).body("value", is("701"));
+    }
+
+    // verifies scenario number 81 of the resource
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("547"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("920"));
+        app.given().get("/api/resource/81/2").then().statusCode(200).body("value", is("122"));
+    }
+
+    @Test
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("836"));
+        app.given().get("/api/resource/82/1").then().statusCode(200).body("value", is("271"));
+        app.given().get("/api/resource/82/2").then().statusCode(200).body("value", is("961"));
+        app.given().get("/api/resource/82/3").then().statusCode(200).body("value", is("374"));
+    }
+
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("609"));
+        app.given().get("/api/resource/83/1").then().statusCode(200).body("value", is("382"));
+        app.given().get("/api/resource/83/2").then().statusCode(200).body("value", is("997"));
+    }
+
+    // verifies scenario number 84 of the resource
+    @Test
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("231"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("598"));
+        app.given().get("/api/resource/84/2").then().statusCode(200).body("value", is("443"));
+        app.given().get("/api/resource/84/3").then().statusCode(200).body("value", is("215"));
+    }
+
+    // verifies scenario number 85 of the resource
+    @Test
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("497"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("597"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("26"));
+        app.given().get("/api/resource/86/1").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/86/2").then().statusCode(200).body("value", is("330"));
+    }
+
+    @Test
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("178"));
+        app.given().get("/api/resource/87/1").then().statusCode(200).body("value", is("189"));
+        app.given().get("/api/resource/87/2").then().statusCode(200).body("value", is("519"));
+        app.given().get("/api/resource/87/3").then().statusCode(200).body("value", is("268"));
+    }
+
+    @Test
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("347"));
+        app.given().get("/api/resource/88/1").then().statusCode(200).body("value", is("243"));
+    }
+
+    @Test
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("129"));
+        app.given().get("/api/resource/89/1").then().statusCode(200).body("value", is("531"));
+        app.given().get("/api/resource/89/2").then().statusCode(200).body("value", is("741"));
+    }
+
+    @Test
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("381"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("305"));
+        app.given().get("/api/resource/90/2").then().statusCode(200).body("value", is("184"));
+        app.given().get("/api/resource/90/3").then().statusCode(200).body("value", is("830"));
+    }
+
+    @Test
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("537"));
+        app.given().get("/api/resource/91/1").then().statusCode(200).body("value", is("432"));
+        app.given().get("/api/resource/91/2").then().statusCode(200).body("value", is("869"));
+        app.given().get("/api/resource/91/3").then().statusCode(200).body("value", is("193"));
+    }
+
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("49"));
+    }
+
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("758"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("372"));
+    }
+
+    // verifies scenario number 94 of the resource
+    @Test
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("716"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("785"));
+        app.given().get("/api/resource/94/2").then().statusCode(200).body("value", is("817"));
+        app.given().get("/api/resource/94/3").then().statusCode(200).body("value", is("236"));
+    }
+
+    @Test
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("977"));
+        app.given().get("/api/resource/95/1").then().statusCode(200).body("value", is("761"));
+        app.given().get("/api/resource/95/2").then().statusCode(200).body("value", is("45"));
+        app.given().get("/api/resource/95/3").then().statusCode(200).body("value", is("960"));
+    }
+
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("936"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("104"));
+        app.given().get("/api/resource/96/2").then().statusCode(200).body("value", is("613"));
+        app.given().get("/api/resource/96/3").then().statusCode(200).body("value", is("122"));
+    }
+
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("611"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("551"));
+    }
+
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("55"));
+    }
+
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("945"));
+    }
+}
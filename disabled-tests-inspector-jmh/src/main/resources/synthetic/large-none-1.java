@@ -0,0 +1,693 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticLargeNone1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    // verifies scenario number 0 of the resource
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("162"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("571"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("854"));
+        app.given().get("/api/resource/0/3").then().statusCode(200).body("value", is("24"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("168"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("945"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("356"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("192"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("16"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("221"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("123"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("350"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("218"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("394"));
+    }
+
+    // verifies scenario number 4 of the resource
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("359"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("481"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("474"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("69"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("592"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("622"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("979"));
+        app.given().get("/api/resource/7/3").then().statusCode(200).body("value", is("0"));
+    }
+
+    // verifies scenario number 8 of the resource
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("471"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("541"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("299"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("589"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("762"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("247"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("824"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("945"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("96"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("11"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("619"));
+        app.given().get("/api/resource/11/3").then().statusCode(200).body("value", is("169"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("65"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("291"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("276"));
+        app.given().get("/api/resource/12/3").then().statusCode(200).body("value", is("988"));
+    }
+
+    // verifies scenario number 13 of the resource
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("3"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("38"));
+    }
+
+    // verifies scenario number 14 of the resource
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("757"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("296"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("131"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("571"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("636"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("511"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("376"));
+        app.given().get("/api/resource/16/2").then().statusCode(200).body("value", is("371"));
+        app.given().get("/api/resource/16/3").then().statusCode(200).body("value", is("506"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("256"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("61"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("797"));
+        app.given().get("/api/resource/17/3").then().statusCode(200).body("value", is("822"));
+    }
+
+    // verifies scenario number 18 of the resource
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("905"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("675"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("986"));
+    }
+
+    // verifies scenario number 20 of the resource
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("424"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("419"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("344"));
+        app.given().get("/api/resource/20/3").then().statusCode(200).body("value", is("850"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("545"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("166"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("681"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("996"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("548"));
+        app.given().get("/api/resource/22/3").then().statusCode(200).body("value", is("824"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("683"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("639"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("236"));
+    }
+
+    // verifies scenario number 25 of the resource
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("114"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("724"));
+    }
+
+    // verifies scenario number 26 of the resource
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("420"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("395"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("460"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("695"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("793"));
+        app.given().get("/api/resource/28/2").then().statusCode(200).body("value", is("642"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("158"));
+    }
+
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("53"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("782"));
+        app.given().get("/api/resource/30/2").then().statusCode(200).body("value", is("122"));
+    }
+
+    @Test
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("571"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("902"));
+        app.given().get("/api/resource/31/2").then().statusCode(200).body("value", is("134"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("75"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("872"));
+        app.given().get("/api/resource/32/2").then().statusCode(200).body("value", is("443"));
+        app.given().get("/api/resource/32/3").then().statusCode(200).body("value", is("912"));
+    }
+
+    @Test
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("703"));
+        app.given().get("/api/resource/33/1").then().statusCode(200).body("value", is("794"));
+        app.given().get("/api/resource/33/2").then().statusCode(200).body("value", is("489"));
+        app.given().get("/api/resource/33/3").then().statusCode(200).body("value", is("801"));
+    }
+
+    @Test
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("281"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("807"));
+        app.given().get("/api/resource/34/2").then().statusCode(200).body("value", is("522"));
+    }
+
+    @Test
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("147"));
+    }
+
+    @Test
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("391"));
+    }
+
+    // verifies scenario number 37 of the resource
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("779"));
+        app.given().get("/api/resource/37/1").then().statusCode(200).body("value", is("90"));
+        app.given().get("/api/resource/37/2").then().statusCode(200).body("value", is("556"));
+    }
+
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("740"));
+        app.given().get("/api/resource/38/1").then().statusCode(200).body("value", is("389"));
+        app.given().get("/api/resource/38/2").then().statusCode(200).body("value", is("140"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("213"));
+        app.given().get("/api/resource/39/1").then().statusCode(200).body("value", is("183"));
+        app.given().get("/api/resource/39/2").then().statusCode(200).body("value", is("693"));
+        app.given().get("/api/resource/39/3").then().statusCode(200).body("value", is("408"));
+    }
+
+    // verifies scenario number 40 of the resource
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("980"));
+        app.given().get("/api/resource/40/1").then().statusCode(200).body("value", is("786"));
+        app.given().get("/api/resource/40/2").then().statusCode(200).body("value", is("78"));
+    }
+
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("428"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("171"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("572"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("884"));
+        app.given().get("/api/resource/42/2").then().statusCode(200).body("value", is("854"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("411"));
+    }
+
+    // verifies scenario number 44 of the resource
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("337"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("372"));
+        app.given().get("/api/resource/44/2").then().statusCode(200).body("value", is("272"));
+    }
+
+    @Test
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("430"));
+    }
+
+    @Test
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("623"));
+        app.given().get("/api/resource/46/1").then().statusCode(200).body("value", is("801"));
+        app.given().get("/api/resource/46/2").then().statusCode(200).body("value", is("209"));
+        app.given().get("/api/resource/46/3").then().statusCode(200).body("value", is("757"));
+    }
+
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("254"));
+        app.given().get("/api/resource/47/1").then().statusCode(200).body("value", is("950"));
+        app.given().get("/api/resource/47/2").then().statusCode(200).body("value", is("734"));
+        app.given().get("/api/resource/47/3").then().statusCode(200).body("value", is("588"));
+    }
+
+    // verifies scenario number 48 of the resource
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("377"));
+        app.given().get("/api/resource/48/1").then().statusCode(200).body("value", is("66"));
+        app.given().get("/api/resource/48/2").then().statusCode(200).body("value", is("141"));
+    }
+
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("105"));
+    }
+
+    @Test
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("470"));
+    }
+
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("714"));
+    }
+
+    @Test
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("437"));
+        app.given().get("/api/resource/52/1").then().statusCode(200).body("value", is("628"));
+        app.given().get("/api/resource/52/2").then().statusCode(200).body("value", is("692"));
+        app.given().get("/api/resource/52/3").then().statusCode(200).body("value", is("869"));
+    }
+
+    // verifies scenario number 53 of the resource
+    @Test
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("136"));
+        app.given().get("/api/resource/53/1").then().statusCode(200).body("value", is("41"));
+        app.given().get("/api/resource/53/2").then().statusCode(200).body("value", is("277"));
+        app.given().get("/api/resource/53/3").then().statusCode(200).body("value", is("676"));
+    }
+
+    @Test
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("370"));
+    }
+
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("762"));
+        app.given().get("/api/resource/55/1").then().statusCode(200).body("value", is("181"));
+    }
+
+    @Test
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("460"));
+        app.given().get("/api/resource/56/1").then().statusCode(200).body("value", is("166"));
+    }
+
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("59"));
+        app.given().get("/api/resource/57/1").then().statusCode(200).body("value", is("682"));
+        app.given().get("/api/resource/57/2").then().statusCode(200).body("value", is("394"));
+        app.given().get("/api/resource/57/3").then().statusCode(200).body("value", is("594"));
+    }
+
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("281"));
+    }
+
+    // verifies scenario number 59 of the resource
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("589"));
+    }
+
+    @Test
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("220"));
+    }
+
+    // verifies scenario number 61 of the resource
+    @Test
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("356"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("784"));
+        app.given().get("/api/resource/61/2").then().statusCode(200).body("value", is("482"));
+    }
+
+    // verifies scenario number 62 of the resource
+    @Test
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("61"));
+    }
+
+    @Test
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("624"));
+        app.given().get("/api/resource/63/1").then().statusCode(200).body("value", is("509"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("474"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("172"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("734"));
+    }
+
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("977"));
+    }
+
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("683"));
+    }
+
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("925"));
+    }
+
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("333"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("737"));
+    }
+
+    @Test
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("65"));
+        app.given().get("/api/resource/70/1").then().statusCode(200).body("value", is("451"));
+        app.given().get("/api/resource/70/2").then().statusCode(200).body("value", is("681"));
+        app.given().get("/api/resource/70/3").then().statusCode(200).body("value", is("474"));
+    }
+
+    // verifies scenario number 71 of the resource
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("418"));
+        app.given().get("/api/resource/71/1").then().statusCode(200).body("value", is("846"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("408"));
+    }
+
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("164"));
+        app.given().get("/api/resource/73/1").then().statusCode(200).body("value", is("757"));
+    }
+
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("599"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("817"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("7"));
+        app.given().get("/api/resource/74/3").then().statusCode(200).body("value", is("739"));
+    }
+
+    // verifies scenario number 75 of the resource
+    @Test
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("763"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("39"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("598"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("120"));
+        app.given().get("/api/resource/76/2").then().statusCode(200).body("value", is("211"));
+    }
+
+    @Test
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("895"));
+        app.given().get("/api/resource/77/1").then().statusCode(200).body("value", is("430"));
+        app.given().get("/api/resource/77/2").then().statusCode(200).body("value", is("571"));
+    }
+
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("96"));
+        app.given().get("/api/resource/78/1").then().statusCode(200).body("value", is("372"));
+        app.given().get("/api/resource/78/2").then().statusCode(200).body("value", is("137"));
+        app.given().get("/api/resource/78/3").then().statusCode(200).body("value", is("292"));
+    }
+
+    @Test
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("608"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("433"));
+        app.given().get("/api/resource/79/2").then().statusCode(200).body("value", is("326"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("378"));
+    }
+
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("7"));
+    }
+
+    @Test
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("429"));
+        app.given().get("/api/resource/82/1").then().statusCode(200).body("value", is("772"));
+        app.given().get("/api/resource/82/2").then().statusCode(200).body("value", is("697"));
+        app.given().get("/api/resource/82/3").then().statusCode(200).body("value", is("859"));
+    }
+
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("832"));
+        app.given().get("/api/resource/83/1").then().statusCode(200).body("value", is("923"));
+        app.given().get("/api/resource/83/2").then().statusCode(200).body("value", is("308"));
+    }
+
+    @Test
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("891"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("999"));
+    }
+
+    // verifies scenario number 85 of the resource
+    @Test
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("869"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("827"));
+        app.given().get("/api/resource/85/2").then().statusCode(200).body("value", is("123"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("203"));
+        app.given().get("/api/resource/86/1").then().statusCode(200).body("value", is("458"));
+        app.given().get("/api/resource/86/2").then().statusCode(200).body("value", is("80"));
+        app.given().get("/api/resource/86/3").then().statusCode(200).body("value", is("335"));
+    }
+
+    @Test
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("266"));
+        app.given().get("/api/resource/87/1").then().statusCode(200).body("value", is("261"));
+        app.given().get("/api/resource/87/2").then().statusCode(200).body("value", is("657"));
+    }
+
+    @Test
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("657"));
+        app.given().get("/api/resource/88/1").then().statusCode(200).body("value", is("512"));
+        app.given().get("/api/resource/88/2").then().statusCode(200).body("value", is("490"));
+        app.given().get("/api/resource/88/3").then().statusCode(200).body("value", is("295"));
+    }
+
+    @Test
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("948"));
+        app.given().get("/api/resource/89/1").then().statusCode(200).body("value", is("117"));
+    }
+
+    // verifies scenario number 90 of the resource
+    @Test
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("793"));
+        app.given().get("/api/resource/90/1").then().statusCode(200).body("value", is("677"));
+        app.given().get("/api/resource/90/2").then().statusCode(200).body("value", is("474"));
+    }
+
+    // verifies scenario number 91 of the resource
+    @Test
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("183"));
+    }
+
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("502"));
+        app.given().get("/api/resource/92/1").then().statusCode(200).body("value", is("676"));
+    }
+
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("715"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("845"));
+    }
+
+    @Test
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("46"));
+    }
+
+    @Test
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("315"));
+        app.given().get("/api/resource/95/1").then().statusCode(200).body("value", is("263"));
+        app.given().get("/api/resource/95/2").then().statusCode(200).body("value", is("388"));
+        app.given().get("/api/resource/95/3").then().statusCode(200).body("value", is("646"));
+    }
+
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("942"));
+        app.given().get("/api/resource/96/1").then().statusCode(200).body("value", is("473"));
+        app.given().get("/api/resource/96/2").then().statusCode(200).body("value", is("182"));
+    }
+
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("117"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("202"));
+    }
+
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("163"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("212"));
+        app.given().get("/api/resource/98/2").then().statusCode(200).body("value", is("181"));
+        app.given().get("/api/resource/98/3").then().statusCode(200).body("value", is("704"));
+    }
+
+    // verifies scenario number 99 of the resource
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("773"));
+    }
+}
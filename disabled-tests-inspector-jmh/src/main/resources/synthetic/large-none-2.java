@@ -0,0 +1,693 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticLargeNone2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("916"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("706"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("246"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("14"));
+    }
+
+    // verifies scenario number 2 of the resource
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("543"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("478"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("155"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("164"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("498"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("800"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("650"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("419"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("165"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("848"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("776"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("287"));
+        app.given().get("/api/resource/6/3").then().statusCode(200).body("value", is("269"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("367"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("473"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("657"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("542"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("283"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("812"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("924"));
+        app.given().get("/api/resource/9/3").then().statusCode(200).body("value", is("617"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("742"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("657"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("859"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("978"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("528"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("588"));
+    }
+
+    // verifies scenario number 13 of the resource
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("247"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("612"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("317"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("895"));
+        app.given().get("/api/resource/15/2").then().statusCode(200).body("value", is("464"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("773"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("726"));
+        app.given().get("/api/resource/16/2").then().statusCode(200).body("value", is("312"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("16"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("793"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("725"));
+        app.given().get("/api/resource/17/3").then().statusCode(200).body("value", is("729"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("808"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("500"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("545"));
+        app.given().get("/api/resource/18/3").then().statusCode(200).body("value", is("137"));
+    }
+
+    // verifies scenario number 19 of the resource
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("796"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("16"));
+        app.given().get("/api/resource/19/2").then().statusCode(200).body("value", is("983"));
+        app.given().get("/api/resource/19/3").then().statusCode(200).body("value", is("842"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("796"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("558"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("917"));
+        app.given().get("/api/resource/20/3").then().statusCode(200).body("value", is("49"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("339"));
+    }
+
+    // verifies scenario number 22 of the resource
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("22"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("632"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("59"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("129"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("843"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("818"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("474"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("868"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("908"));
+        app.given().get("/api/resource/24/3").then().statusCode(200).body("value", is("331"));
+    }
+
+    // verifies scenario number 25 of the resource
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("130"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("663"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("589"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("123"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("428"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("666"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("235"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("223"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("515"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("849"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("763"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("289"));
+        app.given().get("/api/resource/29/3").then().statusCode(200).body("value", is("677"));
+    }
+
+    // verifies scenario number 30 of the resource
+    @Test
+    public void test30() {
+        app.given().get("/api/resource/30/0").then().statusCode(200).body("value", is("142"));
+        app.given().get("/api/resource/30/1").then().statusCode(200).body("value", is("544"));
+        app.given().get("/api/resource/30/2").then().statusCode(200).body("value", is("697"));
+    }
+
+    @Test
+    public void test31() {
+        app.given().get("/api/resource/31/0").then().statusCode(200).body("value", is("569"));
+        app.given().get("/api/resource/31/1").then().statusCode(200).body("value", is("550"));
+        app.given().get("/api/resource/31/2").then().statusCode(200).body("value", is("371"));
+        app.given().get("/api/resource/31/3").then().statusCode(200).body("value", is("685"));
+    }
+
+    @Test
+    public void test32() {
+        app.given().get("/api/resource/32/0").then().statusCode(200).body("value", is("370"));
+        app.given().get("/api/resource/32/1").then().statusCode(200).body("value", is("445"));
+        app.given().get("/api/resource/32/2").then().statusCode(200).body("value", is("452"));
+    }
+
+    // verifies scenario number 33 of the resource
+    @Test
+    public void test33() {
+        app.given().get("/api/resource/33/0").then().statusCode(200).body("value", is("311"));
+    }
+
+    @Test
+    public void test34() {
+        app.given().get("/api/resource/34/0").then().statusCode(200).body("value", is("479"));
+        app.given().get("/api/resource/34/1").then().statusCode(200).body("value", is("52"));
+        app.given().get("/api/resource/34/2").then().statusCode(200).body("value", is("190"));
+        app.given().get("/api/resource/34/3").then().statusCode(200).body("value", is("235"));
+    }
+
+    @Test
+    public void test35() {
+        app.given().get("/api/resource/35/0").then().statusCode(200).body("value", is("798"));
+        app.given().get("/api/resource/35/1").then().statusCode(200).body("value", is("374"));
+    }
+
+    @Test
+    public void test36() {
+        app.given().get("/api/resource/36/0").then().statusCode(200).body("value", is("890"));
+        app.given().get("/api/resource/36/1").then().statusCode(200).body("value", is("113"));
+        app.given().get("/api/resource/36/2").then().statusCode(200).body("value", is("957"));
+    }
+
+    @Test
+    public void test37() {
+        app.given().get("/api/resource/37/0").then().statusCode(200).body("value", is("708"));
+        app.given().get("/api/resource/37/1").then().statusCode(200).body("value", is("172"));
+        app.given().get("/api/resource/37/2").then().statusCode(200).body("value", is("483"));
+    }
+
+    @Test
+    public void test38() {
+        app.given().get("/api/resource/38/0").then().statusCode(200).body("value", is("505"));
+        app.given().get("/api/resource/38/1").then().statusCode(200).body("value", is("962"));
+    }
+
+    @Test
+    public void test39() {
+        app.given().get("/api/resource/39/0").then().statusCode(200).body("value", is("352"));
+        app.given().get("/api/resource/39/1").then().statusCode(200).body("value", is("483"));
+        app.given().get("/api/resource/39/2").then().statusCode(200).body("value", is("663"));
+        app.given().get("/api/resource/39/3").then().statusCode(200).body("value", is("68"));
+    }
+
+    @Test
+    public void test40() {
+        app.given().get("/api/resource/40/0").then().statusCode(200).body("value", is("137"));
+    }
+
+    @Test
+    public void test41() {
+        app.given().get("/api/resource/41/0").then().statusCode(200).body("value", is("575"));
+        app.given().get("/api/resource/41/1").then().statusCode(200).body("value", is("140"));
+        app.given().get("/api/resource/41/2").then().statusCode(200).body("value", is("444"));
+    }
+
+    @Test
+    public void test42() {
+        app.given().get("/api/resource/42/0").then().statusCode(200).body("value", is("808"));
+        app.given().get("/api/resource/42/1").then().statusCode(200).body("value", is("654"));
+    }
+
+    @Test
+    public void test43() {
+        app.given().get("/api/resource/43/0").then().statusCode(200).body("value", is("744"));
+        app.given().get("/api/resource/43/1").then().statusCode(200).body("value", is("392"));
+        app.given().get("/api/resource/43/2").then().statusCode(200).body("value", is("728"));
+        app.given().get("/api/resource/43/3").then().statusCode(200).body("value", is("354"));
+    }
+
+    // verifies scenario number 44 of the resource
+    @Test
+    public void test44() {
+        app.given().get("/api/resource/44/0").then().statusCode(200).body("value", is("970"));
+        app.given().get("/api/resource/44/1").then().statusCode(200).body("value", is("705"));
+    }
+
+    @Test
+    public void test45() {
+        app.given().get("/api/resource/45/0").then().statusCode(200).body("value", is("185"));
+        app.given().get("/api/resource/45/1").then().statusCode(200).body("value", is("316"));
+        app.given().get("/api/resource/45/2").then().statusCode(200).body("value", is("721"));
+    }
+
+    @Test
+    public void test46() {
+        app.given().get("/api/resource/46/0").then().statusCode(200).body("value", is("285"));
+    }
+
+    @Test
+    public void test47() {
+        app.given().get("/api/resource/47/0").then().statusCode(200).body("value", is("808"));
+    }
+
+    @Test
+    public void test48() {
+        app.given().get("/api/resource/48/0").then().statusCode(200).body("value", is("396"));
+        app.given().get("/api/resource/48/1").then().statusCode(200).body("value", is("408"));
+    }
+
+    @Test
+    public void test49() {
+        app.given().get("/api/resource/49/0").then().statusCode(200).body("value", is("642"));
+        app.given().get("/api/resource/49/1").then().statusCode(200).body("value", is("967"));
+    }
+
+    @Test
+    public void test50() {
+        app.given().get("/api/resource/50/0").then().statusCode(200).body("value", is("861"));
+        app.given().get("/api/resource/50/1").then().statusCode(200).body("value", is("625"));
+        app.given().get("/api/resource/50/2").then().statusCode(200).body("value", is("131"));
+        app.given().get("/api/resource/50/3").then().statusCode(200).body("value", is("215"));
+    }
+
+    @Test
+    public void test51() {
+        app.given().get("/api/resource/51/0").then().statusCode(200).body("value", is("800"));
+    }
+
+    // verifies scenario number 52 of the resource
+    @Test
+    public void test52() {
+        app.given().get("/api/resource/52/0").then().statusCode(200).body("value", is("527"));
+    }
+
+    @Test
+    public void test53() {
+        app.given().get("/api/resource/53/0").then().statusCode(200).body("value", is("457"));
+        app.given().get("/api/resource/53/1").then().statusCode(200).body("value", is("417"));
+    }
+
+    // verifies scenario number 54 of the resource
+    @Test
+    public void test54() {
+        app.given().get("/api/resource/54/0").then().statusCode(200).body("value", is("465"));
+        app.given().get("/api/resource/54/1").then().statusCode(200).body("value", is("486"));
+    }
+
+    // verifies scenario number 55 of the resource
+    @Test
+    public void test55() {
+        app.given().get("/api/resource/55/0").then().statusCode(200).body("value", is("815"));
+    }
+
+    // verifies scenario number 56 of the resource
+    @Test
+    public void test56() {
+        app.given().get("/api/resource/56/0").then().statusCode(200).body("value", is("50"));
+        app.given().get("/api/resource/56/1").then().statusCode(200).body("value", is("939"));
+        app.given().get("/api/resource/56/2").then().statusCode(200).body("value", is("883"));
+    }
+
+    @Test
+    public void test57() {
+        app.given().get("/api/resource/57/0").then().statusCode(200).body("value", is("684"));
+    }
+
+    @Test
+    public void test58() {
+        app.given().get("/api/resource/58/0").then().statusCode(200).body("value", is("449"));
+        app.given().get("/api/resource/58/1").then().statusCode(200).body("value", is("125"));
+    }
+
+    @Test
+    public void test59() {
+        app.given().get("/api/resource/59/0").then().statusCode(200).body("value", is("88"));
+        app.given().get("/api/resource/59/1").then().statusCode(200).body("value", is("337"));
+    }
+
+    @Test
+    public void test60() {
+        app.given().get("/api/resource/60/0").then().statusCode(200).body("value", is("646"));
+        app.given().get("/api/resource/60/1").then().statusCode(200).body("value", is("277"));
+        app.given().get("/api/resource/60/2").then().statusCode(200).body("value", is("972"));
+        app.given().get("/api/resource/60/3").then().statusCode(200).body("value", is("123"));
+    }
+
+    // verifies scenario number 61 of the resource
+    @Test
+    public void test61() {
+        app.given().get("/api/resource/61/0").then().statusCode(200).body("value", is("370"));
+        app.given().get("/api/resource/61/1").then().statusCode(200).body("value", is("831"));
+        app.given().get("/api/resource/61/2").then().statusCode(200).body("value", is("449"));
+        app.given().get("/api/resource/61/3").then().statusCode(200).body("value", is("190"));
+    }
+
+    @Test
+    public void test62() {
+        app.given().get("/api/resource/62/0").then().statusCode(200).body("value", is("113"));
+        app.given().get("/api/resource/62/1").then().statusCode(200).body("value", is("745"));
+        app.given().get("/api/resource/62/2").then().statusCode(200).body("value", is("892"));
+    }
+
+    @Test
+    public void test63() {
+        app.given().get("/api/resource/63/0").then().statusCode(200).body("value", is("827"));
+        app.given().get("/api/resource/63/1").then().statusCode(200).body("value", is("884"));
+    }
+
+    @Test
+    public void test64() {
+        app.given().get("/api/resource/64/0").then().statusCode(200).body("value", is("606"));
+        app.given().get("/api/resource/64/1").then().statusCode(200).body("value", is("856"));
+        app.given().get("/api/resource/64/2").then().statusCode(200).body("value", is("774"));
+        app.given().get("/api/resource/64/3").then().statusCode(200).body("value", is("951"));
+    }
+
+    @Test
+    public void test65() {
+        app.given().get("/api/resource/65/0").then().statusCode(200).body("value", is("657"));
+        app.given().get("/api/resource/65/1").then().statusCode(200).body("value", is("454"));
+        app.given().get("/api/resource/65/2").then().statusCode(200).body("value", is("83"));
+    }
+
+    @Test
+    public void test66() {
+        app.given().get("/api/resource/66/0").then().statusCode(200).body("value", is("710"));
+        app.given().get("/api/resource/66/1").then().statusCode(200).body("value", is("232"));
+    }
+
+    @Test
+    public void test67() {
+        app.given().get("/api/resource/67/0").then().statusCode(200).body("value", is("850"));
+        app.given().get("/api/resource/67/1").then().statusCode(200).body("value", is("452"));
+    }
+
+    @Test
+    public void test68() {
+        app.given().get("/api/resource/68/0").then().statusCode(200).body("value", is("968"));
+        app.given().get("/api/resource/68/1").then().statusCode(200).body("value", is("863"));
+        app.given().get("/api/resource/68/2").then().statusCode(200).body("value", is("865"));
+    }
+
+    // verifies scenario number 69 of the resource
+    @Test
+    public void test69() {
+        app.given().get("/api/resource/69/0").then().statusCode(200).body("value", is("637"));
+        app.given().get("/api/resource/69/1").then().statusCode(200).body("value", is("769"));
+        app.given().get("/api/resource/69/2").then().statusCode(200).body("value", is("413"));
+        app.given().get("/api/resource/69/3").then().statusCode(200).body("value", is("444"));
+    }
+
+    @Test
+    public void test70() {
+        app.given().get("/api/resource/70/0").then().statusCode(200).body("value", is("455"));
+        app.given().get("/api/resource/70/1").then().statusCode(200).body("value", is("72"));
+        app.given().get("/api/resource/70/2").then().statusCode(200).body("value", is("965"));
+        app.given().get("/api/resource/70/3").then().statusCode(200).body("value", is("236"));
+    }
+
+    @Test
+    public void test71() {
+        app.given().get("/api/resource/71/0").then().statusCode(200).body("value", is("353"));
+        app.given().get("/api/resource/71/1").then().statusCode(200).body("value", is("435"));
+        app.given().get("/api/resource/71/2").then().statusCode(200).body("value", is("11"));
+        app.given().get("/api/resource/71/3").then().statusCode(200).body("value", is("743"));
+    }
+
+    @Test
+    public void test72() {
+        app.given().get("/api/resource/72/0").then().statusCode(200).body("value", is("275"));
+        app.given().get("/api/resource/72/1").then().statusCode(200).body("value", is("748"));
+    }
+
+    @Test
+    public void test73() {
+        app.given().get("/api/resource/73/0").then().statusCode(200).body("value", is("639"));
+        app.given().get("/api/resource/73/1").then().statusCode(200).body("value", is("320"));
+    }
+
+    // verifies scenario number 74 of the resource
+    @Test
+    public void test74() {
+        app.given().get("/api/resource/74/0").then().statusCode(200).body("value", is("679"));
+        app.given().get("/api/resource/74/1").then().statusCode(200).body("value", is("79"));
+        app.given().get("/api/resource/74/2").then().statusCode(200).body("value", is("375"));
+    }
+
+    @Test
+    public void test75() {
+        app.given().get("/api/resource/75/0").then().statusCode(200).body("value", is("489"));
+        app.given().get("/api/resource/75/1").then().statusCode(200).body("value", is("854"));
+    }
+
+    @Test
+    public void test76() {
+        app.given().get("/api/resource/76/0").then().statusCode(200).body("value", is("636"));
+        app.given().get("/api/resource/76/1").then().statusCode(200).body("value", is("176"));
+        app.given().get("/api/resource/76/2").then().statusCode(200).body("value", is("71"));
+    }
+
+    @Test
+    public void test77() {
+        app.given().get("/api/resource/77/0").then().statusCode(200).body("value", is("281"));
+        app.given().get("/api/resource/77/1").then().statusCode(200).body("value", is("61"));
+        app.given().get("/api/resource/77/2").then().statusCode(200).body("value", is("655"));
+    }
+
+    @Test
+    public void test78() {
+        app.given().get("/api/resource/78/0").then().statusCode(200).body("value", is("301"));
+    }
+
+    @Test
+    public void test79() {
+        app.given().get("/api/resource/79/0").then().statusCode(200).body("value", is("397"));
+        app.given().get("/api/resource/79/1").then().statusCode(200).body("value", is("379"));
+    }
+
+    @Test
+    public void test80() {
+        app.given().get("/api/resource/80/0").then().statusCode(200).body("value", is("388"));
+    }
+
+    @Test
+    public void test81() {
+        app.given().get("/api/resource/81/0").then().statusCode(200).body("value", is("617"));
+        app.given().get("/api/resource/81/1").then().statusCode(200).body("value", is("674"));
+        app.given().get("/api/resource/81/2").then().statusCode(200).body("value", is("309"));
+    }
+
+    // verifies scenario number 82 of the resource
+    @Test
+    public void test82() {
+        app.given().get("/api/resource/82/0").then().statusCode(200).body("value", is("559"));
+    }
+
+    @Test
+    public void test83() {
+        app.given().get("/api/resource/83/0").then().statusCode(200).body("value", is("593"));
+    }
+
+    // verifies scenario number 84 of the resource
+    @Test
+    public void test84() {
+        app.given().get("/api/resource/84/0").then().statusCode(200).body("value", is("324"));
+        app.given().get("/api/resource/84/1").then().statusCode(200).body("value", is("613"));
+        app.given().get("/api/resource/84/2").then().statusCode(200).body("value", is("502"));
+        app.given().get("/api/resource/84/3").then().statusCode(200).body("value", is("451"));
+    }
+
+    @Test
+    public void test85() {
+        app.given().get("/api/resource/85/0").then().statusCode(200).body("value", is("445"));
+        app.given().get("/api/resource/85/1").then().statusCode(200).body("value", is("806"));
+    }
+
+    @Test
+    public void test86() {
+        app.given().get("/api/resource/86/0").then().statusCode(200).body("value", is("834"));
+        app.given().get("/api/resource/86/1").then().statusCode(200).body("value", is("568"));
+        app.given().get("/api/resource/86/2").then().statusCode(200).body("value", is("732"));
+    }
+
+    @Test
+    public void test87() {
+        app.given().get("/api/resource/87/0").then().statusCode(200).body("value", is("824"));
+    }
+
+    // verifies scenario number 88 of the resource
+    @Test
+    public void test88() {
+        app.given().get("/api/resource/88/0").then().statusCode(200).body("value", is("150"));
+        app.given().get("/api/resource/88/1").then().statusCode(200).body("value", is("468"));
+        app.given().get("/api/resource/88/2").then().statusCode(200).body("value", is("662"));
+    }
+
+    // verifies scenario number 89 of the resource
+    @Test
+    public void test89() {
+        app.given().get("/api/resource/89/0").then().statusCode(200).body("value", is("150"));
+    }
+
+    @Test
+    public void test90() {
+        app.given().get("/api/resource/90/0").then().statusCode(200).body("value", is("938"));
+    }
+
+    // verifies scenario number 91 of the resource
+    @Test
+    public void test91() {
+        app.given().get("/api/resource/91/0").then().statusCode(200).body("value", is("413"));
+        app.given().get("/api/resource/91/1").then().statusCode(200).body("value", is("654"));
+        app.given().get("/api/resource/91/2").then().statusCode(200).body("value", is("534"));
+    }
+
+    // verifies scenario number 92 of the resource
+    @Test
+    public void test92() {
+        app.given().get("/api/resource/92/0").then().statusCode(200).body("value", is("928"));
+        app.given().get("/api/resource/92/1").then().statusCode(200).body("value", is("195"));
+    }
+
+    // verifies scenario number 93 of the resource
+    @Test
+    public void test93() {
+        app.given().get("/api/resource/93/0").then().statusCode(200).body("value", is("114"));
+        app.given().get("/api/resource/93/1").then().statusCode(200).body("value", is("825"));
+    }
+
+    @Test
+    public void test94() {
+        app.given().get("/api/resource/94/0").then().statusCode(200).body("value", is("295"));
+        app.given().get("/api/resource/94/1").then().statusCode(200).body("value", is("612"));
+    }
+
+    // verifies scenario number 95 of the resource
+    @Test
+    public void test95() {
+        app.given().get("/api/resource/95/0").then().statusCode(200).body("value", is("966"));
+    }
+
+    // verifies scenario number 96 of the resource
+    @Test
+    public void test96() {
+        app.given().get("/api/resource/96/0").then().statusCode(200).body("value", is("582"));
+    }
+
+    @Test
+    public void test97() {
+        app.given().get("/api/resource/97/0").then().statusCode(200).body("value", is("872"));
+        app.given().get("/api/resource/97/1").then().statusCode(200).body("value", is("269"));
+    }
+
+    @Test
+    public void test98() {
+        app.given().get("/api/resource/98/0").then().statusCode(200).body("value", is("134"));
+        app.given().get("/api/resource/98/1").then().statusCode(200).body("value", is("800"));
+        app.given().get("/api/resource/98/2").then().statusCode(200).body("value", is("686"));
+    }
+
+    @Test
+    public void test99() {
+        app.given().get("/api/resource/99/0").then().statusCode(200).body("value", is("417"));
+        app.given().get("/api/resource/99/1").then().statusCode(200).body("value", is("596"));
+        app.given().get("/api/resource/99/2").then().statusCode(200).body("value", is("517"));
+    }
+}
@@ -0,0 +1,235 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+@DisabledOnNative(reason = "https://github.com/quarkusio/quarkus/issues/30000")
+public class SyntheticMediumHigh0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("357"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("612"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("673"));
+        app.given().get("/api/resource/0/3").then().statusCode(200).body("value", is("354"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("226"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("497"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("920"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("237"));
+        app.given().get("/api/resource/2/3").then().statusCode(200).body("value", is("341"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("845"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("762"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("917"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50004 gets fixed
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("555"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("760"));
+    }
+
+    // verifies scenario number 5 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50005 gets fixed
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("99"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50006 gets fixed
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("582"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1007 fails on CI")
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("27"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("822"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("515"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50008 gets fixed
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("301"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("220"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("920"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("717"));
+    }
+
+    // verifies scenario number 10 of the resource
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("972"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("388"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("408"));
+        app.given().get("/api/resource/10/3").then().statusCode(200).body("value", is("345"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("793"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("826"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("529"));
+        app.given().get("/api/resource/11/3").then().statusCode(200).body("value", is("755"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("741"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("531"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("436"));
+        app.given().get("/api/resource/12/3").then().statusCode(200).body("value", is("73"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("748"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("768"));
+        app.given().get("/api/resource/13/2").then().statusCode(200).body("value", is("151"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("194"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1015 fails on CI")
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("439"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("19"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("868"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("512"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("930"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("174"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("639"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("642"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("956"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("468"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("584"));
+        app.given().get("/api/resource/21/2").then().statusCode(200).body("value", is("163"));
+        app.given().get("/api/resource/21/3").then().statusCode(200).body("value", is("589"));
+    }
+
+    // verifies scenario number 22 of the resource
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40022")
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("402"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("326"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("113"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("254"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("869"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50026 gets fixed
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("218"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("286"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("391"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40027")
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("963"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("444"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("938"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("83"));
+        app.given().get("/api/resource/28/2").then().statusCode(200).body("value", is("967"));
+    }
+
+    // verifies scenario number 29 of the resource
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("481"));
+    }
+}
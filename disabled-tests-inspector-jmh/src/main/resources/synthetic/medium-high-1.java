@@ -0,0 +1,249 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticMediumHigh1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("223"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1001 fails on CI")
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("891"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("838"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("671"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("670"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("278"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("5"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("658"));
+        app.given().get("/api/resource/2/3").then().statusCode(200).body("value", is("592"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1003 fails on CI")
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("645"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("784"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("264"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("898"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("662"));
+    }
+
+    // verifies scenario number 5 of the resource
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("532"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("432"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/5/3").then().statusCode(200).body("value", is("792"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("612"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("217"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("904"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("967"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("202"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("650"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("912"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("67"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("601"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("24"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("809"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("219"));
+        app.given().get("/api/resource/9/3").then().statusCode(200).body("value", is("864"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("667"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("437"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("984"));
+        app.given().get("/api/resource/10/3").then().statusCode(200).body("value", is("37"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1011 fails on CI")
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("256"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("756"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("856"));
+        app.given().get("/api/resource/11/3").then().statusCode(200).body("value", is("863"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("359"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("604"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("795"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("900"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("11"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50014 gets fixed
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("227"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("200"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("451"));
+        app.given().get("/api/resource/14/3").then().statusCode(200).body("value", is("686"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("844"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("46"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("737"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("26"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("727"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("392"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("802"));
+        app.given().get("/api/resource/17/3").then().statusCode(200).body("value", is("887"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("796"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("235"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("913"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1019 fails on CI")
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("688"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("902"));
+    }
+
+    // verifies scenario number 20 of the resource
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("549"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("865"));
+    }
+
+    // verifies scenario number 21 of the resource
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("236"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("355"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("66"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("254"));
+    }
+
+    // verifies scenario number 23 of the resource
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("877"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("440"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("58"));
+        app.given().get("/api/resource/23/3").then().statusCode(200).body("value", is("872"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("497"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("185"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("307"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("412"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("432"));
+        app.given().get("/api/resource/25/2").then().statusCode(200).body("value", is("5"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("896"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("940"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("491"));
+        app.given().get("/api/resource/26/3").then().statusCode(200).body("value", is("996"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("630"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("146"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("914"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("314"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("323"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("929"));
+    }
+}
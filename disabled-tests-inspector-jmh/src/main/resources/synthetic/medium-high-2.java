@@ -0,0 +1,234 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+@DisabledOnNative(reason = "https://github.com/quarkusio/quarkus/issues/30002")
+public class SyntheticMediumHigh2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    // verifies scenario number 0 of the resource
+    @Test
+    @Disabled("QUARKUS-1000 fails on CI")
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("486"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("323"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("821"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("549"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("635"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("480"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("443"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("526"));
+        app.given().get("/api/resource/2/3").then().statusCode(200).body("value", is("603"));
+    }
+
+    // verifies scenario number 3 of the resource
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("541"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("63"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("311"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("950"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("802"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("971"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("348"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("363"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("732"));
+    }
+
+    // verifies scenario number 8 of the resource
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("376"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("912"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("813"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("312"));
+        app.given().get("/api/resource/9/3").then().statusCode(200).body("value", is("239"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("913"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40011")
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("753"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("119"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("804"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("102"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("947"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("142"));
+    }
+
+    @Test
+    @DisabledOnNative(reason = "Due to high native build execution time")
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("940"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("245"));
+        app.given().get("/api/resource/15/2").then().statusCode(200).body("value", is("872"));
+    }
+
+    // verifies scenario number 16 of the resource
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40016")
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("988"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("646"));
+    }
+
+    // verifies scenario number 17 of the resource
+    @Test
+    @Disabled("QUARKUS-1017 fails on CI")
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("68"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("687"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("524"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("161"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("817"));
+    }
+
+    @Test
+    @DisabledOnOs(value = OS.WINDOWS, disabledReason = "No lsof command on Windows")
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("955"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("807"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("430"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50021 gets fixed
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("437"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50022 gets fixed
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("297"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("52"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("26"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("29"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("923"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("606"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("35"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("145"));
+    }
+
+    // verifies scenario number 26 of the resource
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("155"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("912"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1027 fails on CI")
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("461"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("977"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1028 fails on CI")
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("773"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40029")
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("636"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("284"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("674"));
+        app.given().get("/api/resource/29/3").then().statusCode(200).body("value", is("836"));
+    }
+}
@@ -0,0 +1,220 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticMediumLow0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("755"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("56"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("742"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("942"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("131"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("110"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("378"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("637"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("322"));
+    }
+
+    // verifies scenario number 3 of the resource
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("183"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("140"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("373"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("446"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("833"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("775"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("376"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("788"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("716"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("551"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("526"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("117"));
+    }
+
+    // verifies scenario number 8 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50008 gets fixed
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("985"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("329"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("141"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("162"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("430"));
+    }
+
+    // verifies scenario number 11 of the resource
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("109"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("725"));
+    }
+
+    // verifies scenario number 12 of the resource
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("558"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("137"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("909"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("380"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("108"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("96"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("370"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("809"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("709"));
+    }
+
+    // verifies scenario number 17 of the resource
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("407"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("893"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("804"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("443"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("499"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("876"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("65"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("50"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("538"));
+        app.given().get("/api/resource/20/3").then().statusCode(200).body("value", is("693"));
+    }
+
+    // verifies scenario number 21 of the resource
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("706"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("522"));
+        app.given().get("/api/resource/21/2").then().statusCode(200).body("value", is("699"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1022 fails on CI")
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("952"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("928"));
+    }
+
+    // verifies scenario number 23 of the resource
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("522"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("400"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("609"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("246"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("900"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("238"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("280"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("81"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("534"));
+        app.given().get("/api/resource/26/3").then().statusCode(200).body("value", is("779"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("211"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("868"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("934"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("846"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("796"));
+    }
+}
@@ -0,0 +1,234 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticMediumLow1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    // verifies scenario number 0 of the resource
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("620"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("795"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("241"));
+        app.given().get("/api/resource/0/3").then().statusCode(200).body("value", is("128"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("623"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("906"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("574"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("997"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("61"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("41"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("324"));
+        app.given().get("/api/resource/2/3").then().statusCode(200).body("value", is("686"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("751"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("475"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("500"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("314"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("356"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("377"));
+    }
+
+    // verifies scenario number 5 of the resource
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("618"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40006")
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("746"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("107"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("548"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("616"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("640"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("439"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("386"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("633"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("960"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("476"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("534"));
+        app.given().get("/api/resource/10/3").then().statusCode(200).body("value", is("914"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("714"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("816"));
+    }
+
+    // verifies scenario number 12 of the resource
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("64"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("193"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("94"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("321"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("976"));
+    }
+
+    // verifies scenario number 14 of the resource
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("539"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("566"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("114"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("999"));
+        app.given().get("/api/resource/16/2").then().statusCode(200).body("value", is("941"));
+        app.given().get("/api/resource/16/3").then().statusCode(200).body("value", is("566"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("778"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("198"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("876"));
+    }
+
+    // verifies scenario number 18 of the resource
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("954"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("933"));
+    }
+
+    // verifies scenario number 19 of the resource
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("930"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("722"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("790"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("954"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("269"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("687"));
+        app.given().get("/api/resource/21/2").then().statusCode(200).body("value", is("961"));
+        app.given().get("/api/resource/21/3").then().statusCode(200).body("value", is("249"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("51"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("57"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("105"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("730"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("898"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("996"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("974"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("397"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("919"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("392"));
+        app.given().get("/api/resource/25/2").then().statusCode(200).body("value", is("588"));
+        app.given().get("/api/resource/25/3").then().statusCode(200).body("value", is("267"));
+    }
+
+    // verifies scenario number 26 of the resource
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("778"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("674"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("717"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("664"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("924"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("163"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("454"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("282"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("758"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("709"));
+        app.given().get("/api/resource/29/3").then().statusCode(200).body("value", is("698"));
+    }
+}
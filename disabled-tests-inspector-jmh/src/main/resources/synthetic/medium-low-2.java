@@ -0,0 +1,224 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticMediumLow2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("375"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("930"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("242"));
+    }
+
+    @Test
+    @Disabled("QUARKUS-1002 fails on CI")
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("348"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("222"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("619"));
+    }
+
+    // verifies scenario number 3 of the resource
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("366"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("988"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("685"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("731"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("914"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("288"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("176"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("592"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("925"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("533"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("241"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("988"));
+        app.given().get("/api/resource/7/3").then().statusCode(200).body("value", is("216"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("663"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("272"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("662"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("862"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("806"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("88"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("804"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("963"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("50"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("543"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("235"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("966"));
+        app.given().get("/api/resource/12/3").then().statusCode(200).body("value", is("362"));
+    }
+
+    // verifies scenario number 13 of the resource
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("278"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("759"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("419"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("316"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("614"));
+    }
+
+    @Test
+    @Disabled("Part 1 of a long reason " +
+            "part 2 of a long reason")
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("903"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("642"));
+        app.given().get("/api/resource/15/2").then().statusCode(200).body("value", is("515"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("329"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("530"));
+        app.given().get("/api/resource/16/2").then().statusCode(200).body("value", is("908"));
+        app.given().get("/api/resource/16/3").then().statusCode(200).body("value", is("978"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("434"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("522"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("633"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("48"));
+    }
+
+    // verifies scenario number 19 of the resource
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("220"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("654"));
+        app.given().get("/api/resource/19/2").then().statusCode(200).body("value", is("608"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("869"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("993"));
+    }
+
+    // verifies scenario number 21 of the resource
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("616"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("761"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("247"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("158"));
+        app.given().get("/api/resource/23/1").then().statusCode(200).body("value", is("115"));
+        app.given().get("/api/resource/23/2").then().statusCode(200).body("value", is("595"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("174"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("380"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("980"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("48"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("256"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("563"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("700"));
+    }
+
+    // verifies scenario number 28 of the resource
+    @Test
+    @Disabled("QUARKUS-1028 fails on CI")
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("98"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("435"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("612"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("328"));
+        app.given().get("/api/resource/29/3").then().statusCode(200).body("value", is("715"));
+    }
+}
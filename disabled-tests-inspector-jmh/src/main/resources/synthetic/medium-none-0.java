@@ -0,0 +1,228 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticMediumNone0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("124"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("792"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("349"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("450"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("379"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("836"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("475"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("241"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("22"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("871"));
+        app.given().get("/api/resource/3/3").then().statusCode(200).body("value", is("589"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("249"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("242"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("435"));
+    }
+
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("152"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("695"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("18"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("79"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("202"));
+        app.given().get("/api/resource/6/3").then().statusCode(200).body("value", is("591"));
+    }
+
+    // verifies scenario number 7 of the resource
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("571"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("595"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("58"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("332"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("376"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("8"));
+    }
+
+    // verifies scenario number 9 of the resource
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("346"));
+    }
+
+    // verifies scenario number 10 of the resource
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("889"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("483"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("554"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("766"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("558"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("892"));
+    }
+
+    // verifies scenario number 12 of the resource
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("827"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("444"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("433"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("785"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("626"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("604"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("119"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("367"));
+        app.given().get("/api/resource/15/2").then().statusCode(200).body("value", is("7"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("329"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("464"));
+        app.given().get("/api/resource/16/2").then().statusCode(200).body("value", is("492"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("521"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("794"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("809"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("661"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("365"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("670"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("226"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("475"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("709"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("632"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("16"));
+    }
+
+    // verifies scenario number 22 of the resource
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("342"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("916"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("718"));
+        app.given().get("/api/resource/22/3").then().statusCode(200).body("value", is("407"));
+    }
+
+    // verifies scenario number 23 of the resource
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("781"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("629"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("409"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("424"));
+        app.given().get("/api/resource/24/3").then().statusCode(200).body("value", is("554"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("273"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("681"));
+        app.given().get("/api/resource/25/2").then().statusCode(200).body("value", is("938"));
+    }
+
+    // verifies scenario number 26 of the resource
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("840"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("826"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("769"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("881"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("684"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("402"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("90"));
+    }
+
+    // verifies scenario number 29 of the resource
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("890"));
+    }
+}
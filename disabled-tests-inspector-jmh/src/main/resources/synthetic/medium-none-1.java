@@ -0,0 +1,228 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticMediumNone1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("990"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("531"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("848"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("343"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("871"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("602"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("567"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("155"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("255"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("667"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("728"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("43"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("865"));
+    }
+
+    // verifies scenario number 5 of the resource
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("9"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("267"));
+        app.given().get("/api/resource/5/2").then().statusCode(200).body("value", is("314"));
+        app.given().get("/api/resource/5/3").then().statusCode(200).body("value", is("749"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("864"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("402"));
+        app.given().get("/api/resource/6/2").then().statusCode(200).body("value", is("46"));
+        app.given().get("/api/resource/6/3").then().statusCode(200).body("value", is("591"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("145"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("585"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("112"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("831"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("974"));
+    }
+
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("674"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("102"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("763"));
+        app.given().get("/api/resource/11/1").then().statusCode(200).body("value", is("683"));
+        app.given().get("/api/resource/11/2").then().statusCode(200).body("value", is("223"));
+    }
+
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("663"));
+        app.given().get("/api/resource/12/1").then().statusCode(200).body("value", is("754"));
+        app.given().get("/api/resource/12/2").then().statusCode(200).body("value", is("338"));
+        app.given().get("/api/resource/12/3").then().statusCode(200).body("value", is("951"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("502"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("652"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("399"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("643"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("861"));
+    }
+
+    // verifies scenario number 15 of the resource
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("224"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("577"));
+        app.given().get("/api/resource/15/2").then().statusCode(200).body("value", is("934"));
+        app.given().get("/api/resource/15/3").then().statusCode(200).body("value", is("413"));
+    }
+
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("946"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("12"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("932"));
+        app.given().get("/api/resource/17/1").then().statusCode(200).body("value", is("704"));
+        app.given().get("/api/resource/17/2").then().statusCode(200).body("value", is("767"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("543"));
+        app.given().get("/api/resource/18/1").then().statusCode(200).body("value", is("112"));
+        app.given().get("/api/resource/18/2").then().statusCode(200).body("value", is("992"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("356"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("203"));
+        app.given().get("/api/resource/19/2").then().statusCode(200).body("value", is("151"));
+    }
+
+    // verifies scenario number 20 of the resource
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("45"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("56"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("400"));
+        app.given().get("/api/resource/20/3").then().statusCode(200).body("value", is("684"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("434"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("554"));
+        app.given().get("/api/resource/21/2").then().statusCode(200).body("value", is("656"));
+        app.given().get("/api/resource/21/3").then().statusCode(200).body("value", is("849"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("283"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("816"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("209"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("902"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("172"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("20"));
+        app.given().get("/api/resource/25/1").then().statusCode(200).body("value", is("24"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("191"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("757"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("793"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("992"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("952"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("385"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("704"));
+        app.given().get("/api/resource/28/1").then().statusCode(200).body("value", is("769"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("618"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("653"));
+        app.given().get("/api/resource/29/2").then().statusCode(200).body("value", is("249"));
+    }
+}
@@ -0,0 +1,221 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticMediumNone2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("392"));
+    }
+
+    // verifies scenario number 1 of the resource
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("803"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("392"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("332"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("630"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("525"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("630"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("16"));
+    }
+
+    // verifies scenario number 5 of the resource
+    @Test
+    public void test5() {
+        app.given().get("/api/resource/5/0").then().statusCode(200).body("value", is("308"));
+        app.given().get("/api/resource/5/1").then().statusCode(200).body("value", is("995"));
+    }
+
+    @Test
+    public void test6() {
+        app.given().get("/api/resource/6/0").then().statusCode(200).body("value", is("181"));
+        app.given().get("/api/resource/6/1").then().statusCode(200).body("value", is("274"));
+    }
+
+    @Test
+    public void test7() {
+        app.given().get("/api/resource/7/0").then().statusCode(200).body("value", is("71"));
+        app.given().get("/api/resource/7/1").then().statusCode(200).body("value", is("332"));
+        app.given().get("/api/resource/7/2").then().statusCode(200).body("value", is("156"));
+    }
+
+    @Test
+    public void test8() {
+        app.given().get("/api/resource/8/0").then().statusCode(200).body("value", is("359"));
+        app.given().get("/api/resource/8/1").then().statusCode(200).body("value", is("674"));
+        app.given().get("/api/resource/8/2").then().statusCode(200).body("value", is("716"));
+        app.given().get("/api/resource/8/3").then().statusCode(200).body("value", is("793"));
+    }
+
+    @Test
+    public void test9() {
+        app.given().get("/api/resource/9/0").then().statusCode(200).body("value", is("995"));
+        app.given().get("/api/resource/9/1").then().statusCode(200).body("value", is("419"));
+        app.given().get("/api/resource/9/2").then().statusCode(200).body("value", is("464"));
+        app.given().get("/api/resource/9/3").then().statusCode(200).body("value", is("490"));
+    }
+
+    // verifies scenario number 10 of the resource
+    @Test
+    public void test10() {
+        app.given().get("/api/resource/10/0").then().statusCode(200).body("value", is("848"));
+        app.given().get("/api/resource/10/1").then().statusCode(200).body("value", is("944"));
+        app.given().get("/api/resource/10/2").then().statusCode(200).body("value", is("977"));
+        app.given().get("/api/resource/10/3").then().statusCode(200).body("value", is("263"));
+    }
+
+    @Test
+    public void test11() {
+        app.given().get("/api/resource/11/0").then().statusCode(200).body("value", is("753"));
+    }
+
+    // verifies scenario number 12 of the resource
+    @Test
+    public void test12() {
+        app.given().get("/api/resource/12/0").then().statusCode(200).body("value", is("966"));
+    }
+
+    @Test
+    public void test13() {
+        app.given().get("/api/resource/13/0").then().statusCode(200).body("value", is("526"));
+        app.given().get("/api/resource/13/1").then().statusCode(200).body("value", is("806"));
+    }
+
+    @Test
+    public void test14() {
+        app.given().get("/api/resource/14/0").then().statusCode(200).body("value", is("572"));
+        app.given().get("/api/resource/14/1").then().statusCode(200).body("value", is("943"));
+        app.given().get("/api/resource/14/2").then().statusCode(200).body("value", is("756"));
+    }
+
+    @Test
+    public void test15() {
+        app.given().get("/api/resource/15/0").then().statusCode(200).body("value", is("729"));
+        app.given().get("/api/resource/15/1").then().statusCode(200).body("value", is("527"));
+        app.given().get("/api/resource/15/2").then().statusCode(200).body("value", is("769"));
+        app.given().get("/api/resource/15/3").then().statusCode(200).body("value", is("636"));
+    }
+
+    // verifies scenario number 16 of the resource
+    @Test
+    public void test16() {
+        app.given().get("/api/resource/16/0").then().statusCode(200).body("value", is("868"));
+        app.given().get("/api/resource/16/1").then().statusCode(200).body("value", is("102"));
+    }
+
+    @Test
+    public void test17() {
+        app.given().get("/api/resource/17/0").then().statusCode(200).body("value", is("190"));
+    }
+
+    @Test
+    public void test18() {
+        app.given().get("/api/resource/18/0").then().statusCode(200).body("value", is("788"));
+    }
+
+    @Test
+    public void test19() {
+        app.given().get("/api/resource/19/0").then().statusCode(200).body("value", is("795"));
+        app.given().get("/api/resource/19/1").then().statusCode(200).body("value", is("808"));
+    }
+
+    @Test
+    public void test20() {
+        app.given().get("/api/resource/20/0").then().statusCode(200).body("value", is("78"));
+        app.given().get("/api/resource/20/1").then().statusCode(200).body("value", is("994"));
+        app.given().get("/api/resource/20/2").then().statusCode(200).body("value", is("780"));
+    }
+
+    @Test
+    public void test21() {
+        app.given().get("/api/resource/21/0").then().statusCode(200).body("value", is("117"));
+        app.given().get("/api/resource/21/1").then().statusCode(200).body("value", is("970"));
+        app.given().get("/api/resource/21/2").then().statusCode(200).body("value", is("504"));
+        app.given().get("/api/resource/21/3").then().statusCode(200).body("value", is("879"));
+    }
+
+    @Test
+    public void test22() {
+        app.given().get("/api/resource/22/0").then().statusCode(200).body("value", is("893"));
+        app.given().get("/api/resource/22/1").then().statusCode(200).body("value", is("679"));
+        app.given().get("/api/resource/22/2").then().statusCode(200).body("value", is("616"));
+        app.given().get("/api/resource/22/3").then().statusCode(200).body("value", is("630"));
+    }
+
+    @Test
+    public void test23() {
+        app.given().get("/api/resource/23/0").then().statusCode(200).body("value", is("548"));
+    }
+
+    @Test
+    public void test24() {
+        app.given().get("/api/resource/24/0").then().statusCode(200).body("value", is("358"));
+        app.given().get("/api/resource/24/1").then().statusCode(200).body("value", is("778"));
+        app.given().get("/api/resource/24/2").then().statusCode(200).body("value", is("692"));
+        app.given().get("/api/resource/24/3").then().statusCode(200).body("value", is("632"));
+    }
+
+    @Test
+    public void test25() {
+        app.given().get("/api/resource/25/0").then().statusCode(200).body("value", is("979"));
+    }
+
+    @Test
+    public void test26() {
+        app.given().get("/api/resource/26/0").then().statusCode(200).body("value", is("650"));
+        app.given().get("/api/resource/26/1").then().statusCode(200).body("value", is("347"));
+        app.given().get("/api/resource/26/2").then().statusCode(200).body("value", is("110"));
+        app.given().get("/api/resource/26/3").then().statusCode(200).body("value", is("962"));
+    }
+
+    @Test
+    public void test27() {
+        app.given().get("/api/resource/27/0").then().statusCode(200).body("value", is("292"));
+        app.given().get("/api/resource/27/1").then().statusCode(200).body("value", is("810"));
+        app.given().get("/api/resource/27/2").then().statusCode(200).body("value", is("92"));
+        app.given().get("/api/resource/27/3").then().statusCode(200).body("value", is("379"));
+    }
+
+    @Test
+    public void test28() {
+        app.given().get("/api/resource/28/0").then().statusCode(200).body("value", is("602"));
+    }
+
+    @Test
+    public void test29() {
+        app.given().get("/api/resource/29/0").then().statusCode(200).body("value", is("367"));
+        app.given().get("/api/resource/29/1").then().statusCode(200).body("value", is("68"));
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+@DisabledOnNative(reason = "https://github.com/quarkusio/quarkus/issues/30000")
+public class SyntheticSmallHigh0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50000 gets fixed
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("572"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("667"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("914"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("883"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("884"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("612"));
+    }
+
+    // verifies scenario number 2 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50002 gets fixed
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("644"));
+    }
+
+    // verifies scenario number 3 of the resource
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50003 gets fixed
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("905"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("649"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("259"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("395"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("268"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("904"));
+    }
+}
@@ -0,0 +1,60 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticSmallHigh1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("699"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("311"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("518"));
+        app.given().get("/api/resource/0/3").then().statusCode(200).body("value", is("857"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("374"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("680"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("807"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("70"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("383"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("50"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("43"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("449"));
+    }
+
+    @Test
+    @Disabled("https://github.com/quarkusio/quarkus/issues/40004")
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("140"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("346"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("363"));
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+@DisabledOnNative(reason = "https://github.com/quarkusio/quarkus/issues/30002")
+public class SyntheticSmallHigh2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("454"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("446"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("258"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("456"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("252"));
+    }
+
+    // verifies scenario number 2 of the resource
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("86"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("24"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("193"));
+        app.given().get("/api/resource/2/3").then().statusCode(200).body("value", is("168"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("804"));
+    }
+
+    @Test
+    @Disabled // enable once https://github.com/quarkusio/quarkus/issues/50004 gets fixed
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("215"));
+    }
+}
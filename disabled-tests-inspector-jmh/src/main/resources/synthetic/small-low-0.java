@@ -0,0 +1,61 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticSmallLow0IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    // verifies scenario number 0 of the resource
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("988"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("288"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("723"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("713"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("622"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("352"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("59"));
+    }
+
+    // verifies scenario number 3 of the resource
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("119"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("653"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("428"));
+    }
+
+    // verifies scenario number 4 of the resource
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("531"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("848"));
+        app.given().get("/api/resource/4/2").then().statusCode(200).body("value", is("292"));
+        app.given().get("/api/resource/4/3").then().statusCode(200).body("value", is("100"));
+    }
+}
@@ -0,0 +1,58 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticSmallNone1IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    // verifies scenario number 0 of the resource
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("313"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("254"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("978"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("748"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("569"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("562"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("596"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("189"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("376"));
+        app.given().get("/api/resource/3/3").then().statusCode(200).body("value", is("332"));
+    }
+
+    // verifies scenario number 4 of the resource
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("959"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("298"));
+    }
+}
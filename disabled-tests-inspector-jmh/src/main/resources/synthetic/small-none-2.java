@@ -0,0 +1,60 @@
+package io.quarkus.ts.synthetic;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import io.quarkus.test.bootstrap.RestService;
+import io.quarkus.test.scenarios.QuarkusScenario;
+import io.quarkus.test.scenarios.annotations.DisabledOnNative;
+import io.quarkus.test.services.QuarkusApplication;
+
+/*
+ * Generated by SyntheticCorpusGenerator, do not edit.
+ */
+@QuarkusScenario
+public class SyntheticSmallNone2IT {
+
+    @QuarkusApplication
+    static RestService app = new RestService()
+            .withProperty("quarkus.http.port", "8080");
+
+    @Test
+    public void test0() {
+        app.given().get("/api/resource/0/0").then().statusCode(200).body("value", is("67"));
+        app.given().get("/api/resource/0/1").then().statusCode(200).body("value", is("389"));
+        app.given().get("/api/resource/0/2").then().statusCode(200).body("value", is("350"));
+        app.given().get("/api/resource/0/3").then().statusCode(200).body("value", is("606"));
+    }
+
+    @Test
+    public void test1() {
+        app.given().get("/api/resource/1/0").then().statusCode(200).body("value", is("94"));
+        app.given().get("/api/resource/1/1").then().statusCode(200).body("value", is("86"));
+        app.given().get("/api/resource/1/2").then().statusCode(200).body("value", is("434"));
+        app.given().get("/api/resource/1/3").then().statusCode(200).body("value", is("614"));
+    }
+
+    @Test
+    public void test2() {
+        app.given().get("/api/resource/2/0").then().statusCode(200).body("value", is("399"));
+        app.given().get("/api/resource/2/1").then().statusCode(200).body("value", is("530"));
+        app.given().get("/api/resource/2/2").then().statusCode(200).body("value", is("231"));
+    }
+
+    @Test
+    public void test3() {
+        app.given().get("/api/resource/3/0").then().statusCode(200).body("value", is("642"));
+        app.given().get("/api/resource/3/1").then().statusCode(200).body("value", is("256"));
+        app.given().get("/api/resource/3/2").then().statusCode(200).body("value", is("214"));
+    }
+
+    @Test
+    public void test4() {
+        app.given().get("/api/resource/4/0").then().statusCode(200).body("value", is("362"));
+        app.given().get("/api/resource/4/1").then().statusCode(200).body("value", is("179"));
+    }
+}
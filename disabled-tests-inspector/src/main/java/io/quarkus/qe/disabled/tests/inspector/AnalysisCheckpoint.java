@@ -0,0 +1,76 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically saves the parsed files and issue states of a running analysis, so that a run which is killed
+ * half-way is resumed by the next run instead of starting again from the first file. Reports are not checkpointed,
+ * they are written again from the saved parsed files, which takes a fraction of reading them.
+ */
+final class AnalysisCheckpoint implements AutoCloseable {
+
+    private static final Logger LOG = Logger.getLogger(AnalysisCheckpoint.class);
+
+    private final ParsedFileCache parsedFileCache;
+    private final IssueStateCache issueStateCache;
+    private final ScheduledExecutorService executor;
+
+    private AnalysisCheckpoint(ParsedFileCache parsedFileCache, IssueStateCache issueStateCache,
+                               ScheduledExecutorService executor) {
+        this.parsedFileCache = parsedFileCache;
+        this.issueStateCache = issueStateCache;
+        this.executor = executor;
+    }
+
+    /**
+     * @param interval time between two checkpoints, zero disables periodic checkpoints
+     */
+    static AnalysisCheckpoint start(Duration interval, ParsedFileCache parsedFileCache, IssueStateCache issueStateCache) {
+        if (interval.isZero()) {
+            return new AnalysisCheckpoint(parsedFileCache, issueStateCache, null);
+        }
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "analysis-checkpoint");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AnalysisCheckpoint checkpoint = new AnalysisCheckpoint(parsedFileCache, issueStateCache, executor);
+        executor.scheduleWithFixedDelay(checkpoint::save, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        return checkpoint;
+    }
+
+    private void save() {
+        try {
+            parsedFileCache.checkpoint();
+            issueStateCache.save();
+        } catch (IOException | RuntimeException e) {
+            // the analysis goes on, the next checkpoint or the end of the run saves the caches again
+            LOG.warn("Failed to save analysis checkpoint", e);
+        }
+    }
+
+    /**
+     * Stops checkpoints and waits for the one in progress, so it cannot overwrite the caches saved at the end of the run.
+     */
+    @Override
+    public void close() throws IOException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                throw new IOException("Analysis checkpoint did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for analysis checkpoint", e);
+        }
+    }
+}
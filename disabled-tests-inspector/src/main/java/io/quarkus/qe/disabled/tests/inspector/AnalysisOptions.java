@@ -0,0 +1,82 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings of a single analysis run, configured with Java system properties.
+ */
+public record AnalysisOptions(String repoOwner, String repoName, List<String> branches, String baseOutputFileName,
+                              boolean liteMode, TestFileSourceType sourceType, int fetchConcurrency,
+                              Path localRepository, int issueBatchSize, Path issueCacheFile, Duration issueCacheTtl,
+                              Duration openIssueCacheTtl, Path parseCacheFile, int branchConcurrency,
+                              Path responseCacheDirectory, boolean diffReport, Path trendStoreFile,
+                              ParserType parser, int parseConcurrency, Path metricsFile,
+                              Duration checkpointInterval, TreeTraversal treeTraversal,
+                              TestFileFilter testFileFilter) {
+
+    public static AnalysisOptions fromSystemProperties() {
+        String localRepository = System.getProperty("localRepository");
+        String baseOutputFileName = System.getProperty("baseOutputFileName", "disabled-tests-report.json");
+        String issueCacheFile = System.getProperty("issueCacheFile",
+                baseOutputFileName.replaceFirst("(\\.json)?$", "-issue-cache.json"));
+        String parseCacheFile = System.getProperty("parseCacheFile",
+                baseOutputFileName.replaceFirst("(\\.json)?$", "-parse-cache.json"));
+        String responseCacheDirectory = System.getProperty("responseCacheDirectory",
+                baseOutputFileName.replaceFirst("(\\.json)?$", "-response-cache"));
+        String metricsFile = System.getProperty("metricsFile",
+                baseOutputFileName.replaceFirst("(\\.json)?$", "-metrics.prom"));
+        return new AnalysisOptions(
+                System.getProperty("repoOwner", "org"),
+                System.getProperty("repoName", "repo-name"),
+                Arrays.asList(System.getProperty("branches", "main").split(",")),
+                baseOutputFileName,
+                Boolean.parseBoolean(System.getProperty("liteReport", "false")),
+                TestFileSourceType.from(System.getProperty("source", "contents")),
+                Integer.parseInt(System.getProperty("fetchConcurrency", "8")),
+                localRepository == null ? null : Path.of(localRepository),
+                Integer.parseInt(System.getProperty("issueBatchSize", String.valueOf(IssueStateResolver.DEFAULT_BATCH_SIZE))),
+                Path.of(issueCacheFile),
+                Duration.parse(System.getProperty("issueCacheTtl", "P7D")),
+                Duration.parse(System.getProperty("openIssueCacheTtl", "PT12H")),
+                Path.of(parseCacheFile),
+                Integer.parseInt(System.getProperty("branchConcurrency", "4")),
+                Path.of(responseCacheDirectory),
+                Boolean.parseBoolean(System.getProperty("diffReport", "false")),
+                Path.of(trendStoreFile(baseOutputFileName)),
+                ParserType.from(System.getProperty("parser", "scanning")),
+                Integer.parseInt(System.getProperty("parseConcurrency",
+                        String.valueOf(Runtime.getRuntime().availableProcessors()))),
+                Path.of(metricsFile),
+                Duration.parse(System.getProperty("checkpointInterval", "PT1M")),
+                TreeTraversal.from(System.getProperty("treeTraversal", "recursive")),
+                new TestFileFilter(globs(System.getProperty("includeModules")), globs(System.getProperty("excludeModules"))));
+    }
+
+    /**
+     * @return options of one repository of a batch, its reports and trend store are named after the repository
+     */
+    public AnalysisOptions forRepository(RepositoryTarget repository) {
+        String repositorySuffix = "-" + repository.owner() + "-" + repository.name();
+        return new AnalysisOptions(repository.owner(), repository.name(), repository.branches(),
+                baseOutputFileName.replaceFirst("(\\.json)?$", repositorySuffix + ".json"), liteMode, sourceType,
+                fetchConcurrency, localRepository, issueBatchSize, issueCacheFile, issueCacheTtl, openIssueCacheTtl,
+                parseCacheFile, branchConcurrency, responseCacheDirectory, diffReport,
+                trendStoreFile == null ? null
+                        : Path.of(trendStoreFile.toString().replaceFirst("(\\.tsv)?$", repositorySuffix + ".tsv")),
+                parser, parseConcurrency, metricsFile, checkpointInterval, treeTraversal, testFileFilter);
+    }
+
+    private static List<String> globs(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(glob -> !glob.isEmpty()).toList();
+    }
+
+    static String trendStoreFile(String baseOutputFileName) {
+        return System.getProperty("trendStoreFile", baseOutputFileName.replaceFirst("(\\.json)?$", "-trend.tsv"));
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Unified index of a batch analysis, pointing to the reports of every analyzed repository and branch.
+ *
+ * @param failure reason why the repository could not be analyzed, its branches are then empty
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BatchIndex(@JsonProperty("repository") String repository,
+                         @JsonProperty("branches") List<Branch> branches,
+                         @JsonProperty("failure") String failure) {
+
+    /**
+     * @param annotationCounts number of disabled tests of the branch by annotation type, over all modules
+     */
+    public record Branch(@JsonProperty("branch") String branch,
+                         @JsonProperty("report_file") String reportFile,
+                         @JsonProperty("stats_file") String statsFile,
+                         @JsonProperty("disabled_tests") int disabledTests,
+                         @JsonProperty("annotation_counts") Map<String, Integer> annotationCounts) {
+
+        static Branch of(String branch, String reportFile, String statsFile,
+                         Map<String, Map<String, Integer>> moduleStats) {
+            Map<String, Integer> annotationCounts = new TreeMap<>();
+            moduleStats.values().forEach(moduleCounts -> moduleCounts.forEach(
+                    (annotationType, count) -> annotationCounts.merge(annotationType, count, Integer::sum)));
+            int disabledTests = annotationCounts.values().stream().mapToInt(Integer::intValue).sum();
+            return new Branch(branch, reportFile, statsFile, disabledTests, annotationCounts);
+        }
+    }
+}
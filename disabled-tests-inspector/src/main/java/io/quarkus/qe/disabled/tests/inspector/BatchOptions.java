@@ -0,0 +1,30 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings of a batch analysis of several repositories, configured with Java system properties.
+ * All other settings are shared by the repositories and read into {@link AnalysisOptions}.
+ *
+ * @param repositories analyzed repositories, separated by ';' in the 'repositories' property
+ * @param indexFile file listing reports and totals of all repositories
+ */
+public record BatchOptions(List<RepositoryTarget> repositories, Path indexFile) {
+
+    public static BatchOptions fromSystemProperties(AnalysisOptions options) {
+        String repositories = System.getProperty("repositories");
+        if (repositories == null || repositories.isBlank()) {
+            throw new IllegalArgumentException("Batch analysis needs the 'repositories' property, "
+                    + "e.g. -Drepositories=\"quarkus-qe/quarkus-test-suite:main,3.27;quarkusio/quarkus\"");
+        }
+        return new BatchOptions(
+                Arrays.stream(repositories.split(";"))
+                        .filter(repository -> !repository.isBlank())
+                        .map(repository -> RepositoryTarget.parse(repository, options.branches()))
+                        .toList(),
+                Path.of(System.getProperty("batchIndexFile",
+                        options.baseOutputFileName().replaceFirst("(\\.json)?$", "-index.json"))));
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class BranchDiff {
+
+    @JsonProperty("base_branch_name")
+    private String baseBranch;
+
+    @JsonProperty("branch_name")
+    private String branch;
+
+    @JsonProperty("added")
+    private List<DisabledTest> added;
+
+    @JsonProperty("removed")
+    private List<DisabledTest> removed;
+
+    @JsonProperty("changed")
+    private List<ChangedDisabledTest> changed;
+
+    public BranchDiff(String baseBranch, String branch, List<DisabledTest> added, List<DisabledTest> removed,
+                      List<ChangedDisabledTest> changed) {
+        this.baseBranch = baseBranch;
+        this.branch = branch;
+        this.added = added;
+        this.removed = removed;
+        this.changed = changed;
+    }
+
+    public List<DisabledTest> getAdded() {
+        return added;
+    }
+
+    public List<DisabledTest> getRemoved() {
+        return removed;
+    }
+
+    public List<ChangedDisabledTest> getChanged() {
+        return changed;
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class ChangedDisabledTest {
+
+    @JsonProperty("changed_fields")
+    private List<String> changedFields;
+
+    @JsonProperty("before")
+    private DisabledTest before;
+
+    @JsonProperty("after")
+    private DisabledTest after;
+
+    public ChangedDisabledTest(List<String> changedFields, DisabledTest before, DisabledTest after) {
+        this.changedFields = changedFields;
+        this.before = before;
+        this.after = after;
+    }
+
+    public List<String> getChangedFields() {
+        return changedFields;
+    }
+
+    public DisabledTest getBefore() {
+        return before;
+    }
+
+    public DisabledTest getAfter() {
+        return after;
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reads test files with a bounded number of reads in flight.
+ * Read files are handed over to the caller thread in completion order together with their index
+ * in the requested list, so the caller can merge the results in a deterministic order.
+ * A fetcher can be used by several callers at once, which then share its limit of reads in flight.
+ */
+public class ConcurrentFileFetcher implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    public ConcurrentFileFetcher(int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("Fetch concurrency must be at least 1, got: " + concurrency);
+        }
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "file-fetcher-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void fetch(List<TestFile> files, FileReader reader, TestFileSource.TestFileConsumer consumer)
+            throws IOException {
+        CompletionService<IndexedFile> completionService = new ExecutorCompletionService<>(executor);
+        List<Future<IndexedFile>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            int index = i;
+            TestFile file = files.get(i);
+            futures.add(completionService.submit(() -> new IndexedFile(index, reader.read(file))));
+        }
+
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                IndexedFile fetched = completionService.take().get();
+                consumer.accept(fetched.index(), fetched.data());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching test files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("Failed to fetch test files", e.getCause());
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    @FunctionalInterface
+    public interface FileReader {
+        TestClassData read(TestFile file) throws IOException;
+    }
+
+    private record IndexedFile(int index, TestClassData data) {
+    }
+}
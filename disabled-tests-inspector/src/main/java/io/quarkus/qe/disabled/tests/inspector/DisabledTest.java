@@ -64,4 +64,8 @@ public class DisabledTest {
     public boolean isIssueClosed() {
         return issueClosed;
     }
+
+    public void setIssueClosed(boolean issueClosed) {
+        this.issueClosed = issueClosed;
+    }
 }
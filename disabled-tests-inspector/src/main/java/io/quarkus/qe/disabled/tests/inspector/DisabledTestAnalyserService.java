@@ -1,34 +1,41 @@
 package io.quarkus.qe.disabled.tests.inspector;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Timer;
+import io.prometheus.client.CollectorRegistry;
+import io.prometheus.client.exporter.common.TextFormat;
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
 
 import org.jboss.logging.Logger;
-import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GHRepository;
-import org.kohsuke.github.GHTree;
-import org.kohsuke.github.GHTreeEntry;
-import org.kohsuke.github.GHContent;
-import org.kohsuke.github.GHIssue;
-import org.kohsuke.github.GHIssueState;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Set;
 import java.util.ArrayList;
 import java.util.Map;
-import java.util.HashMap;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Objects;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 @ApplicationScoped
 public class DisabledTestAnalyserService {
@@ -36,40 +43,6 @@ public class DisabledTestAnalyserService {
     private static final Logger LOG = Logger.getLogger(DisabledTestAnalyserService.class);
     private static final ObjectMapper MAPPER = new ObjectMapper();
 
-    private static final Pattern CLASS_DECLARATION_PATTERN = Pattern.compile(
-            "(?:public|private|protected)?\\s*(?:\\w+\\s+)*class\\s+(\\w+)"
-    );
-
-    private static final Pattern TEST_METHOD_PATTERN = Pattern.compile(
-            "(?:public|protected)?\\s*void\\s+(\\w+)\\s*\\("
-    );
-
-    private static final Pattern DISABLED_ANNOTATION_PATTERN = Pattern.compile(
-            "@((?:Disabled|Enabled)\\w*)(?:\\s*\\((.*))?"
-    );
-
-    private static final Pattern REASON_PATTERN = Pattern.compile(
-            "(?:reason|disabledReason)\\s*=\\s*\"([^\"]+)\"(?:\\s*\\+\\s*)?"
-    );
-
-    private static final Pattern EXPLICIT_REASON_PATTERN = Pattern.compile(
-            "^\\s*\"([^\"]+)\"(?:\\s*\\+\\s*)?\\s*$"
-    );
-
-    private static final Pattern NEXT_LINE_STRING_PATTERN = Pattern.compile(
-            "^\\s*\"([^\"]+)\""
-    );
-
-    private static final Pattern ISSUE_URL_PATTERN = Pattern.compile(
-            "(https://(?:github\\.com/[^/]+/[^/]+/issues/\\d+|issues\\.redhat\\.com/browse/[A-Z]+-\\d+))"
-    );
-
-    private static final Pattern ISSUE_ID_PATTERN = Pattern.compile(
-            "([A-Z]+-\\d+|QUARKUS-\\d+)"
-    );
-
-    private static final String RED_HAT_ISSUE_TRACKER_URL = "https://issues.redhat.com/browse/";
-
     private static final Set<String> LITE_MODE_ALWAYS_SKIP = Set.of(
             "DisabledForJreRange",
             "DisabledIfSystemProperty",
@@ -90,298 +63,562 @@ public class DisabledTestAnalyserService {
             "DisabledOnOs"
     );
 
-    public void analyzeRepository(String repoOwner, String repoName, List<String> branches,
-                                  String baseOutputFileName, boolean liteMode) throws IOException {
-        if (liteMode) {
-            LOG.info("Lite report mode ENABLED");
-        }
-
-        GitHub github = GitHub.connect();
-        GHRepository repo = github.getRepository(repoOwner + "/" + repoName);
-
-        for (String branch : branches) {
-            LOG.info("Fetching tree for branch: " + branch);
-            GHTree tree = repo.getTreeRecursive(branch, 1);
-            List<GHTreeEntry> entries = tree.getTree();
-
-            List<DisabledTest> disabledTests = new ArrayList<>();
-            Map<String, DisabledTestsModuleStats> moduleStats = new HashMap<>();
+    // the Prometheus meter registry of Quarkus registers its meters here
+    @Inject
+    CollectorRegistry collectorRegistry;
 
-            int processedFileCount = 0;
-            int totalFiles = entries.size();
-            LOG.info("Starting analysis of " + totalFiles + " files");
+    private final DisabledTestParser parser = new ScanningDisabledTestParser();
+    private IssueStateResolver fileIssueStateResolver;
 
-            for (GHTreeEntry entry : entries) {
-                String filePath = entry.getPath();
+    public void analyzeRepository(AnalysisOptions options) throws IOException {
+        analyzeRepository(options, false);
+    }
 
-                processedFileCount++;
-                if (processedFileCount % 100 == 0) {
-                    LOG.info(String.format("Analyzed %d / %d files (branch: '%s')", processedFileCount, totalFiles, branch));
-                }
+    /**
+     * @param keepDisabledTests whether reported disabled tests are kept in memory and returned, not only written
+     */
+    public RepositoryAnalysis analyzeRepository(AnalysisOptions options, boolean keepDisabledTests) throws IOException {
+        LOG.info("Test files source: " + options.sourceType());
+        Instant runStart = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        RepositoryAnalysis analysis = run(options, (gitHubClient, issueStateResolver, parsedFileCache) -> {
+            try (TestFileSource source = openSource(options, gitHubClient, null)) {
+                return analyzeRepository(source, issueStateResolver, parsedFileCache, options, keepDisabledTests);
+            }
+        });
+        new TrendStore(options.trendStoreFile()).append(runStart, analysis.branchStats());
+        return analysis;
+    }
 
-                if ((filePath.contains("/test/") || filePath.contains("testsuite/")) && filePath.endsWith(".java")) {
-                    GHContent testClassContent = repo.getFileContent(filePath, branch);
-                    TestClassData data = new TestClassData(
-                            testClassContent.getHtmlUrl(),
-                            filePath,
-                            readFileContent(testClassContent.read())
-                    );
-                    disabledTests.addAll(extractDisabledTests(data, moduleStats, liteMode));
+    /**
+     * Analyzes several repositories at once. They share the GitHub client with its rate limits, the threads fetching
+     * and parsing files, and the caches, so the batch needs no more requests and threads than a single analysis.
+     * Every repository gets its own reports and trend store, listed in the batch index. A repository which fails
+     * does not stop the others, the index records the failure.
+     */
+    public List<BatchIndex> analyzeRepositories(AnalysisOptions options, BatchOptions batch) throws IOException {
+        if (options.sourceType() == TestFileSourceType.GIT) {
+            throw new IllegalArgumentException("Batch analysis reads repositories from GitHub, the git source is not supported");
+        }
+        Instant runStart = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        return run(options, (gitHubClient, issueStateResolver, parsedFileCache) -> {
+            try (ConcurrentFileFetcher fetcher = new ConcurrentFileFetcher(options.fetchConcurrency())) {
+                List<BatchIndex> index = analyzeRepositories(batch.repositories(),
+                        repository -> openSource(options.forRepository(repository), gitHubClient, fetcher),
+                        issueStateResolver, parsedFileCache, options, runStart);
+                MAPPER.writerWithDefaultPrettyPrinter().writeValue(batch.indexFile().toFile(), index);
+                LOG.info("Batch index written to " + batch.indexFile());
+                List<String> failedRepositories = index.stream()
+                        .filter(entry -> entry.failure() != null)
+                        .map(BatchIndex::repository)
+                        .toList();
+                if (!failedRepositories.isEmpty()) {
+                    throw new IOException("Failed to analyze repositories: " + String.join(", ", failedRepositories));
                 }
+                return index;
             }
+        });
+    }
 
-            BranchAnalysisResult result = new BranchAnalysisResult(branch, disabledTests);
-            String testListFile = getTestFileName(baseOutputFileName, branch);
-            MAPPER.writerWithDefaultPrettyPrinter().writeValue(new File(testListFile), result);
-
-            String statsListFile = getStatsFileName(baseOutputFileName, branch);
-            MAPPER.writerWithDefaultPrettyPrinter().writeValue(new File(statsListFile), moduleStats);
-
-            LOG.info("Finished analysis for branch: " + branch);
+    /**
+     * Runs an analysis with the caches loaded and checkpointed while it runs, and saves them together with
+     * the metrics when it ends. The parse cache is saved in full only if the analysis succeeds.
+     */
+    private <T> T run(AnalysisOptions options, AnalysisRun<T> analysisRun) throws IOException {
+        IssueStateCache issueStateCache = IssueStateCache.load(options.issueCacheFile(), options.issueCacheTtl(),
+                options.openIssueCacheTtl());
+        ParsedFileCache parsedFileCache = ParsedFileCache.load(options.parseCacheFile(), options.parser());
+        GitHubClient gitHubClient = new GitHubClient(GitHubResponseCache.open(options.responseCacheDirectory()));
+        boolean analyzed = false;
+        AnalysisCheckpoint checkpoint = AnalysisCheckpoint.start(options.checkpointInterval(), parsedFileCache,
+                issueStateCache);
+        try {
+            T result = analysisRun.run(gitHubClient,
+                    new IssueStateResolver(gitHubClient, options.issueBatchSize(), issueStateCache), parsedFileCache);
+            analyzed = true;
+            return result;
+        } finally {
+            try {
+                checkpoint.close();
+            } finally {
+                saveCaches(issueStateCache, parsedFileCache, analyzed);
+                LOG.info("GitHub requests: " + gitHubClient.metrics());
+                writeMetrics(options.metricsFile());
+            }
         }
     }
 
-    List<DisabledTest> extractDisabledTests(TestClassData testClassData,
-                                            Map<String, DisabledTestsModuleStats> moduleStats,
-                                            boolean liteMode) {
-
-        List<DisabledTest> disabledTests = new ArrayList<>();
-        String[] lines = testClassData.content().split("\n");
-
-        String currentClass = null;
-        String currentTestMethod = null;
-
-        List<String> annotationTypes = new ArrayList<>();
-        List<String> reasons = new ArrayList<>();
-        List<String> issueLinks = new ArrayList<>();
+    /**
+     * @param runStart time of the batch recorded in the trend stores, or null if no trends are recorded
+     * @return index entries in the order of the repositories
+     */
+    List<BatchIndex> analyzeRepositories(List<RepositoryTarget> repositories, SourceOpener sourceOpener,
+                                         IssueStateResolver issueStateResolver, ParsedFileCache parsedFileCache,
+                                         AnalysisOptions options, Instant runStart) throws IOException {
+        LOG.info("Batch of " + repositories.size() + " repositories: "
+                + String.join(", ", repositories.stream().map(RepositoryTarget::fullName).toList()));
+        FileParser fileParser = createFileParser(options);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, repositories.size()),
+                daemonThreads("repository-analyzer-"));
+        try {
+            List<AnalysisOptions> repositoryOptions = repositories.stream().map(options::forRepository).toList();
+            List<Future<RepositoryAnalysis>> analyses = new ArrayList<>(repositories.size());
+            for (int i = 0; i < repositories.size(); i++) {
+                RepositoryTarget repository = repositories.get(i);
+                AnalysisOptions analysisOptions = repositoryOptions.get(i);
+                analyses.add(executor.submit(() -> {
+                    try (TestFileSource source = sourceOpener.open(repository)) {
+                        RepositoryAnalysis analysis = analyzeRepository(source, issueStateResolver, parsedFileCache,
+                                fileParser, analysisOptions, false);
+                        if (runStart != null) {
+                            new TrendStore(analysisOptions.trendStoreFile()).append(runStart, analysis.branchStats());
+                        }
+                        return analysis;
+                    }
+                }));
+            }
+            List<BatchIndex> index = new ArrayList<>(repositories.size());
+            for (int i = 0; i < repositories.size(); i++) {
+                String repository = repositories.get(i).fullName();
+                String baseOutputFileName = repositoryOptions.get(i).baseOutputFileName();
+                try {
+                    List<BatchIndex.Branch> branches = new ArrayList<>();
+                    analyses.get(i).get().branchStats().forEach((branch, moduleStats) -> branches.add(BatchIndex.Branch.of(
+                            branch, getTestFileName(baseOutputFileName, branch),
+                            getStatsFileName(baseOutputFileName, branch), moduleStats)));
+                    index.add(new BatchIndex(repository, branches, null));
+                } catch (ExecutionException e) {
+                    LOG.error("Failed to analyze repository " + repository, e.getCause());
+                    index.add(new BatchIndex(repository, List.of(), e.getCause().toString()));
+                }
+            }
+            return index;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while analyzing repositories", e);
+        } finally {
+            executor.shutdownNow();
+            fileParser.executor().shutdownNow();
+        }
+    }
 
-        String lastComment = null;
-        boolean insideBlockComment = false;
+    private static void saveCaches(IssueStateCache issueStateCache, ParsedFileCache parsedFileCache, boolean analyzed)
+            throws IOException {
+        issueStateCache.save();
+        if (analyzed) {
+            parsedFileCache.save();
+        } else {
+            // files parsed before the failure are kept, so the next run continues where this one stopped
+            parsedFileCache.checkpoint();
+        }
+    }
 
-        for (int i = 0; i < lines.length; i++) {
-            String trimmedLine = lines[i].trim();
-            if (trimmedLine.isEmpty()) continue;
+    /**
+     * @param keepDisabledTests whether reported disabled tests are kept in memory and returned, not only written
+     */
+    RepositoryAnalysis analyzeRepository(TestFileSource source, IssueStateResolver issueStateResolver, ParsedFileCache parsedFileCache,
+                           AnalysisOptions options, boolean keepDisabledTests) throws IOException {
+        FileParser fileParser = createFileParser(options);
+        try {
+            return analyzeRepository(source, issueStateResolver, parsedFileCache, fileParser, options, keepDisabledTests);
+        } finally {
+            fileParser.executor().shutdownNow();
+        }
+    }
 
-            // handle block comments
-            if (insideBlockComment) {
-                if (trimmedLine.contains("*/")) {
-                    insideBlockComment = false;
-                }
-                continue;
+    private RepositoryAnalysis analyzeRepository(TestFileSource source, IssueStateResolver issueStateResolver,
+                                                 ParsedFileCache parsedFileCache, FileParser fileParser,
+                                                 AnalysisOptions options, boolean keepDisabledTests) throws IOException {
+        List<String> branches = options.branches();
+        if (options.branchConcurrency() < 1) {
+            throw new IllegalArgumentException("Branch concurrency must be at least 1, got: " + options.branchConcurrency());
+        }
+        if (options.liteMode()) {
+            LOG.info("Lite report mode ENABLED");
+        }
+        LOG.info("Test files parser: " + options.parser());
+        boolean writeDiffReport = options.diffReport() && branches.size() > 1;
+        if (options.diffReport() && !writeDiffReport) {
+            LOG.warn("Diff report needs at least two branches, it is not written");
+        }
+        List<DisabledTestIndex> indexes = new ArrayList<>(branches.size());
+
+        // branches share the source, parsed files and resolved issues, so what they have in common is processed once
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(options.branchConcurrency(), branches.size())), daemonThreads("branch-analyzer-"));
+        try {
+            List<Future<Map<String, Map<String, Integer>>>> analyses = new ArrayList<>(branches.size());
+            for (String branch : branches) {
+                DisabledTestIndex index = writeDiffReport || keepDisabledTests ? new DisabledTestIndex(branch) : null;
+                indexes.add(index);
+                analyses.add(executor.submit(() -> analyzeBranch(source, options.testFileFilter(), issueStateResolver,
+                        parsedFileCache, fileParser, branch, options.baseOutputFileName(), options.liteMode(), index)));
             }
-            if (trimmedLine.startsWith("/*")) {
-                if (!trimmedLine.contains("*/")) {
-                    insideBlockComment = true;
+            // every branch is finished even if another one fails, so no report is left half written
+            IOException failure = null;
+            Map<String, Map<String, Map<String, Integer>>> branchStats = new LinkedHashMap<>();
+            for (int i = 0; i < analyses.size(); i++) {
+                try {
+                    branchStats.put(branches.get(i), analyses.get(i).get());
+                } catch (ExecutionException e) {
+                    IOException branchFailure = e.getCause() instanceof IOException ioException ? ioException
+                            : new IOException("Failed to analyze branch", e.getCause());
+                    if (failure == null) {
+                        failure = branchFailure;
+                    } else {
+                        failure.addSuppressed(branchFailure);
+                    }
                 }
-                continue;
             }
+            if (failure != null) {
+                throw failure;
+            }
+            if (writeDiffReport) {
+                writeDiffReport(indexes, options.baseOutputFileName());
+            }
+            Map<String, DisabledTestIndex> branchIndexes = new LinkedHashMap<>();
+            if (keepDisabledTests) {
+                indexes.forEach(index -> branchIndexes.put(index.branch(), index));
+            }
+            return new RepositoryAnalysis(branchStats, branchIndexes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while analyzing branches", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 
-            String inlineComment = null;
-            String lineWithoutComment = trimmedLine;
+    /**
+     * Files are parsed off the branch threads, so reading the next files does not wait for parsing.
+     */
+    private static FileParser createFileParser(AnalysisOptions options) {
+        if (options.parseConcurrency() < 1) {
+            throw new IllegalArgumentException("Parse concurrency must be at least 1, got: " + options.parseConcurrency());
+        }
+        return new FileParser(options.parser().create(), InspectorMetrics.parseTimer(options.parser()),
+                Executors.newFixedThreadPool(options.parseConcurrency(), daemonThreads("file-parser-")));
+    }
 
-            int commentIndex = trimmedLine.indexOf("//");
-            // If // is preceded by :, it's likely a URL (https://), so it is skipped and looks further
-            while (commentIndex > 0 && trimmedLine.charAt(commentIndex - 1) == ':') {
-                commentIndex = trimmedLine.indexOf("//", commentIndex + 2);
-            }
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
 
-            if (commentIndex != -1) {
-                inlineComment = trimmedLine.substring(commentIndex + 2).trim();
-                lineWithoutComment = trimmedLine.substring(0, commentIndex).trim();
+    /**
+     * @return number of reported disabled tests by module and annotation type
+     */
+    private Map<String, Map<String, Integer>> analyzeBranch(TestFileSource source, TestFileFilter testFileFilter,
+                                                            IssueStateResolver issueStateResolver,
+                                                            ParsedFileCache parsedFileCache, FileParser fileParser,
+                                                            String branch,
+                                                            String baseOutputFileName, boolean liteMode,
+                                                            DisabledTestIndex index) throws IOException {
+        List<TestFile> testFiles = source.listTestFiles(branch, testFileFilter);
+
+        // only files never seen before are read, files read for another branch at the same time are awaited
+        List<TestFile> claimedFiles = new ArrayList<>();
+        for (TestFile testFile : testFiles) {
+            if (parsedFileCache.claim(testFile.sha())) {
+                claimedFiles.add(testFile);
             }
+        }
 
-            if (lineWithoutComment.isEmpty()) {
-                lastComment = inlineComment;
-                continue;
+        int totalFiles = claimedFiles.size();
+        InspectorMetrics.parseCache(true, testFiles.size() - totalFiles);
+        InspectorMetrics.parseCache(false, totalFiles);
+        LOG.info("Starting analysis of " + totalFiles + " test files, "
+                + (testFiles.size() - totalFiles) + " unchanged or shared test files are reused (branch: '" + branch + "')");
+        try (StreamingReportWriter reportWriter = new StreamingReportWriter(branch,
+                new File(getTestFileName(baseOutputFileName, branch)),
+                new File(getStatsFileName(baseOutputFileName, branch)), issueStateResolver)) {
+            // files are reported in tree order, so the report does not depend on the order in which files were read
+            ReportCursor cursor = new ReportCursor(source, branch, testFiles, parsedFileCache, fileParser, reportWriter,
+                    liteMode, index);
+            cursor.advance();
+            try {
+                readTestFiles(source, parsedFileCache, fileParser, branch, claimedFiles, cursor);
+            } finally {
+                // waiting branches must not block on files this branch failed to read
+                claimedFiles.forEach(testFile -> parsedFileCache.release(testFile.sha()));
             }
+            cursor.finish(claimedFiles);
+            reportWriter.finish();
+            LOG.info("Finished analysis for branch: " + branch);
+            return reportWriter.moduleStats();
+        }
+    }
 
-            // class detection
-            Matcher classMatcher = CLASS_DECLARATION_PATTERN.matcher(lineWithoutComment);
-            if (classMatcher.find()) {
-                currentClass = classMatcher.group(1);
-                flushAnnotations(disabledTests, moduleStats, annotationTypes, reasons, issueLinks,
-                        currentClass, "All tests in class", testClassData, liteMode);
-                lastComment = null;
-                continue;
+    private void readTestFiles(TestFileSource source, ParsedFileCache parsedFileCache, FileParser fileParser,
+                               String branch, List<TestFile> files, ReportCursor cursor) throws IOException {
+        if (files.isEmpty()) {
+            return;
+        }
+        // parsed files are taken over on this thread, so the cache and the report are updated in one place
+        CompletionService<ParsedFile> parsing = new ExecutorCompletionService<>(fileParser.executor());
+        int[] pendingFileCount = {0};
+        int[] processedFileCount = {0};
+        Consumer<ParsedFile> processParsedFile = parsedFile -> {
+            parsedFileCache.put(files.get(parsedFile.index()).sha(), parsedFile.disabledTests());
+            cursor.advance();
+            pendingFileCount[0]--;
+            processedFileCount[0]++;
+            if (processedFileCount[0] % 100 == 0) {
+                LOG.info(String.format("Analyzed %d / %d files (branch: '%s')", processedFileCount[0], files.size(), branch));
             }
-
-            // method detection
-            Matcher methodMatcher = TEST_METHOD_PATTERN.matcher(lineWithoutComment);
-            if (methodMatcher.find()) {
-                currentTestMethod = methodMatcher.group(1);
-                if (!currentTestMethod.equals(currentClass)) {
-                    flushAnnotations(disabledTests, moduleStats, annotationTypes, reasons, issueLinks,
-                            currentClass, currentTestMethod, testClassData, liteMode);
+        };
+        try {
+            try {
+                source.readTestFiles(branch, files, (index, data) -> {
+                    InspectorMetrics.fileRead(data.content());
+                    parsing.submit(() -> new ParsedFile(index,
+                            fileParser.parseTimer().record(() -> fileParser.parser().parse(data.content()))));
+                    pendingFileCount[0]++;
+                    Future<ParsedFile> parsedFile;
+                    while ((parsedFile = parsing.poll()) != null) {
+                        processParsedFile.accept(parsedFileResult(parsedFile));
+                    }
+                });
+            } finally {
+                // files read before a failure are still cached, so a rerun does not read them again
+                while (pendingFileCount[0] > 0) {
+                    processParsedFile.accept(parsedFileResult(parsing.take()));
                 }
-                lastComment = null;
-                continue;
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing test files", e);
+        }
+    }
 
-            // annotation detection
-            Matcher disabledMatcher = DISABLED_ANNOTATION_PATTERN.matcher(lineWithoutComment);
-
-            if (disabledMatcher.find()) {
-                String annotationType = disabledMatcher.group(1);
-                String annotationContent = disabledMatcher.group(2);
+    private static ParsedFile parsedFileResult(Future<ParsedFile> parsedFile) {
+        try {
+            return parsedFile.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while parsing test files", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to parse test file", e.getCause());
+        }
+    }
 
-                String reason = null;
-                boolean isMultiline = false;
+    List<DisabledTest> extractDisabledTests(TestClassData testClassData,
+                                            Map<String, DisabledTestsModuleStats> moduleStats,
+                                            boolean liteMode) {
+        List<DisabledTest> disabledTests = toDisabledTests(parser.parse(testClassData.content()), testClassData.fileUrl(),
+                liteMode);
+        recordModuleStats(moduleStats, TestFile.moduleOf(testClassData.filePath()), disabledTests);
+        resolveIssueStates(fileIssueStateResolver(), disabledTests);
+        return disabledTests;
+    }
 
-                if (annotationContent != null) {
-                    // remove the closing parenthesis of the annotation if present
-                    annotationContent = annotationContent.trim();
-                    if (annotationContent.endsWith(")")) {
-                        annotationContent = annotationContent.substring(0, annotationContent.length() - 1).trim();
-                    }
+    /**
+     * Writes files of a branch to the report as soon as they and all files listed before them are parsed.
+     */
+    private final class ReportCursor {
+
+        private final TestFileSource source;
+        private final String branch;
+        private final List<TestFile> testFiles;
+        private final ParsedFileCache parsedFileCache;
+        private final FileParser fileParser;
+        private final StreamingReportWriter reportWriter;
+        private final boolean liteMode;
+        private final DisabledTestIndex index;
+        private int nextFile;
+
+        /**
+         * @param index index of reported tests for the diff report, or null if no diff report is written
+         */
+        private ReportCursor(TestFileSource source, String branch, List<TestFile> testFiles,
+                             ParsedFileCache parsedFileCache, FileParser fileParser, StreamingReportWriter reportWriter,
+                             boolean liteMode, DisabledTestIndex index) {
+            this.source = source;
+            this.branch = branch;
+            this.testFiles = testFiles;
+            this.parsedFileCache = parsedFileCache;
+            this.fileParser = fileParser;
+            this.reportWriter = reportWriter;
+            this.liteMode = liteMode;
+            this.index = index;
+        }
 
-                    Matcher propertyMatcher = REASON_PATTERN.matcher(annotationContent);
-                    if (propertyMatcher.find()) {
-                        reason = propertyMatcher.group(1);
-                        if ((propertyMatcher.groupCount() > 1 && propertyMatcher.group(2) != null)
-                                || annotationContent.trim().endsWith("+")) {
-                            isMultiline = true;
-                        }
-                    } else {
-                        Matcher valueMatcher = EXPLICIT_REASON_PATTERN.matcher(annotationContent);
-                        if (valueMatcher.find()) {
-                            reason = valueMatcher.group(1);
-                            if (annotationContent.trim().endsWith("+")) {
-                                isMultiline = true;
-                            }
-                        }
-                    }
-                }
+        void advance() {
+            while (nextFile < testFiles.size() && parsedFileCache.get(testFiles.get(nextFile).sha()) != null) {
+                write(testFiles.get(nextFile++));
+            }
+        }
 
-                // multiline reason builder
-                if (isMultiline && (i + 1 < lines.length)) {
-                    String nextLine = lines[i+1].trim();
-                    Matcher multilineMatcher = NEXT_LINE_STRING_PATTERN.matcher(nextLine);
-                    if (multilineMatcher.find()) {
-                        reason += multilineMatcher.group(1);
+        /**
+         * @param readFiles files already read for this branch, which are not read again
+         */
+        void finish(List<TestFile> readFiles) throws IOException {
+            // files read by other branches are awaited, files those branches failed to read are read again
+            Set<String> readFileShas = new HashSet<>();
+            readFiles.forEach(testFile -> readFileShas.add(testFile.sha()));
+            List<TestFile> unreadFiles = new ArrayList<>();
+            for (int i = nextFile; i < testFiles.size(); i++) {
+                TestFile testFile = testFiles.get(i);
+                while (!readFileShas.contains(testFile.sha()) && parsedFileCache.await(testFile.sha()) == null) {
+                    if (parsedFileCache.claim(testFile.sha())) {
+                        readFileShas.add(testFile.sha());
+                        unreadFiles.add(testFile);
                     }
                 }
+            }
+            try {
+                readTestFiles(source, parsedFileCache, fileParser, branch, unreadFiles, this);
+            } finally {
+                unreadFiles.forEach(testFile -> parsedFileCache.release(testFile.sha()));
+            }
 
-                if (reason == null && inlineComment != null) {
-                    reason = inlineComment;
-                }
-
-                if (reason == null && lastComment != null) {
-                    reason = lastComment;
-                }
-
-                String issueLink = extractIssueLink(reason);
-                if (issueLink == null && inlineComment != null) {
-                    issueLink = extractIssueLink(inlineComment);
-                }
-                if (issueLink == null && lastComment != null) {
-                    issueLink = extractIssueLink(lastComment);
-                }
-
-                if (issueLink == null) {
-                    String text = (reason != null) ? reason : ((inlineComment != null) ? inlineComment : lastComment);
-                    issueLink = tryBuildIssueLink(text);
+            for (; nextFile < testFiles.size(); nextFile++) {
+                TestFile testFile = testFiles.get(nextFile);
+                if (parsedFileCache.get(testFile.sha()) == null) {
+                    LOG.warn("File " + testFile.path() + " was not found in the source of branch " + branch);
+                } else {
+                    write(testFile);
                 }
+            }
+        }
 
-                annotationTypes.add(annotationType);
-                reasons.add(reason);
-                issueLinks.add(issueLink);
-
-                lastComment = null;
-            } else {
-                lastComment = null;
+        private void write(TestFile testFile) {
+            List<DisabledTest> disabledTests = toDisabledTests(parsedFileCache.get(testFile.sha()),
+                    source.fileUrl(branch, testFile), liteMode);
+            String moduleName = testFile.module();
+            if (index != null) {
+                index.add(moduleName, disabledTests);
+            }
+            try {
+                reportWriter.write(moduleName, disabledTests);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write report of branch " + branch, e);
             }
         }
-        return disabledTests;
     }
 
-    private void flushAnnotations(List<DisabledTest> tests, Map<String, DisabledTestsModuleStats> moduleStats,
-                                  List<String> types, List<String> reasons, List<String> issueLinks,
-                                  String className, String testName, TestClassData data, boolean liteMode) {
-
-        if (types.isEmpty()) return;
-
-        for (int i = 0; i < types.size(); i++) {
-            String type = types.get(i);
-            String reason = reasons.get(i);
-            String issueLink = issueLinks.get(i);
+    /**
+     * Writes all meters in the Prometheus text format, so the time spent by a single run can be inspected afterwards.
+     * Meters are never reset, in the server mode the file covers all analyses since the start.
+     */
+    private void writeMetrics(Path metricsFile) throws IOException {
+        if (metricsFile == null) {
+            return;
+        }
+        Path directory = metricsFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        try (Writer writer = Files.newBufferedWriter(metricsFile, StandardCharsets.UTF_8)) {
+            TextFormat.write004(writer, collectorRegistry.metricFamilySamples());
+        }
+        LOG.info("Metrics written to " + metricsFile);
+    }
 
-            // Lite mode filtering
-            if (liteMode) {
-                if (LITE_MODE_ALWAYS_SKIP.contains(type)) {
-                    continue;
-                }
-                if (LITE_MODE_CONDITIONAL_SKIP.contains(type)) {
-                    if (issueLink == null || issueLink.isEmpty()) {
-                        continue;
-                    }
-                }
-            }
+    @FunctionalInterface
+    private interface AnalysisRun<T> {
 
-            boolean isClosed = isGitHubIssueClosed(issueLink);
+        T run(GitHubClient gitHubClient, IssueStateResolver issueStateResolver, ParsedFileCache parsedFileCache)
+                throws IOException;
+    }
 
-            tests.add(new DisabledTest(testName, className, type, reason, issueLink, data.fileUrl(), isClosed));
+    @FunctionalInterface
+    interface SourceOpener {
 
-            String moduleName = extractModuleName(data.filePath());
-            moduleStats.putIfAbsent(moduleName, new DisabledTestsModuleStats());
-            moduleStats.get(moduleName).incrementAnnotation(type);
-        }
+        TestFileSource open(RepositoryTarget repository) throws IOException;
+    }
 
-        types.clear();
-        reasons.clear();
-        issueLinks.clear();
+    /**
+     * Parser shared by all branches of a run together with the threads it runs on.
+     */
+    private record FileParser(DisabledTestParser parser, Timer parseTimer, ExecutorService executor) {
     }
 
-    private String extractIssueLink(String text) {
-        if (text == null) return null;
-        Matcher issueMatcher = ISSUE_URL_PATTERN.matcher(text);
-        return issueMatcher.find() ? issueMatcher.group(1) : null;
+    private record ParsedFile(int index, List<ParsedDisabledTest> disabledTests) {
     }
 
-    private String tryBuildIssueLink(String text) {
-        if (text == null) return null;
-        Matcher idMatcher = ISSUE_ID_PATTERN.matcher(text);
-        if (idMatcher.find()) {
-            return RED_HAT_ISSUE_TRACKER_URL + idMatcher.group(1);
+    /**
+     * Writes differences of every branch to the first branch.
+     */
+    private void writeDiffReport(List<DisabledTestIndex> indexes, String baseOutputFileName) throws IOException {
+        List<BranchDiff> diffs = new ArrayList<>(indexes.size() - 1);
+        for (DisabledTestIndex index : indexes.subList(1, indexes.size())) {
+            diffs.add(index.diff(indexes.get(0)));
         }
-        return null;
+        File diffFile = new File(getDiffFileName(baseOutputFileName));
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(diffFile, diffs);
+        LOG.info("Diff report written to " + diffFile);
     }
 
-    private boolean isGitHubIssueClosed(String issueLink) {
-        if (issueLink != null && issueLink.contains("github.com")) {
-            try {
-                String[] parts = issueLink.split("/");
-                // Format check: .../owner/repo/issues/number
-                if (parts.length < 4) return false;
-
-                String repo = parts[parts.length - 4] + "/" + parts[parts.length - 3];
-                String issueNumStr = parts[parts.length - 1];
-
-                // Remove anchor (#issuecomment-1234) if present
-                if (issueNumStr.contains("#")) {
-                    issueNumStr = issueNumStr.substring(0, issueNumStr.indexOf("#"));
-                }
+    private synchronized IssueStateResolver fileIssueStateResolver() {
+        if (fileIssueStateResolver == null) {
+            fileIssueStateResolver = new IssueStateResolver(new GitHubClient(GitHubResponseCache.inMemory()),
+                    IssueStateResolver.DEFAULT_BATCH_SIZE, null);
+        }
+        return fileIssueStateResolver;
+    }
 
-                int issueNumber = Integer.parseInt(issueNumStr);
+    private void resolveIssueStates(IssueStateResolver issueStateResolver, List<DisabledTest> disabledTests) {
+        issueStateResolver.resolve(disabledTests.stream().map(DisabledTest::getIssueLink).toList());
+        for (DisabledTest disabledTest : disabledTests) {
+            disabledTest.setIssueClosed(issueStateResolver.isClosed(disabledTest.getIssueLink()));
+        }
+    }
 
-                GitHub github = GitHub.connect();
-                GHIssue issue = github.getRepository(repo).getIssue(issueNumber);
-                return issue.getState() == GHIssueState.CLOSED;
-            } catch (Exception e) {
-                LOG.error("Failed to check issue state for " + issueLink, e);
-                return false;
+    private List<DisabledTest> toDisabledTests(List<ParsedDisabledTest> parsedDisabledTests, String fileUrl,
+                                               boolean liteMode) {
+        List<DisabledTest> disabledTests = new ArrayList<>();
+        for (ParsedDisabledTest parsedDisabledTest : parsedDisabledTests) {
+            if (!liteMode || isReportedInLiteMode(parsedDisabledTest)) {
+                disabledTests.add(parsedDisabledTest.toDisabledTest(fileUrl));
             }
         }
-        return false;
+        return disabledTests;
+    }
+
+    private boolean isReportedInLiteMode(ParsedDisabledTest disabledTest) {
+        if (LITE_MODE_ALWAYS_SKIP.contains(disabledTest.annotationType())) {
+            return false;
+        }
+        if (LITE_MODE_CONDITIONAL_SKIP.contains(disabledTest.annotationType())) {
+            return disabledTest.issueLink() != null && !disabledTest.issueLink().isEmpty();
+        }
+        return true;
     }
 
-    private String readFileContent(InputStream inputStream) throws IOException {
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            return reader.lines().collect(Collectors.joining("\n"));
+    private void recordModuleStats(Map<String, DisabledTestsModuleStats> moduleStats, String moduleName,
+                                   List<DisabledTest> disabledTests) {
+        if (disabledTests.isEmpty()) {
+            return;
+        }
+        DisabledTestsModuleStats fileModuleStats = moduleStats.computeIfAbsent(moduleName,
+                module -> new DisabledTestsModuleStats());
+        for (DisabledTest disabledTest : disabledTests) {
+            fileModuleStats.incrementAnnotation(disabledTest.getAnnotationType());
         }
     }
 
-    private String extractModuleName(String filePath) {
-        return filePath.substring(0, filePath.indexOf("/src"));
+    /**
+     * @param fetcher fetcher shared by sources of a batch, or null for a source with its own fetcher
+     */
+    private TestFileSource openSource(AnalysisOptions options, GitHubClient gitHubClient, ConcurrentFileFetcher fetcher)
+            throws IOException {
+        if (options.sourceType() == TestFileSourceType.GIT) {
+            Objects.requireNonNull(options.localRepository(), "Local repository directory must be specified for the git source");
+            return new LocalGitSource(options.localRepository(),
+                    "https://github.com/" + options.repoOwner() + "/" + options.repoName(), options.fetchConcurrency());
+        }
+
+        GHRepository repo = gitHubClient.connect().getRepository(options.repoOwner() + "/" + options.repoName());
+        return switch (options.sourceType()) {
+            case ARCHIVE -> new GitHubArchiveSource(repo, options.treeTraversal());
+            default -> fetcher == null ? new GitHubContentSource(repo, options.fetchConcurrency(), options.treeTraversal())
+                    : new GitHubContentSource(repo, fetcher, options.treeTraversal());
+        };
     }
 
     private String getTestFileName(String fileName, String branchName) {
@@ -392,6 +629,10 @@ public class DisabledTestAnalyserService {
         return getFileName(fileName, branchName, "-stats");
     }
 
+    private String getDiffFileName(String fileName) {
+        return fileName.replaceFirst("(\\.json)?$", "-diff.json");
+    }
+
     private String getFileName(String fileName, String branchName, String fileNameSuffix) {
         return fileName.replaceFirst("(\\.json)?$", "-" + branchName + fileNameSuffix + ".json");
     }
@@ -0,0 +1,169 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Disabled tests of a single branch, indexed by module, class, test and annotation type, so two branches
+ * are compared with one lookup per test instead of scanning the other branch. Tests are also listed by module
+ * and by annotation type, so queries only go through the tests of the requested module or annotation type.
+ * The index keeps the report order. It is filled by a single thread, and can be queried concurrently once filled.
+ */
+public class DisabledTestIndex {
+
+    private final String branch;
+    private final Map<Key, List<DisabledTest>> disabledTests = new LinkedHashMap<>();
+    private final List<ModuleTest> allTests = new ArrayList<>();
+    private final Map<String, List<ModuleTest>> testsByModule = new LinkedHashMap<>();
+    private final Map<String, List<ModuleTest>> testsByAnnotationType = new LinkedHashMap<>();
+
+    public DisabledTestIndex(String branch) {
+        this.branch = branch;
+    }
+
+    public String branch() {
+        return branch;
+    }
+
+    public void add(String moduleName, List<DisabledTest> moduleDisabledTests) {
+        for (DisabledTest disabledTest : moduleDisabledTests) {
+            disabledTests.computeIfAbsent(new Key(moduleName, disabledTest), key -> new ArrayList<>(1)).add(disabledTest);
+            ModuleTest moduleTest = new ModuleTest(moduleName, disabledTest);
+            allTests.add(moduleTest);
+            testsByModule.computeIfAbsent(moduleName, module -> new ArrayList<>()).add(moduleTest);
+            testsByAnnotationType.computeIfAbsent(disabledTest.getAnnotationType(), annotationType -> new ArrayList<>())
+                    .add(moduleTest);
+        }
+    }
+
+    /**
+     * @param moduleName module of the tests, or null for all modules
+     * @param annotationType annotation type of the tests, or null for all annotation types
+     * @param issueClosed whether the linked issue of the tests is closed, or null for all tests
+     * @return matching tests in the report order
+     */
+    public List<DisabledTest> find(String moduleName, String annotationType, Boolean issueClosed) {
+        List<ModuleTest> candidates = allTests;
+        if (moduleName != null) {
+            candidates = testsByModule.getOrDefault(moduleName, List.of());
+        }
+        if (annotationType != null) {
+            List<ModuleTest> annotationTests = testsByAnnotationType.getOrDefault(annotationType, List.of());
+            if (annotationTests.size() < candidates.size()) {
+                candidates = annotationTests;
+            }
+        }
+        List<DisabledTest> matchingTests = new ArrayList<>();
+        for (ModuleTest candidate : candidates) {
+            DisabledTest disabledTest = candidate.disabledTest();
+            if ((moduleName == null || moduleName.equals(candidate.moduleName()))
+                    && (annotationType == null || annotationType.equals(disabledTest.getAnnotationType()))
+                    && (issueClosed == null || issueClosed == disabledTest.isIssueClosed())) {
+                matchingTests.add(disabledTest);
+            }
+        }
+        return matchingTests;
+    }
+
+    /**
+     * Compares this branch with a base branch. Tests sharing the same key, e.g. a class name used in several
+     * packages of a module, are paired in the report order. Tests left unpaired that differ only in the annotation
+     * type, i.e. share the module, class and test name, are paired afterwards, again in the report order.
+     */
+    public BranchDiff diff(DisabledTestIndex base) {
+        List<DisabledTest> added = new ArrayList<>();
+        List<DisabledTest> removed = new ArrayList<>();
+        List<ChangedDisabledTest> changed = new ArrayList<>();
+        for (Map.Entry<Key, List<DisabledTest>> baseEntry : base.disabledTests.entrySet()) {
+            List<DisabledTest> baseTests = baseEntry.getValue();
+            List<DisabledTest> tests = disabledTests.getOrDefault(baseEntry.getKey(), List.of());
+            for (int i = 0; i < baseTests.size(); i++) {
+                if (i >= tests.size()) {
+                    removed.add(baseTests.get(i));
+                    continue;
+                }
+                List<String> changedFields = changedFields(baseTests.get(i), tests.get(i));
+                if (!changedFields.isEmpty()) {
+                    changed.add(new ChangedDisabledTest(changedFields, baseTests.get(i), tests.get(i)));
+                }
+            }
+        }
+        Map<TestKey, List<DisabledTest>> addedByTest = new LinkedHashMap<>();
+        for (Map.Entry<Key, List<DisabledTest>> entry : disabledTests.entrySet()) {
+            List<DisabledTest> baseTests = base.disabledTests.getOrDefault(entry.getKey(), List.of());
+            List<DisabledTest> tests = entry.getValue();
+            for (int i = baseTests.size(); i < tests.size(); i++) {
+                added.add(tests.get(i));
+                addedByTest.computeIfAbsent(new TestKey(entry.getKey()), key -> new ArrayList<>(1)).add(tests.get(i));
+            }
+        }
+        if (!removed.isEmpty() && !addedByTest.isEmpty()) {
+            pairAnnotationTypeChanges(base, added, removed, changed, addedByTest);
+        }
+        return new BranchDiff(base.branch, branch, added, removed, changed);
+    }
+
+    private static void pairAnnotationTypeChanges(DisabledTestIndex base, List<DisabledTest> added,
+                                                  List<DisabledTest> removed, List<ChangedDisabledTest> changed,
+                                                  Map<TestKey, List<DisabledTest>> addedByTest) {
+        Set<DisabledTest> removedTests = Collections.newSetFromMap(new IdentityHashMap<>());
+        removedTests.addAll(removed);
+        Set<DisabledTest> pairedTests = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Map.Entry<Key, List<DisabledTest>> baseEntry : base.disabledTests.entrySet()) {
+            List<DisabledTest> candidates = addedByTest.get(new TestKey(baseEntry.getKey()));
+            if (candidates == null) {
+                continue;
+            }
+            for (DisabledTest baseTest : baseEntry.getValue()) {
+                if (candidates.isEmpty()) {
+                    break;
+                }
+                if (removedTests.contains(baseTest)) {
+                    DisabledTest test = candidates.remove(0);
+                    pairedTests.add(baseTest);
+                    pairedTests.add(test);
+                    changed.add(new ChangedDisabledTest(changedFields(baseTest, test), baseTest, test));
+                }
+            }
+        }
+        removed.removeIf(pairedTests::contains);
+        added.removeIf(pairedTests::contains);
+    }
+
+    private static List<String> changedFields(DisabledTest before, DisabledTest after) {
+        List<String> changedFields = new ArrayList<>(3);
+        if (!Objects.equals(before.getAnnotationType(), after.getAnnotationType())) {
+            changedFields.add("annotation_type");
+        }
+        if (!Objects.equals(before.getReason(), after.getReason())) {
+            changedFields.add("reason");
+        }
+        if (!Objects.equals(before.getIssueLink(), after.getIssueLink())) {
+            changedFields.add("issue_link");
+        }
+        return changedFields;
+    }
+
+    private record ModuleTest(String moduleName, DisabledTest disabledTest) {
+    }
+
+    private record Key(String moduleName, String className, String testName, String annotationType) {
+
+        Key(String moduleName, DisabledTest disabledTest) {
+            this(moduleName, disabledTest.getClassName(), disabledTest.getTestName(), disabledTest.getAnnotationType());
+        }
+    }
+
+    private record TestKey(String moduleName, String className, String testName) {
+
+        TestKey(Key key) {
+            this(key.moduleName(), key.className(), key.testName());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds disabled tests in the content of a test class. Implementations differ only in how they find
+ * class, method and annotation declarations, what is extracted from a found annotation is shared.
+ */
+public abstract class DisabledTestParser {
+
+    static final String CLASS_LEVEL_TEST_NAME = "All tests in class";
+
+    private static final Pattern REASON_PATTERN = Pattern.compile(
+            "(?:reason|disabledReason)\\s*=\\s*\"([^\"]+)\"(?:\\s*\\+\\s*)?"
+    );
+
+    private static final Pattern EXPLICIT_REASON_PATTERN = Pattern.compile(
+            "^\\s*\"([^\"]+)\"(?:\\s*\\+\\s*)?\\s*$"
+    );
+
+    private static final Pattern NEXT_LINE_STRING_PATTERN = Pattern.compile(
+            "^\\s*\"([^\"]+)\""
+    );
+
+    private static final Pattern ISSUE_URL_PATTERN = Pattern.compile(
+            "(https://(?:github\\.com/[^/]+/[^/]+/issues/\\d+|issues\\.redhat\\.com/browse/[A-Z]+-\\d+))"
+    );
+
+    private static final Pattern ISSUE_ID_PATTERN = Pattern.compile(
+            "([A-Z]+-\\d+|QUARKUS-\\d+)"
+    );
+
+    private static final String RED_HAT_ISSUE_TRACKER_URL = "https://issues.redhat.com/browse/";
+
+    /**
+     * @param content test class content with '\n' line endings
+     * @return all disabled tests in declaration order
+     */
+    public abstract List<ParsedDisabledTest> parse(String content);
+
+    /**
+     * Records an annotation found on a line, until the class or method it belongs to is found.
+     *
+     * @param annotationContent everything after the opening parenthesis of the annotation, or null without parentheses
+     * @param nextLine trimmed line following the annotation, or null if the annotation is on the last line
+     * @param inlineComment comment on the annotation line, or null
+     * @param lastComment comment on the line preceding the annotation, or null
+     */
+    protected static void addAnnotation(List<String> types, List<String> reasons, List<String> issueLinks,
+                                        String annotationType, String annotationContent, String nextLine,
+                                        String inlineComment, String lastComment) {
+        String reason = null;
+        boolean isMultiline = false;
+
+        if (annotationContent != null) {
+            // remove the closing parenthesis of the annotation if present
+            annotationContent = annotationContent.trim();
+            if (annotationContent.endsWith(")")) {
+                annotationContent = annotationContent.substring(0, annotationContent.length() - 1).trim();
+            }
+
+            Matcher propertyMatcher = REASON_PATTERN.matcher(annotationContent);
+            if (propertyMatcher.find()) {
+                reason = propertyMatcher.group(1);
+                if ((propertyMatcher.groupCount() > 1 && propertyMatcher.group(2) != null)
+                        || annotationContent.trim().endsWith("+")) {
+                    isMultiline = true;
+                }
+            } else {
+                Matcher valueMatcher = EXPLICIT_REASON_PATTERN.matcher(annotationContent);
+                if (valueMatcher.find()) {
+                    reason = valueMatcher.group(1);
+                    if (annotationContent.trim().endsWith("+")) {
+                        isMultiline = true;
+                    }
+                }
+            }
+        }
+
+        // multiline reason builder
+        if (isMultiline && nextLine != null) {
+            Matcher multilineMatcher = NEXT_LINE_STRING_PATTERN.matcher(nextLine);
+            if (multilineMatcher.find()) {
+                reason += multilineMatcher.group(1);
+            }
+        }
+
+        addAnnotationWithReason(types, reasons, issueLinks, annotationType, reason, inlineComment, lastComment);
+    }
+
+    /**
+     * Records an annotation whose reason has already been extracted from its arguments.
+     *
+     * @param reason reason given in the annotation, or null to take the reason from the comments
+     * @param inlineComment comment on the annotation line, or null
+     * @param lastComment comment on the line preceding the annotation, or null
+     */
+    protected static void addAnnotationWithReason(List<String> types, List<String> reasons, List<String> issueLinks,
+                                                  String annotationType, String reason, String inlineComment,
+                                                  String lastComment) {
+        if (reason == null && inlineComment != null) {
+            reason = inlineComment;
+        }
+
+        if (reason == null && lastComment != null) {
+            reason = lastComment;
+        }
+
+        String issueLink = extractIssueLink(reason);
+        if (issueLink == null && inlineComment != null) {
+            issueLink = extractIssueLink(inlineComment);
+        }
+        if (issueLink == null && lastComment != null) {
+            issueLink = extractIssueLink(lastComment);
+        }
+
+        if (issueLink == null) {
+            String text = (reason != null) ? reason : ((inlineComment != null) ? inlineComment : lastComment);
+            issueLink = tryBuildIssueLink(text);
+        }
+
+        types.add(annotationType);
+        reasons.add(reason);
+        issueLinks.add(issueLink);
+    }
+
+    protected static void flushAnnotations(List<ParsedDisabledTest> tests, List<String> types, List<String> reasons,
+                                           List<String> issueLinks, String className, String testName) {
+
+        if (types.isEmpty()) return;
+
+        for (int i = 0; i < types.size(); i++) {
+            tests.add(new ParsedDisabledTest(testName, className, types.get(i), reasons.get(i), issueLinks.get(i)));
+        }
+
+        types.clear();
+        reasons.clear();
+        issueLinks.clear();
+    }
+
+    private static String extractIssueLink(String text) {
+        if (text == null) return null;
+        Matcher issueMatcher = ISSUE_URL_PATTERN.matcher(text);
+        return issueMatcher.find() ? issueMatcher.group(1) : null;
+    }
+
+    private static String tryBuildIssueLink(String text) {
+        if (text == null) return null;
+        Matcher idMatcher = ISSUE_ID_PATTERN.matcher(text);
+        if (idMatcher.find()) {
+            return RED_HAT_ISSUE_TRACKER_URL + idMatcher.group(1);
+        }
+        return null;
+    }
+}
@@ -2,15 +2,92 @@ package io.quarkus.qe.disabled.tests.inspector;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * Number of disabled tests of a single module by annotation type. Annotation types are interned once per JVM into small
+ * identifiers, which index an array of counters, so counting a test neither boxes nor allocates. Counters can be
+ * incremented concurrently. The map serialized to JSON is built only when the stats are written, sorted by annotation
+ * type, so the stats file does not depend on the order in which tests were counted.
+ */
 public class DisabledTestsModuleStats {
 
-    @JsonAnyGetter
-    private final Map<String, Integer> annotationCounts = new HashMap<>();
+    private static final Map<String, Integer> ANNOTATION_IDS = new ConcurrentHashMap<>();
+    private static final List<String> ANNOTATION_TYPES = new ArrayList<>();
+
+    private volatile AtomicReferenceArray<LongAdder> counters = new AtomicReferenceArray<>(16);
 
     public void incrementAnnotation(String annotation) {
-        annotationCounts.put(annotation, annotationCounts.getOrDefault(annotation, 0) + 1);
+        counter(annotationId(annotation)).increment();
+    }
+
+    /**
+     * @return counts sorted by annotation type
+     */
+    @JsonAnyGetter
+    public Map<String, Integer> annotationCounts() {
+        Map<String, Integer> annotationCounts = new TreeMap<>();
+        AtomicReferenceArray<LongAdder> currentCounters = counters;
+        for (int annotationId = 0; annotationId < currentCounters.length(); annotationId++) {
+            LongAdder counter = currentCounters.get(annotationId);
+            if (counter != null) {
+                annotationCounts.put(annotationType(annotationId), counter.intValue());
+            }
+        }
+        return annotationCounts;
+    }
+
+    private LongAdder counter(int annotationId) {
+        AtomicReferenceArray<LongAdder> currentCounters = counters;
+        if (annotationId < currentCounters.length()) {
+            LongAdder counter = currentCounters.get(annotationId);
+            if (counter != null) {
+                return counter;
+            }
+        }
+        return addCounter(annotationId);
+    }
+
+    private synchronized LongAdder addCounter(int annotationId) {
+        AtomicReferenceArray<LongAdder> currentCounters = counters;
+        if (annotationId >= currentCounters.length()) {
+            AtomicReferenceArray<LongAdder> grownCounters = new AtomicReferenceArray<>(
+                    Math.max(annotationId + 1, currentCounters.length() * 2));
+            for (int i = 0; i < currentCounters.length(); i++) {
+                grownCounters.set(i, currentCounters.get(i));
+            }
+            counters = currentCounters = grownCounters;
+        }
+        LongAdder counter = currentCounters.get(annotationId);
+        if (counter == null) {
+            counter = new LongAdder();
+            currentCounters.set(annotationId, counter);
+        }
+        return counter;
+    }
+
+    private static int annotationId(String annotationType) {
+        Integer annotationId = ANNOTATION_IDS.get(annotationType);
+        if (annotationId != null) {
+            return annotationId;
+        }
+        return ANNOTATION_IDS.computeIfAbsent(annotationType, type -> {
+            synchronized (ANNOTATION_TYPES) {
+                ANNOTATION_TYPES.add(type);
+                return ANNOTATION_TYPES.size() - 1;
+            }
+        });
+    }
+
+    private static String annotationType(int annotationId) {
+        synchronized (ANNOTATION_TYPES) {
+            return ANNOTATION_TYPES.get(annotationId);
+        }
     }
 }
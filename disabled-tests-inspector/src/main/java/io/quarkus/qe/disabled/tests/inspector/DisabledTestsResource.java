@@ -0,0 +1,183 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.CacheControl;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import org.jboss.logging.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * REST API of the server mode. Every query is answered from the in-memory results of the latest analysis.
+ * Responses carry the version of the results as ETag, so clients polling the API get {@code 304 Not Modified}
+ * until the next analysis finishes.
+ */
+@Path("/")
+@Produces(MediaType.APPLICATION_JSON)
+public class DisabledTestsResource {
+
+    private static final Logger LOG = Logger.getLogger(DisabledTestsResource.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final CacheControl REVALIDATE = revalidate();
+    private static final String SIGNATURE_PREFIX = "sha256=";
+
+    @Inject
+    InspectorServer server;
+
+    @Context
+    Request request;
+
+    @GET
+    @Path("branches")
+    public Response branches() {
+        return query(analysis -> analysis.branchIndexes().keySet());
+    }
+
+    /**
+     * @param module module of the tests, e.g. {@code http/rest-client}
+     * @param annotationType simple name of the annotation, e.g. {@code DisabledOnNative}
+     * @param issueClosed true for tests whose linked issue is closed, false for the others
+     */
+    @GET
+    @Path("branches/{branch}/disabled-tests")
+    public Response disabledTests(@PathParam("branch") String branch, @QueryParam("module") String module,
+                                  @QueryParam("annotation_type") String annotationType,
+                                  @QueryParam("issue_closed") Boolean issueClosed) {
+        return query(analysis -> {
+            DisabledTestIndex index = analysis.branchIndexes().get(branch);
+            return index == null ? null : index.find(module, annotationType, issueClosed);
+        });
+    }
+
+    @GET
+    @Path("branches/{branch}/stats")
+    public Response stats(@PathParam("branch") String branch, @QueryParam("module") String module) {
+        return query(analysis -> {
+            Map<String, Map<String, Integer>> branchStats = analysis.branchStats().get(branch);
+            if (branchStats == null || module == null) {
+                return branchStats;
+            }
+            Map<String, Map<String, Integer>> moduleStats = new TreeMap<>();
+            if (branchStats.containsKey(module)) {
+                moduleStats.put(module, branchStats.get(module));
+            }
+            return moduleStats;
+        });
+    }
+
+    @GET
+    @Path("status")
+    public InspectorServer.Status status() {
+        return server.status();
+    }
+
+    @POST
+    @Path("refresh")
+    public Response refresh() {
+        server.requestRefresh();
+        return Response.accepted(server.status()).build();
+    }
+
+    /**
+     * Receives GitHub webhook deliveries, a push to one of the analyzed branches queues a refresh.
+     */
+    @POST
+    @Path("webhook")
+    @Consumes(MediaType.WILDCARD)
+    public Response webhook(@HeaderParam("X-GitHub-Event") String event,
+                            @HeaderParam("X-Hub-Signature-256") String signature, byte[] payload) throws IOException {
+        if (!isValidSignature(signature, payload)) {
+            LOG.warn("Rejected webhook delivery with invalid signature");
+            return Response.status(Response.Status.UNAUTHORIZED).build();
+        }
+        if (!"push".equals(event)) {
+            return Response.noContent().build();
+        }
+        JsonNode ref = MAPPER.readTree(payload).path("ref");
+        String branch = ref.asText().replaceFirst("^refs/heads/", "");
+        if (!server.branches().contains(branch)) {
+            return Response.noContent().build();
+        }
+        LOG.info("Push to branch " + branch + " received, refreshing disabled tests");
+        server.requestRefresh();
+        return Response.accepted(server.status()).build();
+    }
+
+    private Response query(Function<RepositoryAnalysis, Object> query) {
+        InspectorServer.Snapshot snapshot = server.snapshot();
+        if (snapshot == null) {
+            return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", 60)
+                    .entity(server.status())
+                    .build();
+        }
+        EntityTag entityTag = new EntityTag(Long.toString(snapshot.version()));
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(entityTag);
+        if (notModified != null) {
+            return notModified.cacheControl(REVALIDATE).build();
+        }
+        Object result = query.apply(snapshot.analysis());
+        if (result == null) {
+            return Response.status(Response.Status.NOT_FOUND).build();
+        }
+        return Response.ok(result)
+                .tag(entityTag)
+                .lastModified(Date.from(snapshot.refreshedAt()))
+                .cacheControl(REVALIDATE)
+                .build();
+    }
+
+    private boolean isValidSignature(String signature, byte[] payload) {
+        String secret = server.webhookSecret();
+        if (secret == null) {
+            return true;
+        }
+        if (signature == null || !signature.startsWith(SIGNATURE_PREFIX)) {
+            return false;
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] expected = mac.doFinal(payload);
+            byte[] actual = HexFormat.of().parseHex(signature.substring(SIGNATURE_PREFIX.length()));
+            // constant time comparison, so the signature cannot be guessed byte by byte
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            return false;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+
+    private static CacheControl revalidate() {
+        CacheControl cacheControl = new CacheControl();
+        cacheControl.setNoCache(true);
+        // enabled by default, the header is 'no-cache' only
+        cacheControl.setNoTransform(false);
+        return cacheControl;
+    }
+}
@@ -0,0 +1,43 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Number of disabled tests by module and annotation type, safe to be counted into from several threads.
+ * Every module name is kept once, however many of its tests are counted.
+ */
+public class DisabledTestsStats {
+
+    private final Map<String, DisabledTestsModuleStats> modules = new ConcurrentHashMap<>();
+
+    public void increment(String moduleName, String annotationType) {
+        module(moduleName).incrementAnnotation(annotationType);
+    }
+
+    /**
+     * @return stats of the module, created on first use
+     */
+    public DisabledTestsModuleStats module(String moduleName) {
+        DisabledTestsModuleStats moduleStats = modules.get(moduleName);
+        return moduleStats != null ? moduleStats
+                : modules.computeIfAbsent(moduleName, name -> new DisabledTestsModuleStats());
+    }
+
+    /**
+     * @return stats sorted by module name, serialized in the format of the stats file
+     */
+    public Map<String, DisabledTestsModuleStats> toModuleStats() {
+        return new TreeMap<>(modules);
+    }
+
+    /**
+     * @return counts by module and annotation type, both sorted by name
+     */
+    public Map<String, Map<String, Integer>> toSortedMap() {
+        Map<String, Map<String, Integer>> sortedStats = new TreeMap<>();
+        modules.forEach((moduleName, moduleStats) -> sortedStats.put(moduleName, moduleStats.annotationCounts()));
+        return sortedStats;
+    }
+}
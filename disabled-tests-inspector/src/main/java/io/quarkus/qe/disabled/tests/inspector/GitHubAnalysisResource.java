@@ -1,10 +1,12 @@
 package io.quarkus.qe.disabled.tests.inspector;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.inject.Inject;
 
 import java.io.IOException;
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import org.jboss.logging.Logger;
 
@@ -12,23 +14,54 @@ import org.jboss.logging.Logger;
 public class GitHubAnalysisResource {
 
     private static final Logger LOG = Logger.getLogger(GitHubAnalysisResource.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
 
     @Inject
     DisabledTestAnalyserService analyserService;
 
+    @Inject
+    InspectorServer server;
+
     public void startAnalysis() {
-        String repoOwner = System.getProperty("repoOwner", "org");
-        String repoName = System.getProperty("repoName", "repo-name");
-        String branches = System.getProperty("branches", "main");
-        String baseOutputFileName = System.getProperty("baseOutputFileName", "disabled-tests-report.json");
-        boolean liteMode = Boolean.parseBoolean(System.getProperty("liteReport", "false"));
+        AnalysisOptions options = AnalysisOptions.fromSystemProperties();
 
         try {
-            LOG.info("Starting analysis for " + repoOwner + "/" + repoName + " on branches: " + branches);
-            analyserService.analyzeRepository(repoOwner, repoName, Arrays.asList(branches.split(",")), baseOutputFileName, liteMode);
+            LOG.info("Starting analysis for " + options.repoOwner() + "/" + options.repoName() + " on branches: " + String.join(",", options.branches()));
+            analyserService.analyzeRepository(options);
             LOG.info("Analysis finished, see reports in created JSON files.");
         } catch (IOException e) {
             LOG.error("Error creating YAML file: ", e);
         }
     }
+
+    public void startBatchAnalysis() {
+        AnalysisOptions options = AnalysisOptions.fromSystemProperties();
+
+        try {
+            BatchOptions batch = BatchOptions.fromSystemProperties(options);
+            analyserService.analyzeRepositories(options, batch);
+            LOG.info("Batch analysis finished, see reports listed in " + batch.indexFile());
+        } catch (IOException e) {
+            LOG.error("Error analyzing repositories: ", e);
+        }
+    }
+
+    public void serve() {
+        AnalysisOptions options = AnalysisOptions.fromSystemProperties();
+        LOG.info("Serving disabled tests of " + options.repoOwner() + "/" + options.repoName() + " on branches: "
+                + String.join(",", options.branches()));
+        server.start(options, ServerOptions.fromSystemProperties());
+    }
+
+    public void queryTrend() {
+        TrendQuery query = TrendQuery.fromSystemProperties();
+
+        try {
+            Map<String, List<TrendPoint>> trends = new TrendStore(query.trendStoreFile()).query(query);
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(query.outputFile().toFile(), trends);
+            LOG.info("Trends of " + trends.size() + " branches written to " + query.outputFile());
+        } catch (IOException e) {
+            LOG.error("Error querying trend store: ", e);
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.kohsuke.github.GHRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Downloads a whole branch as one zipball and streams it entry by entry, so a branch costs
+ * a single request instead of one content request per test file. The archive is inflated on the fly
+ * and never written to disk.
+ */
+public class GitHubArchiveSource extends GitHubTreeSource {
+
+    public GitHubArchiveSource(GHRepository repo) {
+        this(repo, TreeTraversal.RECURSIVE);
+    }
+
+    public GitHubArchiveSource(GHRepository repo, TreeTraversal treeTraversal) {
+        super(repo, treeTraversal);
+    }
+
+    @Override
+    public void readTestFiles(String branch, List<TestFile> files, TestFileConsumer consumer) throws IOException {
+        Map<String, Integer> fileIndexes = new HashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            fileIndexes.put(files.get(i).path(), i);
+        }
+        repo.readZip(archive -> {
+            read(archive, branch, files, fileIndexes, consumer);
+            return null;
+        }, branch);
+    }
+
+    private void read(InputStream archive, String branch, List<TestFile> files, Map<String, Integer> fileIndexes,
+                      TestFileConsumer consumer) throws IOException {
+        ZipInputStream zip = new ZipInputStream(archive, StandardCharsets.UTF_8);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (entry.isDirectory()) {
+                continue;
+            }
+            // GitHub archives put everything into a single '<owner>-<repo>-<sha>/' root directory
+            String entryName = entry.getName();
+            String filePath = entryName.substring(entryName.indexOf('/') + 1);
+            Integer index = fileIndexes.get(filePath);
+            if (index != null) {
+                String content = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                consumer.accept(index, new TestClassData(fileUrl(branch, files.get(index)), filePath,
+                        TestFileSource.normalizeLineEndings(content)));
+            }
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.jboss.logging.Logger;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
+import org.kohsuke.github.extras.HttpClientGitHubConnector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * GitHub access shared by everything that talks to GitHub during a run, both through {@link GitHub} handles
+ * and with GraphQL queries. Remaining quota is tracked per rate limit resource from response headers:
+ * once the quota runs low, the rest of it is spread evenly until the reset, and when it is used up, requests
+ * wait for the reset instead of failing. Rate limited responses are retried after the time GitHub asks for,
+ * or with an exponential backoff. GET requests of repositories and trees are sent with the ETag of a cached response,
+ * so unchanged resources are answered with '304 Not Modified', which does not count against the quota. Other responses,
+ * e.g. file contents, are not cached, as the parse cache and the issue state cache already avoid requesting them again.
+ */
+public class GitHubClient implements GitHubConnector {
+
+    private static final Logger LOG = Logger.getLogger(GitHubClient.class);
+    // share of the quota below which requests are paced
+    private static final double PACING_THRESHOLD = 0.1;
+    private static final int MAX_RETRIES = 5;
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(1);
+    // secondary rate limits may be reported as a plain 403, GitHub asks to wait at least a minute then
+    private static final Duration FORBIDDEN_BACKOFF = Duration.ofMinutes(1);
+    private static final Set<String> CACHED_ENDPOINTS = Set.of("repos", "repos/git/trees");
+    private static final Path CREDENTIALS_FILE = Path.of(System.getProperty("user.home"), ".github");
+    private static final String CORE_RESOURCE = "core";
+    private static final String GRAPHQL_RESOURCE = "graphql";
+
+    private final String endpoint;
+    private final GitHubConnector delegate;
+    private final GitHubResponseCache responseCache;
+    private final Sleeper sleeper;
+    private final Clock clock;
+    private final Map<String, Quota> quotas = new ConcurrentHashMap<>();
+    private final AtomicLong sentRequests = new AtomicLong();
+    private final AtomicLong cachedResponses = new AtomicLong();
+    private final AtomicLong throttledRequests = new AtomicLong();
+    private final AtomicLong retriedRequests = new AtomicLong();
+    private HttpClient httpClient;
+
+    public GitHubClient(GitHubResponseCache responseCache) {
+        this(null, responseCache, duration -> Thread.sleep(duration.toMillis()));
+    }
+
+    /**
+     * @param endpoint API URL, or null to use the endpoint and credentials from the environment variables or '~/.github'
+     */
+    GitHubClient(String endpoint, GitHubResponseCache responseCache, Sleeper sleeper) {
+        this.endpoint = endpoint;
+        this.delegate = new HttpClientGitHubConnector();
+        this.responseCache = responseCache;
+        this.sleeper = sleeper;
+        this.clock = Clock.systemUTC();
+    }
+
+    /**
+     * @return new GitHub handle whose requests go through this client
+     */
+    public GitHub connect() throws IOException {
+        GitHubBuilder builder = endpoint == null ? builderFromCredentials() : new GitHubBuilder().withEndpoint(endpoint);
+        return builder.withConnector(this).build();
+    }
+
+    /**
+     * @return OAuth token from the 'GITHUB_OAUTH' or 'GITHUB_TOKEN' environment variable or from the 'oauth' property
+     *         of '~/.github', or null if there is none
+     */
+    static String findToken() {
+        for (String variable : List.of("GITHUB_OAUTH", "GITHUB_TOKEN")) {
+            String token = System.getenv(variable);
+            if (token != null && !token.isBlank()) {
+                return token;
+            }
+        }
+        if (!Files.isRegularFile(CREDENTIALS_FILE)) {
+            return null;
+        }
+        try (Reader reader = Files.newBufferedReader(CREDENTIALS_FILE)) {
+            Properties properties = new Properties();
+            properties.load(reader);
+            return properties.getProperty("oauth");
+        } catch (IOException e) {
+            LOG.warn("Failed to read GitHub credentials from " + CREDENTIALS_FILE, e);
+            return null;
+        }
+    }
+
+    // the environment takes precedence over '~/.github', the token is looked up the same way as for GraphQL queries
+    private static GitHubBuilder builderFromCredentials() throws IOException {
+        boolean environmentCredentials = List.of("GITHUB_OAUTH", "GITHUB_TOKEN", "GITHUB_LOGIN", "GITHUB_JWT").stream()
+                .anyMatch(variable -> System.getenv(variable) != null);
+        GitHubBuilder builder = environmentCredentials || !Files.isRegularFile(CREDENTIALS_FILE)
+                ? GitHubBuilder.fromEnvironment() : GitHubBuilder.fromPropertyFile(CREDENTIALS_FILE.toString());
+        String token = findToken();
+        return token == null ? builder : builder.withOAuthToken(token);
+    }
+
+    @Override
+    public GitHubConnectorResponse send(GitHubConnectorRequest request) throws IOException {
+        String cacheKey = "GET".equals(request.method()) && !request.hasBody()
+                && CACHED_ENDPOINTS.contains(InspectorMetrics.endpointOf(request.url()))
+                ? request.url() + " " + request.header("Accept") : null;
+        GitHubResponseCache.Entry cached = cacheKey == null ? null : responseCache.get(cacheKey);
+        GitHubConnectorRequest sentRequest = cached == null ? request : new ConditionalRequest(request, cached.etag());
+
+        GitHubConnectorResponse response;
+        try {
+            response = execute(request.url(), resourceOf(request.url()), () -> delegate.send(sentRequest),
+                    GitHubConnectorResponse::statusCode, GitHubConnectorResponse::header, !request.hasBody(),
+                    GitHubConnectorResponse::close);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for GitHub rate limit");
+        }
+
+        if (cacheKey != null) {
+            InspectorMetrics.responseCache(cached != null && response.statusCode() == 304);
+        }
+        if (cached != null && response.statusCode() == 304) {
+            cachedResponses.incrementAndGet();
+            Map<String, List<String>> headers = cacheableHeaders(cached.headers());
+            headers.putAll(cacheableHeaders(response.allHeaders()));
+            response.close();
+            return new BufferedResponse(request, 200, headers, cached.body());
+        }
+        String contentType = response.header("Content-Type");
+        if (cacheKey == null || response.statusCode() != 200 || response.header("ETag") == null
+                || contentType == null || !contentType.contains("json")) {
+            // archives and other large downloads are streamed, not cached
+            return response;
+        }
+        byte[] body;
+        try (response) {
+            body = response.bodyStream().readAllBytes();
+        }
+        Map<String, List<String>> headers = cacheableHeaders(response.allHeaders());
+        responseCache.put(new GitHubResponseCache.Entry(cacheKey, response.header("ETag"), headers, body));
+        return new BufferedResponse(request, 200, headers, body);
+    }
+
+    /**
+     * Sends a request to the GraphQL API.
+     */
+    public HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return execute(request.uri().toURL(), GRAPHQL_RESOURCE,
+                () -> httpClient().send(request, HttpResponse.BodyHandlers.ofByteArray()),
+                HttpResponse::statusCode, (response, name) -> response.headers().firstValue(name).orElse(null), true,
+                response -> { });
+    }
+
+    public Metrics metrics() {
+        return new Metrics(sentRequests.get(), cachedResponses.get(), throttledRequests.get(), retriedRequests.get());
+    }
+
+    private <T> T execute(URL url, String resource, Call<T> call, ToIntFunction<T> statusCode,
+                          BiFunction<T, String, String> header, boolean retryable, Discard<T> discard)
+            throws IOException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            Duration wait = quotas.computeIfAbsent(resource, r -> new Quota()).reserve(clock.instant());
+            if (!wait.isZero()) {
+                throttledRequests.incrementAndGet();
+                LOG.debug("Waiting " + wait + " to stay within the GitHub '" + resource + "' rate limit");
+                InspectorMetrics.rateLimitWait(resource, "throttle", wait);
+                sleeper.sleep(wait);
+            }
+
+            long start = System.nanoTime();
+            T response = call.call();
+            sentRequests.incrementAndGet();
+            InspectorMetrics.gitHubRequest(url, statusCode.applyAsInt(response), Duration.ofNanos(System.nanoTime() - start));
+            String responseResource = header.apply(response, "X-RateLimit-Resource");
+            quotas.computeIfAbsent(responseResource == null ? resource : responseResource, r -> new Quota())
+                    .update(header.apply(response, "X-RateLimit-Limit"), header.apply(response, "X-RateLimit-Remaining"),
+                            header.apply(response, "X-RateLimit-Reset"));
+
+            Duration retryDelay = retryable && attempt < MAX_RETRIES
+                    ? retryDelay(statusCode.applyAsInt(response), header, response, attempt) : null;
+            if (retryDelay == null) {
+                return response;
+            }
+            retriedRequests.incrementAndGet();
+            LOG.warn("GitHub rate limit exceeded, retrying in " + retryDelay);
+            InspectorMetrics.rateLimitWait(resource, "retry", retryDelay);
+            discard.discard(response);
+            sleeper.sleep(retryDelay);
+        }
+    }
+
+    /**
+     * @return how long to wait before the request is sent again, or null if the response is not a rate limit error
+     */
+    private <T> Duration retryDelay(int statusCode, BiFunction<T, String, String> header, T response, int attempt) {
+        if (statusCode != 403 && statusCode != 429) {
+            return null;
+        }
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << attempt);
+        backoff = backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+        String retryAfter = header.apply(response, "Retry-After");
+        if (retryAfter != null) {
+            return parseRetryAfter(retryAfter.trim(), backoff);
+        }
+        String remaining = header.apply(response, "X-RateLimit-Remaining");
+        String reset = header.apply(response, "X-RateLimit-Reset");
+        if ("0".equals(remaining) && reset != null) {
+            Duration untilReset = Duration.between(clock.instant(), Instant.ofEpochSecond(Long.parseLong(reset)));
+            return untilReset.isNegative() ? Duration.ZERO : untilReset;
+        }
+        if (statusCode == 403) {
+            // GitHub sends rate limit headers with permission errors too, so only a 403 without any of them may be
+            // a secondary rate limit, it is retried once after a backoff long enough for the limit to pass
+            boolean rateLimitHeaders = remaining != null || reset != null
+                    || header.apply(response, "X-RateLimit-Limit") != null;
+            return attempt == 0 && !rateLimitHeaders ? FORBIDDEN_BACKOFF : null;
+        }
+        return backoff;
+    }
+
+    /**
+     * @param retryAfter delay in seconds or an HTTP date
+     */
+    private Duration parseRetryAfter(String retryAfter, Duration backoff) {
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter));
+        } catch (NumberFormatException e) {
+            try {
+                Duration untilDate = Duration.between(clock.instant(),
+                        ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+                return untilDate.isNegative() ? Duration.ZERO : untilDate;
+            } catch (DateTimeParseException dateException) {
+                LOG.debug("Unexpected 'Retry-After' header: " + retryAfter);
+                return backoff;
+            }
+        }
+    }
+
+    private synchronized HttpClient httpClient() {
+        if (httpClient == null) {
+            httpClient = HttpClient.newHttpClient();
+        }
+        return httpClient;
+    }
+
+    private static String resourceOf(URL url) {
+        return url.getPath().endsWith("/graphql") ? GRAPHQL_RESOURCE : CORE_RESOURCE;
+    }
+
+    // the body is stored decoded, and its length differs from the original one
+    private static Map<String, List<String>> cacheableHeaders(Map<String, List<String>> headers) {
+        Map<String, List<String>> cacheableHeaders = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.forEach((name, values) -> {
+            if (name != null && !name.equalsIgnoreCase("Content-Encoding") && !name.equalsIgnoreCase("Content-Length")) {
+                cacheableHeaders.put(name, values);
+            }
+        });
+        return cacheableHeaders;
+    }
+
+    /**
+     * Request and cache statistics of a client.
+     *
+     * @param sentRequests requests sent to GitHub, including conditional ones and retries
+     * @param cachedResponses conditional requests answered with '304 Not Modified' and served from the cache
+     * @param throttledRequests requests delayed to stay within the rate limit
+     * @param retriedRequests requests sent again after hitting a rate limit
+     */
+    public record Metrics(long sentRequests, long cachedResponses, long throttledRequests, long retriedRequests) {
+
+        @Override
+        public String toString() {
+            return sentRequests + " sent, " + cachedResponses + " served from cache, "
+                    + throttledRequests + " throttled, " + retriedRequests + " retried";
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws IOException, InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface Discard<T> {
+        void discard(T response) throws IOException;
+    }
+
+    /**
+     * Quota of a single rate limit resource as last reported by GitHub, minus requests sent since.
+     */
+    private static final class Quota {
+
+        private int limit;
+        private int remaining;
+        private Instant reset;
+        private Instant nextSlot = Instant.MIN;
+
+        /**
+         * Reserves a request.
+         *
+         * @return how long to wait before sending it
+         */
+        synchronized Duration reserve(Instant now) {
+            Instant start = nextSlot.isAfter(now) ? nextSlot : now;
+            if (reset != null && !start.isBefore(reset)) {
+                // a new window has started, the next response tells how much of it is left
+                reset = null;
+            }
+            if (reset != null) {
+                if (remaining <= 0) {
+                    start = reset;
+                    reset = null;
+                } else if (remaining < limit * PACING_THRESHOLD) {
+                    // spreads the rest of the quota evenly over the rest of the window
+                    nextSlot = start.plus(Duration.between(start, reset).dividedBy(remaining));
+                }
+                remaining--;
+            }
+            return Duration.between(now, start);
+        }
+
+        synchronized void update(String limit, String remaining, String reset) {
+            if (limit == null || remaining == null || reset == null) {
+                return;
+            }
+            this.limit = Integer.parseInt(limit.trim());
+            this.remaining = Integer.parseInt(remaining.trim());
+            this.reset = Instant.ofEpochSecond(Long.parseLong(reset.trim()));
+        }
+    }
+
+    /**
+     * Request sent with the ETag of a cached response.
+     */
+    private record ConditionalRequest(GitHubConnectorRequest request, String etag) implements GitHubConnectorRequest {
+
+        @Override
+        public String method() {
+            return request.method();
+        }
+
+        @Override
+        public Map<String, List<String>> allHeaders() {
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            headers.putAll(request.allHeaders());
+            headers.put("If-None-Match", new ArrayList<>(List.of(etag)));
+            return headers;
+        }
+
+        @Override
+        public String header(String name) {
+            return "If-None-Match".equalsIgnoreCase(name) ? etag : request.header(name);
+        }
+
+        @Override
+        public String contentType() {
+            return request.contentType();
+        }
+
+        @Override
+        public InputStream body() {
+            return request.body();
+        }
+
+        @Override
+        public URL url() {
+            return request.url();
+        }
+
+        @Override
+        public boolean hasBody() {
+            return request.hasBody();
+        }
+    }
+
+    private static final class BufferedResponse extends GitHubConnectorResponse.ByteArrayResponse {
+
+        private final byte[] body;
+
+        private BufferedResponse(GitHubConnectorRequest request, int statusCode, Map<String, List<String>> headers,
+                                 byte[] body) {
+            super(request, statusCode, headers);
+            this.body = body;
+        }
+
+        @Override
+        protected InputStream rawBodyStream() {
+            return new ByteArrayInputStream(body);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.kohsuke.github.GHContent;
+import org.kohsuke.github.GHRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Fetches every test file with its own GitHub content API request, keeping a bounded number of requests in flight.
+ */
+public class GitHubContentSource extends GitHubTreeSource {
+
+    private final ConcurrentFileFetcher fetcher;
+    private final boolean sharedFetcher;
+
+    public GitHubContentSource(GHRepository repo, int fetchConcurrency) {
+        this(repo, fetchConcurrency, TreeTraversal.RECURSIVE);
+    }
+
+    public GitHubContentSource(GHRepository repo, int fetchConcurrency, TreeTraversal treeTraversal) {
+        this(repo, new ConcurrentFileFetcher(fetchConcurrency), false, treeTraversal);
+    }
+
+    /**
+     * @param fetcher fetcher shared with other sources, so their requests in flight are limited together,
+     *                it is not closed with this source
+     */
+    public GitHubContentSource(GHRepository repo, ConcurrentFileFetcher fetcher, TreeTraversal treeTraversal) {
+        this(repo, fetcher, true, treeTraversal);
+    }
+
+    private GitHubContentSource(GHRepository repo, ConcurrentFileFetcher fetcher, boolean sharedFetcher,
+                                TreeTraversal treeTraversal) {
+        super(repo, treeTraversal);
+        this.fetcher = fetcher;
+        this.sharedFetcher = sharedFetcher;
+    }
+
+    @Override
+    public void readTestFiles(String branch, List<TestFile> files, TestFileConsumer consumer) throws IOException {
+        fetcher.fetch(files, file -> fetchFile(branch, file.path()), consumer);
+    }
+
+    @Override
+    public void close() {
+        if (!sharedFetcher) {
+            fetcher.close();
+        }
+    }
+
+    private TestClassData fetchFile(String branch, String filePath) throws IOException {
+        GHContent testClassContent = repo.getFileContent(filePath, branch);
+        try (InputStream content = testClassContent.read()) {
+            return new TestClassData(testClassContent.getHtmlUrl(), filePath,
+                    TestFileSource.normalizeLineEndings(new String(content.readAllBytes(), StandardCharsets.UTF_8)));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of GitHub API responses with their ETags, used to turn repeated requests into conditional requests.
+ * With a directory, every response is stored in its own file as soon as it is received, so the cache survives
+ * between runs and an interrupted run keeps everything cached so far. Responses are then read from their files
+ * when needed instead of being kept in memory, and files not used for {@link #DEFAULT_MAX_AGE} are deleted
+ * when the cache is opened.
+ */
+public class GitHubResponseCache {
+
+    private static final Logger LOG = Logger.getLogger(GitHubResponseCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    static final Duration DEFAULT_MAX_AGE = Duration.ofDays(30);
+
+    private final Path directory;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private GitHubResponseCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return cache which lives only as long as the current run
+     */
+    public static GitHubResponseCache inMemory() {
+        return new GitHubResponseCache(null);
+    }
+
+    public static GitHubResponseCache open(Path directory) throws IOException {
+        return open(directory, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * @param maxAge time after which responses not used since are deleted
+     */
+    static GitHubResponseCache open(Path directory, Duration maxAge) throws IOException {
+        Files.createDirectories(directory);
+        FileTime oldest = FileTime.from(Instant.now().minus(maxAge));
+        int evicted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).compareTo(oldest) < 0) {
+                    Files.deleteIfExists(file);
+                    evicted++;
+                }
+            }
+        }
+        if (evicted > 0) {
+            LOG.debug("Deleted " + evicted + " cached GitHub responses not used for " + maxAge);
+        }
+        return new GitHubResponseCache(directory);
+    }
+
+    /**
+     * @return cached response for given request key, or null if there is none
+     */
+    public Entry get(String key) {
+        if (directory == null) {
+            return entries.get(key);
+        }
+        Path file = directory.resolve(fileName(key));
+        if (!Files.exists(file)) {
+            return null;
+        }
+        Entry entry;
+        try {
+            entry = MAPPER.readValue(file.toFile(), Entry.class);
+            // used responses are kept, only the ones no longer requested expire
+            Files.setLastModifiedTime(file, FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            LOG.warn("Ignoring unreadable cached response " + file, e);
+            return null;
+        }
+        // file names are hashes, so the key is checked to rule out collisions
+        return key.equals(entry.key()) ? entry : null;
+    }
+
+    public void put(Entry entry) {
+        if (directory == null) {
+            entries.put(entry.key(), entry);
+            return;
+        }
+        Path file = directory.resolve(fileName(entry.key()));
+        try {
+            Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            MAPPER.writeValue(temporaryFile.toFile(), entry);
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // the request is just sent again without an ETag next time
+            LOG.warn("Failed to store cached response " + file, e);
+        }
+    }
+
+    private static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + ".json";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record Entry(@JsonProperty("key") String key,
+                        @JsonProperty("etag") String etag,
+                        @JsonProperty("headers") Map<String, List<String>> headers,
+                        @JsonProperty("body") byte[] body) {
+    }
+}
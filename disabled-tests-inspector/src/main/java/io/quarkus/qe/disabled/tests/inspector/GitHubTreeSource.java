@@ -0,0 +1,88 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.jboss.logging.Logger;
+import org.kohsuke.github.GHRepository;
+
+import org.kohsuke.github.GHTreeEntry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Base for sources that list test files from GitHub trees, either with a single recursive tree request per branch,
+ * or by walking the tree one directory at a time. The walk skips whole subtrees which cannot contain test files,
+ * so on large repositories it processes a fraction of the tree. Trees are addressed by their SHA, so a directory
+ * identical on several branches is requested only once.
+ */
+public abstract class GitHubTreeSource implements TestFileSource {
+
+    private static final Logger LOG = Logger.getLogger(GitHubTreeSource.class);
+
+    protected final GHRepository repo;
+    private final TreeTraversal treeTraversal;
+    private final Map<String, List<GHTreeEntry>> subtrees = new ConcurrentHashMap<>();
+
+    protected GitHubTreeSource(GHRepository repo, TreeTraversal treeTraversal) {
+        this.repo = repo;
+        this.treeTraversal = treeTraversal;
+    }
+
+    @Override
+    public List<TestFile> listTestFiles(String branch, TestFileFilter filter) throws IOException {
+        if (treeTraversal == TreeTraversal.PRUNED) {
+            LOG.info("Walking tree for branch: " + branch);
+            List<TestFile> testFiles = new ArrayList<>();
+            AtomicInteger walkedDirectories = new AtomicInteger();
+            walk("", repo.getTree(branch).getTree(), filter, testFiles, walkedDirectories);
+            LOG.info("Walked " + walkedDirectories + " directories of branch: " + branch);
+            return testFiles;
+        }
+        LOG.info("Fetching tree for branch: " + branch);
+        return repo.getTreeRecursive(branch, 1).getTree().stream()
+                .filter(entry -> "blob".equals(entry.getType()))
+                .filter(entry -> filter.accepts(entry.getPath()))
+                .map(entry -> new TestFile(entry.getPath(), entry.getSha()))
+                .toList();
+    }
+
+    /**
+     * Lists files depth-first, entries of a tree are sorted by name, so files come in the order of a recursive listing.
+     */
+    private void walk(String directory, List<GHTreeEntry> entries, TestFileFilter filter, List<TestFile> testFiles,
+                      AtomicInteger walkedDirectories) throws IOException {
+        walkedDirectories.incrementAndGet();
+        for (GHTreeEntry entry : entries) {
+            String path = directory.isEmpty() ? entry.getPath() : directory + "/" + entry.getPath();
+            if ("tree".equals(entry.getType())) {
+                if (!filter.prunes(path)) {
+                    walk(path, subtree(entry.getSha()), filter, testFiles, walkedDirectories);
+                }
+            } else if ("blob".equals(entry.getType()) && filter.accepts(path)) {
+                testFiles.add(new TestFile(path, entry.getSha()));
+            }
+        }
+    }
+
+    private List<GHTreeEntry> subtree(String sha) throws IOException {
+        List<GHTreeEntry> entries = subtrees.get(sha);
+        if (entries == null) {
+            // branches listed at the same time may both fetch a shared tree, which is cheaper than waiting for each other
+            entries = repo.getTree(sha).getTree();
+            subtrees.put(sha, entries);
+        }
+        return entries;
+    }
+
+    @Override
+    public String fileUrl(String branch, TestFile file) {
+        return repo.getHtmlUrl() + "/blob/" + branch + "/" + file.path();
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,124 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.net.URL;
+import java.time.Duration;
+
+/**
+ * Meters of the analysis, kept in one place so their names and tags stay consistent. They are registered
+ * in the global Micrometer registry, to which Quarkus adds its Prometheus registry, so classes created outside
+ * of CDI can record them too. Without any registry, e.g. in plain unit tests, nothing is recorded.
+ */
+final class InspectorMetrics {
+
+    private static final Counter FILES_READ = Counter.builder("inspector.files.read")
+            .description("Test files read from the source")
+            .register(Metrics.globalRegistry);
+    private static final DistributionSummary FILE_SIZE = DistributionSummary.builder("inspector.files.size")
+            .description("Size of read test files")
+            .baseUnit("bytes")
+            .register(Metrics.globalRegistry);
+
+    private InspectorMetrics() {
+    }
+
+    static void fileRead(String content) {
+        FILES_READ.increment();
+        FILE_SIZE.record(utf8Length(content));
+    }
+
+    static Timer parseTimer(ParserType parser) {
+        return Timer.builder("inspector.files.parse")
+                .description("Time spent parsing a single test file")
+                .tag("parser", parser.name().toLowerCase())
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * @param hit whether the parsed file was reused instead of being read and parsed
+     */
+    static void parseCache(boolean hit, int files) {
+        cacheCounter("parse", hit).increment(files);
+    }
+
+    static void issueCache(boolean hit) {
+        cacheCounter("issue", hit).increment();
+    }
+
+    /**
+     * @param hit whether a conditional request was answered with '304 Not Modified'
+     */
+    static void responseCache(boolean hit) {
+        cacheCounter("github_response", hit).increment();
+    }
+
+    static void gitHubRequest(URL url, int statusCode, Duration duration) {
+        Timer.builder("inspector.github.requests")
+                .description("Requests sent to GitHub, including conditional requests and retries")
+                .tag("endpoint", endpointOf(url))
+                .tag("status", Integer.toString(statusCode))
+                .register(Metrics.globalRegistry)
+                .record(duration);
+    }
+
+    /**
+     * @param reason 'throttle' for waits to stay within the quota, 'retry' for waits after a rate limited response
+     */
+    static void rateLimitWait(String resource, String reason, Duration duration) {
+        Timer.builder("inspector.github.rate.limit.wait")
+                .description("Time spent waiting for GitHub rate limits")
+                .tag("resource", resource)
+                .tag("reason", reason)
+                .register(Metrics.globalRegistry)
+                .record(duration);
+    }
+
+    private static Counter cacheCounter(String cache, boolean hit) {
+        return Counter.builder("inspector.cache.requests")
+                .description("Cache lookups by cache and result")
+                .tag("cache", cache)
+                .tag("result", hit ? "hit" : "miss")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * @return API endpoint without identifiers, e.g. 'repos/contents' for any file of any repository,
+     *         so the number of endpoint tags stays small
+     */
+    static String endpointOf(URL url) {
+        String[] segments = url.getPath().replaceFirst("^/+", "").split("/");
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].equals("repos")) {
+                // repos/{owner}/{repo}/{endpoint}, git endpoints are named by their second segment
+                if (i + 3 >= segments.length) {
+                    return "repos";
+                }
+                String endpoint = "repos/" + segments[i + 3];
+                return segments[i + 3].equals("git") && i + 4 < segments.length ? endpoint + "/" + segments[i + 4] : endpoint;
+            }
+        }
+        return segments.length == 0 || segments[segments.length - 1].isEmpty() ? "root" : segments[segments.length - 1];
+    }
+
+    private static int utf8Length(String content) {
+        int length = 0;
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
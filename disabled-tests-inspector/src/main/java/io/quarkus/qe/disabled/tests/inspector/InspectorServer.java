@@ -0,0 +1,138 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.annotation.PreDestroy;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the results of the latest analysis in memory for the REST API of the server mode. The repository is analyzed
+ * again in the background on a schedule or on request, one analysis at a time. Queries are answered from the last
+ * finished analysis in the meantime, which is replaced only once the next analysis succeeds.
+ */
+@ApplicationScoped
+public class InspectorServer {
+
+    private static final Logger LOG = Logger.getLogger(InspectorServer.class);
+
+    @Inject
+    DisabledTestAnalyserService analyserService;
+
+    // a single thread, so analyses never overlap and a requested refresh waits for the running one
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "inspector-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean refreshQueued = new AtomicBoolean();
+    private Analysis analysis;
+    private List<String> branches = List.of();
+    private String webhookSecret;
+    private volatile Snapshot snapshot;
+    private volatile boolean refreshing;
+    private volatile String lastFailure;
+
+    public void start(AnalysisOptions analysisOptions, ServerOptions serverOptions) {
+        start(() -> analyserService.analyzeRepository(analysisOptions, true), analysisOptions.branches(), serverOptions);
+    }
+
+    synchronized void start(Analysis analysis, List<String> branches, ServerOptions serverOptions) {
+        if (this.analysis != null) {
+            throw new IllegalStateException("Server is already started");
+        }
+        this.analysis = analysis;
+        this.branches = List.copyOf(branches);
+        this.webhookSecret = serverOptions.webhookSecret();
+        requestRefresh();
+        Duration refreshInterval = serverOptions.refreshInterval();
+        if (!refreshInterval.isZero()) {
+            refreshExecutor.scheduleWithFixedDelay(this::requestRefresh, refreshInterval.toMillis(),
+                    refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+            LOG.info("Disabled tests are refreshed every " + refreshInterval);
+        }
+    }
+
+    /**
+     * Queues an analysis unless one is queued already, a running analysis does not count as queued.
+     *
+     * @return false if the server has not been started or an analysis is already queued
+     */
+    public boolean requestRefresh() {
+        if (analysis == null || !refreshQueued.compareAndSet(false, true)) {
+            return false;
+        }
+        refreshExecutor.execute(this::refresh);
+        return true;
+    }
+
+    /**
+     * @return results of the latest finished analysis, or null if no analysis has finished yet
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public Status status() {
+        Snapshot currentSnapshot = snapshot;
+        return new Status(currentSnapshot == null ? null : currentSnapshot.refreshedAt(), refreshing,
+                refreshQueued.get(), lastFailure);
+    }
+
+    public List<String> branches() {
+        return branches;
+    }
+
+    public String webhookSecret() {
+        return webhookSecret;
+    }
+
+    @PreDestroy
+    void stop() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refresh() {
+        refreshQueued.set(false);
+        refreshing = true;
+        long start = System.nanoTime();
+        try {
+            RepositoryAnalysis result = analysis.run();
+            Snapshot previousSnapshot = snapshot;
+            snapshot = new Snapshot(previousSnapshot == null ? 1 : previousSnapshot.version() + 1, Instant.now(), result);
+            lastFailure = null;
+            LOG.info("Disabled tests refreshed in " + Duration.ofNanos(System.nanoTime() - start).toSeconds() + "s");
+        } catch (IOException | RuntimeException e) {
+            lastFailure = e.toString();
+            LOG.error("Failed to refresh disabled tests, previous results are kept", e);
+        } finally {
+            refreshing = false;
+        }
+    }
+
+    @FunctionalInterface
+    interface Analysis {
+        RepositoryAnalysis run() throws IOException;
+    }
+
+    /**
+     * @param version increased with every analysis, identifies the results in HTTP caches
+     */
+    public record Snapshot(long version, Instant refreshedAt, RepositoryAnalysis analysis) {
+    }
+
+    public record Status(@JsonProperty("refreshed_at") Instant refreshedAt,
+                         @JsonProperty("refreshing") boolean refreshing,
+                         @JsonProperty("refresh_queued") boolean refreshQueued,
+                         @JsonProperty("last_failure") String lastFailure) {
+    }
+}
@@ -0,0 +1,81 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File-backed cache of GitHub issue states kept between runs. Closed issues rarely reopen, so they can be trusted
+ * for much longer than open issues, which is why each state has its own time to live.
+ */
+public class IssueStateCache {
+
+    private static final Logger LOG = Logger.getLogger(IssueStateCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final Duration closedTtl;
+    private final Duration openTtl;
+    private final Clock clock;
+    private final Map<String, Entry> entries;
+
+    private IssueStateCache(Path file, Duration closedTtl, Duration openTtl, Clock clock, Map<String, Entry> entries) {
+        this.file = file;
+        this.closedTtl = closedTtl;
+        this.openTtl = openTtl;
+        this.clock = clock;
+        this.entries = entries;
+    }
+
+    public static IssueStateCache load(Path file, Duration closedTtl, Duration openTtl) throws IOException {
+        return load(file, closedTtl, openTtl, Clock.systemUTC());
+    }
+
+    static IssueStateCache load(Path file, Duration closedTtl, Duration openTtl, Clock clock) throws IOException {
+        Map<String, Entry> entries = new ConcurrentHashMap<>();
+        if (Files.exists(file)) {
+            entries.putAll(MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Entry>>() { }));
+            LOG.info("Loaded " + entries.size() + " cached issue states from " + file);
+        }
+        return new IssueStateCache(file, closedTtl, openTtl, clock, entries);
+    }
+
+    /**
+     * @return cached state of the issue, or null if the issue is not cached or its state is older than its time to live
+     */
+    public Boolean get(String issue) {
+        Entry entry = entries.get(issue);
+        boolean valid = entry != null
+                && clock.millis() - entry.fetchedAt() <= (entry.closed() ? closedTtl : openTtl).toMillis();
+        InspectorMetrics.issueCache(valid);
+        return valid ? entry.closed() : null;
+    }
+
+    public void put(String issue, boolean closed) {
+        entries.put(issue, new Entry(closed, clock.millis()));
+    }
+
+    public void save() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        // written to a temporary file first, so an interrupted run never leaves a truncated cache behind
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        MAPPER.writeValue(temporaryFile.toFile(), new TreeMap<>(entries));
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        LOG.info("Saved " + entries.size() + " issue states to " + file);
+    }
+
+    public record Entry(@JsonProperty("closed") boolean closed, @JsonProperty("fetched_at") long fetchedAt) {
+    }
+}
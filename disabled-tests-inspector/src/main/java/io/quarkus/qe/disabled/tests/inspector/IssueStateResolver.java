@@ -0,0 +1,288 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.logging.Logger;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHRepository;
+import org.kohsuke.github.GitHub;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves whether GitHub issues linked from disabled tests are closed.
+ * Every issue is resolved at most once per run, no matter from how many tests and branches it is linked.
+ * When a GitHub token is available, unique issues are resolved in batches with one GraphQL query per batch,
+ * otherwise they are resolved one by one over the REST API with cached {@link GitHub} and {@link GHRepository} handles.
+ * If an {@link IssueStateCache} is used, only issues without a fresh cached state are requested from GitHub.
+ * Requests go through a {@link GitHubClient}, so they share its rate limit handling with the rest of the run.
+ */
+public class IssueStateResolver {
+
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    private static final Logger LOG = Logger.getLogger(IssueStateResolver.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern NAME_PATTERN = Pattern.compile("[\\w.-]+");
+
+    private final GitHubConnector connector;
+    private final GitHubClient client;
+    private final String token;
+    private final int batchSize;
+    private final IssueStateCache cache;
+    private final Map<String, Boolean> closedByIssueLink = new ConcurrentHashMap<>();
+    private final Map<String, GHRepository> repositories = new ConcurrentHashMap<>();
+    private volatile GitHub github;
+    private HttpClient httpClient;
+
+    /**
+     * @param client client all requests go through
+     * @param cache persistent issue state cache, or null if states should be always requested from GitHub
+     */
+    public IssueStateResolver(GitHubClient client, int batchSize, IssueStateCache cache) {
+        this(client::connect, client, GitHubClient.findToken(), batchSize, cache);
+    }
+
+    IssueStateResolver(GitHubConnector connector, String token, int batchSize) {
+        this(connector, token, batchSize, null);
+    }
+
+    IssueStateResolver(GitHubConnector connector, String token, int batchSize, IssueStateCache cache) {
+        this(connector, null, token, batchSize, cache);
+    }
+
+    IssueStateResolver(GitHubConnector connector, GitHubClient client, String token, int batchSize,
+                       IssueStateCache cache) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Issue batch size must be at least 1, got: " + batchSize);
+        }
+        this.connector = connector;
+        this.client = client;
+        this.token = token;
+        this.batchSize = batchSize;
+        this.cache = cache;
+    }
+
+    /**
+     * Resolves all given issue links that were not resolved yet. Links to other trackers than GitHub are ignored.
+     * Concurrent callers are served one after another, so an issue linked from several branches is requested only once.
+     */
+    public synchronized void resolve(Collection<String> issueLinks) {
+        Map<IssueReference, List<String>> pending = new LinkedHashMap<>();
+        for (String issueLink : issueLinks) {
+            if (!isGitHubIssue(issueLink) || closedByIssueLink.containsKey(issueLink)) {
+                continue;
+            }
+            IssueReference reference = IssueReference.parse(issueLink);
+            Boolean cachedState = reference == null || cache == null ? null : cache.get(reference.toString());
+            if (reference == null) {
+                closedByIssueLink.put(issueLink, false);
+            } else if (cachedState != null) {
+                closedByIssueLink.put(issueLink, cachedState);
+            } else {
+                pending.computeIfAbsent(reference, r -> new ArrayList<>()).add(issueLink);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        LOG.info("Resolving state of " + pending.size() + " GitHub issues");
+        List<IssueReference> references = new ArrayList<>(pending.keySet());
+        for (int from = 0; from < references.size(); from += batchSize) {
+            List<IssueReference> batch = references.subList(from, Math.min(from + batchSize, references.size()));
+            Map<IssueReference, Boolean> states = token == null ? resolveOneByOne(batch) : resolveBatch(batch);
+            for (IssueReference reference : batch) {
+                Boolean closed = states.get(reference);
+                if (closed != null && cache != null) {
+                    cache.put(reference.toString(), closed);
+                }
+                // issues which failed to resolve are considered open for this run, but are not cached
+                pending.get(reference).forEach(issueLink -> closedByIssueLink.put(issueLink, closed != null && closed));
+            }
+        }
+    }
+
+    /**
+     * @return true if the link points to a GitHub issue whose state was not resolved yet
+     */
+    public boolean needsResolution(String issueLink) {
+        return isGitHubIssue(issueLink) && !closedByIssueLink.containsKey(issueLink);
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public boolean isClosed(String issueLink) {
+        if (!isGitHubIssue(issueLink)) {
+            return false;
+        }
+        if (!closedByIssueLink.containsKey(issueLink)) {
+            resolve(List.of(issueLink));
+        }
+        return closedByIssueLink.getOrDefault(issueLink, false);
+    }
+
+    private Map<IssueReference, Boolean> resolveBatch(List<IssueReference> batch) {
+        Map<String, List<IssueReference>> byRepository = new LinkedHashMap<>();
+        batch.forEach(reference -> byRepository.computeIfAbsent(reference.repository(), r -> new ArrayList<>()).add(reference));
+
+        StringBuilder query = new StringBuilder("query {");
+        List<List<IssueReference>> repositoryGroups = new ArrayList<>(byRepository.values());
+        for (int r = 0; r < repositoryGroups.size(); r++) {
+            IssueReference first = repositoryGroups.get(r).get(0);
+            query.append(" r").append(r).append(": repository(owner: \"").append(first.owner())
+                    .append("\", name: \"").append(first.name()).append("\") {");
+            for (int i = 0; i < repositoryGroups.get(r).size(); i++) {
+                query.append(" i").append(i).append(": issueOrPullRequest(number: ")
+                        .append(repositoryGroups.get(r).get(i).number())
+                        .append(") { ... on Issue { state } ... on PullRequest { state } }");
+            }
+            query.append(" }");
+        }
+        query.append(" }");
+
+        try {
+            JsonNode data = executeGraphQl(query.toString());
+            Map<IssueReference, Boolean> states = new LinkedHashMap<>();
+            for (int r = 0; r < repositoryGroups.size(); r++) {
+                for (int i = 0; i < repositoryGroups.get(r).size(); i++) {
+                    JsonNode state = data.path("r" + r).path("i" + i).path("state");
+                    // missing issues are left out, so they are not cached, pull requests may also be MERGED
+                    if (state.isTextual()) {
+                        states.put(repositoryGroups.get(r).get(i), !"OPEN".equals(state.asText()));
+                    }
+                }
+            }
+            return states;
+        } catch (IOException e) {
+            LOG.error("Failed to resolve issue states with GraphQL, falling back to REST API", e);
+            return resolveOneByOne(batch);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.error("Interrupted while resolving issue states", e);
+            return Map.of();
+        }
+    }
+
+    private JsonNode executeGraphQl(String query) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(gitHub().getApiUrl() + "/graphql"))
+                .header("Authorization", "bearer " + token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(MAPPER.writeValueAsBytes(Map.of("query", query))))
+                .build();
+        HttpResponse<byte[]> response = client != null ? client.send(request)
+                : httpClient().send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IOException("GraphQL request failed with status " + response.statusCode());
+        }
+        JsonNode body = MAPPER.readTree(response.body());
+        JsonNode errors = body.path("errors");
+        for (JsonNode error : errors) {
+            // missing issues are reported as errors while the rest of the batch is still resolved,
+            // any other error, e.g. a rate limit, may have left states out of the whole batch
+            if (!"NOT_FOUND".equals(error.path("type").asText())) {
+                throw new IOException("GraphQL issue query failed: " + errors);
+            }
+        }
+        if (!errors.isEmpty()) {
+            LOG.debug("GraphQL issue query did not find some issues: " + errors);
+        }
+        JsonNode data = body.path("data");
+        if (!data.isObject()) {
+            throw new IOException("GraphQL issue query returned no data");
+        }
+        return data;
+    }
+
+    private Map<IssueReference, Boolean> resolveOneByOne(List<IssueReference> batch) {
+        Map<IssueReference, Boolean> states = new LinkedHashMap<>();
+        for (IssueReference reference : batch) {
+            try {
+                GHRepository repository = repositories.get(reference.repository());
+                if (repository == null) {
+                    repository = gitHub().getRepository(reference.repository());
+                    repositories.put(reference.repository(), repository);
+                }
+                states.put(reference, repository.getIssue(reference.number()).getState() == GHIssueState.CLOSED);
+            } catch (Exception e) {
+                LOG.error("Failed to check issue state for " + reference, e);
+            }
+        }
+        return states;
+    }
+
+    private GitHub gitHub() throws IOException {
+        if (github == null) {
+            synchronized (this) {
+                if (github == null) {
+                    github = connector.connect();
+                }
+            }
+        }
+        return github;
+    }
+
+    private synchronized HttpClient httpClient() {
+        if (httpClient == null) {
+            httpClient = HttpClient.newHttpClient();
+        }
+        return httpClient;
+    }
+
+    private static boolean isGitHubIssue(String issueLink) {
+        return issueLink != null && issueLink.contains("github.com");
+    }
+
+    @FunctionalInterface
+    interface GitHubConnector {
+        GitHub connect() throws IOException;
+    }
+
+    private record IssueReference(String owner, String name, int number) {
+
+        // expected format: .../owner/repo/issues/number, optionally followed by an anchor like #issuecomment-1234
+        static IssueReference parse(String issueLink) {
+            String[] parts = issueLink.split("/");
+            if (parts.length < 4) {
+                return null;
+            }
+            String issueNumber = parts[parts.length - 1];
+            if (issueNumber.contains("#")) {
+                issueNumber = issueNumber.substring(0, issueNumber.indexOf("#"));
+            }
+            String owner = parts[parts.length - 4];
+            String name = parts[parts.length - 3];
+            if (!NAME_PATTERN.matcher(owner).matches() || !NAME_PATTERN.matcher(name).matches()) {
+                return null;
+            }
+            try {
+                return new IssueReference(owner, name, Integer.parseInt(issueNumber));
+            } catch (NumberFormatException e) {
+                LOG.error("Failed to check issue state for " + issueLink, e);
+                return null;
+            }
+        }
+
+        String repository() {
+            return owner + "/" + name;
+        }
+
+        @Override
+        public String toString() {
+            return repository() + "#" + number;
+        }
+    }
+}
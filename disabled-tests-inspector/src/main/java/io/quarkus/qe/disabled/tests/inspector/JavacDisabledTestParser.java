@@ -0,0 +1,235 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.sun.source.tree.AnnotationTree;
+import com.sun.source.tree.AssignmentTree;
+import com.sun.source.tree.BinaryTree;
+import com.sun.source.tree.ClassTree;
+import com.sun.source.tree.CompilationUnitTree;
+import com.sun.source.tree.ExpressionTree;
+import com.sun.source.tree.IdentifierTree;
+import com.sun.source.tree.LiteralTree;
+import com.sun.source.tree.MemberSelectTree;
+import com.sun.source.tree.MethodTree;
+import com.sun.source.tree.ModifiersTree;
+import com.sun.source.tree.ParenthesizedTree;
+import com.sun.source.tree.Tree;
+import com.sun.source.util.JavacTask;
+import com.sun.source.util.SourcePositions;
+import com.sun.source.util.TreeScanner;
+import com.sun.source.util.Trees;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parser building the syntax tree of the test class with the javac parser, so annotations and reasons are found
+ * wherever they are placed: annotations split across lines or on the same line as the method, reasons concatenated
+ * from several string literals or given as text blocks, and nested classes. Only parsing is done, nothing is resolved
+ * or compiled. Comments are still used as reasons the same way as by the line based parsers.
+ * The compiler and a file manager are kept per thread, so the parser can be shared by parsing threads.
+ */
+public class JavacDisabledTestParser extends DisabledTestParser {
+
+    private static final Set<String> REASON_ATTRIBUTES = Set.of("value", "reason", "disabledReason");
+    private static final URI SOURCE_URI = URI.create("string:///TestClass.java");
+
+    private static final JavaCompiler COMPILER = ToolProvider.getSystemJavaCompiler();
+    private static final ThreadLocal<StandardJavaFileManager> FILE_MANAGER = ThreadLocal.withInitial(
+            () -> COMPILER.getStandardFileManager(null, null, StandardCharsets.UTF_8));
+
+    public JavacDisabledTestParser() {
+        if (COMPILER == null) {
+            throw new IllegalStateException("The javac based parser needs a JDK, no Java compiler is available");
+        }
+    }
+
+    @Override
+    public List<ParsedDisabledTest> parse(String content) {
+        List<ParsedDisabledTest> disabledTests = new ArrayList<>();
+        if (!content.contains("@Disabled") && !content.contains("@Enabled")) {
+            return disabledTests;
+        }
+
+        JavacTask task = (JavacTask) COMPILER.getTask(null, FILE_MANAGER.get(), diagnostic -> { },
+                List.of("-proc:none"), null, List.of(new SourceFile(content)));
+        Iterable<? extends CompilationUnitTree> compilationUnits;
+        try {
+            compilationUnits = task.parse();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        SourcePositions positions = Trees.instance(task).getSourcePositions();
+        for (CompilationUnitTree compilationUnit : compilationUnits) {
+            new DisabledTestScanner(content, compilationUnit, positions, disabledTests).scan(compilationUnit, null);
+        }
+        return disabledTests;
+    }
+
+    /**
+     * Visits classes and methods in declaration order, nested classes included.
+     */
+    private static final class DisabledTestScanner extends TreeScanner<Void, Void> {
+
+        private final String content;
+        private final CompilationUnitTree compilationUnit;
+        private final SourcePositions positions;
+        private final List<ParsedDisabledTest> disabledTests;
+        private final List<String> annotationTypes = new ArrayList<>();
+        private final List<String> reasons = new ArrayList<>();
+        private final List<String> issueLinks = new ArrayList<>();
+        private String currentClass;
+
+        private DisabledTestScanner(String content, CompilationUnitTree compilationUnit, SourcePositions positions,
+                                    List<ParsedDisabledTest> disabledTests) {
+            this.content = content;
+            this.compilationUnit = compilationUnit;
+            this.positions = positions;
+            this.disabledTests = disabledTests;
+        }
+
+        @Override
+        public Void visitClass(ClassTree classTree, Void unused) {
+            String enclosingClass = currentClass;
+            currentClass = classTree.getSimpleName().toString();
+            // anonymous classes have no name, their methods belong to the enclosing class
+            if (currentClass.isEmpty()) {
+                currentClass = enclosingClass;
+            }
+            addAnnotations(classTree.getModifiers());
+            flushAnnotations(disabledTests, annotationTypes, reasons, issueLinks, currentClass, CLASS_LEVEL_TEST_NAME);
+            scan(classTree.getMembers(), null);
+            currentClass = enclosingClass;
+            return null;
+        }
+
+        @Override
+        public Void visitMethod(MethodTree methodTree, Void unused) {
+            // constructors are not tests
+            if (!methodTree.getName().contentEquals("<init>") && currentClass != null) {
+                addAnnotations(methodTree.getModifiers());
+                flushAnnotations(disabledTests, annotationTypes, reasons, issueLinks, currentClass,
+                        methodTree.getName().toString());
+            }
+            // local and anonymous classes in the method body
+            scan(methodTree.getBody(), null);
+            return null;
+        }
+
+        private void addAnnotations(ModifiersTree modifiers) {
+            for (AnnotationTree annotation : modifiers.getAnnotations()) {
+                String annotationType = simpleName(annotation.getAnnotationType());
+                if (annotationType.startsWith("Disabled") || annotationType.startsWith("Enabled")) {
+                    addAnnotationWithReason(annotationTypes, reasons, issueLinks, annotationType, reason(annotation),
+                            inlineComment(annotation), lastComment(annotation));
+                }
+            }
+        }
+
+        private static String reason(AnnotationTree annotation) {
+            for (ExpressionTree argument : annotation.getArguments()) {
+                String attribute = "value";
+                ExpressionTree value = argument;
+                if (argument instanceof AssignmentTree assignment) {
+                    attribute = simpleName(assignment.getVariable());
+                    value = assignment.getExpression();
+                }
+                if (REASON_ATTRIBUTES.contains(attribute)) {
+                    String reason = stringValue(value);
+                    if (reason != null && !reason.isEmpty()) {
+                        return reason;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return value of a string literal, text block or concatenation of them, null for any other expression
+         */
+        private static String stringValue(ExpressionTree expression) {
+            if (expression instanceof LiteralTree literal) {
+                return literal.getValue() instanceof String value ? value : null;
+            }
+            if (expression instanceof ParenthesizedTree parenthesized) {
+                return stringValue(parenthesized.getExpression());
+            }
+            if (expression instanceof BinaryTree binary && binary.getKind() == Tree.Kind.PLUS) {
+                String left = stringValue(binary.getLeftOperand());
+                String right = stringValue(binary.getRightOperand());
+                return left == null || right == null ? null : left + right;
+            }
+            return null;
+        }
+
+        private static String simpleName(Tree tree) {
+            if (tree instanceof MemberSelectTree memberSelect) {
+                return memberSelect.getIdentifier().toString();
+            }
+            return tree instanceof IdentifierTree identifier ? identifier.getName().toString() : tree.toString();
+        }
+
+        /**
+         * @return '//' comment following the annotation on its last line, or null
+         */
+        private String inlineComment(AnnotationTree annotation) {
+            int annotationEnd = (int) positions.getEndPosition(compilationUnit, annotation);
+            int lineEnd = lineEnd(annotationEnd);
+            int comment = content.indexOf("//", annotationEnd);
+            // '//' in URLs of a following annotation is not a comment
+            while (comment >= 0 && comment < lineEnd && comment > 0 && content.charAt(comment - 1) == ':') {
+                comment = content.indexOf("//", comment + 2);
+            }
+            return comment >= 0 && comment < lineEnd ? content.substring(comment + 2, lineEnd).trim() : null;
+        }
+
+        /**
+         * @return '//' comment on the last non-blank line before the annotation, if the comment is the whole line
+         */
+        private String lastComment(AnnotationTree annotation) {
+            int lineStart = lineStart((int) positions.getStartPosition(compilationUnit, annotation));
+            while (lineStart > 0) {
+                int previousLineStart = lineStart(lineStart - 1);
+                String previousLine = content.substring(previousLineStart, lineStart - 1).trim();
+                if (!previousLine.isEmpty()) {
+                    return previousLine.startsWith("//") ? previousLine.substring(2).trim() : null;
+                }
+                lineStart = previousLineStart;
+            }
+            return null;
+        }
+
+        private int lineStart(int position) {
+            return content.lastIndexOf('\n', position - 1) + 1;
+        }
+
+        private int lineEnd(int position) {
+            int lineEnd = content.indexOf('\n', position);
+            return lineEnd < 0 ? content.length() : lineEnd;
+        }
+    }
+
+    private static final class SourceFile extends SimpleJavaFileObject {
+
+        private final String content;
+
+        private SourceFile(String content) {
+            super(SOURCE_URI, JavaFileObject.Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.jboss.logging.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Reads test files of any branch straight from the object database of a local clone, without switching
+ * the checkout. Every fetcher thread streams blobs through its own long-running {@code git cat-file --batch} process.
+ */
+public class LocalGitSource implements TestFileSource {
+
+    private static final Logger LOG = Logger.getLogger(LocalGitSource.class);
+
+    private final Path repositoryDirectory;
+    private final String fileUrlPrefix;
+    private final ConcurrentFileFetcher fetcher;
+    private final List<BlobReader> blobReaders = Collections.synchronizedList(new ArrayList<>());
+    private final ThreadLocal<BlobReader> threadBlobReader;
+
+    /**
+     * @param repositoryDirectory directory of the local clone
+     * @param repositoryHtmlUrl GitHub URL of the repository, used to build links to the analyzed files
+     */
+    public LocalGitSource(Path repositoryDirectory, String repositoryHtmlUrl, int fetchConcurrency) {
+        if (!Files.isDirectory(repositoryDirectory)) {
+            throw new IllegalArgumentException("Directory expected: " + repositoryDirectory);
+        }
+        this.repositoryDirectory = repositoryDirectory;
+        this.fileUrlPrefix = repositoryHtmlUrl + "/blob/";
+        this.fetcher = new ConcurrentFileFetcher(fetchConcurrency);
+        this.threadBlobReader = ThreadLocal.withInitial(() -> {
+            BlobReader reader = new BlobReader(repositoryDirectory);
+            blobReaders.add(reader);
+            return reader;
+        });
+    }
+
+    @Override
+    public List<TestFile> listTestFiles(String branch, TestFileFilter filter) throws IOException {
+        String treeish = resolveBranch(branch);
+        LOG.info("Reading tree for branch: " + branch + " (" + treeish + ")");
+
+        List<TestFile> testFiles = new ArrayList<>();
+        // entries have '<mode> <type> <sha>\t<path>' format and are NUL separated, so paths need no unquoting
+        for (String entry : runGit("ls-tree", "-r", "-z", "--full-tree", treeish).split("\0")) {
+            int tabIndex = entry.indexOf('\t');
+            if (tabIndex == -1) {
+                continue;
+            }
+            String[] info = entry.substring(0, tabIndex).split(" ");
+            String path = entry.substring(tabIndex + 1);
+            if ("blob".equals(info[1]) && filter.accepts(path)) {
+                testFiles.add(new TestFile(path, info[2]));
+            }
+        }
+        return testFiles;
+    }
+
+    @Override
+    public void readTestFiles(String branch, List<TestFile> files, TestFileConsumer consumer) throws IOException {
+        fetcher.fetch(files, file -> new TestClassData(fileUrl(branch, file), file.path(),
+                TestFileSource.normalizeLineEndings(threadBlobReader.get().read(file.sha()))), consumer);
+    }
+
+    @Override
+    public String fileUrl(String branch, TestFile file) {
+        return fileUrlPrefix + branch + "/" + file.path();
+    }
+
+    @Override
+    public void close() {
+        fetcher.close();
+        synchronized (blobReaders) {
+            blobReaders.forEach(BlobReader::close);
+            blobReaders.clear();
+        }
+    }
+
+    /**
+     * CI agents usually have only the default branch checked out locally, so remote tracking branches are tried too.
+     */
+    private String resolveBranch(String branch) throws IOException {
+        for (String candidate : List.of(branch, "origin/" + branch)) {
+            try {
+                return runGit("rev-parse", "--verify", "--quiet", candidate + "^{tree}").trim();
+            } catch (IOException e) {
+                LOG.debug("Branch candidate " + candidate + " not found in " + repositoryDirectory);
+            }
+        }
+        throw new IOException("Branch " + branch + " not found in " + repositoryDirectory);
+    }
+
+    private String runGit(String... arguments) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(List.of(arguments));
+        Process process = new ProcessBuilder(command)
+                .directory(repositoryDirectory.toFile())
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try (InputStream output = process.getInputStream()) {
+            String result = new String(output.readAllBytes(), StandardCharsets.UTF_8);
+            if (process.waitFor() != 0) {
+                throw new IOException("Command " + command + " failed with exit code " + process.exitValue());
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while executing " + command, e);
+        }
+    }
+
+    private static final class BlobReader {
+
+        private final Process process;
+        private final OutputStream requests;
+        private final InputStream responses;
+
+        private BlobReader(Path repositoryDirectory) {
+            try {
+                this.process = new ProcessBuilder("git", "cat-file", "--batch")
+                        .directory(repositoryDirectory.toFile())
+                        .redirectError(ProcessBuilder.Redirect.DISCARD)
+                        .start();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to start git cat-file in " + repositoryDirectory, e);
+            }
+            this.requests = new BufferedOutputStream(process.getOutputStream());
+            this.responses = new BufferedInputStream(process.getInputStream());
+        }
+
+        String read(String sha) throws IOException {
+            requests.write((sha + "\n").getBytes(StandardCharsets.UTF_8));
+            requests.flush();
+
+            // header is '<sha> <type> <size>' or '<sha> missing'
+            String[] header = readLine().split(" ");
+            if (header.length != 3) {
+                throw new IOException("Blob " + sha + " not found");
+            }
+            byte[] content = responses.readNBytes(Integer.parseInt(header[2]));
+            responses.read(); // terminating LF
+            return new String(content, StandardCharsets.UTF_8);
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream line = new ByteArrayOutputStream();
+            int next;
+            while ((next = responses.read()) != '\n') {
+                if (next == -1) {
+                    throw new IOException("git cat-file terminated unexpectedly");
+                }
+                line.write(next);
+            }
+            return line.toString(StandardCharsets.UTF_8);
+        }
+
+        void close() {
+            try {
+                requests.close();
+            } catch (IOException e) {
+                LOG.debug("Failed to close git cat-file input", e);
+            }
+            process.destroy();
+        }
+    }
+}
@@ -9,6 +9,10 @@ import jakarta.inject.Inject;
 @QuarkusMain
 public class Main {
     public static void main(String... args) {
+        if (isServerMode(args)) {
+            // the HTTP server is disabled for single analyses, see application.properties
+            System.setProperty("quarkus.http.host-enabled", "true");
+        }
         Quarkus.run(AnalyserApp.class, args);
     }
 
@@ -18,8 +22,25 @@ public class Main {
 
         @Override
         public int run(String... args) {
+            if (isServerMode(args)) {
+                gitHubAnalysisResource.serve();
+                Quarkus.waitForExit();
+                return 0;
+            }
+            if (args.length > 0 && "batch".equals(args[0])) {
+                gitHubAnalysisResource.startBatchAnalysis();
+                return 0;
+            }
+            if (args.length > 0 && "trend".equals(args[0])) {
+                gitHubAnalysisResource.queryTrend();
+                return 0;
+            }
             gitHubAnalysisResource.startAnalysis();
             return 0;
         }
     }
+
+    private static boolean isServerMode(String... args) {
+        return args.length > 0 && "serve".equals(args[0]);
+    }
 }
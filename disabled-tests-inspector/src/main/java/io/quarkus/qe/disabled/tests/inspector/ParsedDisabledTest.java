@@ -0,0 +1,24 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * Disabled test as parsed from the content of a test file. Unlike {@link DisabledTest}, it depends only on the file
+ * content, hence it can be shared by all files with the same git blob SHA, whatever their branch or path is.
+ */
+public record ParsedDisabledTest(@JsonProperty("test_name") String testName,
+                                 @JsonProperty("class_name") String className,
+                                 @JsonProperty("annotation_type") String annotationType,
+                                 @JsonProperty("reason") String reason,
+                                 @JsonProperty("issue_link") String issueLink) {
+
+    public ParsedDisabledTest {
+        Objects.requireNonNull(className, "Class name must be specified.");
+    }
+
+    public DisabledTest toDisabledTest(String fileUrl) {
+        return new DisabledTest(testName, className, annotationType, reason, issueLink, fileUrl, false);
+    }
+}
@@ -0,0 +1,184 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jboss.logging.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed cache of parsed test files keyed by git blob SHA. Files that did not change since the last run,
+ * or that are identical on several branches, are fetched and parsed only once. Branches analyzed concurrently
+ * {@link #claim(String) claim} files before reading them, so a file being read for one branch is awaited by the others.
+ * Only entries used by the current run are saved, so the file does not grow beyond the size of the analyzed trees.
+ * A {@link #checkpoint() checkpoint} of an unfinished run keeps all entries instead, so a rerun after a failure
+ * reads only the files that were not parsed yet.
+ */
+public class ParsedFileCache {
+
+    /**
+     * Must be increased whenever the parser output changes, so that results of the previous parser are not reused.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger LOG = Logger.getLogger(ParsedFileCache.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Path file;
+    private final ParserType parser;
+    private final Map<String, List<ParsedDisabledTest>> storedFiles;
+    private final Map<String, List<ParsedDisabledTest>> usedFiles = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<List<ParsedDisabledTest>>> claimedFiles = new ConcurrentHashMap<>();
+    private final AtomicLong parsedFileCount = new AtomicLong();
+    private long checkpointParsedFileCount;
+
+    private ParsedFileCache(Path file, ParserType parser, Map<String, List<ParsedDisabledTest>> storedFiles) {
+        this.file = file;
+        this.parser = parser;
+        this.storedFiles = storedFiles;
+    }
+
+    /**
+     * @return cache which lives only as long as the current run
+     */
+    public static ParsedFileCache inMemory() {
+        return new ParsedFileCache(null, ParserType.SCANNING, Map.of());
+    }
+
+    public static ParsedFileCache load(Path file) throws IOException {
+        return load(file, ParserType.SCANNING);
+    }
+
+    /**
+     * @param parser parser whose results are cached, results of other parsers in the file are not reused
+     */
+    public static ParsedFileCache load(Path file, ParserType parser) throws IOException {
+        if (!Files.exists(file)) {
+            return new ParsedFileCache(file, parser, Map.of());
+        }
+        CacheContent content = MAPPER.readValue(file.toFile(), CacheContent.class);
+        if (content.version() != FORMAT_VERSION) {
+            LOG.info("Ignoring parsed files cache " + file + " created by another version of the parser");
+            return new ParsedFileCache(file, parser, Map.of());
+        }
+        // caches written before the parser was configurable were created by the scanning parser
+        ParserType cacheParser = content.parser() == null ? ParserType.SCANNING : content.parser();
+        if (cacheParser != parser) {
+            LOG.info("Ignoring parsed files cache " + file + " created by the " + cacheParser + " parser");
+            return new ParsedFileCache(file, parser, Map.of());
+        }
+        LOG.info("Loaded " + content.files().size() + " parsed files from " + file);
+        return new ParsedFileCache(file, parser, content.files());
+    }
+
+    /**
+     * @return disabled tests of the file with given blob SHA, or null if the file has not been parsed yet
+     */
+    public List<ParsedDisabledTest> get(String sha) {
+        List<ParsedDisabledTest> disabledTests = usedFiles.get(sha);
+        if (disabledTests == null) {
+            disabledTests = storedFiles.get(sha);
+            if (disabledTests != null) {
+                usedFiles.put(sha, disabledTests);
+            }
+        }
+        return disabledTests;
+    }
+
+    public void put(String sha, List<ParsedDisabledTest> disabledTests) {
+        List<ParsedDisabledTest> copy = List.copyOf(disabledTests);
+        usedFiles.put(sha, copy);
+        parsedFileCount.incrementAndGet();
+        CompletableFuture<List<ParsedDisabledTest>> claim = claimedFiles.remove(sha);
+        if (claim != null) {
+            claim.complete(copy);
+        }
+    }
+
+    /**
+     * Claims the file for the caller, who then has to either {@link #put(String, List) put} it or
+     * {@link #release(String) release} it.
+     *
+     * @return false if the file is already parsed or claimed by someone else
+     */
+    public boolean claim(String sha) {
+        if (get(sha) != null || claimedFiles.putIfAbsent(sha, new CompletableFuture<>()) != null) {
+            return false;
+        }
+        // the file may have been put between the check and the claim
+        if (usedFiles.containsKey(sha)) {
+            put(sha, usedFiles.get(sha));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gives up a claimed file that could not be read, callers waiting for it get null.
+     */
+    public void release(String sha) {
+        CompletableFuture<List<ParsedDisabledTest>> claim = claimedFiles.remove(sha);
+        if (claim != null) {
+            claim.complete(null);
+        }
+    }
+
+    /**
+     * Waits until a claimed file is put or released.
+     *
+     * @return disabled tests of the file, or null if the file was not parsed
+     */
+    public List<ParsedDisabledTest> await(String sha) {
+        CompletableFuture<List<ParsedDisabledTest>> claim = claimedFiles.get(sha);
+        return claim == null ? get(sha) : claim.join();
+    }
+
+    /**
+     * Saves entries used by the finished run.
+     */
+    public synchronized void save() throws IOException {
+        if (file == null) {
+            return;
+        }
+        write(new TreeMap<>(usedFiles));
+        LOG.info("Saved " + usedFiles.size() + " parsed files to " + file);
+    }
+
+    /**
+     * Saves files parsed so far together with all loaded entries, which the unfinished run may still need.
+     * Nothing is written if no file was parsed since the last checkpoint.
+     */
+    public synchronized void checkpoint() throws IOException {
+        long currentParsedFileCount = parsedFileCount.get();
+        if (file == null || currentParsedFileCount == checkpointParsedFileCount) {
+            return;
+        }
+        Map<String, List<ParsedDisabledTest>> files = new TreeMap<>(storedFiles);
+        files.putAll(usedFiles);
+        write(files);
+        checkpointParsedFileCount = currentParsedFileCount;
+        LOG.info("Checkpoint of " + currentParsedFileCount + " parsed files saved to " + file);
+    }
+
+    private void write(Map<String, List<ParsedDisabledTest>> files) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        MAPPER.writeValue(temporaryFile.toFile(), new CacheContent(FORMAT_VERSION, parser, files));
+        Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private record CacheContent(@JsonProperty("version") int version,
+                                @JsonProperty("parser") ParserType parser,
+                                @JsonProperty("files") Map<String, List<ParsedDisabledTest>> files) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+public enum ParserType {
+
+    /**
+     * Single pass over the content, same results as {@link #REGEX}.
+     */
+    SCANNING,
+
+    /**
+     * Regular expressions matched on every line.
+     */
+    REGEX,
+
+    /**
+     * Syntax tree built by the javac parser, slower but accurate for any formatting of the test class.
+     */
+    AST;
+
+    public DisabledTestParser create() {
+        return switch (this) {
+            case REGEX -> new RegexDisabledTestParser();
+            case AST -> new JavacDisabledTestParser();
+            default -> new ScanningDisabledTestParser();
+        };
+    }
+
+    public static ParserType from(String value) {
+        return valueOf(value.trim().toUpperCase());
+    }
+}
@@ -0,0 +1,112 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Original line by line parser matching regular expressions on every line. It is kept as the reference
+ * implementation for {@link ScanningDisabledTestParser}, which must give the same results.
+ */
+public class RegexDisabledTestParser extends DisabledTestParser {
+
+    private static final Pattern CLASS_DECLARATION_PATTERN = Pattern.compile(
+            "(?:public|private|protected)?\\s*(?:\\w+\\s+)*class\\s+(\\w+)"
+    );
+
+    private static final Pattern TEST_METHOD_PATTERN = Pattern.compile(
+            "(?:public|protected)?\\s*void\\s+(\\w+)\\s*\\("
+    );
+
+    private static final Pattern DISABLED_ANNOTATION_PATTERN = Pattern.compile(
+            "@((?:Disabled|Enabled)\\w*)(?:\\s*\\((.*))?"
+    );
+
+    @Override
+    public List<ParsedDisabledTest> parse(String content) {
+        List<ParsedDisabledTest> disabledTests = new ArrayList<>();
+        String[] lines = content.split("\n");
+
+        String currentClass = null;
+        String currentTestMethod = null;
+
+        List<String> annotationTypes = new ArrayList<>();
+        List<String> reasons = new ArrayList<>();
+        List<String> issueLinks = new ArrayList<>();
+
+        String lastComment = null;
+        boolean insideBlockComment = false;
+
+        for (int i = 0; i < lines.length; i++) {
+            String trimmedLine = lines[i].trim();
+            if (trimmedLine.isEmpty()) continue;
+
+            // handle block comments
+            if (insideBlockComment) {
+                if (trimmedLine.contains("*/")) {
+                    insideBlockComment = false;
+                }
+                continue;
+            }
+            if (trimmedLine.startsWith("/*")) {
+                if (!trimmedLine.contains("*/")) {
+                    insideBlockComment = true;
+                }
+                continue;
+            }
+
+            String inlineComment = null;
+            String lineWithoutComment = trimmedLine;
+
+            int commentIndex = trimmedLine.indexOf("//");
+            // If // is preceded by :, it's likely a URL (https://), so it is skipped and looks further
+            while (commentIndex > 0 && trimmedLine.charAt(commentIndex - 1) == ':') {
+                commentIndex = trimmedLine.indexOf("//", commentIndex + 2);
+            }
+
+            if (commentIndex != -1) {
+                inlineComment = trimmedLine.substring(commentIndex + 2).trim();
+                lineWithoutComment = trimmedLine.substring(0, commentIndex).trim();
+            }
+
+            if (lineWithoutComment.isEmpty()) {
+                lastComment = inlineComment;
+                continue;
+            }
+
+            // class detection
+            Matcher classMatcher = CLASS_DECLARATION_PATTERN.matcher(lineWithoutComment);
+            if (classMatcher.find()) {
+                currentClass = classMatcher.group(1);
+                flushAnnotations(disabledTests, annotationTypes, reasons, issueLinks,
+                        currentClass, CLASS_LEVEL_TEST_NAME);
+                lastComment = null;
+                continue;
+            }
+
+            // method detection
+            Matcher methodMatcher = TEST_METHOD_PATTERN.matcher(lineWithoutComment);
+            if (methodMatcher.find()) {
+                currentTestMethod = methodMatcher.group(1);
+                if (!currentTestMethod.equals(currentClass)) {
+                    flushAnnotations(disabledTests, annotationTypes, reasons, issueLinks,
+                            currentClass, currentTestMethod);
+                }
+                lastComment = null;
+                continue;
+            }
+
+            // annotation detection
+            Matcher disabledMatcher = DISABLED_ANNOTATION_PATTERN.matcher(lineWithoutComment);
+
+            if (disabledMatcher.find()) {
+                String nextLine = i + 1 < lines.length ? lines[i + 1].trim() : null;
+                addAnnotation(annotationTypes, reasons, issueLinks, disabledMatcher.group(1), disabledMatcher.group(2),
+                        nextLine, inlineComment, lastComment);
+            }
+            lastComment = null;
+        }
+        return disabledTests;
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.Map;
+
+/**
+ * Outcome of a repository analysis, both maps are in the order of analyzed branches.
+ *
+ * @param branchStats number of reported disabled tests by branch, module and annotation type
+ * @param branchIndexes reported disabled tests by branch, empty unless the analysis was asked to keep them
+ */
+public record RepositoryAnalysis(Map<String, Map<String, Map<String, Integer>>> branchStats,
+                                 Map<String, DisabledTestIndex> branchIndexes) {
+}
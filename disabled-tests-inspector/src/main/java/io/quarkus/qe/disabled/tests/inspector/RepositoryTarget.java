@@ -0,0 +1,29 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Repository analyzed by a batch together with its branches.
+ */
+public record RepositoryTarget(String owner, String name, List<String> branches) {
+
+    /**
+     * @param value repository in the {@code owner/name} or {@code owner/name:branch,branch} format
+     * @param defaultBranches branches analyzed if the value does not list any
+     */
+    public static RepositoryTarget parse(String value, List<String> defaultBranches) {
+        String[] repositoryAndBranches = value.trim().split(":", 2);
+        String[] ownerAndName = repositoryAndBranches[0].split("/");
+        if (ownerAndName.length != 2 || ownerAndName[0].isBlank() || ownerAndName[1].isBlank()) {
+            throw new IllegalArgumentException("Repository expected in the 'owner/name[:branches]' format, got: " + value);
+        }
+        List<String> branches = repositoryAndBranches.length == 1 ? defaultBranches
+                : Arrays.stream(repositoryAndBranches[1].split(",")).map(String::trim).toList();
+        return new RepositoryTarget(ownerAndName[0].trim(), ownerAndName[1].trim(), branches);
+    }
+
+    public String fullName() {
+        return owner + "/" + name;
+    }
+}
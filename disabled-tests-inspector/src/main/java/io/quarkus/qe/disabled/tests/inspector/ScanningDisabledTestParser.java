@@ -0,0 +1,258 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser walking the content once, line by line by index, without splitting it into lines and without regular
+ * expressions. Strings are created only for found class names, methods with pending annotations and annotations.
+ * It gives the same results as {@link RegexDisabledTestParser}, including its quirks, e.g. a 'class' keyword
+ * inside a string literal is still taken for a class declaration.
+ */
+public class ScanningDisabledTestParser extends DisabledTestParser {
+
+    private static final int NONE = -1;
+
+    @Override
+    public List<ParsedDisabledTest> parse(String content) {
+        List<ParsedDisabledTest> disabledTests = new ArrayList<>();
+        // most test classes have no disabled tests at all, which is much cheaper to find out than to parse them
+        if (!content.contains("@Disabled") && !content.contains("@Enabled")) {
+            return disabledTests;
+        }
+
+        String currentClass = null;
+
+        List<String> annotationTypes = new ArrayList<>();
+        List<String> reasons = new ArrayList<>();
+        List<String> issueLinks = new ArrayList<>();
+
+        int lastCommentStart = NONE;
+        int lastCommentEnd = NONE;
+        boolean insideBlockComment = false;
+
+        int length = content.length();
+        for (int lineStart = 0, nextLineStart; lineStart < length; lineStart = nextLineStart) {
+            int lineEnd = content.indexOf('\n', lineStart);
+            if (lineEnd == NONE) {
+                lineEnd = length;
+            }
+            nextLineStart = lineEnd + 1;
+
+            int start = trimStart(content, lineStart, lineEnd);
+            int end = trimEnd(content, start, lineEnd);
+            if (start == end) continue;
+
+            // handle block comments
+            if (insideBlockComment) {
+                if (indexOf(content, "*/", start, end) != NONE) {
+                    insideBlockComment = false;
+                }
+                continue;
+            }
+            if (startsWith(content, "/*", start, end)) {
+                if (indexOf(content, "*/", start, end) == NONE) {
+                    insideBlockComment = true;
+                }
+                continue;
+            }
+
+            int codeEnd = end;
+            int commentStart = NONE;
+            int commentIndex = indexOf(content, "//", start, end);
+            // If // is preceded by :, it's likely a URL (https://), so it is skipped and looks further
+            while (commentIndex > start && content.charAt(commentIndex - 1) == ':') {
+                commentIndex = indexOf(content, "//", commentIndex + 2, end);
+            }
+            if (commentIndex != NONE) {
+                commentStart = trimStart(content, commentIndex + 2, end);
+                codeEnd = trimEnd(content, start, commentIndex);
+            }
+
+            if (codeEnd == start) {
+                lastCommentStart = commentStart;
+                lastCommentEnd = end;
+                continue;
+            }
+
+            // class detection
+            int classNameStart = findClassName(content, start, codeEnd);
+            if (classNameStart != NONE) {
+                currentClass = content.substring(classNameStart, wordEnd(content, classNameStart, codeEnd));
+                flushAnnotations(disabledTests, annotationTypes, reasons, issueLinks,
+                        currentClass, CLASS_LEVEL_TEST_NAME);
+                lastCommentStart = NONE;
+                continue;
+            }
+
+            // method detection
+            int methodNameStart = findMethodName(content, start, codeEnd);
+            if (methodNameStart != NONE) {
+                int methodNameEnd = wordEnd(content, methodNameStart, codeEnd);
+                if (!annotationTypes.isEmpty() && !regionEquals(content, methodNameStart, methodNameEnd, currentClass)) {
+                    flushAnnotations(disabledTests, annotationTypes, reasons, issueLinks,
+                            currentClass, content.substring(methodNameStart, methodNameEnd));
+                }
+                lastCommentStart = NONE;
+                continue;
+            }
+
+            // annotation detection
+            int annotationTypeStart = findAnnotationType(content, start, codeEnd);
+            if (annotationTypeStart != NONE) {
+                int annotationTypeEnd = wordEnd(content, annotationTypeStart, codeEnd);
+                int parenthesis = skipWhitespace(content, annotationTypeEnd, codeEnd);
+                String annotationContent = parenthesis < codeEnd && content.charAt(parenthesis) == '('
+                        ? content.substring(parenthesis + 1, lineTerminator(content, parenthesis + 1, codeEnd)) : null;
+                String nextLine = null;
+                if (nextLineStart < length) {
+                    int nextLineEnd = content.indexOf('\n', nextLineStart);
+                    nextLineEnd = nextLineEnd == NONE ? length : nextLineEnd;
+                    int nextStart = trimStart(content, nextLineStart, nextLineEnd);
+                    nextLine = content.substring(nextStart, trimEnd(content, nextStart, nextLineEnd));
+                }
+                addAnnotation(annotationTypes, reasons, issueLinks,
+                        content.substring(annotationTypeStart, annotationTypeEnd), annotationContent, nextLine,
+                        commentStart == NONE ? null : content.substring(commentStart, end),
+                        lastCommentStart == NONE ? null : content.substring(lastCommentStart, lastCommentEnd));
+            }
+            lastCommentStart = NONE;
+        }
+        return disabledTests;
+    }
+
+    /**
+     * Equivalent of '(?:public|private|protected)?\s*(?:\w+\s+)*class\s+(\w+)'. As the greedy regular expression
+     * does, the last 'class' keyword in a chain of whitespace separated words wins.
+     */
+    private static int findClassName(String content, int from, int to) {
+        int nameStart = NONE;
+        for (int classIndex = indexOf(content, "class", from, to); classIndex != NONE && nameStart == NONE;
+             classIndex = indexOf(content, "class", classIndex + 1, to)) {
+            nameStart = declaredName(content, classIndex + 5, to);
+        }
+        if (nameStart == NONE) {
+            return NONE;
+        }
+        int wordStart = nameStart;
+        while (true) {
+            int wordEnd = wordEnd(content, wordStart, to);
+            if (wordEnd - wordStart == 5 && content.startsWith("class", wordStart)) {
+                int nestedNameStart = declaredName(content, wordEnd, to);
+                if (nestedNameStart != NONE) {
+                    nameStart = nestedNameStart;
+                }
+            }
+            int nextWordStart = skipWhitespace(content, wordEnd, to);
+            if (nextWordStart == wordEnd || nextWordStart == to || !isWordChar(content.charAt(nextWordStart))) {
+                return nameStart;
+            }
+            wordStart = nextWordStart;
+        }
+    }
+
+    /**
+     * Equivalent of '(?:public|protected)?\s*void\s+(\w+)\s*\('.
+     */
+    private static int findMethodName(String content, int from, int to) {
+        for (int voidIndex = indexOf(content, "void", from, to); voidIndex != NONE;
+             voidIndex = indexOf(content, "void", voidIndex + 1, to)) {
+            int nameStart = declaredName(content, voidIndex + 4, to);
+            if (nameStart != NONE) {
+                int parenthesis = skipWhitespace(content, wordEnd(content, nameStart, to), to);
+                if (parenthesis < to && content.charAt(parenthesis) == '(') {
+                    return nameStart;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Equivalent of '@((?:Disabled|Enabled)\w*)', returns the start of the annotation type.
+     */
+    private static int findAnnotationType(String content, int from, int to) {
+        for (int at = indexOf(content, "@", from, to); at != NONE; at = indexOf(content, "@", at + 1, to)) {
+            if (startsWith(content, "Disabled", at + 1, to) || startsWith(content, "Enabled", at + 1, to)) {
+                return at + 1;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @return start of the word following at least one whitespace at given position, or {@link #NONE}
+     */
+    private static int declaredName(String content, int from, int to) {
+        int nameStart = skipWhitespace(content, from, to);
+        return nameStart > from && nameStart < to && isWordChar(content.charAt(nameStart)) ? nameStart : NONE;
+    }
+
+    private static int indexOf(String content, String target, int from, int to) {
+        char first = target.charAt(0);
+        for (int i = from, last = to - target.length(); i <= last; i++) {
+            if (content.charAt(i) == first && content.startsWith(target, i)) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    private static boolean startsWith(String content, String prefix, int from, int to) {
+        return to - from >= prefix.length() && content.startsWith(prefix, from);
+    }
+
+    private static boolean regionEquals(String content, int from, int to, String value) {
+        return value != null && value.length() == to - from && content.startsWith(value, from);
+    }
+
+    private static int wordEnd(String content, int from, int to) {
+        while (from < to && isWordChar(content.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private static int skipWhitespace(String content, int from, int to) {
+        while (from < to && isWhitespace(content.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    // '.' in regular expressions does not match line terminators other than '\n' either
+    private static int lineTerminator(String content, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = content.charAt(i);
+            if (c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    // same as String#trim()
+    private static int trimStart(String content, int from, int to) {
+        while (from < to && content.charAt(from) <= ' ') {
+            from++;
+        }
+        return from;
+    }
+
+    private static int trimEnd(String content, int from, int to) {
+        while (to > from && content.charAt(to - 1) <= ' ') {
+            to--;
+        }
+        return to;
+    }
+
+    // same as '\w' in regular expressions
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    // same as '\s' in regular expressions
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
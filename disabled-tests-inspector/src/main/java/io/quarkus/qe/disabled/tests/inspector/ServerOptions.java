@@ -0,0 +1,18 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.time.Duration;
+
+/**
+ * Settings of the server mode, configured with Java system properties.
+ *
+ * @param refreshInterval time between two scheduled analyses, zero to refresh only on request
+ * @param webhookSecret secret of the GitHub webhook used to verify its deliveries, or null to accept any delivery
+ */
+public record ServerOptions(Duration refreshInterval, String webhookSecret) {
+
+    public static ServerOptions fromSystemProperties() {
+        return new ServerOptions(
+                Duration.parse(System.getProperty("refreshInterval", "PT1H")),
+                System.getProperty("webhookSecret", System.getenv("GITHUB_WEBHOOK_SECRET")));
+    }
+}
@@ -0,0 +1,158 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Writes the report of a single branch while the branch is being analyzed, in the same format as
+ * {@link BranchAnalysisResult}. Disabled tests are held back only until their issue states are resolved,
+ * which happens once enough unresolved issues for a batch are collected, so memory use does not grow with
+ * the repository size. Batches are resolved on a separate thread, so reading and parsing go on during GitHub
+ * requests, at most {@link #MAX_RESOLVING_BATCHES} batches are resolved or waiting for resolution at a time. Module stats are kept as {@link DisabledTestsStats} counters and written to the stats file
+ * once the report is finished. The report is flushed after every written batch, so a crashed run leaves the tests found so far
+ * behind, just without the closing brackets.
+ */
+public class StreamingReportWriter implements Closeable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final ObjectWriter TEST_WRITER = MAPPER.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    static final int MAX_RESOLVING_BATCHES = 2;
+
+    private final IssueStateResolver issueStateResolver;
+    private final File statsFile;
+    private final JsonGenerator report;
+    private final List<DisabledTest> pendingTests = new ArrayList<>();
+    private final Set<String> pendingIssueLinks = new LinkedHashSet<>();
+    private final DisabledTestsStats stats = new DisabledTestsStats();
+    // batches in report order, a batch is written once its issues and all issues of the batches before it are resolved
+    private final Deque<Batch> batches = new ArrayDeque<>();
+    private final ExecutorService resolution;
+
+    public StreamingReportWriter(String branch, File reportFile, File statsFile, IssueStateResolver issueStateResolver)
+            throws IOException {
+        this.issueStateResolver = issueStateResolver;
+        this.statsFile = statsFile;
+        this.resolution = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "issue-state-resolution-" + branch);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.report = MAPPER.getFactory().createGenerator(reportFile, JsonEncoding.UTF8)
+                .useDefaultPrettyPrinter()
+                // an unfinished report must not look complete
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        report.writeStartObject();
+        report.writeStringField("branch_name", branch);
+        report.writeArrayFieldStart("disabled_tests");
+    }
+
+    /**
+     * Adds disabled tests of a single file, files must be written in the order in which they should be reported.
+     */
+    public void write(String moduleName, List<DisabledTest> disabledTests) throws IOException {
+        for (DisabledTest disabledTest : disabledTests) {
+            stats.increment(moduleName, disabledTest.getAnnotationType());
+            pendingTests.add(disabledTest);
+            if (issueStateResolver.needsResolution(disabledTest.getIssueLink())) {
+                pendingIssueLinks.add(disabledTest.getIssueLink());
+            }
+        }
+        if (pendingIssueLinks.isEmpty() || pendingIssueLinks.size() >= issueStateResolver.batchSize()) {
+            writePendingTests();
+        }
+    }
+
+    /**
+     * Writes the remaining tests, completes the report and writes the stats file.
+     */
+    public void finish() throws IOException {
+        writePendingTests();
+        writeBatches(0);
+        report.writeEndArray();
+        report.writeEndObject();
+        report.flush();
+
+        MAPPER.writerWithDefaultPrettyPrinter().writeValue(statsFile, stats.toModuleStats());
+    }
+
+    /**
+     * @return number of written disabled tests by module and annotation type, both sorted by name
+     */
+    public Map<String, Map<String, Integer>> moduleStats() {
+        return stats.toSortedMap();
+    }
+
+    /**
+     * Writes batches already handed to the resolver, tests still waiting for a batch are left out.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writeBatches(0);
+        } finally {
+            resolution.shutdownNow();
+            report.close();
+        }
+    }
+
+    private void writePendingTests() throws IOException {
+        if (pendingTests.isEmpty()) {
+            return;
+        }
+        List<String> issueLinks = List.copyOf(pendingIssueLinks);
+        Future<?> resolved = issueLinks.isEmpty() ? CompletableFuture.completedFuture(null)
+                : resolution.submit(() -> issueStateResolver.resolve(issueLinks));
+        batches.addLast(new Batch(new ArrayList<>(pendingTests), resolved));
+        pendingTests.clear();
+        pendingIssueLinks.clear();
+        writeBatches(MAX_RESOLVING_BATCHES);
+    }
+
+    /**
+     * Writes resolved batches, waiting for unresolved ones only while more than given number of batches is left.
+     */
+    private void writeBatches(int maxLeft) throws IOException {
+        while (!batches.isEmpty() && (batches.size() > maxLeft || batches.peekFirst().resolved().isDone())) {
+            Batch batch = batches.removeFirst();
+            await(batch.resolved());
+            for (DisabledTest disabledTest : batch.tests()) {
+                disabledTest.setIssueClosed(issueStateResolver.isClosed(disabledTest.getIssueLink()));
+                TEST_WRITER.writeValue(report, disabledTest);
+            }
+            report.flush();
+        }
+    }
+
+    private static void await(Future<?> resolved) throws IOException {
+        try {
+            resolved.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while resolving issue states", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to resolve issue states", e.getCause());
+        }
+    }
+
+    private record Batch(List<DisabledTest> tests, Future<?> resolved) {
+    }
+}
@@ -0,0 +1,33 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.util.Objects;
+
+/**
+ * Test file in a repository branch identified by its path and git blob SHA.
+ *
+ * @param module module of the file, computed from the path once and interned, as the module is shared by many files
+ */
+public record TestFile(String path, String sha, String module) {
+
+    public TestFile(String path, String sha, String module) {
+        this.path = Objects.requireNonNull(path);
+        this.sha = Objects.requireNonNull(sha);
+        this.module = Objects.requireNonNull(module);
+    }
+
+    public TestFile(String path, String sha) {
+        this(path, sha, moduleOf(path));
+    }
+
+    /**
+     * @return path up to the {@code src} directory, or the parent directory for files outside of one, empty for files
+     * in the repository root
+     */
+    static String moduleOf(String path) {
+        int end = path.indexOf("/src/");
+        if (end == -1) {
+            end = Math.max(path.lastIndexOf('/'), 0);
+        }
+        return path.substring(0, end).intern();
+    }
+}
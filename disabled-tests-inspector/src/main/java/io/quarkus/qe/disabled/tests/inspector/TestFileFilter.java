@@ -0,0 +1,131 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+
+/**
+ * Selects test files of analyzed modules. The module of a file is the directory in front of its {@code src} directory,
+ * e.g. {@code http/rest-client}. Modules are selected by include and exclude globs matched against the module path,
+ * a glob matching a directory also matches all modules nested in it. Excludes win over includes, and without includes
+ * all modules are analyzed.
+ */
+public final class TestFileFilter {
+
+    public static final TestFileFilter ALL = new TestFileFilter(List.of(), List.of());
+
+    private final List<String> includes;
+    private final List<String> excludes;
+    private final List<PathMatcher> includeMatchers;
+    private final List<PathMatcher> excludeMatchers;
+    private final List<SegmentGlob> includeSegments;
+
+    public TestFileFilter(List<String> includes, List<String> excludes) {
+        this.includes = List.copyOf(includes);
+        this.excludes = List.copyOf(excludes);
+        this.includeMatchers = includes.stream().map(TestFileFilter::matcher).toList();
+        this.excludeMatchers = excludes.stream().map(TestFileFilter::matcher).toList();
+        this.includeSegments = includes.stream().map(SegmentGlob::of).toList();
+    }
+
+    public List<String> includes() {
+        return includes;
+    }
+
+    public List<String> excludes() {
+        return excludes;
+    }
+
+    /**
+     * @return whether the file is a test file of a selected module
+     */
+    public boolean accepts(String filePath) {
+        return TestFileSource.isTestFile(filePath) && isSelectedModule(TestFile.moduleOf(filePath));
+    }
+
+    /**
+     * Decides whether a directory can be skipped, only the directory path is needed. Besides directories of modules
+     * which are not selected, all sources below {@code src} are skipped except {@code src/test}. Test suites, which
+     * keep their tests in other source directories, are never skipped this way.
+     *
+     * @return true if the directory cannot contain test files of selected modules
+     */
+    public boolean prunes(String directoryPath) {
+        String[] segments = directoryPath.split("/");
+        int srcIndex = List.of(segments).indexOf("src");
+        if (srcIndex == -1) {
+            return isExcluded(directoryPath)
+                    || !includes.isEmpty() && !isIncluded(directoryPath) && !canIncludeBelow(segments);
+        }
+        if (srcIndex + 1 < segments.length && !segments[srcIndex + 1].equals("test")
+                && !directoryPath.contains("testsuite")) {
+            return true;
+        }
+        return !isSelectedModule(String.join("/", List.of(segments).subList(0, srcIndex)));
+    }
+
+    private boolean isSelectedModule(String module) {
+        return !isExcluded(module) && (includes.isEmpty() || isIncluded(module));
+    }
+
+    private boolean isExcluded(String path) {
+        return matchesItselfOrParent(excludeMatchers, path);
+    }
+
+    private boolean isIncluded(String path) {
+        return matchesItselfOrParent(includeMatchers, path);
+    }
+
+    /**
+     * @return whether some include glob can match a directory nested in the one with given path segments
+     */
+    private boolean canIncludeBelow(String[] directorySegments) {
+        return includeSegments.stream().anyMatch(include -> include.canMatchBelow(directorySegments));
+    }
+
+    private static boolean matchesItselfOrParent(List<PathMatcher> matchers, String path) {
+        if (matchers.isEmpty() || path.isEmpty()) {
+            return false;
+        }
+        for (Path current = Path.of(path); current != null; current = current.getParent()) {
+            for (PathMatcher matcher : matchers) {
+                if (matcher.matches(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static PathMatcher matcher(String glob) {
+        return FileSystems.getDefault().getPathMatcher("glob:" + glob);
+    }
+
+    /**
+     * Glob split into directory levels, so it can be matched against parents of the paths it matches.
+     */
+    private record SegmentGlob(List<String> segments, List<PathMatcher> matchers) {
+
+        static SegmentGlob of(String glob) {
+            List<String> segments = List.of(glob.split("/"));
+            return new SegmentGlob(segments, segments.stream().map(TestFileFilter::matcher).toList());
+        }
+
+        boolean canMatchBelow(String[] directorySegments) {
+            for (int i = 0; i < directorySegments.length; i++) {
+                if (i >= segments.size()) {
+                    return false;
+                }
+                // '**' may stand for any number of directories, so anything below may match
+                if (segments.get(i).contains("**")) {
+                    return true;
+                }
+                if (!matchers.get(i).matches(Path.of(directorySegments[i]))) {
+                    return false;
+                }
+            }
+            return segments.size() > directorySegments.length;
+        }
+    }
+}
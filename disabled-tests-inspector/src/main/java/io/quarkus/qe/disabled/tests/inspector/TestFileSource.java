@@ -0,0 +1,48 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Provides test class files of repository branches to the analysis.
+ */
+public interface TestFileSource extends Closeable {
+
+    /**
+     * Lists test files of given branch accepted by the filter in the repository tree order.
+     */
+    List<TestFile> listTestFiles(String branch, TestFileFilter filter) throws IOException;
+
+    /**
+     * Reads given test files of the branch. Files are handed over to the consumer on the calling thread,
+     * but not necessarily in the order in which they were listed.
+     */
+    void readTestFiles(String branch, List<TestFile> files, TestFileConsumer consumer) throws IOException;
+
+    /**
+     * @return link to the file in given branch, also for files that have not been read
+     */
+    String fileUrl(String branch, TestFile file);
+
+    static boolean isTestFile(String filePath) {
+        return (filePath.contains("/test/") || filePath.contains("testsuite/")) && filePath.endsWith(".java");
+    }
+
+    /**
+     * Unifies line endings so that the same file gives the same content from every source.
+     */
+    static String normalizeLineEndings(String content) {
+        return content.lines().collect(Collectors.joining("\n"));
+    }
+
+    @FunctionalInterface
+    interface TestFileConsumer {
+
+        /**
+         * @param index position of the file in the list of files requested to be read
+         */
+        void accept(int index, TestClassData data);
+    }
+}
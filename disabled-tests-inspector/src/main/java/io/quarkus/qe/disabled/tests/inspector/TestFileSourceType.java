@@ -0,0 +1,23 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+public enum TestFileSourceType {
+
+    /**
+     * One GitHub content API request per test file.
+     */
+    CONTENTS,
+
+    /**
+     * One streamed zipball download per branch.
+     */
+    ARCHIVE,
+
+    /**
+     * Blobs read from the object database of a local clone.
+     */
+    GIT;
+
+    public static TestFileSourceType from(String value) {
+        return valueOf(value.trim().toUpperCase());
+    }
+}
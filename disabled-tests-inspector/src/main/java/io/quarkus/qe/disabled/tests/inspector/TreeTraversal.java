@@ -0,0 +1,18 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+public enum TreeTraversal {
+
+    /**
+     * Whole tree of the branch listed with a single request.
+     */
+    RECURSIVE,
+
+    /**
+     * Tree walked one directory at a time, skipping directories which cannot contain analyzed test files.
+     */
+    PRUNED;
+
+    public static TreeTraversal from(String value) {
+        return valueOf(value.trim().toUpperCase());
+    }
+}
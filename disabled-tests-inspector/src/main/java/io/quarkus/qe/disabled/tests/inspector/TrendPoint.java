@@ -0,0 +1,9 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Number of disabled tests matching a {@link TrendQuery} in a single run.
+ */
+public record TrendPoint(@JsonProperty("run") String run, @JsonProperty("count") int count) {
+}
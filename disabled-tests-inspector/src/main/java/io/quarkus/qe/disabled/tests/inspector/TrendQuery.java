@@ -0,0 +1,38 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Filter of a trend query, configured with Java system properties. Filters which are not set match everything.
+ *
+ * @param branches branches to return, or null for all branches
+ * @param module module to count, or null for all modules
+ * @param annotationType annotation type to count, or null for all annotation types
+ * @param since first run to return, or null for the whole history
+ */
+public record TrendQuery(Path trendStoreFile, Path outputFile, List<String> branches, String module,
+                         String annotationType, Instant since) {
+
+    public static TrendQuery fromSystemProperties() {
+        String baseOutputFileName = System.getProperty("baseOutputFileName", "disabled-tests-report.json");
+        String branches = System.getProperty("branches");
+        String since = System.getProperty("since");
+        return new TrendQuery(
+                Path.of(AnalysisOptions.trendStoreFile(baseOutputFileName)),
+                Path.of(System.getProperty("trendOutputFile", baseOutputFileName.replaceFirst("(\\.json)?$", "-trend.json"))),
+                branches == null ? null : Arrays.asList(branches.split(",")),
+                System.getProperty("module"),
+                System.getProperty("annotationType"),
+                since == null ? null : parseSince(since));
+    }
+
+    // both '2026-01-01' and '2026-01-01T12:00:00Z' are accepted
+    private static Instant parseSince(String since) {
+        return since.contains("T") ? Instant.parse(since) : LocalDate.parse(since).atStartOfDay(ZoneOffset.UTC).toInstant();
+    }
+}
@@ -0,0 +1,122 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.jboss.logging.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Append-only history of disabled test counts, one tab separated record per run, branch, module and annotation type:
+ * {@code run branch module annotationType count}. Every run only appends its records, and trends are queried with
+ * a single pass over the file, so the history never has to be rebuilt from the JSON reports.
+ * A branch without any disabled test gets a record with empty module and annotation type, so the run still counts.
+ */
+public class TrendStore {
+
+    private static final Logger LOG = Logger.getLogger(TrendStore.class);
+    private static final String HEADER = "# run\tbranch\tmodule\tannotation_type\tcount\n";
+
+    private final Path file;
+
+    public TrendStore(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @param branchStats number of disabled tests by branch, module and annotation type
+     */
+    public synchronized void append(Instant run, Map<String, Map<String, Map<String, Integer>>> branchStats)
+            throws IOException {
+        StringBuilder records = new StringBuilder();
+        if (!Files.exists(file)) {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            records.append(HEADER);
+        }
+        int recordCount = 0;
+        for (Map.Entry<String, Map<String, Map<String, Integer>>> branch : branchStats.entrySet()) {
+            if (branch.getValue().isEmpty()) {
+                appendRecord(records, run, branch.getKey(), "", "", 0);
+                recordCount++;
+            }
+            for (Map.Entry<String, Map<String, Integer>> module : branch.getValue().entrySet()) {
+                for (Map.Entry<String, Integer> annotation : module.getValue().entrySet()) {
+                    appendRecord(records, run, branch.getKey(), module.getKey(), annotation.getKey(), annotation.getValue());
+                    recordCount++;
+                }
+            }
+        }
+        // a single write, so a crashed run does not leave a partial record behind
+        Files.writeString(file, records, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        LOG.info("Appended " + recordCount + " trend records to " + file);
+    }
+
+    /**
+     * @return number of matching disabled tests by branch and run, branches sorted by name and runs by time;
+     *         every stored run of a matching branch is included, also when none of its records matched
+     */
+    public Map<String, List<TrendPoint>> query(TrendQuery query) throws IOException {
+        Map<String, Map<String, Integer>> countsByBranch = new TreeMap<>();
+        if (Files.exists(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty() || line.startsWith("#")) {
+                        continue;
+                    }
+                    String[] fields = line.split("\t", -1);
+                    if (fields.length != 5) {
+                        LOG.warn("Skipping malformed trend record: " + line);
+                        continue;
+                    }
+                    if ((query.branches() != null && !query.branches().contains(fields[1]))
+                            || (query.since() != null && Instant.parse(fields[0]).isBefore(query.since()))) {
+                        continue;
+                    }
+                    Map<String, Integer> counts = countsByBranch.computeIfAbsent(fields[1], branch -> new TreeMap<>());
+                    int count = matches(query.module(), fields[2]) && matches(query.annotationType(), fields[3])
+                            ? Integer.parseInt(fields[4]) : 0;
+                    counts.merge(fields[0], count, Integer::sum);
+                }
+            }
+        }
+
+        Map<String, List<TrendPoint>> trends = new TreeMap<>();
+        countsByBranch.forEach((branch, counts) -> {
+            List<TrendPoint> points = new ArrayList<>(counts.size());
+            // runs are stored as ISO-8601 instants truncated to seconds, so they sort by time
+            counts.forEach((run, count) -> points.add(new TrendPoint(run, count)));
+            trends.put(branch, points);
+        });
+        return trends;
+    }
+
+    private static boolean matches(String filter, String value) {
+        return filter == null || filter.equals(value);
+    }
+
+    private static void appendRecord(StringBuilder records, Instant run, String branch, String module,
+                                     String annotationType, int count) {
+        records.append(run).append('\t')
+                .append(field(branch)).append('\t')
+                .append(field(module)).append('\t')
+                .append(field(annotationType)).append('\t')
+                .append(count).append('\n');
+    }
+
+    private static String field(String value) {
+        if (value.indexOf('\t') >= 0 || value.indexOf('\n') >= 0) {
+            throw new IllegalArgumentException("Trend record field must not contain tabs or line breaks: " + value);
+        }
+        return value;
+    }
+}
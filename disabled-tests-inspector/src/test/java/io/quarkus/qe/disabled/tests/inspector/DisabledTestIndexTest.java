@@ -0,0 +1,84 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class DisabledTestIndexTest {
+
+    @Test
+    public void shouldFindAddedRemovedAndChangedTests() {
+        DisabledTest unchanged = disabledTest("unchanged", "Disabled", "reason", null);
+        DisabledTest removed = disabledTest("removed", "Disabled", "reason", null);
+        DisabledTest reasonBefore = disabledTest("reason", "Disabled", "before", null);
+        DisabledTest linkBefore = disabledTest("link", "DisabledOnNative", "reason", "https://github.com/o/r/issues/1");
+        DisabledTestIndex base = new DisabledTestIndex("main");
+        base.add("module-a", List.of(unchanged, removed, reasonBefore, linkBefore));
+
+        DisabledTest reasonAfter = disabledTest("reason", "Disabled", "after", null);
+        DisabledTest linkAfter = disabledTest("link", "DisabledOnNative", "reason", "https://github.com/o/r/issues/2");
+        DisabledTest otherModule = disabledTest("removed", "Disabled", "reason", null);
+        DisabledTest otherAnnotation = disabledTest("unchanged", "DisabledOnNative", "reason", null);
+        DisabledTestIndex branch = new DisabledTestIndex("3.20");
+        branch.add("module-a", List.of(disabledTest("unchanged", "Disabled", "reason", null), reasonAfter, linkAfter,
+                otherAnnotation));
+        branch.add("module-b", List.of(otherModule));
+
+        BranchDiff diff = branch.diff(base);
+
+        assertEquals(List.of(otherAnnotation, otherModule), diff.getAdded());
+        assertEquals(List.of(removed), diff.getRemoved());
+        assertEquals(2, diff.getChanged().size());
+        assertEquals(List.of("reason"), diff.getChanged().get(0).getChangedFields());
+        assertSame(reasonBefore, diff.getChanged().get(0).getBefore());
+        assertSame(reasonAfter, diff.getChanged().get(0).getAfter());
+        assertEquals(List.of("issue_link"), diff.getChanged().get(1).getChangedFields());
+        assertSame(linkAfter, diff.getChanged().get(1).getAfter());
+    }
+
+    @Test
+    public void shouldReportChangedAnnotationType() {
+        DisabledTest before = disabledTest("test", "Disabled", "reason", null);
+        DisabledTest removed = disabledTest("removed", "Disabled", "reason", null);
+        DisabledTestIndex base = new DisabledTestIndex("main");
+        base.add("module", List.of(before, removed));
+        DisabledTest after = disabledTest("test", "DisabledOnNative", "native only", null);
+        DisabledTest added = disabledTest("added", "DisabledOnNative", "reason", null);
+        DisabledTestIndex branch = new DisabledTestIndex("3.20");
+        branch.add("module", List.of(after, added));
+
+        BranchDiff diff = branch.diff(base);
+
+        assertEquals(List.of(added), diff.getAdded());
+        assertEquals(List.of(removed), diff.getRemoved());
+        assertEquals(1, diff.getChanged().size());
+        assertEquals(List.of("annotation_type", "reason"), diff.getChanged().get(0).getChangedFields());
+        assertSame(before, diff.getChanged().get(0).getBefore());
+        assertSame(after, diff.getChanged().get(0).getAfter());
+    }
+
+    @Test
+    public void shouldPairTestsWithSameKeyInReportOrder() {
+        DisabledTestIndex base = new DisabledTestIndex("main");
+        base.add("module", List.of(disabledTest("test", "Disabled", "first", null)));
+        DisabledTest second = disabledTest("test", "Disabled", "second", null);
+        DisabledTestIndex branch = new DisabledTestIndex("3.20");
+        branch.add("module", List.of(disabledTest("test", "Disabled", "first", null), second));
+
+        BranchDiff diff = branch.diff(base);
+
+        assertEquals(List.of(second), diff.getAdded());
+        assertEquals(List.of(), diff.getRemoved());
+        assertEquals(List.of(), diff.getChanged());
+        assertEquals(List.of(), base.diff(branch).getAdded());
+        assertEquals(List.of(second), base.diff(branch).getRemoved());
+    }
+
+    private static DisabledTest disabledTest(String testName, String annotationType, String reason, String issueLink) {
+        return new DisabledTest(testName, "SomeIT", annotationType, reason, issueLink,
+                "https://github.com/org/repo/blob/main/SomeIT.java", false);
+    }
+}
@@ -0,0 +1,181 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DisabledTestParserTest {
+
+    private static final List<String> LINE_FRAGMENTS = List.of(
+            "public ", "protected ", "static ", "abstract ", "final ", "class ", "class", "subclass ", "interface ",
+            "void ", "avoid ", "void", "Foo", "testOne", "Bar ", "Inner", "(", ")", "() {", " {", "}", "<T>", ";",
+            "@Disabled", "@DisabledOnNative", "@Enabled", "@EnabledIfSystemProperty", "@Test", "@Tag(\"x\")",
+            "(\"reason\")", "(reason = \"Broken QUARKUS-123\")", "(disabledReason = \"https://github.com/o/r/issues/7\")",
+            "(\"Part 1 \" +", "\"Part 2\")", "(value = OS.WINDOWS)", "Foo.class", "\"class Name\"",
+            "// comment", "// https://github.com/o/r/issues/9", "https://host//path", "/*", "*/", "/* inline */",
+            " ", "  ", "\t", "\u000B", "\f", "\r", "\u2028", "QUARKUS-42", "https://issues.redhat.com/browse/ABC-1");
+
+    private final DisabledTestParser regexParser = new RegexDisabledTestParser();
+    private final DisabledTestParser scanningParser = new ScanningDisabledTestParser();
+    private final DisabledTestParser astParser = new JavacDisabledTestParser();
+
+    @Test
+    public void shouldParseLikeRegexParser() {
+        assertSameResults("""
+                package org.acme;
+
+                /*
+                 * @Disabled("in block comment")
+                 */
+                @QuarkusScenario
+                @DisabledOnNative(reason = "https://github.com/org/repo/issues/1") // trailing
+                public abstract class Outer extends Base implements Serializable {
+                    // QUARKUS-1234 reason from the comment above
+                    @Disabled
+                    @Test
+                    public void first() {}
+
+                    @Disabled("Part 1 " +
+                              "Part 2")
+                    void second(String value) {}
+
+                    @EnabledIfSystemProperty(named = "a", matches = "b", disabledReason = "see https://github.com/o/r/issues/3#c")
+                    static class Inner {
+                        @DisabledOnOs(OS.WINDOWS) // https://github.com/org/repo/issues/35913
+                        protected void third () {}
+                    }
+
+                    @Disabled("constructor-like method is skipped")
+                    public void Outer() {}
+                    public void fourth() { assertEquals("class Name", Foo.class); }
+                    @Disabled() public void inline() {}
+                }
+                """);
+    }
+
+    @Test
+    public void shouldPreferLastClassKeywordInWordChain() {
+        assertSameResults("""
+                @Disabled
+                class class Foo
+                @Disabled
+                subclass Bar baz class Qux { class Ignored
+                @Disabled
+                class A<T> extends class B
+                void test() {}
+                """);
+    }
+
+    @Test
+    public void shouldSkipFilesWithoutDisabledAnnotations() {
+        assertTrue(scanningParser.parse("public class Foo {\n    @Test\n    public void test() {}\n}\n").isEmpty());
+    }
+
+    @Test
+    public void shouldParseRandomContentLikeRegexParser() {
+        Random random = new Random(42);
+        for (int file = 0; file < 20000; file++) {
+            StringBuilder content = new StringBuilder("@Disabled\nclass Seed" + file + " {\n");
+            int lines = random.nextInt(40);
+            for (int line = 0; line < lines; line++) {
+                int fragments = random.nextInt(6);
+                for (int fragment = 0; fragment < fragments; fragment++) {
+                    content.append(LINE_FRAGMENTS.get(random.nextInt(LINE_FRAGMENTS.size())));
+                }
+                content.append('\n');
+            }
+            assertSameResults(content.toString());
+        }
+    }
+
+    @Test
+    public void shouldParseWellFormattedClassLikeScanningParser() {
+        String content = """
+                package org.acme;
+
+                @QuarkusScenario
+                @DisabledOnNative(reason = "https://github.com/org/repo/issues/1") // trailing
+                public class SampleIT {
+                    // QUARKUS-1234 reason from the comment above
+                    @Disabled
+                    @Test
+                    public void first() {}
+
+                    @Disabled("Part 1 " +
+                              "Part 2")
+                    void second(String value) {}
+
+                    @DisabledOnOs(OS.WINDOWS) // https://github.com/org/repo/issues/35913
+                    @EnabledIfSystemProperty(named = "a", matches = "b", disabledReason = "see QUARKUS-3")
+                    protected void third() {}
+
+                    @Test
+                    public void notDisabled() {}
+                }
+                """;
+        assertEquals(scanningParser.parse(content), astParser.parse(content));
+    }
+
+    @Test
+    public void shouldParseAnyFormattingWithAstParser() {
+        List<ParsedDisabledTest> disabledTests = astParser.parse("""
+                public class Outer {
+                    @Disabled(
+                        value = "Split "
+                            + "over "
+                            + "three lines")
+                    public void multiline() {
+                        assertEquals("class Name", Foo.class);
+                    }
+
+                    @Disabled(\"""
+                        Text block QUARKUS-5
+                        \""") @Test public void inline() {}
+
+                    public Outer() {}
+
+                    @Nested
+                    @org.junit.jupiter.api.Disabled
+                    class Inner {
+                        @DisabledOnOs(OS.WINDOWS) public <T> List<T> generic() { return null; }
+                    }
+
+                    @Disabled("after nested class")
+                    void last() {}
+                }
+                """);
+
+        assertEquals(List.of(
+                new ParsedDisabledTest("multiline", "Outer", "Disabled", "Split over three lines", null),
+                new ParsedDisabledTest("inline", "Outer", "Disabled", "Text block QUARKUS-5\n",
+                        "https://issues.redhat.com/browse/QUARKUS-5"),
+                new ParsedDisabledTest(DisabledTestParser.CLASS_LEVEL_TEST_NAME, "Inner", "Disabled", null, null),
+                new ParsedDisabledTest("generic", "Inner", "DisabledOnOs", null, null),
+                new ParsedDisabledTest("last", "Outer", "Disabled", "after nested class", null)), disabledTests);
+    }
+
+    private void assertSameResults(String content) {
+        List<ParsedDisabledTest> expected;
+        try {
+            expected = regexParser.parse(content);
+        } catch (NullPointerException e) {
+            // disabled methods outside of any class are rejected by both parsers
+            assertThrowsNullPointer(content);
+            return;
+        }
+        assertEquals(expected, scanningParser.parse(content), () -> "Parsers differ for content:\n" + content);
+    }
+
+    private void assertThrowsNullPointer(String content) {
+        try {
+            scanningParser.parse(content);
+        } catch (NullPointerException e) {
+            return;
+        }
+        throw new AssertionError("Scanning parser accepted content rejected by regex parser:\n" + content);
+    }
+}
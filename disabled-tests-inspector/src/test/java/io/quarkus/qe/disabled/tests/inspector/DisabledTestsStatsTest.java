@@ -0,0 +1,69 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DisabledTestsStatsTest {
+
+    private static final List<String> ANNOTATION_TYPES = List.of("Disabled", "DisabledOnNative", "DisabledOnOs",
+            "EnabledIfSystemProperty", "DisabledOnQuarkusSnapshot", "EnabledOnNative", "DisabledForJreRange",
+            "DisabledOnSemeruJdk", "EnabledWhenLinuxContainersAvailable", "DisabledIfSystemProperty");
+
+    @Test
+    public void shouldSerializeSortedByModuleAndAnnotationType() throws IOException {
+        DisabledTestsStats stats = new DisabledTestsStats();
+        Map<String, Map<String, Integer>> plainStats = new TreeMap<>();
+        for (int test = 0; test < 500; test++) {
+            String moduleName = "module-" + (test * 7 % 23);
+            String annotationType = ANNOTATION_TYPES.get(test * 3 % ANNOTATION_TYPES.size());
+            stats.increment(moduleName, annotationType);
+            plainStats.computeIfAbsent(moduleName, module -> new TreeMap<>()).merge(annotationType, 1, Integer::sum);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        assertArrayEquals(mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(plainStats),
+                mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(stats.toModuleStats()));
+        assertEquals(plainStats, stats.toSortedMap());
+    }
+
+    @Test
+    public void shouldCountConcurrentIncrements() throws Exception {
+        DisabledTestsStats stats = new DisabledTestsStats();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> counting = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                counting.add(executor.submit(() -> {
+                    for (int test = 0; test < 10000; test++) {
+                        stats.increment("module-" + test % 5, ANNOTATION_TYPES.get(test % ANNOTATION_TYPES.size()));
+                    }
+                }));
+            }
+            for (Future<?> future : counting) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, Map<String, Integer>> moduleStats = stats.toSortedMap();
+        assertEquals(5, moduleStats.size());
+        // test % 5 selects the module, test % 10 one of its two annotation types
+        moduleStats.values().forEach(annotationCounts -> {
+            assertEquals(2, annotationCounts.size(), annotationCounts::toString);
+            annotationCounts.values().forEach(count -> assertEquals(8 * 1000, count.intValue()));
+        });
+    }
+}
@@ -0,0 +1,499 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Minimal local stand-in for the GitHub REST API serving a single repository with in-memory branches.
+ */
+public class GitHubApiStub implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern GRAPHQL_REPOSITORY = Pattern.compile("(\\w+): repository\\(owner: \"([^\"]+)\", name: \"([^\"]+)\"\\)");
+    private static final Pattern GRAPHQL_ISSUE = Pattern.compile("(\\w+): issueOrPullRequest\\(number: (\\d+)\\)");
+
+    private final String owner;
+    private final String name;
+    private final HttpServer server;
+    private final Map<String, Map<String, String>> branches = new ConcurrentHashMap<>();
+    private final Map<Integer, String> issueStates = new ConcurrentHashMap<>();
+    private final Map<String, Path> archives = new ConcurrentHashMap<>();
+    private final Map<String, String[]> trees = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger contentRequestsInFlight = new AtomicInteger();
+    private final AtomicInteger maxContentRequestsInFlight = new AtomicInteger();
+    private final AtomicInteger notModifiedResponses = new AtomicInteger();
+    private final AtomicInteger rateLimitedResponses = new AtomicInteger();
+    private final AtomicInteger secondaryRateLimits = new AtomicInteger();
+    private final AtomicInteger forbiddenResponses = new AtomicInteger();
+    private final AtomicInteger permissionDeniedResponses = new AtomicInteger();
+    private volatile String retryAfter = "3";
+    private volatile long contentDelayMillis;
+    private volatile String graphQlErrorType;
+    private volatile int rateLimit;
+    private final AtomicInteger rateLimitRemaining = new AtomicInteger();
+
+    public GitHubApiStub(String owner, String name) throws IOException {
+        this.owner = owner;
+        this.name = name;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.start();
+    }
+
+    public GitHubApiStub withFile(String branch, String path, String content) {
+        // sorted the same way as git sorts recursive tree listings
+        branches.computeIfAbsent(branch, b -> new TreeMap<>()).put(path, content);
+        return this;
+    }
+
+    /**
+     * @param state 'OPEN', 'CLOSED' or 'MERGED' (for pull requests)
+     */
+    public GitHubApiStub withIssue(int number, String state) {
+        issueStates.put(number, state);
+        return this;
+    }
+
+    /**
+     * Answers every GraphQL query with an error of given type and without any data, as GitHub does e.g. when
+     * the query is rate limited.
+     */
+    public GitHubApiStub withGraphQlError(String type) {
+        graphQlErrorType = type;
+        return this;
+    }
+
+    /**
+     * Serves the zipball of given branch from a local archive file instead of the in-memory branch content.
+     */
+    public GitHubApiStub withArchive(String branch, Path archive) {
+        archives.put(branch, archive);
+        return this;
+    }
+
+    /**
+     * Writes the in-memory branch content as a GitHub-like zipball with a single root directory.
+     */
+    public Path writeArchive(String branch, Path target) throws IOException {
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(target))) {
+            String rootDirectory = owner + "-" + name + "-" + branch + "/";
+            zip.putNextEntry(new ZipEntry(rootDirectory));
+            zip.closeEntry();
+            for (Map.Entry<String, String> file : branches.getOrDefault(branch, Map.of()).entrySet()) {
+                zip.putNextEntry(new ZipEntry(rootDirectory + file.getKey()));
+                zip.write(file.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Creates a local git repository with the in-memory branch content committed to given branch.
+     * The working tree is left on a separate 'work' branch, so that readers cannot rely on the checkout.
+     */
+    public Path writeRepository(String branch, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        git(directory, "init", "--quiet");
+        git(directory, "checkout", "--quiet", "-b", branch);
+        for (Map.Entry<String, String> file : branches.getOrDefault(branch, Map.of()).entrySet()) {
+            Path target = directory.resolve(file.getKey());
+            Files.createDirectories(target.getParent() == null ? directory : target.getParent());
+            Files.writeString(target, file.getValue());
+        }
+        git(directory, "add", "--all");
+        git(directory, "-c", "user.name=stub", "-c", "user.email=stub@localhost", "commit", "--quiet", "-m", branch);
+        git(directory, "checkout", "--quiet", "-b", "work");
+        return directory;
+    }
+
+    public GitHubApiStub withContentDelay(long delayMillis) {
+        this.contentDelayMillis = delayMillis;
+        return this;
+    }
+
+    /**
+     * Enables primary rate limit headers, every request which is not answered with '304 Not Modified' uses the quota.
+     * Once the remaining quota is used up, requests are rejected until {@link #resetRateLimit()} is called.
+     */
+    public GitHubApiStub withRateLimit(int limit, int remaining) {
+        this.rateLimit = limit;
+        rateLimitRemaining.set(remaining);
+        return this;
+    }
+
+    public void resetRateLimit() {
+        rateLimitRemaining.set(rateLimit);
+    }
+
+    /**
+     * Rejects next requests as exceeding the secondary rate limit, with a 'Retry-After' header.
+     */
+    public GitHubApiStub withSecondaryRateLimit(int rejectedRequests) {
+        return withSecondaryRateLimit(rejectedRequests, "3");
+    }
+
+    /**
+     * @param retryAfter value of the 'Retry-After' header, seconds or an HTTP date
+     */
+    public GitHubApiStub withSecondaryRateLimit(int rejectedRequests, String retryAfter) {
+        this.retryAfter = retryAfter;
+        secondaryRateLimits.set(rejectedRequests);
+        return this;
+    }
+
+    /**
+     * Rejects next requests with a plain 403, without any rate limit headers.
+     */
+    public GitHubApiStub withForbidden(int rejectedRequests) {
+        forbiddenResponses.set(rejectedRequests);
+        return this;
+    }
+
+    /**
+     * Rejects next requests with a 403 carrying rate limit headers with quota left, as GitHub answers missing permissions.
+     */
+    public GitHubApiStub withPermissionDenied(int rejectedRequests) {
+        permissionDeniedResponses.set(rejectedRequests);
+        return this;
+    }
+
+    public int notModifiedResponses() {
+        return notModifiedResponses.get();
+    }
+
+    public int rateLimitedResponses() {
+        return rateLimitedResponses.get();
+    }
+
+    public GitHub connect() throws IOException {
+        return new GitHubBuilder().withEndpoint(url()).build();
+    }
+
+    public String url() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int requestCount(String path) {
+        AtomicInteger count = requestCounts.get(path);
+        return count == null ? 0 : count.get();
+    }
+
+    public int requestCountWithPrefix(String pathPrefix) {
+        return requestCounts.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(pathPrefix))
+                .mapToInt(entry -> entry.getValue().get())
+                .sum();
+    }
+
+    public int maxContentRequestsInFlight() {
+        return maxContentRequestsInFlight.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    static String gitBlobSha(String content) {
+        try {
+            byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(("blob " + bytes.length + "\0").getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void git(Path directory, String... arguments) throws IOException {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(arguments));
+        try {
+            Process process = new ProcessBuilder(command).directory(directory.toFile()).inheritIO().start();
+            if (process.waitFor() != 0) {
+                throw new IOException("Command " + command + " failed");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = URLDecoder.decode(exchange.getRequestURI().getRawPath(), StandardCharsets.UTF_8);
+        requestCounts.computeIfAbsent(path, p -> new AtomicInteger()).incrementAndGet();
+        String repoPath = "/repos/" + owner + "/" + name;
+
+        if (secondaryRateLimits.getAndUpdate(rejected -> Math.max(0, rejected - 1)) > 0) {
+            rateLimitedResponses.incrementAndGet();
+            exchange.getResponseHeaders().add("Retry-After", retryAfter);
+            respond(exchange, 403, "{\"message\":\"You have exceeded a secondary rate limit.\"}".getBytes(StandardCharsets.UTF_8),
+                    "application/json");
+            return;
+        }
+
+        if (forbiddenResponses.getAndUpdate(rejected -> Math.max(0, rejected - 1)) > 0) {
+            respond(exchange, 403, "{\"message\":\"Forbidden\"}".getBytes(StandardCharsets.UTF_8), "application/json");
+            return;
+        }
+
+        if (permissionDeniedResponses.getAndUpdate(rejected -> Math.max(0, rejected - 1)) > 0) {
+            exchange.getResponseHeaders().add("X-RateLimit-Limit", "5000");
+            exchange.getResponseHeaders().add("X-RateLimit-Remaining", "4999");
+            exchange.getResponseHeaders().add("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+            respond(exchange, 403, "{\"message\":\"Resource not accessible by integration\"}".getBytes(StandardCharsets.UTF_8),
+                    "application/json");
+            return;
+        }
+
+        if (path.equals(repoPath)) {
+            respondJson(exchange, Map.of(
+                    "name", name,
+                    "full_name", owner + "/" + name,
+                    "owner", Map.of("login", owner),
+                    "url", url() + repoPath,
+                    "html_url", "https://github.com/" + owner + "/" + name));
+        } else if (path.startsWith(repoPath + "/git/trees/")) {
+            respondTree(exchange, path.substring((repoPath + "/git/trees/").length()));
+        } else if (path.startsWith(repoPath + "/zipball/") && archives.containsKey(path.substring((repoPath + "/zipball/").length()))) {
+            respond(exchange, 200, Files.readAllBytes(archives.get(path.substring((repoPath + "/zipball/").length()))),
+                    "application/zip");
+        } else if (path.startsWith(repoPath + "/issues/")) {
+            respondIssue(exchange, Integer.parseInt(path.substring((repoPath + "/issues/").length())));
+        } else if (path.equals("/graphql")) {
+            respondGraphQl(exchange);
+        } else if (path.startsWith(repoPath + "/contents/")) {
+            respondContent(exchange, path.substring((repoPath + "/contents/").length()), queryParameter(exchange, "ref"));
+        } else {
+            respond(exchange, 404, "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8), "application/json");
+        }
+    }
+
+    /**
+     * Serves recursive listings of branches, and single levels of branches and of directories addressed by their SHA.
+     */
+    private void respondTree(HttpExchange exchange, String treeish) throws IOException {
+        String[] tree = trees.getOrDefault(treeish, new String[] {treeish, ""});
+        Map<String, String> files = branches.get(tree[0]);
+        if (files == null) {
+            respond(exchange, 404, "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8), "application/json");
+            return;
+        }
+        if (queryParameter(exchange, "recursive") == null) {
+            respondJson(exchange, Map.of("sha", treeish, "tree", treeLevel(tree[0], files, tree[1]), "truncated", false));
+            return;
+        }
+        String branch = tree[0];
+        List<Map<String, Object>> entries = new ArrayList<>();
+        files.forEach((filePath, content) -> entries.add(Map.of(
+                "path", filePath,
+                "mode", "100644",
+                "type", "blob",
+                "sha", gitBlobSha(content),
+                "size", content.getBytes(StandardCharsets.UTF_8).length)));
+        respondJson(exchange, Map.of("sha", branch, "tree", entries, "truncated", false));
+    }
+
+    private List<Map<String, Object>> treeLevel(String branch, Map<String, String> files, String directory) {
+        String prefix = directory.isEmpty() ? "" : directory + "/";
+        Map<String, StringBuilder> subdirectories = new LinkedHashMap<>();
+        List<Map<String, Object>> entries = new ArrayList<>();
+        files.forEach((filePath, content) -> {
+            if (!filePath.startsWith(prefix)) {
+                return;
+            }
+            String name = filePath.substring(prefix.length());
+            int separator = name.indexOf('/');
+            if (separator == -1) {
+                entries.add(Map.of("path", name, "mode", "100644", "type", "blob", "sha", gitBlobSha(content)));
+                return;
+            }
+            String subdirectory = name.substring(0, separator);
+            if (!subdirectories.containsKey(subdirectory)) {
+                entries.add(new LinkedHashMap<>(Map.of("path", subdirectory, "mode", "040000", "type", "tree")));
+            }
+            // the SHA of a directory depends only on its content, like in git
+            subdirectories.computeIfAbsent(subdirectory, d -> new StringBuilder())
+                    .append(name.substring(separator + 1)).append(' ').append(gitBlobSha(content)).append('\n');
+        });
+        for (Map<String, Object> entry : entries) {
+            if ("tree".equals(entry.get("type"))) {
+                String sha = gitBlobSha(subdirectories.get((String) entry.get("path")).toString());
+                trees.put(sha, new String[] {branch, prefix + entry.get("path")});
+                entry.put("sha", sha);
+            }
+        }
+        return entries;
+    }
+
+    private void respondIssue(HttpExchange exchange, int number) throws IOException {
+        String state = issueStates.get(number);
+        if (state == null) {
+            respond(exchange, 404, "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8), "application/json");
+            return;
+        }
+        respondJson(exchange, Map.of(
+                "number", number,
+                "state", "OPEN".equals(state) ? "open" : "closed",
+                "html_url", "https://github.com/" + owner + "/" + name + "/issues/" + number));
+    }
+
+    /**
+     * Understands just the issue state queries, one 'rN: repository(...)' block per repository,
+     * with 'iN: issueOrPullRequest(number: N)' fields inside.
+     */
+    private void respondGraphQl(HttpExchange exchange) throws IOException {
+        String query = MAPPER.readTree(exchange.getRequestBody()).get("query").asText();
+        if (graphQlErrorType != null) {
+            respondJson(exchange, Map.of("errors", List.of(Map.of("type", graphQlErrorType, "message", "Query failed"))));
+            return;
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        List<Map<String, Object>> errors = new ArrayList<>();
+        Matcher repositoryMatcher = GRAPHQL_REPOSITORY.matcher(query);
+        List<int[]> repositoryBounds = new ArrayList<>();
+        List<String> repositoryAliases = new ArrayList<>();
+        List<String> repositoryNames = new ArrayList<>();
+        while (repositoryMatcher.find()) {
+            repositoryBounds.add(new int[] {repositoryMatcher.end(), query.length()});
+            if (repositoryBounds.size() > 1) {
+                repositoryBounds.get(repositoryBounds.size() - 2)[1] = repositoryMatcher.start();
+            }
+            repositoryAliases.add(repositoryMatcher.group(1));
+            repositoryNames.add(repositoryMatcher.group(2) + "/" + repositoryMatcher.group(3));
+        }
+        for (int r = 0; r < repositoryAliases.size(); r++) {
+            Map<String, Object> issues = new LinkedHashMap<>();
+            Matcher issueMatcher = GRAPHQL_ISSUE.matcher(query.substring(repositoryBounds.get(r)[0], repositoryBounds.get(r)[1]));
+            while (issueMatcher.find()) {
+                String state = repositoryNames.get(r).equals(owner + "/" + name)
+                        ? issueStates.get(Integer.parseInt(issueMatcher.group(2)))
+                        : null;
+                issues.put(issueMatcher.group(1), state == null ? null : Map.of("state", state));
+                if (state == null) {
+                    errors.add(Map.of("type", "NOT_FOUND", "path", List.of(repositoryAliases.get(r), issueMatcher.group(1)),
+                            "message", "Could not resolve to an issue or pull request"));
+                }
+            }
+            data.put(repositoryAliases.get(r), issues);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("data", data);
+        if (!errors.isEmpty()) {
+            body.put("errors", errors);
+        }
+        respondJson(exchange, body);
+    }
+
+    private void respondContent(HttpExchange exchange, String filePath, String branch) throws IOException {
+        int inFlight = contentRequestsInFlight.incrementAndGet();
+        maxContentRequestsInFlight.accumulateAndGet(inFlight, Math::max);
+        try {
+            if (contentDelayMillis > 0) {
+                Thread.sleep(contentDelayMillis);
+            }
+            String content = branches.getOrDefault(branch, Map.of()).get(filePath);
+            if (content == null) {
+                respond(exchange, 404, "{\"message\":\"Not Found\"}".getBytes(StandardCharsets.UTF_8), "application/json");
+                return;
+            }
+            respondJson(exchange, Map.of(
+                    "type", "file",
+                    "encoding", "base64",
+                    "path", filePath,
+                    "sha", gitBlobSha(content),
+                    "content", Base64.getMimeEncoder().encodeToString(content.getBytes(StandardCharsets.UTF_8)),
+                    "html_url", "https://github.com/" + owner + "/" + name + "/blob/" + branch + "/" + filePath));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } finally {
+            contentRequestsInFlight.decrementAndGet();
+        }
+    }
+
+    private void respondJson(HttpExchange exchange, Object body) throws IOException {
+        respond(exchange, 200, MAPPER.writeValueAsBytes(body), "application/json");
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body, String contentType) throws IOException {
+        String etag = status == 200 && contentType.equals("application/json")
+                ? "\"" + gitBlobSha(new String(body, StandardCharsets.UTF_8)) + "\"" : null;
+        boolean notModified = etag != null && etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"));
+        if (rateLimit > 0 && status != 403) {
+            // as on GitHub, conditional requests answered with '304 Not Modified' are free
+            int remaining = notModified ? rateLimitRemaining.get() : rateLimitRemaining.decrementAndGet();
+            if (remaining < 0) {
+                rateLimitRemaining.set(0);
+                rateLimitedResponses.incrementAndGet();
+                status = 403;
+                body = "{\"message\":\"API rate limit exceeded\"}".getBytes(StandardCharsets.UTF_8);
+                etag = null;
+            }
+            exchange.getResponseHeaders().add("X-RateLimit-Limit", String.valueOf(rateLimit));
+            exchange.getResponseHeaders().add("X-RateLimit-Remaining", String.valueOf(Math.max(0, remaining)));
+            exchange.getResponseHeaders().add("X-RateLimit-Reset", String.valueOf(Instant.now().plusSeconds(3600).getEpochSecond()));
+            exchange.getResponseHeaders().add("X-RateLimit-Resource",
+                    exchange.getRequestURI().getPath().equals("/graphql") ? "graphql" : "core");
+        }
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        if (etag != null) {
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (notModified) {
+                notModifiedResponses.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static String queryParameter(HttpExchange exchange, String parameter) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String pair : query.split("&")) {
+            String[] keyValue = pair.split("=", 2);
+            if (keyValue[0].equals(parameter) && keyValue.length == 2) {
+                return URLDecoder.decode(keyValue[1], StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+}
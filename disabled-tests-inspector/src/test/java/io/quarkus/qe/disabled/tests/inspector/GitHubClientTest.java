@@ -0,0 +1,219 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHIssueState;
+import org.kohsuke.github.GHRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GitHubClientTest {
+
+    private static final String ISSUES_URL = "https://github.com/org/repo/issues/";
+
+    private GitHubApiStub gitHub;
+    private final List<Duration> sleeps = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    public void startGitHubStub() throws IOException {
+        gitHub = new GitHubApiStub("org", "repo")
+                .withIssue(1, "CLOSED")
+                .withIssue(2, "OPEN")
+                .withIssue(3, "CLOSED")
+                .withIssue(4, "OPEN")
+                .withFile("main", "module/src/test/java/org/acme/SomeIT.java", "public class SomeIT {}");
+    }
+
+    @AfterEach
+    public void stopGitHubStub() {
+        gitHub.close();
+    }
+
+    @Test
+    public void shouldAnswerUnchangedResourcesFromCache() throws IOException {
+        Path cacheDirectory = Files.createTempDirectory("github-response-cache");
+        GitHubClient firstRun = client(GitHubResponseCache.open(cacheDirectory));
+        assertEquals(1, firstRun.connect().getRepository("org/repo").getTreeRecursive("main", 1).getTree().size());
+
+        GitHubClient secondRun = client(GitHubResponseCache.open(cacheDirectory));
+        GHRepository repository = secondRun.connect().getRepository("org/repo");
+        assertEquals(1, repository.getTreeRecursive("main", 1).getTree().size());
+        assertEquals(GHIssueState.CLOSED, repository.getIssue(1).getState());
+
+        assertEquals(new GitHubClient.Metrics(2, 0, 0, 0), firstRun.metrics());
+        assertEquals(new GitHubClient.Metrics(3, 2, 0, 0), secondRun.metrics());
+        assertEquals(2, gitHub.notModifiedResponses());
+    }
+
+    @Test
+    public void shouldCacheOnlyRepositoriesAndTrees() throws IOException {
+        Path cacheDirectory = Files.createTempDirectory("github-response-cache");
+        GHRepository repository = client(GitHubResponseCache.open(cacheDirectory)).connect().getRepository("org/repo");
+        repository.getIssue(1);
+        repository.getFileContent("module/src/test/java/org/acme/SomeIT.java", "main");
+
+        GitHubClient secondRun = client(GitHubResponseCache.open(cacheDirectory));
+        repository = secondRun.connect().getRepository("org/repo");
+        repository.getIssue(1);
+        repository.getFileContent("module/src/test/java/org/acme/SomeIT.java", "main");
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(1, files.count(), "Only the repository response must be stored");
+        }
+        assertEquals(1, secondRun.metrics().cachedResponses());
+    }
+
+    @Test
+    public void shouldDeleteResponsesNotUsedForMaxAge() throws IOException {
+        Path cacheDirectory = Files.createTempDirectory("github-response-cache");
+        client(GitHubResponseCache.open(cacheDirectory)).connect().getRepository("org/repo").getTreeRecursive("main", 1);
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            Path oldFile = files.findFirst().orElseThrow();
+            Files.setLastModifiedTime(oldFile, FileTime.from(Instant.now().minus(Duration.ofDays(2))));
+        }
+
+        GitHubResponseCache.open(cacheDirectory, Duration.ofDays(1));
+
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void shouldWaitForRateLimitResetInsteadOfFailing() throws IOException {
+        gitHub.withRateLimit(100, 4);
+        GitHubClient client = new GitHubClient(gitHub.url(), GitHubResponseCache.inMemory(), duration -> {
+            sleeps.add(duration);
+            if (duration.compareTo(Duration.ofMinutes(59)) > 0) {
+                gitHub.resetRateLimit();
+            }
+        });
+
+        GHRepository repository = client.connect().getRepository("org/repo");
+        for (int issue = 1; issue <= 4; issue++) {
+            assertEquals(issue % 2 == 1 ? GHIssueState.CLOSED : GHIssueState.OPEN, repository.getIssue(issue).getState());
+        }
+
+        assertEquals(0, gitHub.rateLimitedResponses(), "Requests must wait for the quota instead of exceeding it");
+        // the last 3 requests of the window are spread over the hour left, the next one waits for the reset
+        assertEquals(3, sleeps.size(), sleeps::toString);
+        assertTrue(sleeps.get(0).compareTo(Duration.ofMinutes(19)) > 0, sleeps::toString);
+        assertTrue(sleeps.get(1).compareTo(Duration.ofMinutes(39)) > 0, sleeps::toString);
+        assertTrue(sleeps.get(2).compareTo(Duration.ofMinutes(59)) > 0, sleeps::toString);
+        assertEquals(new GitHubClient.Metrics(5, 0, 3, 0), client.metrics());
+    }
+
+    @Test
+    public void shouldRetrySecondaryRateLimit() throws IOException {
+        gitHub.withSecondaryRateLimit(2);
+        GitHubClient client = client(GitHubResponseCache.inMemory());
+
+        assertEquals(GHIssueState.OPEN, client.connect().getRepository("org/repo").getIssue(2).getState());
+
+        assertEquals(List.of(Duration.ofSeconds(3), Duration.ofSeconds(3)), sleeps);
+        assertEquals(new GitHubClient.Metrics(4, 0, 0, 2), client.metrics());
+    }
+
+    @Test
+    public void shouldRetryForbiddenResponseOnceAfterBackoff() throws IOException {
+        gitHub.withForbidden(1);
+        GitHubClient client = client(GitHubResponseCache.inMemory());
+
+        assertEquals(GHIssueState.OPEN, client.connect().getRepository("org/repo").getIssue(2).getState());
+        assertEquals(List.of(Duration.ofMinutes(1)), sleeps);
+
+        gitHub.withForbidden(2);
+        assertThrows(IOException.class, () -> client.connect().getRepository("org/repo").getIssue(4));
+        assertEquals(List.of(Duration.ofMinutes(1), Duration.ofMinutes(1)), sleeps, "Forbidden is retried only once");
+    }
+
+    @Test
+    public void shouldFailFastOnPermissionDenied() {
+        gitHub.withPermissionDenied(1);
+        GitHubClient client = client(GitHubResponseCache.inMemory());
+
+        assertThrows(IOException.class, () -> client.connect().getRepository("org/repo").getIssue(2));
+        assertEquals(List.of(), sleeps, "Permission errors must not be retried");
+    }
+
+    @Test
+    public void shouldFallBackToBackoffOnUnparsableRetryAfter() throws IOException {
+        gitHub.withSecondaryRateLimit(1, "soon");
+        GitHubClient client = client(GitHubResponseCache.inMemory());
+
+        assertEquals(GHIssueState.OPEN, client.connect().getRepository("org/repo").getIssue(2).getState());
+        assertEquals(List.of(Duration.ofSeconds(1)), sleeps);
+    }
+
+    @Test
+    public void shouldRetryAfterHttpDate() throws IOException {
+        gitHub.withSecondaryRateLimit(1, DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30)));
+        GitHubClient client = client(GitHubResponseCache.inMemory());
+
+        assertEquals(GHIssueState.OPEN, client.connect().getRepository("org/repo").getIssue(2).getState());
+        assertEquals(1, sleeps.size());
+        assertTrue(sleeps.get(0).compareTo(Duration.ofSeconds(20)) > 0 && sleeps.get(0).compareTo(Duration.ofSeconds(31)) < 0,
+                sleeps::toString);
+    }
+
+    @Test
+    public void shouldSendGraphQlQueriesThroughClient() throws IOException {
+        gitHub.withSecondaryRateLimit(1);
+        GitHubClient client = client(GitHubResponseCache.inMemory());
+        IssueStateResolver resolver = new IssueStateResolver(client::connect, client, "token", 10, null);
+
+        resolver.resolve(List.of(ISSUES_URL + "1", ISSUES_URL + "2"));
+
+        assertTrue(resolver.isClosed(ISSUES_URL + "1"));
+        assertEquals(2, gitHub.requestCount("/graphql"));
+        assertEquals(new GitHubClient.Metrics(2, 0, 0, 1), client.metrics());
+    }
+
+    @Test
+    public void shouldRecordRequestsByEndpointAndCacheResult() throws IOException {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            Path cacheDirectory = Files.createTempDirectory("github-response-cache");
+            for (int run = 0; run < 2; run++) {
+                GHRepository repository = client(GitHubResponseCache.open(cacheDirectory)).connect().getRepository("org/repo");
+                repository.getTreeRecursive("main", 1);
+                repository.getIssue(1);
+            }
+
+            assertEquals(2, registry.get("inspector.github.requests").tags("endpoint", "repos/issues").timers().stream()
+                    .mapToLong(timer -> timer.count()).sum());
+            // the repository and the tree are requested by both runs, the second run gets both from the cache
+            assertEquals(2, registry.get("inspector.cache.requests")
+                    .tags("cache", "github_response", "result", "hit").counter().count());
+            assertEquals(2, registry.get("inspector.cache.requests")
+                    .tags("cache", "github_response", "result", "miss").counter().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    private GitHubClient client(GitHubResponseCache responseCache) {
+        return new GitHubClient(gitHub.url(), responseCache, sleeps::add);
+    }
+}
@@ -0,0 +1,154 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+public class InspectorServerTest {
+
+    private static final String BRANCH = "main";
+    private static final String SECRET = "webhook-secret";
+    private static final String LINKED_TEST = "module-b/src/test/java/org/acme/LinkedIT.java";
+
+    private static GitHubApiStub gitHub;
+    private static Path outputDir;
+
+    @Inject
+    InspectorServer server;
+
+    @Inject
+    DisabledTestAnalyserService analyserService;
+
+    @BeforeAll
+    public static void startGitHubStub() throws IOException {
+        outputDir = Files.createTempDirectory("inspector-server");
+        gitHub = new GitHubApiStub("org", "repo")
+                .withIssue(1, "CLOSED")
+                .withFile(BRANCH, "module-a/src/test/java/org/acme/NativeIT.java", """
+                        @DisabledOnNative(reason = "QUARKUS-1")
+                        public class NativeIT {
+                            @Disabled("Flaky")
+                            public void flaky() {}
+                        }
+                        """)
+                .withFile(BRANCH, LINKED_TEST, linkedTest("testFixed"));
+    }
+
+    @AfterAll
+    public static void stopGitHubStub() {
+        gitHub.close();
+    }
+
+    @BeforeEach
+    public void startServer() {
+        if (server.snapshot() == null) {
+            AnalysisOptions options = new AnalysisOptions("org", "repo", List.of(BRANCH),
+                    outputDir.resolve("server.json").toString(), false, TestFileSourceType.CONTENTS, 4, null, 10, null,
+                    null, null, null, 1, null, false, null, ParserType.SCANNING, 2, null, Duration.ZERO,
+                    TreeTraversal.RECURSIVE, TestFileFilter.ALL);
+            server.start(() -> {
+                try (TestFileSource source = new GitHubContentSource(gitHub.connect().getRepository("org/repo"), 4)) {
+                    return analyserService.analyzeRepository(source, new IssueStateResolver(gitHub::connect, null, 10),
+                            ParsedFileCache.inMemory(), options, true);
+                }
+            }, options.branches(), new ServerOptions(Duration.ZERO, SECRET));
+            awaitVersion(1);
+        }
+    }
+
+    @Test
+    public void shouldAnswerQueriesFromLatestAnalysis() {
+        given().get("/branches").then().statusCode(200).body("$", contains(BRANCH));
+        given().get("/branches/main/disabled-tests").then().statusCode(200).body("$", hasSize(3));
+        given().queryParam("module", "module-a").queryParam("annotation_type", "Disabled")
+                .get("/branches/main/disabled-tests")
+                .then().statusCode(200).body("test_name", contains("flaky"));
+        given().queryParam("issue_closed", true).get("/branches/main/disabled-tests")
+                .then().statusCode(200).body("class_name", contains("LinkedIT"));
+        given().queryParam("module", "module-a").get("/branches/main/stats")
+                .then().statusCode(200).body("'module-a'.DisabledOnNative", equalTo(1));
+        given().queryParam("module", "missing").get("/branches/main/disabled-tests")
+                .then().statusCode(200).body("$", empty());
+        given().get("/branches/3.20/disabled-tests").then().statusCode(404);
+    }
+
+    @Test
+    public void shouldAnswerUnchangedResultsWithNotModified() {
+        String etag = given().get("/branches/main/stats").then().statusCode(200)
+                .header("Cache-Control", "no-cache").extract().header("ETag");
+
+        given().header("If-None-Match", etag).get("/branches/main/stats").then().statusCode(304);
+        given().header("If-None-Match", etag).get("/branches/main/disabled-tests").then().statusCode(304);
+    }
+
+    @Test
+    public void shouldRefreshOnSignedPushToAnalyzedBranch() throws Exception {
+        long version = server.snapshot().version();
+        String push = "{\"ref\": \"refs/heads/" + BRANCH + "\"}";
+        String otherBranchPush = "{\"ref\": \"refs/heads/3.20\"}";
+
+        given().header("X-GitHub-Event", "push").header("X-Hub-Signature-256", "sha256=00").body(push)
+                .post("/webhook").then().statusCode(401);
+        given().header("X-GitHub-Event", "push").header("X-Hub-Signature-256", signature(otherBranchPush))
+                .body(otherBranchPush).post("/webhook").then().statusCode(204);
+
+        gitHub.withFile(BRANCH, LINKED_TEST, linkedTest("testRenamed"));
+        given().header("X-GitHub-Event", "push").header("X-Hub-Signature-256", signature(push)).body(push)
+                .post("/webhook").then().statusCode(202);
+        awaitVersion(version + 1);
+
+        given().queryParam("module", "module-b").get("/branches/main/disabled-tests")
+                .then().statusCode(200).body("test_name", contains("testRenamed"));
+        assertEquals(version + 1, server.snapshot().version(), "Only the push to the analyzed branch refreshes");
+    }
+
+    private void awaitVersion(long version) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (server.snapshot() == null || server.snapshot().version() < version || server.status().refreshing()) {
+            assertTrue(System.nanoTime() < deadline, () -> "Analysis did not finish: " + server.status());
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    private static String signature(String payload) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return "sha256=" + HexFormat.of().formatHex(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String linkedTest(String testName) {
+        return """
+                public class LinkedIT {
+                    @Disabled("https://github.com/org/repo/issues/1")
+                    public void %s() {}
+                }
+                """.formatted(testName);
+    }
+}
@@ -0,0 +1,136 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IssueStateResolverTest {
+
+    private static final String ISSUES_URL = "https://github.com/org/repo/issues/";
+
+    private GitHubApiStub gitHub;
+
+    @BeforeEach
+    public void startGitHubStub() throws IOException {
+        gitHub = new GitHubApiStub("org", "repo")
+                .withIssue(1, "CLOSED")
+                .withIssue(2, "OPEN")
+                .withIssue(3, "MERGED");
+    }
+
+    @AfterEach
+    public void stopGitHubStub() {
+        gitHub.close();
+    }
+
+    @Test
+    public void shouldResolveUniqueIssuesInBatches() {
+        IssueStateResolver resolver = new IssueStateResolver(gitHub::connect, "token", 2);
+
+        resolver.resolve(List.of(ISSUES_URL + "1", ISSUES_URL + "2", ISSUES_URL + "1#issuecomment-42",
+                ISSUES_URL + "3", ISSUES_URL + "2", "https://issues.redhat.com/browse/QUARKUS-1"));
+
+        assertEquals(2, gitHub.requestCount("/graphql"));
+        assertTrue(resolver.isClosed(ISSUES_URL + "1"));
+        assertTrue(resolver.isClosed(ISSUES_URL + "1#issuecomment-42"));
+        assertFalse(resolver.isClosed(ISSUES_URL + "2"));
+        assertTrue(resolver.isClosed(ISSUES_URL + "3"));
+        assertFalse(resolver.isClosed("https://issues.redhat.com/browse/QUARKUS-1"));
+        assertEquals(2, gitHub.requestCount("/graphql"), "Resolved issues must not be requested again");
+    }
+
+    @Test
+    public void shouldTreatUnknownIssueAsOpen() {
+        IssueStateResolver resolver = new IssueStateResolver(gitHub::connect, "token", 10);
+
+        assertFalse(resolver.isClosed(ISSUES_URL + "404"));
+        assertFalse(resolver.isClosed("https://github.com/other/repo/issues/1"));
+    }
+
+    @Test
+    public void shouldFallBackToRestApiOnGraphQlErrors() throws IOException {
+        gitHub.withGraphQlError("RATE_LIMITED");
+        IssueStateCache cache = IssueStateCache.load(Files.createTempDirectory("issue-cache").resolve("issue-cache.json"),
+                Duration.ofDays(7), Duration.ofHours(1), Clock.systemUTC());
+        IssueStateResolver resolver = new IssueStateResolver(gitHub::connect, "token", 10, cache);
+
+        resolver.resolve(List.of(ISSUES_URL + "1", ISSUES_URL + "2", ISSUES_URL + "404"));
+
+        assertEquals(1, gitHub.requestCount("/graphql"));
+        assertEquals(1, gitHub.requestCount("/repos/org/repo/issues/1"), "Failed batch must be resolved over REST");
+        assertTrue(resolver.isClosed(ISSUES_URL + "1"));
+        assertFalse(resolver.isClosed(ISSUES_URL + "2"));
+        assertEquals(Boolean.TRUE, cache.get("org/repo#1"));
+        assertEquals(Boolean.FALSE, cache.get("org/repo#2"));
+        assertNull(cache.get("org/repo#404"), "Unresolved issues must not be cached");
+    }
+
+    @Test
+    public void shouldNotCacheIssuesMissingFromGraphQlResponse() throws IOException {
+        IssueStateCache cache = IssueStateCache.load(Files.createTempDirectory("issue-cache").resolve("issue-cache.json"),
+                Duration.ofDays(7), Duration.ofHours(1), Clock.systemUTC());
+        IssueStateResolver resolver = new IssueStateResolver(gitHub::connect, "token", 10, cache);
+
+        resolver.resolve(List.of(ISSUES_URL + "1", ISSUES_URL + "404"));
+
+        assertEquals(0, gitHub.requestCount("/repos/org/repo/issues/1"), "Not found issues must not fail the batch");
+        assertFalse(resolver.isClosed(ISSUES_URL + "404"));
+        assertEquals(Boolean.TRUE, cache.get("org/repo#1"));
+        assertNull(cache.get("org/repo#404"), "Missing issues must not be cached as open");
+    }
+
+    @Test
+    public void shouldFallBackToRestApiWithoutToken() {
+        IssueStateResolver resolver = new IssueStateResolver(gitHub::connect, null, 10);
+
+        resolver.resolve(List.of(ISSUES_URL + "1", ISSUES_URL + "2", ISSUES_URL + "1"));
+        resolver.resolve(List.of(ISSUES_URL + "2"));
+
+        assertTrue(resolver.isClosed(ISSUES_URL + "1"));
+        assertFalse(resolver.isClosed(ISSUES_URL + "2"));
+        assertEquals(0, gitHub.requestCount("/graphql"));
+        assertEquals(1, gitHub.requestCount("/repos/org/repo/issues/1"));
+        assertEquals(1, gitHub.requestCount("/repos/org/repo/issues/2"));
+        assertEquals(1, gitHub.requestCount("/repos/org/repo"), "Repository handle must be cached");
+    }
+
+    @Test
+    public void shouldReuseCachedStatesUntilTheyExpire() throws IOException {
+        Path cacheFile = Files.createTempDirectory("issue-cache").resolve("issue-cache.json");
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        IssueStateCache cache = IssueStateCache.load(cacheFile, Duration.ofDays(7), Duration.ofHours(1),
+                Clock.fixed(now, ZoneOffset.UTC));
+        new IssueStateResolver(gitHub::connect, "token", 10, cache).resolve(List.of(ISSUES_URL + "1", ISSUES_URL + "2"));
+        cache.save();
+        assertEquals(1, gitHub.requestCount("/graphql"));
+
+        // the next run within the open issue TTL resolves everything from the cache
+        IssueStateResolver resolver = new IssueStateResolver(gitHub::connect, "token", 10, IssueStateCache.load(cacheFile,
+                Duration.ofDays(7), Duration.ofHours(1), Clock.fixed(now.plusSeconds(60), ZoneOffset.UTC)));
+        assertTrue(resolver.isClosed(ISSUES_URL + "1"));
+        assertFalse(resolver.isClosed(ISSUES_URL + "2"));
+        assertEquals(1, gitHub.requestCount("/graphql"));
+
+        // once the open issue TTL expires, only the open issue is requested again
+        gitHub.withIssue(2, "CLOSED");
+        resolver = new IssueStateResolver(gitHub::connect, "token", 10, IssueStateCache.load(cacheFile,
+                Duration.ofDays(7), Duration.ofHours(1), Clock.fixed(now.plus(Duration.ofHours(2)), ZoneOffset.UTC)));
+        resolver.resolve(List.of(ISSUES_URL + "1", ISSUES_URL + "2"));
+        assertTrue(resolver.isClosed(ISSUES_URL + "2"));
+        assertEquals(2, gitHub.requestCount("/graphql"));
+    }
+}
@@ -0,0 +1,404 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.quarkus.test.junit.QuarkusTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kohsuke.github.GHRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@QuarkusTest
+public class RepositoryAnalysisTest {
+
+    private static final String OWNER = "org";
+    private static final String REPO = "repo";
+    private static final String BRANCH = "main";
+
+    @Inject
+    DisabledTestAnalyserService disabledTestAnalyserService;
+
+    private Path outputDir;
+    private GitHubApiStub gitHub;
+    private Map<String, Map<String, Map<String, Integer>>> lastBranchStats;
+
+    @BeforeEach
+    public void startGitHubStub() throws IOException {
+        outputDir = Files.createTempDirectory("disabled-tests-report");
+        gitHub = new GitHubApiStub(OWNER, REPO);
+        for (int i = 0; i < 20; i++) {
+            String module = "module-" + (i % 4);
+            gitHub.withFile(BRANCH, module + "/src/test/java/org/acme/Sample" + i + "IT.java", testClass("Sample" + i + "IT", i));
+        }
+        gitHub.withFile(BRANCH, "module-0/src/main/java/org/acme/Service.java", "public class Service {}")
+                .withFile(BRANCH, "README.md", "# readme")
+                .withFile(BRANCH, "testsuite/src/it/java/org/acme/SuiteIT.java", testClass("SuiteIT", 3));
+    }
+
+    @AfterEach
+    public void stopGitHubStub() {
+        gitHub.close();
+    }
+
+    @Test
+    public void shouldFetchOnlyTestFiles() throws IOException {
+        Path report = analyze("only-tests", 4);
+
+        assertEquals(21, gitHub.requestCountWithPrefix("/repos/" + OWNER + "/" + REPO + "/contents/"));
+        JsonNode result = new ObjectMapper().readTree(report.resolveSibling("only-tests-main.json").toFile());
+        assertEquals(BRANCH, result.get("branch_name").asText());
+        assertEquals(29, result.get("disabled_tests").size());
+        assertEquals(new ObjectMapper().readValue(report.resolveSibling("only-tests-main-stats.json").toFile(), Map.class),
+                lastBranchStats.get(BRANCH), "Returned stats must match the stats file");
+    }
+
+    @Test
+    public void shouldProduceSameReportRegardlessOfFetchConcurrency() throws IOException {
+        gitHub.withContentDelay(10);
+
+        analyze("serial", 1);
+        analyze("concurrent", 4);
+
+        assertSameReports("serial", "concurrent");
+        assertTrue(gitHub.maxContentRequestsInFlight() <= 4,
+                "Fetch concurrency cap exceeded: " + gitHub.maxContentRequestsInFlight());
+    }
+
+    @Test
+    public void shouldProduceSameReportFromBranchArchive() throws IOException {
+        gitHub.withArchive(BRANCH, gitHub.writeArchive(BRANCH, outputDir.resolve("main.zip")));
+
+        analyze("contents", 4);
+        int contentRequests = gitHub.requestCountWithPrefix("/repos/" + OWNER + "/" + REPO + "/contents/");
+        analyze("archive", new GitHubArchiveSource(repository()));
+
+        assertEquals(contentRequests, gitHub.requestCountWithPrefix("/repos/" + OWNER + "/" + REPO + "/contents/"),
+                "Archive mode must not request single files");
+        assertEquals(1, gitHub.requestCountWithPrefix("/repos/" + OWNER + "/" + REPO + "/zipball/"));
+        assertSameReports("contents", "archive");
+    }
+
+    @Test
+    public void shouldProduceSameReportFromLocalClone() throws IOException {
+        Path clone = gitHub.writeRepository(BRANCH, outputDir.resolve("clone"));
+        // the working tree must not matter, only the committed branch content
+        Files.writeString(clone.resolve("module-0/src/test/java/org/acme/Uncommitted.java"), testClass("Uncommitted", 0));
+        Files.delete(clone.resolve("module-1/src/test/java/org/acme/Sample1IT.java"));
+
+        analyze("contents", 4);
+        analyze("git", new LocalGitSource(clone, "https://github.com/" + OWNER + "/" + REPO, 4));
+
+        assertSameReports("contents", "git");
+    }
+
+    @Test
+    public void shouldReadOnlyChangedFiles() throws IOException {
+        String contentsPrefix = "/repos/" + OWNER + "/" + REPO + "/contents/";
+        Path cacheFile = outputDir.resolve("parse-cache.json");
+        for (int i = 0; i < 20; i++) {
+            String path = "module-" + (i % 4) + "/src/test/java/org/acme/Sample" + i + "IT.java";
+            gitHub.withFile("3.20", path, testClass("Sample" + i + "IT", i == 0 ? 1 : i));
+        }
+
+        ParsedFileCache parsedFileCache = ParsedFileCache.load(cacheFile);
+        analyze("first", new GitHubContentSource(repository(), 4), parsedFileCache, List.of(BRANCH, "3.20"));
+        parsedFileCache.save();
+        assertEquals(22, gitHub.requestCountWithPrefix(contentsPrefix),
+                "Files shared by both branches must be read only once");
+
+        gitHub.withFile(BRANCH, "module-1/src/test/java/org/acme/Sample5IT.java", testClass("Sample5IT", 6));
+        analyze("second", new GitHubContentSource(repository(), 4), ParsedFileCache.load(cacheFile), List.of(BRANCH));
+        assertEquals(23, gitHub.requestCountWithPrefix(contentsPrefix), "Only the changed file must be read");
+
+        analyze("fresh", 4);
+        assertSameReports("fresh", "second");
+    }
+
+    @Test
+    public void shouldResumeFailedRunFromCheckpoint() throws IOException {
+        String contentsPrefix = "/repos/" + OWNER + "/" + REPO + "/contents/";
+        Path cacheFile = outputDir.resolve("parse-cache.json");
+        ParsedFileCache parsedFileCache = ParsedFileCache.load(cacheFile);
+        analyze("first", new GitHubContentSource(repository(), 4), parsedFileCache, List.of(BRANCH));
+        parsedFileCache.save();
+        for (int i = 0; i < 20; i += 4) {
+            gitHub.withFile(BRANCH, "module-0/src/test/java/org/acme/Sample" + i + "IT.java", testClass("Sample" + i + "IT", i + 1));
+        }
+
+        ParsedFileCache failedRunCache = ParsedFileCache.load(cacheFile);
+        assertThrows(IOException.class, () -> analyze("failed",
+                new FailingSource(new GitHubContentSource(repository(), 4), 2), failedRunCache, List.of(BRANCH)));
+        failedRunCache.checkpoint();
+        assertEquals(21 + 2, gitHub.requestCountWithPrefix(contentsPrefix));
+
+        analyze("resumed", new GitHubContentSource(repository(), 4), ParsedFileCache.load(cacheFile), List.of(BRANCH));
+        assertEquals(21 + 5, gitHub.requestCountWithPrefix(contentsPrefix),
+                "Only the changed files not read before the failure must be read");
+        analyze("fresh", 4);
+        assertSameReports("fresh", "resumed");
+    }
+
+    @Test
+    public void shouldListSameTestFilesWhenWalkingPrunedTree() throws IOException {
+        String treesPrefix = "/repos/" + OWNER + "/" + REPO + "/git/trees/";
+        gitHub.withFile(BRANCH, "docs/modules/guide.adoc", "= Guide")
+                .withFile(BRANCH, "module-1/src/main/resources/application.properties", "quarkus.http.port=0");
+
+        analyze("recursive", new GitHubContentSource(repository(), 4));
+        int recursiveTreeRequests = gitHub.requestCountWithPrefix(treesPrefix);
+        analyze("pruned", new GitHubContentSource(repository(), 4, TreeTraversal.PRUNED));
+
+        assertSameReports("recursive", "pruned");
+        assertEquals(1, recursiveTreeRequests);
+        // root, docs and docs/modules, then 'src/test/java/org/acme' with their parents in 4 modules and the test suite,
+        // main sources below 'src' are never walked
+        assertEquals(1 + 2 + 4 * 6 + 6, gitHub.requestCountWithPrefix(treesPrefix) - recursiveTreeRequests);
+    }
+
+    @Test
+    public void shouldAnalyzeOnlySelectedModules() throws IOException {
+        String treesPrefix = "/repos/" + OWNER + "/" + REPO + "/git/trees/";
+        TestFileFilter filter = new TestFileFilter(List.of("module-[12]", "testsuite"), List.of("module-2"));
+
+        Path report = analyze("selected", new GitHubContentSource(repository(), 4, TreeTraversal.PRUNED), filter);
+
+        assertEquals(List.of("module-1", "testsuite"), List.copyOf(lastBranchStats.get(BRANCH).keySet()));
+        assertEquals(1 + 6 + 6, gitHub.requestCountWithPrefix(treesPrefix), "Only selected modules must be walked");
+        analyze("selected-recursive", new GitHubContentSource(repository(), 4), filter);
+        assertSameReports("selected", "selected-recursive");
+        JsonNode result = new ObjectMapper().readTree(report.resolveSibling("selected-main.json").toFile());
+        // a disabled test in each of the 5 module-1 classes, one of them disabled on native, and both in the suite
+        assertEquals(5 + 1 + 2, result.get("disabled_tests").size());
+    }
+
+    @Test
+    public void shouldUseParentDirectoryAsModuleOfFilesOutsideSources() throws IOException {
+        gitHub.withFile(BRANCH, "testsuite/scenarios/LegacyIT.java", testClass("LegacyIT", 1));
+
+        analyze("outside-sources", 4);
+
+        assertTrue(lastBranchStats.get(BRANCH).containsKey("testsuite/scenarios"),
+                "Unexpected modules: " + lastBranchStats.get(BRANCH).keySet());
+    }
+
+    @Test
+    public void shouldAnalyzeRepositoriesInOneBatch() throws IOException {
+        analyze("single", 4);
+        try (GitHubApiStub framework = new GitHubApiStub(OWNER, "framework");
+             ConcurrentFileFetcher fetcher = new ConcurrentFileFetcher(2)) {
+            framework.withFile(BRANCH, "core/src/test/java/org/acme/CoreTest.java", testClass("CoreTest", 3))
+                    .withFile("1.x", "core/src/test/java/org/acme/CoreTest.java", testClass("CoreTest", 1));
+            List<RepositoryTarget> repositories = List.of(new RepositoryTarget(OWNER, REPO, List.of(BRANCH)),
+                    new RepositoryTarget(OWNER, "framework", List.of(BRANCH, "1.x")),
+                    new RepositoryTarget(OWNER, "missing", List.of(BRANCH)));
+            Path report = outputDir.resolve("batch.json");
+
+            List<BatchIndex> index = disabledTestAnalyserService.analyzeRepositories(repositories,
+                    repository -> new GitHubContentSource((repository.name().equals(REPO) ? gitHub : framework).connect()
+                            .getRepository(repository.fullName()), fetcher, TreeTraversal.RECURSIVE),
+                    new IssueStateResolver(gitHub::connect, null, 10), ParsedFileCache.inMemory(),
+                    options(report, List.of(BRANCH), 4, ParserType.SCANNING, TestFileFilter.ALL), null);
+
+            assertEquals(List.of("org/repo", "org/framework", "org/missing"),
+                    index.stream().map(BatchIndex::repository).toList());
+            assertSameReports("single", "batch-org-repo");
+            BatchIndex.Branch main = index.get(0).branches().get(0);
+            assertEquals(outputDir.resolve("batch-org-repo-main.json").toString(), main.reportFile());
+            assertEquals(29, main.disabledTests());
+            assertEquals(Map.of("Disabled", 21, "DisabledOnNative", 8), main.annotationCounts());
+            assertEquals(List.of(2, 1), index.get(1).branches().stream().map(BatchIndex.Branch::disabledTests).toList());
+            assertTrue(index.get(2).branches().isEmpty());
+            assertTrue(index.get(2).failure() != null, "Missing repository must be reported as failed");
+        }
+    }
+
+    @Test
+    public void shouldShareWorkBetweenConcurrentBranches() throws IOException {
+        String contentsPrefix = "/repos/" + OWNER + "/" + REPO + "/contents/";
+        String issueLinkedTest = "module-2/src/test/java/org/acme/LinkedIT.java";
+        List<String> branches = List.of(BRANCH, "3.20", "3.27");
+        for (String branch : branches) {
+            for (int i = 0; i < 20; i++) {
+                String path = "module-" + (i % 4) + "/src/test/java/org/acme/Sample" + i + "IT.java";
+                gitHub.withFile(branch, path, testClass("Sample" + i + "IT", i < branches.indexOf(branch) ? 50 : i));
+            }
+            gitHub.withFile(branch, issueLinkedTest, """
+                    public class LinkedIT {
+                        @Disabled("https://github.com/org/repo/issues/7")
+                        public void %s() {}
+                    }
+                    """.formatted(branch.equals(BRANCH) ? "testMain" : "testBackport"));
+        }
+        gitHub.withIssue(7, "CLOSED").withContentDelay(10);
+
+        analyze("serial", new GitHubContentSource(repository(), 4), ParsedFileCache.inMemory(), branches, 1);
+        int serialContentRequests = gitHub.requestCountWithPrefix(contentsPrefix);
+        analyze("concurrent", new GitHubContentSource(repository(), 4), ParsedFileCache.inMemory(), branches, 3);
+
+        // 22 files of main, a changed sample and the backported test on 3.20, one more changed sample on 3.27
+        assertEquals(25, serialContentRequests);
+        assertEquals(2 * serialContentRequests, gitHub.requestCountWithPrefix(contentsPrefix),
+                "Files shared by concurrently analyzed branches must be read only once");
+        assertEquals(2, gitHub.requestCount("/repos/" + OWNER + "/" + REPO + "/issues/7"),
+                "Issues linked from concurrently analyzed branches must be resolved only once");
+        for (String branch : branches) {
+            assertSameReports("serial", "concurrent", branch);
+        }
+        JsonNode result = new ObjectMapper().readTree(outputDir.resolve("concurrent-3.27.json").toFile());
+        assertTrue(result.get("disabled_tests").toString().contains("testBackport"), result.toString());
+    }
+
+    @Test
+    public void shouldReportDifferencesToFirstBranch() throws IOException {
+        for (int i = 1; i < 20; i++) {
+            String path = "module-" + (i % 4) + "/src/test/java/org/acme/Sample" + i + "IT.java";
+            gitHub.withFile("3.20", path, testClass("Sample" + i + "IT", i));
+        }
+        gitHub.withFile("3.20", "module-0/src/test/java/org/acme/Sample0IT.java", testClass("Sample0IT", 3))
+                .withFile("3.20", "module-1/src/test/java/org/acme/BackportIT.java", testClass("BackportIT", 1));
+
+        Path report = analyze("diff", new GitHubContentSource(repository(), 4), ParsedFileCache.inMemory(),
+                List.of(BRANCH, "3.20"));
+
+        JsonNode diffs = new ObjectMapper().readTree(report.resolveSibling("diff-diff.json").toFile());
+        assertEquals(1, diffs.size());
+        JsonNode diff = diffs.get(0);
+        assertEquals(BRANCH, diff.get("base_branch_name").asText());
+        assertEquals("3.20", diff.get("branch_name").asText());
+        assertEquals(List.of("BackportIT"), diff.get("added").findValuesAsText("class_name"));
+        // SuiteIT exists only on main
+        assertEquals(List.of("SuiteIT", "SuiteIT"), diff.get("removed").findValuesAsText("class_name"));
+        assertEquals(2, diff.get("changed").size());
+        assertEquals("Sample0IT", diff.get("changed").get(0).get("after").get("class_name").asText());
+        assertTrue(diff.get("changed").get(1).get("changed_fields").toString().contains("reason"), diff.toString());
+    }
+
+    @Test
+    public void shouldReportSameTestsWithAstParser() throws IOException {
+        analyze("scanning", 4);
+        analyze("ast", new GitHubContentSource(repository(), 4), ParsedFileCache.inMemory(), List.of(BRANCH), 4,
+                ParserType.AST);
+
+        assertSameReports("scanning", "ast");
+    }
+
+    private void assertSameReports(String expectedReportName, String actualReportName) throws IOException {
+        assertSameReports(expectedReportName, actualReportName, BRANCH);
+    }
+
+    private void assertSameReports(String expectedReportName, String actualReportName, String branch)
+            throws IOException {
+        for (String suffix : List.of("-" + branch + ".json", "-" + branch + "-stats.json")) {
+            assertArrayEquals(Files.readAllBytes(outputDir.resolve(expectedReportName + suffix)),
+                    Files.readAllBytes(outputDir.resolve(actualReportName + suffix)),
+                    "Report '" + suffix + "' differs between '" + expectedReportName + "' and '" + actualReportName + "'");
+        }
+    }
+
+    private Path analyze(String reportName, int fetchConcurrency) throws IOException {
+        return analyze(reportName, new GitHubContentSource(repository(), fetchConcurrency));
+    }
+
+    private Path analyze(String reportName, TestFileSource source) throws IOException {
+        return analyze(reportName, source, ParsedFileCache.inMemory(), List.of(BRANCH));
+    }
+
+    private Path analyze(String reportName, TestFileSource source, ParsedFileCache parsedFileCache,
+                         List<String> branches) throws IOException {
+        return analyze(reportName, source, parsedFileCache, branches, 4);
+    }
+
+    private Path analyze(String reportName, TestFileSource source, ParsedFileCache parsedFileCache,
+                         List<String> branches, int branchConcurrency) throws IOException {
+        return analyze(reportName, source, parsedFileCache, branches, branchConcurrency, ParserType.SCANNING);
+    }
+
+    private Path analyze(String reportName, TestFileSource source, ParsedFileCache parsedFileCache,
+                         List<String> branches, int branchConcurrency, ParserType parser) throws IOException {
+        return analyze(reportName, source, parsedFileCache, branches, branchConcurrency, parser, TestFileFilter.ALL);
+    }
+
+    private Path analyze(String reportName, TestFileSource source, TestFileFilter filter) throws IOException {
+        return analyze(reportName, source, ParsedFileCache.inMemory(), List.of(BRANCH), 4, ParserType.SCANNING, filter);
+    }
+
+    private Path analyze(String reportName, TestFileSource source, ParsedFileCache parsedFileCache,
+                         List<String> branches, int branchConcurrency, ParserType parser, TestFileFilter filter)
+            throws IOException {
+        Path report = outputDir.resolve(reportName + ".json");
+        AnalysisOptions options = options(report, branches, branchConcurrency, parser, filter);
+        try (source) {
+            lastBranchStats = disabledTestAnalyserService.analyzeRepository(source, new IssueStateResolver(gitHub::connect, null, 10),
+                    parsedFileCache, options, false).branchStats();
+        }
+        return report;
+    }
+
+    private static AnalysisOptions options(Path report, List<String> branches, int branchConcurrency, ParserType parser,
+                                           TestFileFilter filter) {
+        return new AnalysisOptions(OWNER, REPO, branches, report.toString(), false, TestFileSourceType.CONTENTS, 4, null, 10,
+                null, null, null, null, branchConcurrency, null, true, null, parser, 3, null, Duration.ZERO,
+                TreeTraversal.RECURSIVE, filter);
+    }
+
+    /**
+     * Fails after the first files are read, like a run losing its connection half-way.
+     */
+    private record FailingSource(TestFileSource delegate, int readFileCount) implements TestFileSource {
+
+        @Override
+        public List<TestFile> listTestFiles(String branch, TestFileFilter filter) throws IOException {
+            return delegate.listTestFiles(branch, filter);
+        }
+
+        @Override
+        public void readTestFiles(String branch, List<TestFile> files, TestFileConsumer consumer) throws IOException {
+            delegate.readTestFiles(branch, files.subList(0, Math.min(readFileCount, files.size())), consumer);
+            throw new IOException("Connection reset");
+        }
+
+        @Override
+        public String fileUrl(String branch, TestFile file) {
+            return delegate.fileUrl(branch, file);
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+
+    private GHRepository repository() throws IOException {
+        return gitHub.connect().getRepository(OWNER + "/" + REPO);
+    }
+
+    private static String testClass(String className, int seed) {
+        StringBuilder content = new StringBuilder()
+                .append("package org.acme;\n\n")
+                .append("@QuarkusScenario\n");
+        if (seed % 3 == 0) {
+            content.append("@DisabledOnNative(reason = \"QUARKUS-").append(1000 + seed).append("\")\n");
+        }
+        content.append("public class ").append(className).append(" {\n")
+                .append("    @Test\n")
+                .append("    @Disabled(\"Broken on seed ").append(seed).append("\")\n")
+                .append("    public void testFirst() {}\n\n")
+                .append("    @Test\n")
+                .append("    public void testSecond() {}\n")
+                .append("}\n");
+        return content.toString();
+    }
+}
@@ -0,0 +1,125 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StreamingReportWriterTest {
+
+    private static final String ISSUES_URL = "https://github.com/org/repo/issues/";
+
+    private GitHubApiStub gitHub;
+    private Path outputDir;
+
+    @BeforeEach
+    public void startGitHubStub() throws IOException {
+        outputDir = Files.createTempDirectory("streaming-report");
+        gitHub = new GitHubApiStub("org", "repo")
+                .withIssue(1, "CLOSED")
+                .withIssue(2, "OPEN")
+                .withIssue(3, "CLOSED");
+    }
+
+    @AfterEach
+    public void stopGitHubStub() {
+        gitHub.close();
+    }
+
+    @Test
+    public void shouldWriteSameReportAsObjectMapper() throws IOException {
+        List<DisabledTest> moduleA = List.of(
+                disabledTest("first", "Disabled", ISSUES_URL + "1"),
+                disabledTest("second", "DisabledOnNative", "https://issues.redhat.com/browse/QUARKUS-1"));
+        List<DisabledTest> moduleB = List.of(
+                disabledTest("third", "Disabled", null),
+                disabledTest("fourth", "Disabled", ISSUES_URL + "2"));
+
+        try (StreamingReportWriter writer = writer(10)) {
+            writer.write("module-a", moduleA);
+            writer.write("module-b", moduleB);
+            writer.write("module-c", List.of());
+            writer.finish();
+        }
+
+        Map<String, DisabledTestsModuleStats> moduleStats = new TreeMap<>();
+        moduleStats.computeIfAbsent("module-a", module -> new DisabledTestsModuleStats()).incrementAnnotation("Disabled");
+        moduleStats.get("module-a").incrementAnnotation("DisabledOnNative");
+        moduleStats.computeIfAbsent("module-b", module -> new DisabledTestsModuleStats()).incrementAnnotation("Disabled");
+        moduleStats.get("module-b").incrementAnnotation("Disabled");
+        ObjectMapper mapper = new ObjectMapper();
+        assertTrue(moduleA.get(0).isIssueClosed());
+        assertFalse(moduleB.get(1).isIssueClosed());
+        assertArrayEquals(mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(new BranchAnalysisResult("main",
+                List.of(moduleA.get(0), moduleA.get(1), moduleB.get(0), moduleB.get(1)))),
+                Files.readAllBytes(outputDir.resolve("report.json")));
+        assertArrayEquals(mapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(moduleStats),
+                Files.readAllBytes(outputDir.resolve("stats.json")));
+    }
+
+    @Test
+    public void shouldKeepReportOrderWhileBatchesAreResolved() throws IOException {
+        List<DisabledTest> tests = List.of(
+                disabledTest("first", "Disabled", ISSUES_URL + "1"),
+                disabledTest("second", "Disabled", null),
+                disabledTest("third", "Disabled", ISSUES_URL + "2"),
+                disabledTest("fourth", "Disabled", ISSUES_URL + "1"),
+                disabledTest("fifth", "Disabled", ISSUES_URL + "3"),
+                disabledTest("sixth", "Disabled", null));
+
+        try (StreamingReportWriter writer = writer(1)) {
+            for (DisabledTest test : tests) {
+                writer.write("module", List.of(test));
+            }
+            writer.finish();
+        }
+
+        assertArrayEquals(new ObjectMapper().writerWithDefaultPrettyPrinter()
+                        .writeValueAsBytes(new BranchAnalysisResult("main", tests)),
+                Files.readAllBytes(outputDir.resolve("report.json")));
+        assertEquals(List.of(true, false, false, true, true, false),
+                tests.stream().map(DisabledTest::isIssueClosed).toList());
+        assertEquals(3, gitHub.requestCount("/graphql"), "Every issue must be requested once");
+    }
+
+    @Test
+    public void shouldKeepWrittenBatchesOfUnfinishedReport() throws IOException {
+        try (StreamingReportWriter writer = writer(2)) {
+            writer.write("module", List.of(disabledTest("resolved", "Disabled", "https://issues.redhat.com/browse/QUARKUS-1")));
+            writer.write("module", List.of(disabledTest("first", "Disabled", ISSUES_URL + "1"),
+                    disabledTest("second", "Disabled", ISSUES_URL + "2")));
+            writer.write("module", List.of(disabledTest("pending", "Disabled", ISSUES_URL + "3")));
+        }
+
+        String report = Files.readString(outputDir.resolve("report.json"));
+        assertTrue(report.contains("\"resolved\""), report);
+        assertTrue(report.contains("\"second\""), report);
+        assertFalse(report.contains("\"pending\""), "Tests with unresolved issues must wait for their batch");
+        assertThrows(IOException.class, () -> new ObjectMapper().readTree(report), "Unfinished report must not look complete");
+        assertEquals(1, gitHub.requestCount("/graphql"));
+        assertFalse(Files.exists(outputDir.resolve("stats.json")));
+    }
+
+    private StreamingReportWriter writer(int issueBatchSize) throws IOException {
+        return new StreamingReportWriter("main", outputDir.resolve("report.json").toFile(),
+                outputDir.resolve("stats.json").toFile(), new IssueStateResolver(gitHub::connect, "token", issueBatchSize));
+    }
+
+    private static DisabledTest disabledTest(String testName, String annotationType, String issueLink) {
+        return new DisabledTest(testName, "SomeIT", annotationType, "reason", issueLink,
+                "https://github.com/org/repo/blob/main/SomeIT.java", false);
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkus.qe.disabled.tests.inspector;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TrendStoreTest {
+
+    private static final Instant FIRST_RUN = Instant.parse("2026-01-01T02:00:00Z");
+    private static final Instant SECOND_RUN = Instant.parse("2026-01-02T02:00:00Z");
+
+    @Test
+    public void shouldAppendRunsAndQueryTrends() throws IOException {
+        Path file = Files.createTempDirectory("trend-store").resolve("history/trend.tsv");
+        TrendStore store = new TrendStore(file);
+        store.append(FIRST_RUN, Map.of(
+                "main", Map.of("module-a", Map.of("Disabled", 3, "DisabledOnNative", 1)),
+                "3.20", Map.of()));
+        String firstRun = Files.readString(file);
+        store.append(SECOND_RUN, Map.of("main", Map.of(
+                "module-a", Map.of("Disabled", 2),
+                "module-b", Map.of("DisabledOnNative", 4))));
+
+        assertTrue(Files.readString(file).startsWith(firstRun), "Records of earlier runs must not be rewritten");
+        assertEquals(Map.of(
+                        "3.20", List.of(new TrendPoint("2026-01-01T02:00:00Z", 0)),
+                        "main", List.of(new TrendPoint("2026-01-01T02:00:00Z", 4), new TrendPoint("2026-01-02T02:00:00Z", 6))),
+                store.query(query(null, null, null, null)));
+        assertEquals(Map.of("main", List.of(new TrendPoint("2026-01-01T02:00:00Z", 1), new TrendPoint("2026-01-02T02:00:00Z", 0))),
+                store.query(query(List.of("main"), "module-a", "DisabledOnNative", null)));
+        assertEquals(Map.of("main", List.of(new TrendPoint("2026-01-02T02:00:00Z", 4))),
+                store.query(query(null, null, "DisabledOnNative", SECOND_RUN)));
+    }
+
+    @Test
+    public void shouldReturnNoTrendsWithoutHistory() throws IOException {
+        Path file = Files.createTempDirectory("trend-store").resolve("trend.tsv");
+
+        assertEquals(Map.of(), new TrendStore(file).query(query(null, null, null, null)));
+    }
+
+    private static TrendQuery query(List<String> branches, String module, String annotationType, Instant since) {
+        return new TrendQuery(null, null, branches, module, annotationType, since);
+    }
+}